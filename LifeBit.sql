@@ -83,6 +83,7 @@ CREATE TABLE users (
 CREATE INDEX idx_users_email ON users(email);
 CREATE INDEX idx_users_nickname ON users(nickname);
 CREATE INDEX idx_users_provider ON users(provider);
+CREATE INDEX idx_users_last_visited ON users(last_visited);
 
 -- user_goals (weekly_*_set 컬럼들 제거)
 CREATE TABLE user_goals (
@@ -156,6 +157,8 @@ CREATE TABLE exercise_sessions (
 CREATE INDEX idx_exercise_sessions_user_date ON exercise_sessions(user_id, exercise_date);
 CREATE INDEX idx_exercise_sessions_catalog ON exercise_sessions(exercise_catalog_id);
 CREATE INDEX idx_exercise_sessions_validation ON exercise_sessions(validation_status);
+CREATE INDEX idx_exercise_sessions_date ON exercise_sessions(exercise_date);
+CREATE INDEX idx_exercise_sessions_created_at ON exercise_sessions(created_at);
 
 -- food_items
 CREATE TABLE food_items (
@@ -191,6 +194,31 @@ CREATE TABLE meal_logs (
 CREATE INDEX idx_meal_logs_user_date ON meal_logs(user_id, log_date);
 CREATE INDEX idx_meal_logs_food ON meal_logs(food_item_id);
 CREATE INDEX idx_meal_logs_validation ON meal_logs(validation_status);
+CREATE INDEX idx_meal_logs_date ON meal_logs(log_date);
+CREATE INDEX idx_meal_logs_created_at ON meal_logs(created_at);
+
+-- user_daily_activity (사용자별 일별 운동/식단 집계, 차트·히트맵·캘린더 조회용)
+-- body_part_mask / body_part_minutes 의 비트 위치·배열 인덱스는 BodyPartType 순서 (chest, back, legs, shoulders, abs, arms, cardio)
+CREATE TABLE user_daily_activity (
+    user_id BIGINT NOT NULL REFERENCES users(user_id) ON DELETE CASCADE,
+    activity_date DATE NOT NULL,
+    exercise_minutes INTEGER NOT NULL DEFAULT 0,
+    calories_burned INTEGER NOT NULL DEFAULT 0,
+    total_sets INTEGER NOT NULL DEFAULT 0,
+    session_count INTEGER NOT NULL DEFAULT 0,
+    body_part_mask INTEGER NOT NULL DEFAULT 0,
+    body_part_minutes INTEGER[] NOT NULL DEFAULT '{0,0,0,0,0,0,0}',
+    primary_exercise_name VARCHAR(100),
+    meal_count INTEGER NOT NULL DEFAULT 0,
+    meal_calories DECIMAL(10,2) NOT NULL DEFAULT 0,
+    meal_carbs DECIMAL(10,2) NOT NULL DEFAULT 0,
+    meal_protein DECIMAL(10,2) NOT NULL DEFAULT 0,
+    meal_fat DECIMAL(10,2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (user_id, activity_date)
+);
+
+CREATE INDEX idx_user_daily_activity_date ON user_daily_activity(activity_date);
 
 -- user_ranking (tier 컬럼 타입을 character varying(255)로 변경)
 CREATE TABLE user_ranking (
@@ -230,6 +258,17 @@ CREATE INDEX idx_ranking_history_user_ranking_id ON ranking_history(user_ranking
 CREATE INDEX idx_ranking_history_recorded_at ON ranking_history(recorded_at);
 CREATE INDEX idx_ranking_history_period_type ON ranking_history(period_type);
 
+-- season_rollover_checkpoint (시즌 종료 작업 재개용 진행 상황)
+CREATE TABLE season_rollover_checkpoint (
+    season INTEGER PRIMARY KEY,
+    phase VARCHAR(20) NOT NULL,
+    last_ranking_id BIGINT NOT NULL DEFAULT 0,
+    rows_copied BIGINT NOT NULL DEFAULT 0,
+    rows_reset BIGINT NOT NULL DEFAULT 0,
+    started_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
 -- achievements
 CREATE TABLE achievements (
     achievement_id BIGSERIAL PRIMARY KEY,
@@ -255,6 +294,27 @@ CREATE TABLE user_achievements (
     UNIQUE(user_id, achievement_id)
 );
 
+-- user_achievement_state (업적 평가용 사용자별 누적 상태, 기록 시 증분 갱신 / stale 이면 원본에서 재계산)
+CREATE TABLE user_achievement_state (
+    user_id BIGINT PRIMARY KEY REFERENCES users(user_id) ON DELETE CASCADE,
+    exercise_last_date DATE,
+    exercise_current_streak INTEGER NOT NULL DEFAULT 0,
+    exercise_max_streak INTEGER NOT NULL DEFAULT 0,
+    exercise_days INTEGER NOT NULL DEFAULT 0,
+    morning_workouts INTEGER NOT NULL DEFAULT 0,
+    night_workouts INTEGER NOT NULL DEFAULT 0,
+    weekend_workouts INTEGER NOT NULL DEFAULT 0,
+    total_calories_burned BIGINT NOT NULL DEFAULT 0,
+    total_workout_minutes BIGINT NOT NULL DEFAULT 0,
+    meal_last_date DATE,
+    meal_current_streak INTEGER NOT NULL DEFAULT 0,
+    meal_max_streak INTEGER NOT NULL DEFAULT 0,
+    meal_days INTEGER NOT NULL DEFAULT 0,
+    meal_records INTEGER NOT NULL DEFAULT 0,
+    stale BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
 -- recommendation
 CREATE TABLE recommendation (
     recommendation_id BIGSERIAL PRIMARY KEY,
@@ -345,6 +405,31 @@ CREATE INDEX idx_notification_type ON notification(type);
 CREATE INDEX idx_notification_created_at ON notification(created_at);
 CREATE INDEX idx_notification_is_read ON notification(is_read);
 
+-- analytics_bucket (관리자 애널리틱스 사전 집계, granularity: HOUR/DAY/WEEK/MONTH_WEEK/MONTH/YEAR)
+CREATE TABLE analytics_bucket (
+    granularity VARCHAR(12) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    metric VARCHAR(50) NOT NULL,
+    value BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (granularity, bucket_start, metric)
+);
+
+-- analytics_bucket_member (아직 갱신 중인 버킷의 지표별 중복 제거용 멤버: 사용자 ID 또는 식단 기록 ID)
+CREATE TABLE analytics_bucket_member (
+    granularity VARCHAR(12) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    metric VARCHAR(50) NOT NULL,
+    member_id BIGINT NOT NULL,
+    PRIMARY KEY (granularity, bucket_start, metric, member_id)
+);
+
+-- analytics_watermark (증분 집계 작업이 반영한 원천 데이터 시각)
+CREATE TABLE analytics_watermark (
+    name VARCHAR(50) PRIMARY KEY,
+    processed_until TIMESTAMP NOT NULL
+);
+
 -- log 테이블 (파티셔닝)
 CREATE TABLE log (
     log_id BIGSERIAL,
@@ -444,6 +529,17 @@ CREATE TABLE IF NOT EXISTS notification_read (
 
 CREATE INDEX IF NOT EXISTS idx_notification_read_user_notification ON notification_read(user_id, notification_id);
 
+-- notification_read_watermark (사용자별 시스템 알림 읽음 기준점: 이 ID 이하의 시스템 알림은 모두 읽음, 이후는 notification_read 로 개별 판정)
+CREATE TABLE IF NOT EXISTS notification_read_watermark (
+    user_id BIGINT PRIMARY KEY REFERENCES users(user_id) ON DELETE CASCADE,
+    last_read_system_notification_id BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+-- 읽지 않은 알림 수 집계용 부분 인덱스 (시스템 알림 ID 범위 / 사용자별 안 읽은 개인 알림)
+CREATE INDEX IF NOT EXISTS idx_notification_system_id ON notification(id) WHERE user_id IS NULL;
+CREATE INDEX IF NOT EXISTS idx_notification_user_unread ON notification(user_id) WHERE is_read = false;
+
 -- 랭크(티어) 자동 업데이트 함수 및 트리거
 CREATE OR REPLACE FUNCTION update_user_tier()
 RETURNS TRIGGER AS $$
@@ -489,3 +585,15 @@ CREATE TABLE ranking_notifications (
 );
 
 CREATE INDEX IF NOT EXISTS idx_ranking_notifications_user ON ranking_notifications(user_id);
+
+-- 대량 INSERT 테이블 ID 시퀀스 (JPA 가 시퀀스 값 v 하나로 ID (v - 49) ~ v 를 할당해 배치 INSERT, 엔티티 allocationSize 와 일치해야 함)
+-- 기존 DB 는 애플리케이션 시작 시 Flyway 가 db/migration/V2__pooled_id_sequences.sql 로 변경 (LifeBit.sql = 기준 버전 1)
+-- notification 은 읽음 기준점이 ID 순서에 의존하므로 증가폭 1 유지
+ALTER SEQUENCE exercise_sessions_exercise_session_id_seq INCREMENT BY 50 START WITH 50 RESTART WITH 50;
+ALTER SEQUENCE meal_logs_meal_log_id_seq INCREMENT BY 50 START WITH 50 RESTART WITH 50;
+ALTER SEQUENCE health_records_health_record_id_seq INCREMENT BY 50 START WITH 50 RESTART WITH 50;
+ALTER SEQUENCE user_ranking_id_seq INCREMENT BY 50 START WITH 50 RESTART WITH 50;
+ALTER SEQUENCE ranking_history_id_seq INCREMENT BY 50 START WITH 50 RESTART WITH 50;
+ALTER SEQUENCE user_achievements_user_achievement_id_seq INCREMENT BY 50 START WITH 50 RESTART WITH 50;
+ALTER SEQUENCE notification_read_id_seq INCREMENT BY 50 START WITH 50 RESTART WITH 50;
+ALTER SEQUENCE ranking_notifications_id_seq INCREMENT BY 50 START WITH 50 RESTART WITH 50;
@@ -0,0 +1,45 @@
+package com.lifebit.coreapi.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 요청 내/요청 간 반복 조회되는 사용자·목표 정보 캐시 설정
+ * 모든 캐시는 크기 제한 + TTL 만료를 가지며, recordStats로 actuator 메트릭(cache.gets 등)에 적중/미적중이 노출된다.
+ *
+ * 캐시 값은 엔티티가 아닌 불변 스냅샷(UserSnapshot, UserGoalSnapshot)이며,
+ * 트랜잭션 안의 put/evict 는 커밋 이후에 적용된다 (커밋 전 제거 후 다른 조회가 이전 행을 다시 넣는 경쟁 방지).
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String USERS = "users";
+    public static final String LATEST_USER_GOALS = "latestUserGoals";
+
+    private static final long MAXIMUM_SIZE = 10_000;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(USERS, buildCache(Duration.ofMinutes(10)));
+        cacheManager.registerCustomCache(LATEST_USER_GOALS, buildCache(Duration.ofMinutes(5)));
+        // 트랜잭션 안의 put/evict 를 커밋 이후로 미룸
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> buildCache(Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_SIZE)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+}
@@ -9,10 +9,13 @@ import org.springframework.lang.NonNull;
 import org.springframework.context.annotation.Bean;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.core.env.Environment;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import com.lifebit.coreapi.security.CurrentUserArgumentResolver;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
@@ -21,9 +24,16 @@ public class WebConfig implements WebMvcConfigurer {
     private String uploadDir;
     
     private final Environment environment;
+    private final CurrentUserArgumentResolver currentUserArgumentResolver;
     
-    public WebConfig(Environment environment) {
+    public WebConfig(Environment environment, CurrentUserArgumentResolver currentUserArgumentResolver) {
         this.environment = environment;
+        this.currentUserArgumentResolver = currentUserArgumentResolver;
+    }
+
+    @Override
+    public void addArgumentResolvers(@NonNull List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserArgumentResolver);
     }
 
     @Override
@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.*;
 import jakarta.servlet.http.HttpServletRequest;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
@@ -126,106 +127,174 @@ public class DietController {
             // 토큰에서 사용자 ID 추출하여 권한 확인
             Long tokenUserId = getUserIdFromToken(httpRequest);
             
-            // 요청 데이터에서 필요한 값들 추출 (snake_case와 camelCase 모두 지원)
-            Long foodItemId = request.get("food_item_id") != null ? 
-                Long.valueOf(request.get("food_item_id").toString()) : 
-                (request.get("foodItemId") != null ? Long.valueOf(request.get("foodItemId").toString()) : null);
-            
-            Double quantity = request.get("quantity") != null ? 
-                Double.valueOf(request.get("quantity").toString()) : 1.0;
+            DietLogDTO dietLogDTO = toDietLogDTO(request, tokenUserId);
+            if (dietLogDTO == null) {
+                return missingFoodInfoResponse();
+            }
             
-            String mealTime = request.get("meal_time") != null ? 
-                request.get("meal_time").toString() : 
-                (request.get("mealTime") != null ? request.get("mealTime").toString() : "snack");
+            // 데이터베이스에 저장
+            DietLogDTO savedRecord = dietService.recordDiet(dietLogDTO);
             
-            String inputSource = request.get("input_source") != null ? 
-                request.get("input_source").toString() : 
-                (request.get("inputSource") != null ? request.get("inputSource").toString() : "TYPING");
+            Map<String, Object> response = toRecordResponse(savedRecord);
             
-            Double confidenceScore = request.get("confidence_score") != null ? 
-                Double.valueOf(request.get("confidence_score").toString()) : 
-                (request.get("confidenceScore") != null ? Double.valueOf(request.get("confidenceScore").toString()) : 1.0);
+            log.info("식단 기록 생성 완료 - ID: {}", savedRecord.getId());
             
-            String validationStatus = request.get("validation_status") != null ? 
-                request.get("validation_status").toString() : 
-                (request.get("validationStatus") != null ? request.get("validationStatus").toString() : "VALIDATED");
+            return ResponseEntity.ok(response);
             
-            String logDate = request.get("log_date") != null ? 
-                request.get("log_date").toString() : 
-                (request.get("logDate") != null ? request.get("logDate").toString() : LocalDate.now().toString());
+        } catch (Exception e) {
+            log.error("식단 기록 생성 중 오류 발생: {}", e.getMessage(), e);
             
-            // 1. food_item_id 파싱
-            foodItemId = request.get("food_item_id") != null ? 
-                Long.valueOf(request.get("food_item_id").toString()) : 
-                (request.get("foodItemId") != null ? Long.valueOf(request.get("foodItemId").toString()) : null);
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "식단 기록 생성에 실패했습니다.");
+            errorResponse.put("message", e.getMessage());
             
-            // 2. 직접입력 음식 정보 파싱
-            String foodName = (String) request.get("food_name");
-            Double calories = request.get("calories") != null ? Double.valueOf(request.get("calories").toString()) : null;
-            Double carbs = request.get("carbs") != null ? Double.valueOf(request.get("carbs").toString()) : null;
-            Double protein = request.get("protein") != null ? Double.valueOf(request.get("protein").toString()) : null;
-            Double fat = request.get("fat") != null ? Double.valueOf(request.get("fat").toString()) : null;
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
 
-            // 3. 분기 처리
-            if (foodItemId == null) {
-                // 직접입력 음식 정보가 충분한지 체크
-                if (foodName != null && calories != null && carbs != null && protein != null && fat != null) {
-                    // 임시 FoodItem 생성
-                    foodItemId = dietService.createCustomFoodItem(foodName, calories, carbs, protein, fat);
-                } else {
-                    Map<String, Object> errorResponse = new HashMap<>();
-                    errorResponse.put("error", "food_item_id 또는 (food_name, calories, carbs, protein, fat) 정보가 필요합니다.");
-                    return ResponseEntity.badRequest().body(errorResponse);
+    /**
+     * 한 끼 또는 하루치 식단 기록 일괄 생성
+     * 요청 형식은 단건(/record)과 같은 항목의 배열이며, 전부 저장되거나 하나도 저장되지 않음
+     */
+    @PostMapping("/record/bulk")
+    public ResponseEntity<Map<String, Object>> recordDiets(
+            @RequestBody List<Map<String, Object>> requests,
+            HttpServletRequest httpRequest) {
+        
+        try {
+            Long tokenUserId = getUserIdFromToken(httpRequest);
+            log.info("식단 기록 일괄 생성 요청 - 사용자: {}, {}건", tokenUserId, requests.size());
+            
+            List<DietLogDTO> dietLogDTOs = new ArrayList<>(requests.size());
+            for (Map<String, Object> request : requests) {
+                DietLogDTO dietLogDTO = toDietLogDTO(request, tokenUserId);
+                if (dietLogDTO == null) {
+                    return missingFoodInfoResponse();
                 }
+                dietLogDTOs.add(dietLogDTO);
             }
             
-            // DietLogDTO 생성 (토큰에서 가져온 사용자 ID 사용)
-            DietLogDTO dietLogDTO = new DietLogDTO();
-            dietLogDTO.setUserId(tokenUserId);
-            dietLogDTO.setFoodItemId(foodItemId);
-            dietLogDTO.setQuantity(quantity);
-            dietLogDTO.setMealTime(mealTime);
-            dietLogDTO.setInputSource(inputSource);
-            dietLogDTO.setConfidenceScore(confidenceScore);
-            dietLogDTO.setValidationStatus(validationStatus);
-            dietLogDTO.setLogDate(logDate);
-            
-            // 데이터베이스에 저장
-            DietLogDTO savedRecord = dietService.recordDiet(dietLogDTO);
+            List<Map<String, Object>> records = dietService.recordDiets(tokenUserId, dietLogDTOs).stream()
+                .map(this::toRecordResponse)
+                .toList();
             
-            // 응답 데이터 구성 (ExerciseSessionController와 유사한 형태)
             Map<String, Object> response = new HashMap<>();
-            response.put("meal_log_id", savedRecord.getId());
-            response.put("user_id", savedRecord.getUserId());
-            response.put("food_item_id", savedRecord.getFoodItemId());
-            response.put("food_name", savedRecord.getFoodName());
-            response.put("quantity", savedRecord.getQuantity());
-            response.put("meal_time", savedRecord.getMealTime());
-            response.put("log_date", savedRecord.getLogDate());
-            response.put("calories", savedRecord.getCalories());
-            response.put("carbs", savedRecord.getCarbs());
-            response.put("protein", savedRecord.getProtein());
-            response.put("fat", savedRecord.getFat());
-            response.put("input_source", savedRecord.getInputSource());
-            response.put("confidence_score", savedRecord.getConfidenceScore());
-            response.put("validation_status", savedRecord.getValidationStatus());
-            response.put("created_at", savedRecord.getCreatedAt());
+            response.put("records", records);
+            response.put("count", records.size());
             
-            log.info("식단 기록 생성 완료 - ID: {}", savedRecord.getId());
+            log.info("식단 기록 일괄 생성 완료 - 사용자: {}, {}건", tokenUserId, records.size());
             
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
-            log.error("식단 기록 생성 중 오류 발생: {}", e.getMessage(), e);
+            log.error("식단 기록 일괄 생성 중 오류 발생: {}", e.getMessage(), e);
             
             Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("error", "식단 기록 생성에 실패했습니다.");
+            errorResponse.put("error", "식단 기록 일괄 생성에 실패했습니다.");
             errorResponse.put("message", e.getMessage());
             
             return ResponseEntity.badRequest().body(errorResponse);
         }
     }
 
+    /**
+     * 식단 기록 요청 항목을 DietLogDTO 로 변환 (직접입력 음식 정보는 그대로 전달, 음식 정보가 부족하면 null)
+     */
+    private DietLogDTO toDietLogDTO(Map<String, Object> request, Long tokenUserId) {
+        // 요청 데이터에서 필요한 값들 추출 (snake_case와 camelCase 모두 지원)
+        Long foodItemId = request.get("food_item_id") != null ? 
+            Long.valueOf(request.get("food_item_id").toString()) : 
+            (request.get("foodItemId") != null ? Long.valueOf(request.get("foodItemId").toString()) : null);
+        
+        Double quantity = request.get("quantity") != null ? 
+            Double.valueOf(request.get("quantity").toString()) : 1.0;
+        
+        String mealTime = request.get("meal_time") != null ? 
+            request.get("meal_time").toString() : 
+            (request.get("mealTime") != null ? request.get("mealTime").toString() : "snack");
+        
+        String inputSource = request.get("input_source") != null ? 
+            request.get("input_source").toString() : 
+            (request.get("inputSource") != null ? request.get("inputSource").toString() : "TYPING");
+        
+        Double confidenceScore = request.get("confidence_score") != null ? 
+            Double.valueOf(request.get("confidence_score").toString()) : 
+            (request.get("confidenceScore") != null ? Double.valueOf(request.get("confidenceScore").toString()) : 1.0);
+        
+        String validationStatus = request.get("validation_status") != null ? 
+            request.get("validation_status").toString() : 
+            (request.get("validationStatus") != null ? request.get("validationStatus").toString() : "VALIDATED");
+        
+        String logDate = request.get("log_date") != null ? 
+            request.get("log_date").toString() : 
+            (request.get("logDate") != null ? request.get("logDate").toString() : LocalDate.now().toString());
+        
+        // 1. food_item_id 파싱
+        foodItemId = request.get("food_item_id") != null ? 
+            Long.valueOf(request.get("food_item_id").toString()) : 
+            (request.get("foodItemId") != null ? Long.valueOf(request.get("foodItemId").toString()) : null);
+        
+        // 2. 직접입력 음식 정보 파싱
+        String foodName = (String) request.get("food_name");
+        Double calories = request.get("calories") != null ? Double.valueOf(request.get("calories").toString()) : null;
+        Double carbs = request.get("carbs") != null ? Double.valueOf(request.get("carbs").toString()) : null;
+        Double protein = request.get("protein") != null ? Double.valueOf(request.get("protein").toString()) : null;
+        Double fat = request.get("fat") != null ? Double.valueOf(request.get("fat").toString()) : null;
+
+        // 3. 분기 처리: 직접입력 음식 정보가 충분한지 체크
+        if (foodItemId == null
+                && (foodName == null || calories == null || carbs == null || protein == null || fat == null)) {
+            return null;
+        }
+        
+        // DietLogDTO 생성 (토큰에서 가져온 사용자 ID 사용)
+        DietLogDTO dietLogDTO = new DietLogDTO();
+        dietLogDTO.setUserId(tokenUserId);
+        dietLogDTO.setFoodItemId(foodItemId);
+        if (foodItemId == null) {
+            // 직접입력 음식은 식단 기록 저장 트랜잭션에서 함께 생성
+            dietLogDTO.setFoodName(foodName);
+            dietLogDTO.setCalories(calories);
+            dietLogDTO.setCarbs(carbs);
+            dietLogDTO.setProtein(protein);
+            dietLogDTO.setFat(fat);
+        }
+        dietLogDTO.setQuantity(quantity);
+        dietLogDTO.setMealTime(mealTime);
+        dietLogDTO.setInputSource(inputSource);
+        dietLogDTO.setConfidenceScore(confidenceScore);
+        dietLogDTO.setValidationStatus(validationStatus);
+        dietLogDTO.setLogDate(logDate);
+        return dietLogDTO;
+    }
+
+    private ResponseEntity<Map<String, Object>> missingFoodInfoResponse() {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", "food_item_id 또는 (food_name, calories, carbs, protein, fat) 정보가 필요합니다.");
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+
+    private Map<String, Object> toRecordResponse(DietLogDTO savedRecord) {
+        // 응답 데이터 구성 (ExerciseSessionController와 유사한 형태)
+        Map<String, Object> response = new HashMap<>();
+        response.put("meal_log_id", savedRecord.getId());
+        response.put("user_id", savedRecord.getUserId());
+        response.put("food_item_id", savedRecord.getFoodItemId());
+        response.put("food_name", savedRecord.getFoodName());
+        response.put("quantity", savedRecord.getQuantity());
+        response.put("meal_time", savedRecord.getMealTime());
+        response.put("log_date", savedRecord.getLogDate());
+        response.put("calories", savedRecord.getCalories());
+        response.put("carbs", savedRecord.getCarbs());
+        response.put("protein", savedRecord.getProtein());
+        response.put("fat", savedRecord.getFat());
+        response.put("input_source", savedRecord.getInputSource());
+        response.put("confidence_score", savedRecord.getConfidenceScore());
+        response.put("validation_status", savedRecord.getValidationStatus());
+        response.put("created_at", savedRecord.getCreatedAt());
+        return response;
+    }
+
     @PutMapping("/record/{id}")
     public ResponseEntity<DietLogDTO> updateDietRecord(
             @PathVariable Long id,
@@ -242,8 +311,9 @@ public class DietController {
 
     @GetMapping("/food-items/search")
     public ResponseEntity<List<Map<String, Object>>> searchFoodItems(
-            @RequestParam String keyword) {
-        List<Map<String, Object>> foodItems = dietService.searchFoodItems(keyword);
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "50") int limit) {
+        List<Map<String, Object>> foodItems = dietService.searchFoodItems(keyword, limit);
         return ResponseEntity.ok(foodItems);
     }
 
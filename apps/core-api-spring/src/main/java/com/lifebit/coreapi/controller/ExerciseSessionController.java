@@ -6,6 +6,7 @@ import com.lifebit.coreapi.entity.ExerciseSession;
 import com.lifebit.coreapi.entity.User;
 import com.lifebit.coreapi.entity.ExerciseCatalog;
 import com.lifebit.coreapi.security.JwtTokenProvider;
+import com.lifebit.coreapi.security.VerifiedClaims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -35,6 +36,10 @@ public class ExerciseSessionController {
      * JWT 토큰에서 사용자 ID 추출
      */
     private Long getUserIdFromToken(HttpServletRequest request) {
+        VerifiedClaims claims = VerifiedClaims.fromRequest(request);
+        if (claims != null) {
+            return claims.getUserId();
+        }
         String bearerToken = request.getHeader("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
             String token = bearerToken.substring(7);
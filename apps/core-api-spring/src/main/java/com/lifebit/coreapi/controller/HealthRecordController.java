@@ -4,6 +4,7 @@ import com.lifebit.coreapi.service.HealthRecordService;
 import com.lifebit.coreapi.service.HealthStatisticsService;
 import com.lifebit.coreapi.entity.HealthRecord;
 import com.lifebit.coreapi.security.JwtTokenProvider;
+import com.lifebit.coreapi.security.VerifiedClaims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -30,6 +31,10 @@ public class HealthRecordController {
      * JWT 토큰에서 사용자 ID 추출
      */
     private Long getUserIdFromToken(HttpServletRequest request) {
+        VerifiedClaims claims = VerifiedClaims.fromRequest(request);
+        if (claims != null) {
+            return claims.getUserId();
+        }
         String bearerToken = request.getHeader("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
             String token = bearerToken.substring(7);
@@ -50,8 +50,9 @@ public class MealController {
 
     @GetMapping("/foods/search")
     public ResponseEntity<List<FoodItem>> searchFoodItems(
-            @RequestParam String keyword) {
-        return ResponseEntity.ok(mealService.searchFoodItems(keyword));
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(mealService.searchFoodItems(keyword, limit));
     }
 
     @GetMapping("/foods/{foodCode}")
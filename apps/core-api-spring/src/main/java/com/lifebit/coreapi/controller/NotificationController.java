@@ -1,6 +1,7 @@
 package com.lifebit.coreapi.controller;
 
 import com.lifebit.coreapi.entity.Notification;
+import com.lifebit.coreapi.security.CurrentUser;
 import com.lifebit.coreapi.service.NotificationService;
 import com.lifebit.coreapi.dto.NotificationDto;
 import lombok.RequiredArgsConstructor;
@@ -9,8 +10,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -27,12 +26,12 @@ public class NotificationController {
      */
     @GetMapping
     public ResponseEntity<Page<NotificationDto>> getMyNotifications(
-            @AuthenticationPrincipal UserDetails userDetails,
+            CurrentUser currentUser,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) Boolean isRead
     ) {
-        Long userId = Long.parseLong(userDetails.getUsername());
+        Long userId = currentUser.getUserId();
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
         return ResponseEntity.ok(notificationService.getUserNotificationsPageDto(userId, pageable, isRead));
     }
@@ -41,8 +40,8 @@ public class NotificationController {
      * 알림 전체 읽음 처리
      */
     @PostMapping("/read-all")
-    public ResponseEntity<Void> markAllAsRead(@AuthenticationPrincipal UserDetails userDetails) {
-        Long userId = Long.parseLong(userDetails.getUsername());
+    public ResponseEntity<Void> markAllAsRead(CurrentUser currentUser) {
+        Long userId = currentUser.getUserId();
         notificationService.markAllAsRead(userId);
         return ResponseEntity.ok().build();
     }
@@ -51,8 +50,8 @@ public class NotificationController {
      * 알림 읽음 처리
      */
     @PostMapping("/{id}/read")
-    public ResponseEntity<?> markAsRead(@AuthenticationPrincipal UserDetails userDetails, @PathVariable Long id) {
-        Long userId = Long.parseLong(userDetails.getUsername());
+    public ResponseEntity<?> markAsRead(CurrentUser currentUser, @PathVariable Long id) {
+        Long userId = currentUser.getUserId();
         try {
             notificationService.markAsRead(id, userId);
             return ResponseEntity.ok().build();
@@ -68,8 +67,8 @@ public class NotificationController {
      * 알림 삭제
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteNotification(@AuthenticationPrincipal UserDetails userDetails, @PathVariable Long id) {
-        Long userId = Long.parseLong(userDetails.getUsername());
+    public ResponseEntity<?> deleteNotification(CurrentUser currentUser, @PathVariable Long id) {
+        Long userId = currentUser.getUserId();
         try {
             notificationService.deleteNotification(id, userId);
             return ResponseEntity.ok().build();
@@ -85,8 +84,8 @@ public class NotificationController {
      * 읽지 않은 알림 개수 반환
      */
     @GetMapping("/unread-count")
-    public ResponseEntity<Map<String, Long>> getUnreadCount(@AuthenticationPrincipal UserDetails userDetails) {
-        Long userId = Long.parseLong(userDetails.getUsername());
+    public ResponseEntity<Map<String, Long>> getUnreadCount(CurrentUser currentUser) {
+        Long userId = currentUser.getUserId();
         long count = notificationService.getUnreadCount(userId);
         return ResponseEntity.ok(Map.of("unreadCount", count));
     }
@@ -4,6 +4,7 @@ import com.lifebit.coreapi.entity.UserGoal;
 import com.lifebit.coreapi.service.UserGoalService;
 import com.lifebit.coreapi.security.JwtTokenProvider;
 import com.lifebit.coreapi.service.ranking.RankingService;
+import com.lifebit.coreapi.service.ranking.RankingUpdateDispatcher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -21,6 +22,7 @@ public class UserGoalController {
     private final UserGoalService userGoalService;
     private final JwtTokenProvider jwtTokenProvider;
     private final RankingService rankingService;
+    private final RankingUpdateDispatcher rankingUpdateDispatcher;
 
     @GetMapping("/{userId}")
     public ResponseEntity<UserGoal> getUserGoals(
@@ -275,12 +277,12 @@ public class UserGoalController {
                     : tokenHeader;
             Long userId = jwtTokenProvider.getUserIdFromToken(token);
             
-            // 목표 달성률에 따른 점수 업데이트
-            rankingService.updateGoalAchievementScore(userId);
+            // 목표 달성률에 따른 점수 업데이트 (기록 저장 시와 같은 비동기 처리기로 요청)
+            rankingUpdateDispatcher.requestUpdate(userId);
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("message", "목표 달성률 점수가 업데이트되었습니다.");
+            response.put("message", "목표 달성률 점수 업데이트가 요청되었습니다.");
             
             return ResponseEntity.ok(response);
             
@@ -0,0 +1,62 @@
+package com.lifebit.coreapi.dto;
+
+import com.lifebit.coreapi.entity.UserGoal;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 최신 목표 캐시에 저장하는 불변 스냅샷 (조회할 때마다 새 UserGoal 로 복사해 반환)
+ */
+public record UserGoalSnapshot(
+        Long userGoalId,
+        UUID uuid,
+        Long userId,
+        Integer weeklyWorkoutTarget,
+        Integer dailyCarbsTarget,
+        Integer dailyProteinTarget,
+        Integer dailyFatTarget,
+        Integer dailyCaloriesTarget,
+        Integer weeklyChest,
+        Integer weeklyBack,
+        Integer weeklyLegs,
+        Integer weeklyShoulders,
+        Integer weeklyArms,
+        Integer weeklyAbs,
+        Integer weeklyCardio,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+
+    public static UserGoalSnapshot from(UserGoal goal) {
+        return new UserGoalSnapshot(goal.getUserGoalId(), goal.getUuid(), goal.getUserId(),
+                goal.getWeeklyWorkoutTarget(), goal.getDailyCarbsTarget(), goal.getDailyProteinTarget(),
+                goal.getDailyFatTarget(), goal.getDailyCaloriesTarget(), goal.getWeeklyChest(), goal.getWeeklyBack(),
+                goal.getWeeklyLegs(), goal.getWeeklyShoulders(), goal.getWeeklyArms(), goal.getWeeklyAbs(),
+                goal.getWeeklyCardio(), goal.getCreatedAt(), goal.getUpdatedAt());
+    }
+
+    /**
+     * 분리(detached)된 새 UserGoal 로 복사 (호출자가 수정해도 캐시에는 영향 없음)
+     */
+    public UserGoal toUserGoal() {
+        UserGoal goal = new UserGoal();
+        goal.setUserGoalId(userGoalId);
+        goal.setUuid(uuid);
+        goal.setUserId(userId);
+        goal.setWeeklyWorkoutTarget(weeklyWorkoutTarget);
+        goal.setDailyCarbsTarget(dailyCarbsTarget);
+        goal.setDailyProteinTarget(dailyProteinTarget);
+        goal.setDailyFatTarget(dailyFatTarget);
+        goal.setDailyCaloriesTarget(dailyCaloriesTarget);
+        goal.setWeeklyChest(weeklyChest);
+        goal.setWeeklyBack(weeklyBack);
+        goal.setWeeklyLegs(weeklyLegs);
+        goal.setWeeklyShoulders(weeklyShoulders);
+        goal.setWeeklyArms(weeklyArms);
+        goal.setWeeklyAbs(weeklyAbs);
+        goal.setWeeklyCardio(weeklyCardio);
+        goal.setCreatedAt(createdAt);
+        goal.setUpdatedAt(updatedAt);
+        return goal;
+    }
+}
@@ -0,0 +1,45 @@
+package com.lifebit.coreapi.dto;
+
+import com.lifebit.coreapi.entity.User;
+import com.lifebit.coreapi.entity.UserRole;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 사용자 캐시에 저장하는 불변 스냅샷 (영속성 컨텍스트와 무관, 조회할 때마다 새 User 로 복사해 반환)
+ */
+public record UserSnapshot(
+        Long userId,
+        UUID uuid,
+        String email,
+        String passwordHash,
+        String provider,
+        String nickname,
+        String profileImageUrl,
+        BigDecimal height,
+        BigDecimal weight,
+        Integer age,
+        String gender,
+        UserRole role,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        LocalDateTime lastVisited) {
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(user.getUserId(), user.getUuid(), user.getEmail(), user.getPasswordHash(),
+                user.getProvider(), user.getNickname(), user.getProfileImageUrl(), user.getHeight(),
+                user.getWeight(), user.getAge(), user.getGender(), user.getRole(), user.getCreatedAt(),
+                user.getUpdatedAt(), user.getLastVisited());
+    }
+
+    /**
+     * 분리(detached)된 새 User 로 복사 (호출자가 수정해도 캐시에는 영향 없음)
+     */
+    public User toUser() {
+        // setGender 검증을 거치지 않도록 전체 생성자 사용 (DB 에 저장된 값을 그대로 복원)
+        return new User(userId, uuid, email, passwordHash, provider, nickname, profileImageUrl, height, weight,
+                age, gender, role, createdAt, updatedAt, lastVisited);
+    }
+}
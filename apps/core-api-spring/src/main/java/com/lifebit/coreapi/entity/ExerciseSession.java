@@ -19,7 +19,8 @@ import java.util.UUID;
 @Getter @Setter
 public class ExerciseSession {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "exercise_sessions_id_gen")
+    @SequenceGenerator(name = "exercise_sessions_id_gen", sequenceName = "exercise_sessions_exercise_session_id_seq", allocationSize = 50)
     @Column(name = "exercise_session_id")
     private Long exerciseSessionId;
     
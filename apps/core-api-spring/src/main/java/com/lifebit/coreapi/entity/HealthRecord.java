@@ -17,7 +17,8 @@ import java.util.UUID;
 @AllArgsConstructor
 public class HealthRecord {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "health_records_id_gen")
+    @SequenceGenerator(name = "health_records_id_gen", sequenceName = "health_records_health_record_id_seq", allocationSize = 50)
     @Column(name = "health_record_id")
     private Long healthRecordId;
 
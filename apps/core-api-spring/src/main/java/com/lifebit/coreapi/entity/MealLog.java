@@ -19,7 +19,8 @@ import java.util.UUID;
 @Getter @Setter
 public class MealLog {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meal_logs_id_gen")
+    @SequenceGenerator(name = "meal_logs_id_gen", sequenceName = "meal_logs_meal_log_id_seq", allocationSize = 50)
     @Column(name = "meal_log_id")
     private Long mealLogId;
     
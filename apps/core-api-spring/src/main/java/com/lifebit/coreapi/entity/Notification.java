@@ -11,6 +11,7 @@ import java.time.LocalDateTime;
 @Getter @Setter @NoArgsConstructor
 public class Notification {
     @Id
+    // 시스템 알림 읽음 기준점(notification_read_watermark)이 ID 순서 = 생성 순서에 의존하므로 서버별 블록 할당(pooled) 대신 IDENTITY 유지
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
@@ -11,7 +11,8 @@ import java.time.LocalDateTime;
 @Getter @Setter @NoArgsConstructor
 public class NotificationRead {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_read_id_gen")
+    @SequenceGenerator(name = "notification_read_id_gen", sequenceName = "notification_read_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "user_id", nullable = false)
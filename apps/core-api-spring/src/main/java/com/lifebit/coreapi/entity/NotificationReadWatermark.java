@@ -0,0 +1,27 @@
+package com.lifebit.coreapi.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 시스템 알림 읽음 기준점
+ * ID가 lastReadSystemNotificationId 이하인 시스템 알림은 모두 읽은 것으로 보고,
+ * 그 이후 개별로 읽은 시스템 알림만 notification_read 에 남긴다.
+ */
+@Entity
+@Table(name = "notification_read_watermark")
+@Getter @Setter @NoArgsConstructor
+public class NotificationReadWatermark {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false, name = "last_read_system_notification_id")
+    private Long lastReadSystemNotificationId = 0L;
+
+    @Column(nullable = false, name = "updated_at")
+    private LocalDateTime updatedAt = LocalDateTime.now();
+}
@@ -16,7 +16,8 @@ import java.util.UUID;
 @AllArgsConstructor
 public class UserAchievement {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_achievements_id_gen")
+    @SequenceGenerator(name = "user_achievements_id_gen", sequenceName = "user_achievements_user_achievement_id_seq", allocationSize = 50)
     private Long userAchievementId;
 
     @Column(unique = true, nullable = false)
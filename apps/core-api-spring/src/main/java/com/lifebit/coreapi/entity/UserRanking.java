@@ -23,7 +23,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 public class UserRanking {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_ranking_id_gen")
+    @SequenceGenerator(name = "user_ranking_id_gen", sequenceName = "user_ranking_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "user_id", nullable = false)
@@ -11,6 +11,21 @@ public enum RankingTier {
     GRANDMASTER,
     CHALLENGER;
 
+    /**
+     * 랭킹 등급 산정 (점수 기준)
+     */
+    public static RankingTier fromTotalScore(int totalScore) {
+        if (totalScore == 0) return UNRANK;
+        if (totalScore < 1000) return BRONZE;
+        if (totalScore < 2000) return SILVER;
+        if (totalScore < 3000) return GOLD;
+        if (totalScore < 4000) return PLATINUM;
+        if (totalScore < 5000) return DIAMOND;
+        if (totalScore < 6000) return MASTER;
+        if (totalScore < 7000) return GRANDMASTER;
+        return CHALLENGER;
+    }
+
     public String getIconName() {
         switch (this) {
             case BRONZE: return "bronze-medal";
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 @Getter @Setter @NoArgsConstructor
 public class RankingNotification {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ranking_notifications_id_gen")
+    @SequenceGenerator(name = "ranking_notifications_id_gen", sequenceName = "ranking_notifications_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, name = "user_id")
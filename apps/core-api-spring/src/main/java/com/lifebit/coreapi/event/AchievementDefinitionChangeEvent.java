@@ -0,0 +1,14 @@
+package com.lifebit.coreapi.event;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 업적 정의(achievements 테이블)가 추가/수정되었을 때 발행되는 이벤트
+ * (AchievementDefinitionRegistry가 커밋 이후 다시 로드)
+ */
+public class AchievementDefinitionChangeEvent extends ApplicationEvent {
+
+    public AchievementDefinitionChangeEvent(Object source) {
+        super(source);
+    }
+}
@@ -0,0 +1,29 @@
+package com.lifebit.coreapi.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 운동/식단 기록 추가·수정·삭제로 사용자의 일별 활동 집계(user_daily_activity)를 갱신해야 할 때 발행되는 이벤트
+ * (수정으로 날짜가 바뀐 경우 이전 날짜와 새 날짜를 함께 전달, DailyActivityRollupService가 커밋 이후 처리)
+ */
+@Getter
+public class DailyActivityChangeEvent extends ApplicationEvent {
+
+    private final Long userId;
+    private final Set<LocalDate> activityDates;
+
+    public DailyActivityChangeEvent(Long userId, LocalDate... activityDates) {
+        super(userId);
+        this.userId = userId;
+        this.activityDates = Arrays.stream(activityDates)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,14 @@
+package com.lifebit.coreapi.event;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 운동 카탈로그(exercise_catalog)가 추가/수정/삭제되었을 때 발행되는 이벤트
+ * (ExerciseCatalogRegistry가 커밋 이후 다시 로드)
+ */
+public class ExerciseCatalogChangeEvent extends ApplicationEvent {
+
+    public ExerciseCatalogChangeEvent(Object source) {
+        super(source);
+    }
+}
@@ -0,0 +1,25 @@
+package com.lifebit.coreapi.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 음식 카탈로그(food_items)의 항목이 추가/이름 변경/삭제되었을 때 발행되는 이벤트
+ * (FoodSearchIndex가 커밋 이후 해당 항목만 반영, name 이 null 이면 삭제)
+ */
+@Getter
+public class FoodCatalogChangeEvent extends ApplicationEvent {
+
+    private final Long foodItemId;
+    private final String name;
+
+    public FoodCatalogChangeEvent(Long foodItemId, String name) {
+        super(foodItemId);
+        this.foodItemId = foodItemId;
+        this.name = name;
+    }
+
+    public boolean isRemoved() {
+        return name == null;
+    }
+}
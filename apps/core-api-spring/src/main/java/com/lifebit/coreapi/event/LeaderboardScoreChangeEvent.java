@@ -0,0 +1,21 @@
+package com.lifebit.coreapi.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 활성 랭킹의 총점이 저장되었을 때 발행되는 이벤트
+ * (LeaderboardIndex가 커밋 이후에만 인메모리 리더보드에 반영, 롤백되면 반영하지 않음)
+ */
+@Getter
+public class LeaderboardScoreChangeEvent extends ApplicationEvent {
+
+    private final Long userId;
+    private final int score;
+
+    public LeaderboardScoreChangeEvent(Long userId, int score) {
+        super(userId);
+        this.userId = userId;
+        this.score = score;
+    }
+}
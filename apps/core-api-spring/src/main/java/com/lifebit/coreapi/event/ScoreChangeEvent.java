@@ -0,0 +1,23 @@
+package com.lifebit.coreapi.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 운동/식단 기록 변경으로 사용자의 랭킹 점수를 다시 계산해야 할 때 발행되는 이벤트
+ * (RankingUpdateDispatcher가 커밋 이후 비동기로 처리)
+ */
+@Getter
+public class ScoreChangeEvent extends ApplicationEvent {
+    public static final String SOURCE_EXERCISE = "EXERCISE";
+    public static final String SOURCE_MEAL = "MEAL";
+
+    private final Long userId;
+    private final String sourceType;
+
+    public ScoreChangeEvent(Long userId, String sourceType) {
+        super(userId);
+        this.userId = userId;
+        this.sourceType = sourceType;
+    }
+}
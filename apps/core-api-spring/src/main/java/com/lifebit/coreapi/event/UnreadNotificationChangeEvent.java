@@ -0,0 +1,34 @@
+package com.lifebit.coreapi.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 사용자의 읽지 않은 알림 수가 바뀌었을 때 발행되는 이벤트
+ * (userId 가 null 이면 시스템 알림으로 전체 사용자 대상, UnreadNotificationCounterStore가 커밋 이후 반영·전송)
+ */
+@Getter
+public class UnreadNotificationChangeEvent extends ApplicationEvent {
+
+    public enum Change {
+        INCREMENT,  // 새 알림 amount 개
+        DECREMENT,  // 알림 amount 개 읽음
+        RESET,      // 모두 읽음
+        INVALIDATE  // 증감을 알 수 없는 변경 (삭제 등), 다음 조회 시 DB에서 다시 계산
+    }
+
+    private final Long userId;
+    private final Change change;
+    private final long amount;
+
+    public UnreadNotificationChangeEvent(Long userId, Change change, long amount) {
+        super(change);
+        this.userId = userId;
+        this.change = change;
+        this.amount = amount;
+    }
+
+    public boolean isAllUsers() {
+        return userId == null;
+    }
+}
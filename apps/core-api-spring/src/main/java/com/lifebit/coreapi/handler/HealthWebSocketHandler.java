@@ -2,6 +2,9 @@ package com.lifebit.coreapi.handler;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lifebit.coreapi.security.JwtTokenProvider;
+import com.lifebit.coreapi.service.activity.UserActivityTracker;
+import com.lifebit.coreapi.websocket.PushSession;
+import com.lifebit.coreapi.websocket.WebSocketPushHub;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.NonNull;
@@ -9,52 +12,28 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.socket.*;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 건강 데이터 실시간 업데이트를 위한 WebSocket 핸들러
- * 사용자별 세션을 관리하고 실시간 업데이트 메시지를 전송
+ * 세션 인증 후 WebSocketPushHub 에 등록하고, 실시간 업데이트 메시지를 허브를 통해 전송
  */
 @Slf4j
 @Component
 public class HealthWebSocketHandler extends TextWebSocketHandler {
 
-    // 사용자별 WebSocket 세션 저장 (확장된 정보)
-    private final Map<String, UserSessionInfo> userSessions = new ConcurrentHashMap<>();
     private final ObjectMapper objectMapper = new ObjectMapper();
     
-    // 사용자 세션 정보 클래스
-    public static class UserSessionInfo {
-        private final String userId;
-        private final WebSocketSession session;
-        private String currentPage;
-        private LocalDateTime lastActivity;
-        
-        public UserSessionInfo(String userId, WebSocketSession session) {
-            this.userId = userId;
-            this.session = session;
-            this.currentPage = "unknown";
-            this.lastActivity = LocalDateTime.now();
-        }
-        
-        // Getters and Setters
-        public String getUserId() { return userId; }
-        public WebSocketSession getSession() { return session; }
-        public String getCurrentPage() { return currentPage; }
-        public void setCurrentPage(String currentPage) { 
-            this.currentPage = currentPage;
-            this.lastActivity = LocalDateTime.now();
-        }
-        public LocalDateTime getLastActivity() { return lastActivity; }
-        public void updateActivity() { this.lastActivity = LocalDateTime.now(); }
-    }
-    
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
+    // 사용자별 다중 세션 관리 및 노드 간 푸시 (세션별 송신 큐 사용)
+    @Autowired
+    private WebSocketPushHub pushHub;
+
+    @Autowired
+    private UserActivityTracker userActivityTracker;
+
     @Override
     public void afterConnectionEstablished(@NonNull WebSocketSession session) throws Exception {
         log.info("🔗 [WebSocket] 연결 시도 - URI: {}, 세션 ID: {}", session.getUri(), session.getId());
@@ -62,8 +41,10 @@ public class HealthWebSocketHandler extends TextWebSocketHandler {
         // JWT 토큰 검증
         String userId = validateAndExtractUserId(session);
         if (userId != null) {
-            userSessions.put(userId, new UserSessionInfo(userId, session));
-            log.info("✅ [WebSocket] 연결 성공 - 사용자 ID: {}, 세션 ID: {}", userId, session.getId());
+            pushHub.register(userId, session);
+            recordVisit(userId);
+            log.info("✅ [WebSocket] 연결 성공 - 사용자 ID: {}, 세션 ID: {}, 사용자 세션 수: {}",
+                    userId, session.getId(), pushHub.getLocalSessions(userId).size());
             
             // 연결 성공 메시지 전송 (안전하게 처리)
             try {
@@ -82,10 +63,10 @@ public class HealthWebSocketHandler extends TextWebSocketHandler {
 
     @Override
     public void afterConnectionClosed(@NonNull WebSocketSession session, @NonNull CloseStatus status) throws Exception {
-        String userId = extractUserIdFromSession(session);
-        if (userId != null) {
-            userSessions.remove(userId);
-            log.info("❌ WebSocket 연결 종료 - 사용자 ID: {}, 상태: {}", userId, status);
+        PushSession pushSession = pushHub.unregister(session);
+        if (pushSession != null) {
+            log.info("❌ WebSocket 연결 종료 - 사용자 ID: {}, 세션 ID: {}, 상태: {}",
+                    pushSession.getUserId(), session.getId(), status);
         }
     }
 
@@ -104,9 +85,15 @@ public class HealthWebSocketHandler extends TextWebSocketHandler {
         String userId = extractUserIdFromSession(session);
         log.info("📨 메시지 수신 - 사용자 ID: {}, 메시지: {}", userId, message.getPayload());
         
+        PushSession pushSession = pushHub.getSession(session.getId());
+        if (pushSession != null) {
+            pushSession.updateActivity();
+            recordVisit(pushSession.getUserId());
+        }
+        
         // 클라이언트에서 ping 메시지를 보낸 경우 pong으로 응답
         if ("ping".equals(message.getPayload())) {
-            sendMessage(session, "pong");
+            pushHub.sendToSession(session, "pong", "pong");
             return;
         }
         
@@ -116,9 +103,9 @@ public class HealthWebSocketHandler extends TextWebSocketHandler {
                 var messageData = objectMapper.readValue(message.getPayload(), java.util.Map.class);
                 String type = (String) messageData.get("type");
                 
-                if ("page_change".equals(type) && userId != null) {
+                if ("page_change".equals(type) && pushSession != null) {
                     String page = (String) messageData.get("page");
-                    updateUserPage(userId, page);
+                    pushHub.changePage(pushSession, page);
                     log.info("📄 [WebSocket] 페이지 변경 - 사용자 ID: {}, 페이지: {}", userId, page);
                 }
             }
@@ -149,26 +136,46 @@ public class HealthWebSocketHandler extends TextWebSocketHandler {
     }
 
     /**
-     * 업데이트 메시지 전송 (내부 메서드)
+     * 특정 사용자에게 읽지 않은 알림 수 변경 메시지 전송
      */
+    public void sendNotificationCountUpdate(String userId, Object data) {
+        sendUpdateMessage(userId, "notification_count_update", data);
+    }
+
+    /**
+     * 이 노드에 연결된 사용자 세션에만 읽지 않은 알림 수 전송 (변경을 중계받은 각 노드가 자기 세션에 보낼 때 사용)
+     */
+    public void sendLocalNotificationCountUpdate(String userId, Object data) {
+        sendUpdateMessage(userId, "notification_count_update", data, false);
+    }
+
     private void sendUpdateMessage(String userId, String type, Object data) {
-        UserSessionInfo userSession = userSessions.get(userId);
-        if (userSession != null && userSession.getSession().isOpen()) {
-            try {
-                HealthUpdateMessage message = HealthUpdateMessage.builder()
-                        .type(type)
-                        .userId(userId)
-                        .data(data)
-                        .timestamp(LocalDateTime.now().toString())
-                        .build();
-                
-                String jsonMessage = objectMapper.writeValueAsString(message);
-                sendMessage(userSession.getSession(), jsonMessage);
-                
-                log.info("📤 업데이트 메시지 전송 - 사용자 ID: {}, 타입: {}", userId, type);
-            } catch (Exception e) {
-                log.error("🚨 메시지 전송 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+        sendUpdateMessage(userId, type, data, true);
+    }
+
+    /**
+     * 업데이트 메시지 전송 (내부 메서드)
+     * 사용자의 모든 세션에 송신 큐를 통해 전달되며, relay 이면 다른 노드에 연결된 세션에도 중계된다.
+     */
+    private void sendUpdateMessage(String userId, String type, Object data, boolean relay) {
+        try {
+            HealthUpdateMessage message = HealthUpdateMessage.builder()
+                    .type(type)
+                    .userId(userId)
+                    .data(data)
+                    .timestamp(LocalDateTime.now().toString())
+                    .build();
+            
+            String jsonMessage = objectMapper.writeValueAsString(message);
+            if (relay) {
+                pushHub.sendToUser(userId, type, jsonMessage);
+            } else {
+                pushHub.sendToLocalUser(userId, type, jsonMessage);
             }
+            
+            log.info("📤 업데이트 메시지 전송 - 사용자 ID: {}, 타입: {}", userId, type);
+        } catch (Exception e) {
+            log.error("🚨 메시지 전송 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
         }
     }
 
@@ -190,7 +197,7 @@ public class HealthWebSocketHandler extends TextWebSocketHandler {
                     .build();
             
             String jsonMessage = objectMapper.writeValueAsString(welcome);
-            sendMessage(session, jsonMessage);
+            pushHub.sendToSession(session, "welcome", jsonMessage);
             
             log.info("✅ 환영 메시지 전송 성공 - 사용자 ID: {}", userId);
         } catch (Exception e) {
@@ -199,23 +206,6 @@ public class HealthWebSocketHandler extends TextWebSocketHandler {
         }
     }
 
-    /**
-     * WebSocket 세션에 메시지 전송
-     */
-    private void sendMessage(WebSocketSession session, String message) throws IOException {
-        if (session != null && session.isOpen()) {
-            try {
-                session.sendMessage(new TextMessage(message));
-            } catch (IOException e) {
-                log.warn("메시지 전송 중 연결이 끊어짐 - 세션 ID: {}, 오류: {}", session.getId(), e.getMessage());
-                throw e;
-            }
-        } else {
-            log.warn("세션이 닫혀있어 메시지를 전송할 수 없습니다.");
-            throw new IOException("WebSocket session is closed");
-        }
-    }
-
     /**
      * JWT 토큰 검증 및 사용자 ID 추출
      */
@@ -339,39 +329,45 @@ public class HealthWebSocketHandler extends TextWebSocketHandler {
     }
 
     /**
-     * 현재 연결된 사용자 수 반환
+     * 인증된 세션 활동을 접속 기록으로 반영
+     */
+    private void recordVisit(String userId) {
+        try {
+            userActivityTracker.recordVisit(Long.valueOf(userId));
+        } catch (NumberFormatException e) {
+            log.debug("접속 기록 생략 - 숫자가 아닌 사용자 ID: {}", userId);
+        }
+    }
+
+    /**
+     * 현재 연결된 사용자 수 반환 (모든 노드 합산)
      */
     public int getConnectedUserCount() {
-        return userSessions.size();
+        return pushHub.getOnlineUserCount();
     }
 
     /**
      * 특정 사용자가 연결되어 있는지 확인
      */
     public boolean isUserConnected(String userId) {
-        UserSessionInfo userSession = userSessions.get(userId);
-        return userSession != null && userSession.getSession().isOpen();
+        return pushHub.hasLocalSession(userId);
     }
 
     /**
-     * 사용자의 현재 페이지 업데이트
+     * 사용자의 현재 페이지 업데이트 (이 노드의 모든 세션)
      */
     public void updateUserPage(String userId, String page) {
-        UserSessionInfo userSession = userSessions.get(userId);
-        if (userSession != null) {
-            userSession.setCurrentPage(page);
-            log.info("📄 [WebSocket] 사용자 페이지 업데이트 - ID: {}, 페이지: {}", userId, page);
+        for (PushSession pushSession : pushHub.getLocalSessions(userId)) {
+            pushHub.changePage(pushSession, page);
         }
+        log.info("📄 [WebSocket] 사용자 페이지 업데이트 - ID: {}, 페이지: {}", userId, page);
     }
 
     /**
-     * 페이지별 접속자 수 조회
+     * 페이지별 접속자 수 조회 (증분 집계, 사용자 단위, 모든 노드 합산)
      */
     public int getUserCountByPage(String pageName) {
-        return (int) userSessions.values().stream()
-                .filter(session -> session.getSession().isOpen())
-                .filter(session -> pageName.equals(session.getCurrentPage()))
-                .count();
+        return pushHub.getUserCountByPage(pageName);
     }
 
     /**
@@ -380,12 +376,10 @@ public class HealthWebSocketHandler extends TextWebSocketHandler {
     public java.util.Map<String, Object> getDetailedUserStats() {
         java.util.Map<String, Object> stats = new java.util.HashMap<>();
         
-        // 총 접속자 수
-        int totalOnline = (int) userSessions.values().stream()
-                .filter(session -> session.getSession().isOpen())
-                .count();
+        // 총 접속자 수 (여러 세션으로 접속한 사용자는 한 명으로 집계, 모든 노드 합산)
+        int totalOnline = pushHub.getOnlineUserCount();
         
-        // 페이지별 접속자 수
+        // 페이지별 접속자 수 (사용자는 한 페이지에만 집계되므로 합산해도 중복 없음)
         int healthLogUsers = getUserCountByPage("health-log");
         int adminUsers = getUserCountByPage("admin");
         int profileUsers = getUserCountByPage("profile");
@@ -85,4 +85,13 @@ public interface ExerciseSessionRepository extends JpaRepository<ExerciseSession
     // 특정 값 도달 업적: 총 운동 시간(분)
     @Query("SELECT COALESCE(SUM(es.durationMinutes), 0) FROM ExerciseSession es WHERE es.user.userId = :userId AND es.validationStatus = 'VALIDATED'")
     int sumTotalWorkoutMinutesByUserId(@Param("userId") Long userId);
-}
\ No newline at end of file
+
+    // 통계 대시보드용: 기간 내 세션(운동 카탈로그 포함)과 사용자의 전체 운동 일수를 한 번에 조회
+    @Query("SELECT es, (SELECT COUNT(DISTINCT es2.exerciseDate) FROM ExerciseSession es2 WHERE es2.user.userId = :userId) " +
+           "FROM ExerciseSession es LEFT JOIN FETCH es.exerciseCatalog " +
+           "WHERE es.user.userId = :userId AND es.exerciseDate BETWEEN :startDate AND :endDate " +
+           "ORDER BY es.exerciseDate DESC")
+    List<Object[]> findWithCatalogAndTotalWorkoutDays(@Param("userId") Long userId,
+                                                      @Param("startDate") LocalDate startDate,
+                                                      @Param("endDate") LocalDate endDate);
+}
@@ -1,7 +1,10 @@
 package com.lifebit.coreapi.repository;
 
 import com.lifebit.coreapi.entity.FoodItem;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
@@ -12,4 +15,11 @@ public interface FoodItemRepository extends JpaRepository<FoodItem, Long> {
     Optional<FoodItem> findByUuid(UUID uuid);
     Optional<FoodItem> findByFoodCode(String foodCode);
     List<FoodItem> findByNameContainingIgnoreCase(String name);
-} 
\ No newline at end of file
+    Optional<FoodItem> findFirstByNameIgnoreCaseOrderByFoodItemIdAsc(String name);
+
+    /**
+     * 검색 인덱스 적재용 (ID, 이름) 목록 - afterId 이후를 ID 순으로 페이지 단위 조회
+     */
+    @Query("SELECT f.foodItemId, f.name FROM FoodItem f WHERE f.foodItemId > :afterId ORDER BY f.foodItemId")
+    List<Object[]> findIdAndNameAfter(@Param("afterId") Long afterId, Pageable pageable);
+}
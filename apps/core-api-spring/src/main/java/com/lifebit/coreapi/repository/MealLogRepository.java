@@ -32,6 +32,10 @@ public interface MealLogRepository extends JpaRepository<MealLog, Long> {
     
     @Query("SELECT ml FROM MealLog ml WHERE ml.user.userId = :userId AND ml.logDate = :logDate ORDER BY ml.logDate DESC, ml.createdAt DESC")
     List<MealLog> findByUserIdAndLogDateOrderByLogDateDescCreatedAtDesc(@Param("userId") Long userId, @Param("logDate") LocalDate logDate);
+
+    // 음식 정보(EAGER)를 조인으로 함께 가져와 음식별 추가 조회 방지
+    @Query("SELECT ml FROM MealLog ml LEFT JOIN FETCH ml.foodItem WHERE ml.user.userId = :userId AND ml.logDate = :logDate ORDER BY ml.logDate DESC, ml.createdAt DESC")
+    List<MealLog> findWithFoodItemByUserIdAndLogDate(@Param("userId") Long userId, @Param("logDate") LocalDate logDate);
     
     @Query("SELECT ml FROM MealLog ml WHERE ml.user.userId = :userId AND ml.logDate BETWEEN :startDate AND :endDate ORDER BY ml.logDate DESC, ml.createdAt DESC")
     List<MealLog> findByUserIdAndLogDateBetweenOrderByLogDateDescCreatedAtDesc(@Param("userId") Long userId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
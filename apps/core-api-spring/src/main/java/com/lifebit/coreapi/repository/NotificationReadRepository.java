@@ -2,6 +2,7 @@ package com.lifebit.coreapi.repository;
 
 import com.lifebit.coreapi.entity.NotificationRead;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import java.util.Optional;
@@ -11,4 +12,27 @@ public interface NotificationReadRepository extends JpaRepository<NotificationRe
     @Query("SELECT COUNT(nr) > 0 FROM NotificationRead nr WHERE nr.userId = :userId AND nr.notificationId = :notificationId")
     boolean existsByUserIdAndNotificationId(@Param("userId") Long userId, @Param("notificationId") Long notificationId);
 
-} 
\ No newline at end of file
+    /**
+     * 개별 읽음 기록 추가 (이미 있으면 무시)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO notification_read (user_id, notification_id, read_at)
+        VALUES (:userId, :notificationId, NOW())
+        ON CONFLICT (user_id, notification_id) DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("notificationId") Long notificationId);
+
+    /**
+     * 읽음 기준점 이하로 내려간 시스템 알림의 개별 읽음 기록 정리 (기준점만으로 읽음 판정 가능)
+     */
+    @Modifying
+    @Query(value = """
+        DELETE FROM notification_read nr
+        USING notification_read_watermark w, notification n
+        WHERE nr.user_id = :userId AND w.user_id = nr.user_id
+          AND n.id = nr.notification_id AND n.user_id IS NULL
+          AND nr.notification_id <= w.last_read_system_notification_id
+        """, nativeQuery = true)
+    int deleteSystemReadsCoveredByWatermark(@Param("userId") Long userId);
+}
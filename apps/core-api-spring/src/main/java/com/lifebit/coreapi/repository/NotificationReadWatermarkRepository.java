@@ -0,0 +1,24 @@
+package com.lifebit.coreapi.repository;
+
+import com.lifebit.coreapi.entity.NotificationReadWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface NotificationReadWatermarkRepository extends JpaRepository<NotificationReadWatermark, Long> {
+
+    /**
+     * 현재까지의 모든 시스템 알림을 읽음 처리 (기준점을 최신 시스템 알림 ID로 올림, 내려가지는 않음)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO notification_read_watermark (user_id, last_read_system_notification_id, updated_at)
+        SELECT :userId, COALESCE(MAX(n.id), 0), NOW() FROM notification n WHERE n.user_id IS NULL
+        ON CONFLICT (user_id) DO UPDATE SET
+            last_read_system_notification_id = GREATEST(notification_read_watermark.last_read_system_notification_id,
+                                                        EXCLUDED.last_read_system_notification_id),
+            updated_at = EXCLUDED.updated_at
+        """, nativeQuery = true)
+    int advanceToLatestSystemNotification(@Param("userId") Long userId);
+}
@@ -31,19 +31,36 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("SELECT COUNT(n) FROM Notification n WHERE (n.userId = :userId OR n.userId IS NULL) AND n.isRead = false")
     long countUnreadByUserIdOrUserIdIsNull(@Param("userId") Long userId);
 
+    /**
+     * 읽지 않은 알림 수 (개인 알림 is_read = false + 읽음 기준점 이후 개별 읽음 기록이 없는 시스템 알림)
+     */
+    @Query(value = """
+        SELECT (SELECT COUNT(*) FROM notification n WHERE n.user_id = :userId AND n.is_read = false)
+             + (SELECT COUNT(*) FROM notification n
+                WHERE n.user_id IS NULL
+                  AND n.id > COALESCE((SELECT w.last_read_system_notification_id
+                                       FROM notification_read_watermark w WHERE w.user_id = :userId), 0)
+                  AND NOT EXISTS (SELECT 1 FROM notification_read nr
+                                  WHERE nr.user_id = :userId AND nr.notification_id = n.id))
+        """, nativeQuery = true)
+    long countUnreadForUser(@Param("userId") Long userId);
+
     // 시스템 공용 알림만 조회
     @Query("SELECT n FROM Notification n WHERE n.userId IS NULL ORDER BY n.createdAt DESC")
     List<Notification> findByUserIdIsNullOrderByCreatedAtDesc();
 
     /**
-     * 시스템 알림(공용) 및 개인 알림을 모두 조회하며, 시스템 알림의 경우 notification_read 테이블과 조인하여 읽음 여부를 반환
+     * 시스템 알림(공용) 및 개인 알림을 모두 조회하며, 시스템 알림의 경우 읽음 기준점 및 notification_read 테이블과 조인하여 읽음 여부를 반환
      * 반환: Object[] { Notification, isRead(boolean) }
      */
     @Query("""
     SELECT n, 
-           CASE WHEN nr.id IS NOT NULL THEN true ELSE false END as isRead
+           CASE WHEN nr.id IS NOT NULL OR n.isRead = true
+                     OR (n.userId IS NULL AND n.id <= COALESCE(w.lastReadSystemNotificationId, 0))
+                THEN true ELSE false END as isRead
     FROM Notification n
     LEFT JOIN NotificationRead nr ON nr.notificationId = n.id AND nr.userId = :userId
+    LEFT JOIN NotificationReadWatermark w ON w.userId = :userId
     WHERE n.userId = :userId OR n.userId IS NULL
     ORDER BY n.createdAt DESC
     """)
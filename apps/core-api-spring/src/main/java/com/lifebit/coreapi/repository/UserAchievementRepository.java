@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +33,16 @@ public interface UserAchievementRepository extends JpaRepository<UserAchievement
     Optional<UserAchievement> findByUserIdAndAchievementId(@Param("userId") Long userId, 
                                                           @Param("achievementId") Long achievementId);
     
+    // 특정 사용자의 여러 업적을 한 번에 조회
+    @Query("SELECT ua FROM UserAchievement ua " +
+           "WHERE ua.user.userId = :userId AND ua.achievement.achievementId IN :achievementIds")
+    List<UserAchievement> findByUserIdAndAchievementIdIn(@Param("userId") Long userId,
+                                                         @Param("achievementIds") Collection<Long> achievementIds);
+    
+    // 특정 사용자가 이미 가진 업적 ID 목록
+    @Query("SELECT ua.achievement.achievementId FROM UserAchievement ua WHERE ua.user.userId = :userId")
+    List<Long> findAchievementIdsByUserId(@Param("userId") Long userId);
+    
     // 특정 사용자의 달성률 계산
     @Query("SELECT COUNT(ua) FROM UserAchievement ua " +
            "JOIN ua.achievement a " +
@@ -0,0 +1,291 @@
+package com.lifebit.coreapi.repository.achievement;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 사용자별 업적 누적 상태(user_achievement_state) JDBC 저장소
+ *
+ * 검증 완료(VALIDATED)된 새 운동/식단 기록만 현재 행에 한 번의 UPDATE 로 반영한다. (연속 기록, 누적 횟수/합계)
+ * 과거 날짜 기록·수정·삭제처럼 증분으로 맞출 수 없는 변경은 stale 로 표시하고,
+ * 재구성은 원본(exercise_sessions, meal_logs)에서 연속 구간(gaps-and-islands) 집계로 다시 계산한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AchievementStateRepository {
+
+    // 마지막 기록일 이후(또는 같은 날) 운동 기록 반영, 과거 날짜면 0건 (호출 측에서 재구성)
+    private static final String APPLY_EXERCISE_SQL = """
+        UPDATE user_achievement_state s SET
+            exercise_current_streak = CASE WHEN s.exercise_last_date = p.d THEN s.exercise_current_streak
+                                           WHEN s.exercise_last_date = p.d - 1 THEN s.exercise_current_streak + 1
+                                           ELSE 1 END,
+            exercise_max_streak = GREATEST(s.exercise_max_streak,
+                                           CASE WHEN s.exercise_last_date = p.d THEN s.exercise_current_streak
+                                                WHEN s.exercise_last_date = p.d - 1 THEN s.exercise_current_streak + 1
+                                                ELSE 1 END),
+            exercise_days = s.exercise_days + CASE WHEN s.exercise_last_date = p.d THEN 0 ELSE 1 END,
+            exercise_last_date = p.d,
+            morning_workouts = s.morning_workouts + p.morning,
+            night_workouts = s.night_workouts + p.night,
+            weekend_workouts = s.weekend_workouts + p.weekend,
+            total_calories_burned = s.total_calories_burned + p.calories,
+            total_workout_minutes = s.total_workout_minutes + p.minutes,
+            updated_at = NOW()
+        FROM (SELECT ?::date AS d, ?::int AS morning, ?::int AS night, ?::int AS weekend,
+                     ?::bigint AS calories, ?::bigint AS minutes) p
+        WHERE s.user_id = ? AND NOT s.stale
+          AND (s.exercise_last_date IS NULL OR s.exercise_last_date <= p.d)
+        """;
+
+    // 마지막 기록일 이후(또는 같은 날) 식단 기록 반영, 과거 날짜면 0건 (호출 측에서 재구성)
+    private static final String APPLY_MEAL_SQL = """
+        UPDATE user_achievement_state s SET
+            meal_current_streak = CASE WHEN s.meal_last_date = p.d THEN s.meal_current_streak
+                                       WHEN s.meal_last_date = p.d - 1 THEN s.meal_current_streak + 1
+                                       ELSE 1 END,
+            meal_max_streak = GREATEST(s.meal_max_streak,
+                                       CASE WHEN s.meal_last_date = p.d THEN s.meal_current_streak
+                                            WHEN s.meal_last_date = p.d - 1 THEN s.meal_current_streak + 1
+                                            ELSE 1 END),
+            meal_days = s.meal_days + CASE WHEN s.meal_last_date = p.d THEN 0 ELSE 1 END,
+            meal_last_date = p.d,
+            meal_records = s.meal_records + p.n,
+            updated_at = NOW()
+        FROM (SELECT ?::date AS d, ?::integer AS n) p
+        WHERE s.user_id = ? AND NOT s.stale
+          AND (s.meal_last_date IS NULL OR s.meal_last_date <= p.d)
+        """;
+
+    // 원본의 검증 완료(VALIDATED) 기록에서 전체 상태 재계산 (%1$s = exercise_sessions 조건, %2$s = meal_logs 조건, %3$s = users 조건)
+    private static final String REBUILD_SQL_TEMPLATE = """
+        WITH ex_days AS (
+            SELECT DISTINCT es.user_id, es.exercise_date AS d
+            FROM exercise_sessions es
+            WHERE es.user_id IS NOT NULL AND es.exercise_date IS NOT NULL AND es.validation_status = 'VALIDATED' AND %1$s
+        ), ex_runs AS (
+            SELECT user_id, COUNT(*) AS len, MAX(d) AS end_date
+            FROM (SELECT user_id, d, d - (ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY d))::int AS grp FROM ex_days) g
+            GROUP BY user_id, grp
+        ), ex_streak AS (
+            SELECT user_id, MAX(len) AS max_streak, SUM(len) AS days, MAX(end_date) AS last_date,
+                   (ARRAY_AGG(len ORDER BY end_date DESC))[1] AS current_streak
+            FROM ex_runs GROUP BY user_id
+        ), ex_totals AS (
+            SELECT es.user_id,
+                   COUNT(*) FILTER (WHERE LOWER(es.time_period) = 'morning') AS morning,
+                   COUNT(*) FILTER (WHERE LOWER(es.time_period) = 'night') AS night,
+                   COUNT(*) FILTER (WHERE EXTRACT(ISODOW FROM es.exercise_date) IN (6, 7)) AS weekend,
+                   SUM(COALESCE(es.calories_burned, 0)) AS calories,
+                   SUM(COALESCE(es.duration_minutes, 0)) AS minutes
+            FROM exercise_sessions es
+            WHERE es.user_id IS NOT NULL AND es.validation_status = 'VALIDATED' AND %1$s
+            GROUP BY es.user_id
+        ), ml_days AS (
+            SELECT DISTINCT ml.user_id, ml.log_date AS d
+            FROM meal_logs ml
+            WHERE ml.user_id IS NOT NULL AND ml.validation_status = 'VALIDATED' AND %2$s
+        ), ml_runs AS (
+            SELECT user_id, COUNT(*) AS len, MAX(d) AS end_date
+            FROM (SELECT user_id, d, d - (ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY d))::int AS grp FROM ml_days) g
+            GROUP BY user_id, grp
+        ), ml_streak AS (
+            SELECT user_id, MAX(len) AS max_streak, SUM(len) AS days, MAX(end_date) AS last_date,
+                   (ARRAY_AGG(len ORDER BY end_date DESC))[1] AS current_streak
+            FROM ml_runs GROUP BY user_id
+        ), ml_totals AS (
+            SELECT ml.user_id, COUNT(*) AS records
+            FROM meal_logs ml
+            WHERE ml.user_id IS NOT NULL AND ml.validation_status = 'VALIDATED' AND %2$s
+            GROUP BY ml.user_id
+        )
+        INSERT INTO user_achievement_state (user_id,
+                                            exercise_last_date, exercise_current_streak, exercise_max_streak, exercise_days,
+                                            morning_workouts, night_workouts, weekend_workouts,
+                                            total_calories_burned, total_workout_minutes,
+                                            meal_last_date, meal_current_streak, meal_max_streak, meal_days, meal_records,
+                                            stale, updated_at)
+        SELECT u.user_id,
+               exs.last_date, COALESCE(exs.current_streak, 0), COALESCE(exs.max_streak, 0), COALESCE(exs.days, 0),
+               COALESCE(ext.morning, 0), COALESCE(ext.night, 0), COALESCE(ext.weekend, 0),
+               COALESCE(ext.calories, 0), COALESCE(ext.minutes, 0),
+               mls.last_date, COALESCE(mls.current_streak, 0), COALESCE(mls.max_streak, 0), COALESCE(mls.days, 0),
+               COALESCE(mlt.records, 0),
+               false, NOW()
+        FROM users u
+        LEFT JOIN ex_streak exs ON exs.user_id = u.user_id
+        LEFT JOIN ex_totals ext ON ext.user_id = u.user_id
+        LEFT JOIN ml_streak mls ON mls.user_id = u.user_id
+        LEFT JOIN ml_totals mlt ON mlt.user_id = u.user_id
+        WHERE %3$s
+        ON CONFLICT (user_id) DO UPDATE SET
+            exercise_last_date = EXCLUDED.exercise_last_date,
+            exercise_current_streak = EXCLUDED.exercise_current_streak,
+            exercise_max_streak = EXCLUDED.exercise_max_streak,
+            exercise_days = EXCLUDED.exercise_days,
+            morning_workouts = EXCLUDED.morning_workouts,
+            night_workouts = EXCLUDED.night_workouts,
+            weekend_workouts = EXCLUDED.weekend_workouts,
+            total_calories_burned = EXCLUDED.total_calories_burned,
+            total_workout_minutes = EXCLUDED.total_workout_minutes,
+            meal_last_date = EXCLUDED.meal_last_date,
+            meal_current_streak = EXCLUDED.meal_current_streak,
+            meal_max_streak = EXCLUDED.meal_max_streak,
+            meal_days = EXCLUDED.meal_days,
+            meal_records = EXCLUDED.meal_records,
+            stale = false,
+            updated_at = EXCLUDED.updated_at
+        """;
+
+    private static final String REBUILD_USER_SQL = String.format(REBUILD_SQL_TEMPLATE,
+            "es.user_id = ?", "ml.user_id = ?", "u.user_id = ?");
+
+    private static final String REBUILD_USER_RANGE_SQL = String.format(REBUILD_SQL_TEMPLATE,
+            "es.user_id > ? AND es.user_id <= ?", "ml.user_id > ? AND ml.user_id <= ?", "u.user_id > ? AND u.user_id <= ?");
+
+    private static final String SELECT_STATE_SQL = """
+        SELECT user_id, exercise_last_date, exercise_current_streak, exercise_max_streak, exercise_days,
+               morning_workouts, night_workouts, weekend_workouts, total_calories_burned, total_workout_minutes,
+               meal_last_date, meal_current_streak, meal_max_streak, meal_days, meal_records
+        FROM user_achievement_state
+        WHERE user_id = ? AND NOT stale
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용자 한 명의 업적 누적 상태
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class AchievementState {
+        private final Long userId;
+        private final LocalDate exerciseLastDate;
+        private final int exerciseCurrentStreak; // exerciseLastDate 에서 끝나는 연속 운동 일수
+        private final int exerciseMaxStreak;
+        private final int exerciseDays;          // 운동한 날 수 (누적)
+        private final int morningWorkouts;
+        private final int nightWorkouts;
+        private final int weekendWorkouts;
+        private final long totalCaloriesBurned;
+        private final long totalWorkoutMinutes;
+        private final LocalDate mealLastDate;
+        private final int mealCurrentStreak;     // mealLastDate 에서 끝나는 연속 식단 기록 일수
+        private final int mealMaxStreak;
+        private final int mealDays;
+        private final int mealRecords;           // 식단 기록 수 (누적)
+
+        /**
+         * 오늘 기준 연속 운동 일수 (오늘 기록이 없으면 0)
+         */
+        public int getExerciseStreakAsOf(LocalDate today) {
+            return today.equals(exerciseLastDate) ? exerciseCurrentStreak : 0;
+        }
+
+        /**
+         * 오늘 기준 연속 식단 기록 일수 (오늘 기록이 없으면 0)
+         */
+        public int getMealStreakAsOf(LocalDate today) {
+            return today.equals(mealLastDate) ? mealCurrentStreak : 0;
+        }
+    }
+
+    /**
+     * 운동 기록 한 건을 증분 반영하고 반영 여부 반환 (상태가 없거나 stale 이거나 과거 날짜면 false)
+     */
+    public boolean applyExercise(Long userId, LocalDate exerciseDate, boolean morning, boolean night, boolean weekend,
+                                 int caloriesBurned, int durationMinutes) {
+        return jdbcTemplate.update(APPLY_EXERCISE_SQL,
+                Date.valueOf(exerciseDate), morning ? 1 : 0, night ? 1 : 0, weekend ? 1 : 0,
+                caloriesBurned, durationMinutes, userId) > 0;
+    }
+
+    /**
+     * 식단 기록 한 건을 증분 반영하고 반영 여부 반환 (상태가 없거나 stale 이거나 과거 날짜면 false)
+     */
+    public boolean applyMeal(Long userId, LocalDate logDate) {
+        return applyMeals(userId, logDate, 1);
+    }
+
+    /**
+     * 같은 날짜의 식단 기록 여러 건을 한 번에 증분 반영하고 반영 여부 반환
+     */
+    public boolean applyMeals(Long userId, LocalDate logDate, int count) {
+        return jdbcTemplate.update(APPLY_MEAL_SQL, Date.valueOf(logDate), count, userId) > 0;
+    }
+
+    /**
+     * 수정/삭제처럼 증분으로 맞출 수 없는 변경 표시 (다음 조회 시 재구성)
+     */
+    public void markStale(Long userId) {
+        jdbcTemplate.update("UPDATE user_achievement_state SET stale = true, updated_at = NOW() WHERE user_id = ?", userId);
+    }
+
+    /**
+     * 사용자 한 명의 상태를 원본에서 다시 계산
+     */
+    public void rebuildUser(Long userId) {
+        jdbcTemplate.update(REBUILD_USER_SQL, userId, userId, userId, userId, userId);
+    }
+
+    /**
+     * afterUserId < user_id <= toUserId 사용자의 상태를 다시 계산하고 반영된 행 수 반환
+     */
+    public int rebuildUserRange(long afterUserId, long toUserId) {
+        return jdbcTemplate.update(REBUILD_USER_RANGE_SQL,
+                afterUserId, toUserId, afterUserId, toUserId, afterUserId, toUserId,
+                afterUserId, toUserId, afterUserId, toUserId);
+    }
+
+    /**
+     * 최신 상태 조회 (없거나 stale 이면 null)
+     */
+    public AchievementState findFreshState(Long userId) {
+        List<AchievementState> result = jdbcTemplate.query(SELECT_STATE_SQL, (rs, rowNum) -> mapState(rs), userId);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    /**
+     * afterUserId 이후 최대 limit명 중 마지막 사용자 ID (더 없으면 null)
+     */
+    public Long findUserIdChunkEnd(long afterUserId, int limit) {
+        return jdbcTemplate.queryForObject(
+                "SELECT MAX(user_id) FROM (SELECT user_id FROM users WHERE user_id > ? ORDER BY user_id LIMIT ?) chunk",
+                Long.class, afterUserId, limit);
+    }
+
+    public boolean isEmpty() {
+        return !Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM user_achievement_state)", Boolean.class));
+    }
+
+    private static AchievementState mapState(ResultSet rs) throws SQLException {
+        Date exerciseLastDate = rs.getDate("exercise_last_date");
+        Date mealLastDate = rs.getDate("meal_last_date");
+        return new AchievementState(
+                rs.getLong("user_id"),
+                exerciseLastDate != null ? exerciseLastDate.toLocalDate() : null,
+                rs.getInt("exercise_current_streak"),
+                rs.getInt("exercise_max_streak"),
+                rs.getInt("exercise_days"),
+                rs.getInt("morning_workouts"),
+                rs.getInt("night_workouts"),
+                rs.getInt("weekend_workouts"),
+                rs.getLong("total_calories_burned"),
+                rs.getLong("total_workout_minutes"),
+                mealLastDate != null ? mealLastDate.toLocalDate() : null,
+                rs.getInt("meal_current_streak"),
+                rs.getInt("meal_max_streak"),
+                rs.getInt("meal_days"),
+                rs.getInt("meal_records"));
+    }
+}
@@ -0,0 +1,250 @@
+package com.lifebit.coreapi.repository.activity;
+
+import com.lifebit.coreapi.entity.BodyPartType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 일별 활동 집계(user_daily_activity) JDBC 저장소
+ *
+ * 집계 행은 항상 원본(exercise_sessions, meal_logs)에서 GROUP BY 로 다시 계산해 덮어쓴다.
+ * 하루 단위 갱신은 해당 날짜 행만, 재구성은 사용자 ID 범위 단위로 처리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyActivityRollupRepository {
+
+    private static final BodyPartType[] BODY_PARTS = BodyPartType.values();
+
+    // 운동 부위 비트맵 (비트 위치 = BodyPartType.ordinal())
+    private static final String BODY_PART_MASK_SQL = Arrays.stream(BODY_PARTS)
+            .map(part -> String.format("WHEN '%s' THEN %d", part.name(), 1 << part.ordinal()))
+            .collect(Collectors.joining(" ", "BIT_OR(CASE ec.body_part ", " ELSE 0 END)"));
+
+    // 운동 부위별 운동 시간 배열 (인덱스 = BodyPartType.ordinal())
+    private static final String BODY_PART_MINUTES_SQL = Arrays.stream(BODY_PARTS)
+            .map(part -> String.format(
+                    "SUM(CASE WHEN ec.body_part = '%s' THEN COALESCE(es.duration_minutes, 0) ELSE 0 END)::integer", part.name()))
+            .collect(Collectors.joining(", ", "ARRAY[", "]"));
+
+    private static final String EMPTY_BODY_PART_MINUTES_SQL = Arrays.stream(BODY_PARTS)
+            .map(part -> "0")
+            .collect(Collectors.joining(",", "'{", "}'::integer[]"));
+
+    private static final String UPSERT_ROLLUP_SQL_TEMPLATE = """
+        WITH ex AS (
+            SELECT es.user_id, es.exercise_date AS activity_date,
+                   SUM(COALESCE(es.duration_minutes, 0)) AS exercise_minutes,
+                   SUM(COALESCE(es.calories_burned, 0)) AS calories_burned,
+                   SUM(COALESCE(es.sets, 0)) AS total_sets,
+                   COUNT(*) AS session_count,
+                   %1$s AS body_part_mask,
+                   %2$s AS body_part_minutes,
+                   MODE() WITHIN GROUP (ORDER BY ec.name) AS primary_exercise_name
+            FROM exercise_sessions es
+            LEFT JOIN exercise_catalog ec ON ec.exercise_catalog_id = es.exercise_catalog_id
+            WHERE es.user_id IS NOT NULL AND es.exercise_date IS NOT NULL AND %4$s
+            GROUP BY es.user_id, es.exercise_date
+        ), ml AS (
+            SELECT m.user_id, m.log_date AS activity_date,
+                   COUNT(*) AS meal_count,
+                   SUM(COALESCE(f.calories, 0) * COALESCE(m.quantity, 1) / 100.0) AS meal_calories,
+                   SUM(COALESCE(f.carbs, 0) * COALESCE(m.quantity, 1) / 100.0) AS meal_carbs,
+                   SUM(COALESCE(f.protein, 0) * COALESCE(m.quantity, 1) / 100.0) AS meal_protein,
+                   SUM(COALESCE(f.fat, 0) * COALESCE(m.quantity, 1) / 100.0) AS meal_fat
+            FROM meal_logs m
+            LEFT JOIN food_items f ON f.food_item_id = m.food_item_id
+            WHERE m.user_id IS NOT NULL AND %5$s
+            GROUP BY m.user_id, m.log_date
+        )
+        INSERT INTO user_daily_activity (user_id, activity_date, exercise_minutes, calories_burned, total_sets,
+                                         session_count, body_part_mask, body_part_minutes, primary_exercise_name,
+                                         meal_count, meal_calories, meal_carbs, meal_protein, meal_fat, updated_at)
+        SELECT COALESCE(ex.user_id, ml.user_id), COALESCE(ex.activity_date, ml.activity_date),
+               COALESCE(ex.exercise_minutes, 0), COALESCE(ex.calories_burned, 0), COALESCE(ex.total_sets, 0),
+               COALESCE(ex.session_count, 0), COALESCE(ex.body_part_mask, 0), COALESCE(ex.body_part_minutes, %3$s),
+               ex.primary_exercise_name,
+               COALESCE(ml.meal_count, 0), COALESCE(ml.meal_calories, 0), COALESCE(ml.meal_carbs, 0),
+               COALESCE(ml.meal_protein, 0), COALESCE(ml.meal_fat, 0), NOW()
+        FROM ex
+        FULL OUTER JOIN ml ON ml.user_id = ex.user_id AND ml.activity_date = ex.activity_date
+        ON CONFLICT (user_id, activity_date) DO UPDATE SET
+            exercise_minutes = EXCLUDED.exercise_minutes,
+            calories_burned = EXCLUDED.calories_burned,
+            total_sets = EXCLUDED.total_sets,
+            session_count = EXCLUDED.session_count,
+            body_part_mask = EXCLUDED.body_part_mask,
+            body_part_minutes = EXCLUDED.body_part_minutes,
+            primary_exercise_name = EXCLUDED.primary_exercise_name,
+            meal_count = EXCLUDED.meal_count,
+            meal_calories = EXCLUDED.meal_calories,
+            meal_carbs = EXCLUDED.meal_carbs,
+            meal_protein = EXCLUDED.meal_protein,
+            meal_fat = EXCLUDED.meal_fat,
+            updated_at = EXCLUDED.updated_at
+        """;
+
+    private static final String UPSERT_DAY_SQL = upsertSql(
+            "es.user_id = ? AND es.exercise_date = ?", "m.user_id = ? AND m.log_date = ?");
+
+    private static final String UPSERT_USER_RANGE_SQL = upsertSql(
+            "es.user_id > ? AND es.user_id <= ?", "m.user_id > ? AND m.user_id <= ?");
+
+    private static final String SELECT_ROLLUP_SQL = """
+        SELECT activity_date, exercise_minutes, calories_burned, total_sets, session_count,
+               body_part_mask, body_part_minutes, primary_exercise_name,
+               meal_count, meal_calories, meal_carbs, meal_protein, meal_fat
+        FROM user_daily_activity
+        WHERE user_id = ? AND activity_date BETWEEN ? AND ?
+        ORDER BY activity_date
+        """;
+
+    private static final String SELECT_USER_DAYS_CREATED_SINCE_SQL = """
+        SELECT user_id, exercise_date AS activity_date FROM exercise_sessions
+        WHERE created_at >= ? AND user_id IS NOT NULL AND exercise_date IS NOT NULL
+        UNION
+        SELECT user_id, log_date AS activity_date FROM meal_logs
+        WHERE created_at >= ? AND user_id IS NOT NULL AND log_date IS NOT NULL
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 집계 갱신 단위 (사용자 + 날짜)
+     */
+    public record UserDay(Long userId, LocalDate activityDate) {
+    }
+
+    /**
+     * 하루치 활동 집계 (운동 합계 + 부위 비트맵/부위별 시간 + 식단 영양소 합계)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class DailyActivity {
+        private final LocalDate activityDate;
+        private final int exerciseMinutes;
+        private final int caloriesBurned;
+        private final int totalSets;
+        private final int sessionCount;
+        private final int bodyPartMask;
+        private final int[] bodyPartMinutes;
+        private final String primaryExerciseName;
+        private final int mealCount;
+        private final double mealCalories;
+        private final double mealCarbs;
+        private final double mealProtein;
+        private final double mealFat;
+
+        public boolean hasBodyPart(BodyPartType bodyPart) {
+            return (bodyPartMask & (1 << bodyPart.ordinal())) != 0;
+        }
+
+        public int getBodyPartMinutes(BodyPartType bodyPart) {
+            return bodyPart.ordinal() < bodyPartMinutes.length ? bodyPartMinutes[bodyPart.ordinal()] : 0;
+        }
+    }
+
+    /**
+     * (userId, date) 하루치 집계를 원본에서 다시 계산 (기록이 모두 사라졌으면 행 삭제)
+     */
+    public void refreshDay(Long userId, LocalDate date) {
+        Date sqlDate = Date.valueOf(date);
+        jdbcTemplate.update("DELETE FROM user_daily_activity WHERE user_id = ? AND activity_date = ?", userId, sqlDate);
+        jdbcTemplate.update(UPSERT_DAY_SQL, userId, sqlDate, userId, sqlDate);
+    }
+
+    /**
+     * since 이후 생성된 운동/식단 기록의 (사용자, 날짜) 목록 (중복 제거)
+     */
+    public List<UserDay> findUserDaysCreatedSince(LocalDateTime since) {
+        Timestamp from = Timestamp.valueOf(since);
+        return jdbcTemplate.query(SELECT_USER_DAYS_CREATED_SINCE_SQL,
+                (rs, rowNum) -> new UserDay(rs.getLong("user_id"), rs.getDate("activity_date").toLocalDate()),
+                from, from);
+    }
+
+    /**
+     * DB 기준 현재 시각 (created_at 과 같은 시계로 비교하기 위함)
+     */
+    public LocalDateTime currentTimestamp() {
+        return jdbcTemplate.queryForObject("SELECT LOCALTIMESTAMP", LocalDateTime.class);
+    }
+
+    /**
+     * afterUserId < user_id <= toUserId 사용자의 전체 기간 집계를 다시 계산하고 반영된 행 수 반환
+     */
+    public int rebuildUserRange(long afterUserId, long toUserId) {
+        jdbcTemplate.update("DELETE FROM user_daily_activity WHERE user_id > ? AND user_id <= ?", afterUserId, toUserId);
+        return jdbcTemplate.update(UPSERT_USER_RANGE_SQL, afterUserId, toUserId, afterUserId, toUserId);
+    }
+
+    /**
+     * afterUserId 이후 최대 limit명 중 마지막 사용자 ID (더 없으면 null)
+     */
+    public Long findUserIdChunkEnd(long afterUserId, int limit) {
+        return jdbcTemplate.queryForObject(
+                "SELECT MAX(user_id) FROM (SELECT user_id FROM users WHERE user_id > ? ORDER BY user_id LIMIT ?) chunk",
+                Long.class, afterUserId, limit);
+    }
+
+    public boolean isEmpty() {
+        return !Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM user_daily_activity)", Boolean.class));
+    }
+
+    /**
+     * 사용자의 기간 내 일별 집계 (날짜 오름차순, 기록이 없는 날은 행이 없음)
+     */
+    public List<DailyActivity> findByUserIdAndDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.query(SELECT_ROLLUP_SQL, (rs, rowNum) -> mapDailyActivity(rs),
+                userId, Date.valueOf(startDate), Date.valueOf(endDate));
+    }
+
+    private static String upsertSql(String exerciseFilter, String mealFilter) {
+        return String.format(UPSERT_ROLLUP_SQL_TEMPLATE,
+                BODY_PART_MASK_SQL, BODY_PART_MINUTES_SQL, EMPTY_BODY_PART_MINUTES_SQL, exerciseFilter, mealFilter);
+    }
+
+    private static DailyActivity mapDailyActivity(ResultSet rs) throws SQLException {
+        return new DailyActivity(
+                rs.getDate("activity_date").toLocalDate(),
+                rs.getInt("exercise_minutes"),
+                rs.getInt("calories_burned"),
+                rs.getInt("total_sets"),
+                rs.getInt("session_count"),
+                rs.getInt("body_part_mask"),
+                toIntArray(rs.getArray("body_part_minutes")),
+                rs.getString("primary_exercise_name"),
+                rs.getInt("meal_count"),
+                rs.getDouble("meal_calories"),
+                rs.getDouble("meal_carbs"),
+                rs.getDouble("meal_protein"),
+                rs.getDouble("meal_fat"));
+    }
+
+    private static int[] toIntArray(Array array) throws SQLException {
+        if (array == null) {
+            return new int[BODY_PARTS.length];
+        }
+        Object[] values = (Object[]) array.getArray();
+        int[] result = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i] != null ? ((Number) values[i]).intValue() : 0;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,68 @@
+package com.lifebit.coreapi.repository.activity;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * 사용자 마지막 접속 시각(users.last_visited) JDBC 저장소
+ *
+ * 접속 기록은 UserActivityTracker 가 메모리에 모아 두었다가 UNNEST 로 펼친 UPDATE 한 문장으로 반영한다.
+ * 이미 더 최근 시각이 기록된 행(다른 서버가 먼저 반영한 경우)은 건드리지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserVisitRepository {
+
+    private static final String FLUSH_VISITS_SQL = """
+        UPDATE users u
+        SET last_visited = v.visited_at
+        FROM unnest(?::bigint[], ?::timestamp[]) AS v(user_id, visited_at)
+        WHERE u.user_id = v.user_id
+          AND (u.last_visited IS NULL OR u.last_visited < v.visited_at)
+        """;
+
+    private static final String FIND_VISITS_SINCE_SQL =
+            "SELECT user_id, last_visited FROM users WHERE last_visited >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용자별 마지막 접속 시각 일괄 반영 (반영된 행 수 반환)
+     */
+    public int updateLastVisited(Map<Long, LocalDateTime> visits) {
+        if (visits.isEmpty()) {
+            return 0;
+        }
+        Long[] userIds = new Long[visits.size()];
+        Timestamp[] visitedAts = new Timestamp[visits.size()];
+        int i = 0;
+        for (Map.Entry<Long, LocalDateTime> visit : visits.entrySet()) {
+            userIds[i] = visit.getKey();
+            visitedAts[i] = Timestamp.valueOf(visit.getValue());
+            i++;
+        }
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(FLUSH_VISITS_SQL);
+            ps.setArray(1, connection.createArrayOf("bigint", userIds));
+            ps.setArray(2, connection.createArrayOf("timestamp", visitedAts));
+            return ps;
+        });
+    }
+
+    /**
+     * 기준 시각 이후 접속한 사용자의 마지막 접속 시각 스트리밍 조회
+     */
+    public void streamVisitsSince(LocalDateTime since, BiConsumer<Long, LocalDateTime> consumer) {
+        jdbcTemplate.query(FIND_VISITS_SINCE_SQL, (RowCallbackHandler) rs ->
+                consumer.accept(rs.getLong("user_id"), rs.getTimestamp("last_visited").toLocalDateTime()),
+                Timestamp.valueOf(since));
+    }
+}
@@ -0,0 +1,217 @@
+package com.lifebit.coreapi.repository.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+/**
+ * 관리자 애널리틱스 사전 집계(analytics_bucket) JDBC 저장소
+ *
+ * 지표별 고유 사용자 수는 analytics_bucket_member 에 (버킷, 지표, 멤버) 로 한 번씩만 기록되고,
+ * 새로 추가된 멤버 수만큼 analytics_bucket.value 를 증가시킨다. (같은 구간을 다시 처리해도 값이 늘지 않음)
+ * 멤버 행은 버킷이 더 이상 갱신되지 않으면 삭제되고 집계값만 남는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnalyticsBucketRepository {
+
+    public static final String METRIC_VISITORS = "VISITORS";              // 접속자 (users.last_visited)
+    public static final String METRIC_ACTIVE_USERS = "ACTIVE_USERS";      // 운동 또는 식단 기록 사용자 (합집합)
+    public static final String METRIC_EXERCISE_USERS = "EXERCISE_USERS";  // 운동 기록 사용자
+    public static final String METRIC_MEAL_USERS = "MEAL_USERS";          // 식단 기록 사용자
+    public static final String METRIC_BODY_PART_USERS_PREFIX = "BODY_PART_USERS:"; // + body_part, 부위별 운동 사용자
+    public static final String METRIC_MEAL_LOGS_PREFIX = "MEAL_LOGS:";    // + BREAKFAST/LUNCH/DINNER/SNACK, 식사 시간별 기록 수
+
+    /**
+     * 집계 버킷 단위 (SQL/Java 양쪽에서 같은 버킷 시작 시각을 계산)
+     */
+    public enum Granularity {
+        HOUR("date_trunc('hour', %s)"),
+        DAY("date_trunc('day', %s)"),
+        WEEK("date_trunc('week', %s)"), // 월요일 시작
+        // 월 내 주차 (1~7일, 8~14일, 15~21일, 22일~말일)
+        MONTH_WEEK("(date_trunc('month', %1$s) + LEAST((EXTRACT(DAY FROM %1$s)::int - 1) / 7, 3) * INTERVAL '7 days')"),
+        MONTH("date_trunc('month', %s)"),
+        YEAR("date_trunc('year', %s)");
+
+        private final String bucketSqlTemplate;
+
+        Granularity(String bucketSqlTemplate) {
+            this.bucketSqlTemplate = bucketSqlTemplate;
+        }
+
+        public String bucketSql(String timestampExpression) {
+            return String.format(bucketSqlTemplate, timestampExpression);
+        }
+
+        public LocalDateTime bucketStart(LocalDateTime time) {
+            switch (this) {
+                case HOUR:
+                    return time.truncatedTo(ChronoUnit.HOURS);
+                case DAY:
+                    return time.truncatedTo(ChronoUnit.DAYS);
+                case WEEK:
+                    return time.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MONTH_WEEK:
+                    return time.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1)
+                            .plusDays(Math.min((time.getDayOfMonth() - 1) / 7, 3) * 7L);
+                case MONTH:
+                    return time.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+                default:
+                    return time.truncatedTo(ChronoUnit.DAYS).withDayOfYear(1);
+            }
+        }
+    }
+
+    // 처리 구간 (from, to] 에 발생한 사용자 지표 원천 (ts, metric, member_id)
+    private static final String USER_METRIC_SOURCES_SQL = """
+        SELECT u.last_visited AS ts, 'VISITORS' AS metric, u.user_id AS member_id
+        FROM users u WHERE u.last_visited > ? AND u.last_visited <= ?
+        UNION ALL
+        SELECT es.created_at, 'EXERCISE_USERS', es.user_id
+        FROM exercise_sessions es WHERE es.created_at > ? AND es.created_at <= ? AND es.user_id IS NOT NULL
+        UNION ALL
+        SELECT es.created_at, 'ACTIVE_USERS', es.user_id
+        FROM exercise_sessions es WHERE es.created_at > ? AND es.created_at <= ? AND es.user_id IS NOT NULL
+        UNION ALL
+        SELECT es.created_at, 'BODY_PART_USERS:' || ec.body_part, es.user_id
+        FROM exercise_sessions es JOIN exercise_catalog ec ON ec.exercise_catalog_id = es.exercise_catalog_id
+        WHERE es.created_at > ? AND es.created_at <= ? AND es.user_id IS NOT NULL
+        UNION ALL
+        SELECT ml.created_at, 'MEAL_USERS', ml.user_id
+        FROM meal_logs ml WHERE ml.created_at > ? AND ml.created_at <= ? AND ml.user_id IS NOT NULL
+        UNION ALL
+        SELECT ml.created_at, 'ACTIVE_USERS', ml.user_id
+        FROM meal_logs ml WHERE ml.created_at > ? AND ml.created_at <= ? AND ml.user_id IS NOT NULL
+        """;
+    private static final int USER_METRIC_SOURCE_COUNT = 6;
+
+    // 식사 시간별 기록 수 원천 (멤버 = meal_log_id)
+    private static final String MEAL_LOG_SOURCES_SQL = """
+        SELECT ml.created_at AS ts,
+               'MEAL_LOGS:' || CASE ml.meal_time
+                   WHEN 'breakfast' THEN 'BREAKFAST' WHEN '아침' THEN 'BREAKFAST'
+                   WHEN 'lunch' THEN 'LUNCH' WHEN '점심' THEN 'LUNCH'
+                   WHEN 'dinner' THEN 'DINNER' WHEN '저녁' THEN 'DINNER'
+                   ELSE 'SNACK' END AS metric,
+               ml.meal_log_id AS member_id
+        FROM meal_logs ml WHERE ml.created_at > ? AND ml.created_at <= ?
+        """;
+
+    // 새 멤버만 추가하고, 추가된 수만큼 버킷 값을 증가
+    private static final String ACCUMULATE_SQL_TEMPLATE = """
+        WITH inserted AS (
+            INSERT INTO analytics_bucket_member (granularity, bucket_start, metric, member_id)
+            SELECT DISTINCT ?::varchar, %s, src.metric, src.member_id
+            FROM (%s) src
+            ON CONFLICT DO NOTHING
+            RETURNING granularity, bucket_start, metric
+        )
+        INSERT INTO analytics_bucket (granularity, bucket_start, metric, value, updated_at)
+        SELECT granularity, bucket_start, metric, COUNT(*), NOW()
+        FROM inserted
+        GROUP BY granularity, bucket_start, metric
+        ON CONFLICT (granularity, bucket_start, metric) DO UPDATE SET
+            value = analytics_bucket.value + EXCLUDED.value,
+            updated_at = EXCLUDED.updated_at
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 버킷 하나의 지표 값
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class AnalyticsBucket {
+        private final LocalDateTime bucketStart;
+        private final String metric;
+        private final long value;
+    }
+
+    /**
+     * 구간 (from, to] 의 사용자 지표를 granularity 버킷에 누적
+     */
+    public int accumulateUserMetrics(Granularity granularity, LocalDateTime from, LocalDateTime to) {
+        String sql = String.format(ACCUMULATE_SQL_TEMPLATE, granularity.bucketSql("src.ts"), USER_METRIC_SOURCES_SQL);
+        return jdbcTemplate.update(sql, windowParams(granularity, from, to, USER_METRIC_SOURCE_COUNT));
+    }
+
+    /**
+     * 구간 (from, to] 의 식사 시간별 기록 수를 granularity 버킷에 누적
+     */
+    public int accumulateMealLogCounts(Granularity granularity, LocalDateTime from, LocalDateTime to) {
+        String sql = String.format(ACCUMULATE_SQL_TEMPLATE, granularity.bucketSql("src.ts"), MEAL_LOG_SOURCES_SQL);
+        return jdbcTemplate.update(sql, windowParams(granularity, from, to, 1));
+    }
+
+    /**
+     * from 시각이 속한 버킷 이전(더 이상 갱신되지 않는 버킷)의 멤버 행 삭제
+     */
+    public int pruneMembers(Granularity granularity, LocalDateTime from) {
+        return jdbcTemplate.update(
+                "DELETE FROM analytics_bucket_member WHERE granularity = ? AND bucket_start < ?",
+                granularity.name(), Timestamp.valueOf(granularity.bucketStart(from)));
+    }
+
+    /**
+     * granularity 버킷 중 [start, end) 에 시작하는 버킷의 모든 지표
+     */
+    public List<AnalyticsBucket> findBuckets(Granularity granularity, LocalDateTime start, LocalDateTime end) {
+        return jdbcTemplate.query(
+                "SELECT bucket_start, metric, value FROM analytics_bucket WHERE granularity = ? AND bucket_start >= ? AND bucket_start < ?",
+                (rs, rowNum) -> new AnalyticsBucket(
+                        rs.getTimestamp("bucket_start").toLocalDateTime(),
+                        rs.getString("metric"),
+                        rs.getLong("value")),
+                granularity.name(), Timestamp.valueOf(start), Timestamp.valueOf(end));
+    }
+
+    /**
+     * 마지막으로 반영된 원천 데이터 시각 (처음이면 null)
+     */
+    public LocalDateTime findWatermark(String name) {
+        List<Timestamp> result = jdbcTemplate.queryForList(
+                "SELECT processed_until FROM analytics_watermark WHERE name = ?", Timestamp.class, name);
+        return result.isEmpty() ? null : result.get(0).toLocalDateTime();
+    }
+
+    public void saveWatermark(String name, LocalDateTime processedUntil) {
+        jdbcTemplate.update(
+                "INSERT INTO analytics_watermark (name, processed_until) VALUES (?, ?) " +
+                "ON CONFLICT (name) DO UPDATE SET processed_until = EXCLUDED.processed_until",
+                name, Timestamp.valueOf(processedUntil));
+    }
+
+    /**
+     * 원천 테이블의 가장 이른 기록 시각 (기록이 없으면 null)
+     */
+    public LocalDateTime findEarliestSourceTime() {
+        Timestamp earliest = jdbcTemplate.queryForObject("""
+                SELECT LEAST((SELECT MIN(created_at) FROM exercise_sessions),
+                             (SELECT MIN(created_at) FROM meal_logs),
+                             (SELECT MIN(last_visited) FROM users))
+                """, Timestamp.class);
+        return earliest != null ? earliest.toLocalDateTime() : null;
+    }
+
+    // 첫 번째 파라미터는 granularity, 이후 원천마다 (from, to)
+    private static Object[] windowParams(Granularity granularity, LocalDateTime from, LocalDateTime to, int sourceCount) {
+        Object[] params = new Object[1 + sourceCount * 2];
+        params[0] = granularity.name();
+        for (int i = 0; i < sourceCount; i++) {
+            params[1 + i * 2] = Timestamp.valueOf(from);
+            params[2 + i * 2] = Timestamp.valueOf(to);
+        }
+        return params;
+    }
+}
@@ -0,0 +1,54 @@
+package com.lifebit.coreapi.repository.food;
+
+import com.lifebit.coreapi.entity.FoodItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 식단 일괄 기록 시 함께 만드는 직접입력 음식의 JDBC 배치 저장소
+ *
+ * 음식 검색 인덱스가 "마지막 ID 이후" 조회로 다른 서버의 추가분을 따라가므로 food_items 는 IDENTITY(증가폭 1)를 유지하고,
+ * 필요한 ID 를 시퀀스에서 한 번에 받아 배치 INSERT 한 번으로 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FoodItemBatchRepository {
+
+    private static final String NEXT_IDS_SQL =
+            "SELECT nextval('food_items_food_item_id_seq') FROM generate_series(1, ?)";
+
+    private static final String INSERT_FOOD_ITEM_SQL = """
+        INSERT INTO food_items (food_item_id, uuid, name, serving_size, calories, carbs, protein, fat, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 음식을 JDBC 배치로 일괄 저장하고 할당된 ID 를 각 엔티티에 채움 (엔티티는 영속성 컨텍스트에 올리지 않음)
+     */
+    public void batchInsert(List<FoodItem> foodItems) {
+        if (foodItems.isEmpty()) {
+            return;
+        }
+        List<Long> ids = jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, foodItems.size());
+        for (int i = 0; i < foodItems.size(); i++) {
+            foodItems.get(i).setFoodItemId(ids.get(i));
+        }
+        jdbcTemplate.batchUpdate(INSERT_FOOD_ITEM_SQL, foodItems, foodItems.size(), (ps, foodItem) -> {
+            ps.setLong(1, foodItem.getFoodItemId());
+            ps.setObject(2, foodItem.getUuid());
+            ps.setString(3, foodItem.getName());
+            ps.setBigDecimal(4, foodItem.getServingSize());
+            ps.setBigDecimal(5, foodItem.getCalories());
+            ps.setBigDecimal(6, foodItem.getCarbs());
+            ps.setBigDecimal(7, foodItem.getProtein());
+            ps.setBigDecimal(8, foodItem.getFat());
+            ps.setTimestamp(9, Timestamp.valueOf(foodItem.getCreatedAt()));
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package com.lifebit.coreapi.repository.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 작업(랭킹 재계산 등)이 대량으로 만드는 개인 알림의 JDBC 배치 저장소
+ * 엔티티 저장 대신 한 번의 배치 INSERT 로 처리한다. (reWriteBatchedInserts 사용 시 다중 행 INSERT 로 전송)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBatchRepository {
+
+    private static final String INSERT_NOTIFICATION_SQL = """
+        INSERT INTO notification (user_id, type, ref_id, title, message, is_read, created_at)
+        VALUES (?, ?, ?, ?, ?, false, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 저장할 개인 알림 한 건
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class NotificationInsert {
+        private final Long userId;
+        private final String type;
+        private final String title;
+        private final String message;
+        private final Long refId;
+    }
+
+    /**
+     * 개인 알림을 JDBC 배치로 일괄 저장
+     */
+    public void batchInsert(List<NotificationInsert> notifications, LocalDateTime createdAt) {
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(INSERT_NOTIFICATION_SQL, notifications, notifications.size(), (ps, notification) -> {
+            ps.setLong(1, notification.getUserId());
+            ps.setString(2, notification.getType());
+            if (notification.getRefId() != null) {
+                ps.setLong(3, notification.getRefId());
+            } else {
+                ps.setNull(3, Types.BIGINT);
+            }
+            ps.setString(4, notification.getTitle());
+            ps.setString(5, notification.getMessage());
+            ps.setTimestamp(6, timestamp);
+        });
+    }
+}
@@ -0,0 +1,180 @@
+package com.lifebit.coreapi.repository.ranking;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 랭킹 일괄 작업(전체 재계산, 시즌 종료 등)용 JDBC 저장소
+ * 사용자 단위 JPA 조회 대신 집계 쿼리 스트리밍과 JDBC 배치 업데이트를 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RankingBatchRepository {
+
+    // advisory lock 키 공간 구분용 (첫 번째 키)
+    private static final int USER_RANKING_LOCK_CLASS = 0x52414E4B;
+
+    private static final String ACTIVE_RANKING_SQL = """
+        SELECT id AS ranking_id, user_id, total_score, tier
+        FROM user_ranking
+        WHERE is_active = true
+        """;
+
+    // 읽은 뒤 실시간 갱신으로 점수가 바뀐 행은 건드리지 않음 (다음 실행에서 반영)
+    private static final String UPDATE_RANK_POSITION_SQL = """
+        UPDATE user_ranking
+        SET tier = ?, previous_rank = rank_position, rank_position = ?, last_updated_at = ?
+        WHERE id = ? AND total_score = ?
+        """;
+
+    private static final String COPY_SEASON_CHUNK_SQL = """
+        INSERT INTO ranking_history (user_ranking_id, total_score, streak_days, rank_position, season, period_type, recorded_at)
+        SELECT id, total_score, streak_days, rank_position, ?, 'season', ?
+        FROM user_ranking
+        WHERE id > ?
+        ORDER BY id
+        LIMIT ?
+        RETURNING user_ranking_id
+        """;
+
+    private static final String RESET_SEASON_CHUNK_SQL = """
+        UPDATE user_ranking
+        SET season = ?, total_score = 0, rank_position = 0, streak_days = 0, previous_rank = 0,
+            tier = 'UNRANK', last_updated_at = ?
+        WHERE id IN (SELECT id FROM user_ranking WHERE id > ? ORDER BY id LIMIT ?)
+        RETURNING id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 활성 랭킹 한 행의 현재 점수/등급
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ActiveRanking {
+        private final Long rankingId;
+        private final Long userId;
+        private final int totalScore;
+        private final String tier;
+    }
+
+    /**
+     * 재계산 결과 (user_ranking 한 행의 새 등급/순위, totalScore 는 읽을 때의 점수)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ScoreUpdate {
+        private final Long rankingId;
+        private final int totalScore;
+        private final String tier;
+        private final int rankPosition;
+    }
+
+    /**
+     * 시즌 종료(ranking_history 복사 → user_ranking 초기화) 진행 상황 체크포인트
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class SeasonRolloverCheckpoint {
+        private final int season;
+        private final String phase;
+        private final long lastRankingId;
+        private final long rowsCopied;
+        private final long rowsReset;
+    }
+
+    /**
+     * 모든 활성 랭킹의 점수/등급을 fetchSize 단위로 스트리밍
+     * (PostgreSQL 커서 사용을 위해 트랜잭션 안에서 호출해야 한다)
+     */
+    public void streamActiveRankings(int fetchSize, Consumer<ActiveRanking> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(ACTIVE_RANKING_SQL);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(new ActiveRanking(
+                rs.getLong("ranking_id"),
+                rs.getLong("user_id"),
+                rs.getInt("total_score"),
+                rs.getString("tier"))));
+    }
+
+    /**
+     * 등급/순위를 JDBC 배치로 일괄 갱신 (previous_rank는 기존 rank_position으로 이동)
+     */
+    public void batchUpdateRankPositions(List<ScoreUpdate> updates, LocalDateTime updatedAt) {
+        Timestamp timestamp = Timestamp.valueOf(updatedAt);
+        jdbcTemplate.batchUpdate(UPDATE_RANK_POSITION_SQL, updates, updates.size(), (ps, update) -> {
+            ps.setString(1, update.getTier());
+            ps.setInt(2, update.getRankPosition());
+            ps.setTimestamp(3, timestamp);
+            ps.setLong(4, update.getRankingId());
+            ps.setInt(5, update.getTotalScore());
+        });
+    }
+
+    /**
+     * 시즌 체크포인트가 없으면 초기 단계로 생성
+     */
+    public void createCheckpointIfAbsent(int season, String initialPhase) {
+        jdbcTemplate.update(
+                "INSERT INTO season_rollover_checkpoint (season, phase) VALUES (?, ?) ON CONFLICT (season) DO NOTHING",
+                season, initialPhase);
+    }
+
+    /**
+     * 사용자 랭킹 갱신용 트랜잭션 범위 advisory lock 획득 (다른 스레드/서버의 같은 사용자 갱신은 커밋까지 대기)
+     */
+    public void lockUserRanking(Long userId) {
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(?, ?)",
+                (RowCallbackHandler) rs -> { }, USER_RANKING_LOCK_CLASS, userId.intValue());
+    }
+
+    /**
+     * 시즌 체크포인트를 행 잠금과 함께 조회 (동시에 두 작업이 같은 청크를 처리하지 않도록)
+     */
+    public SeasonRolloverCheckpoint lockCheckpoint(int season) {
+        return jdbcTemplate.queryForObject(
+                "SELECT season, phase, last_ranking_id, rows_copied, rows_reset FROM season_rollover_checkpoint WHERE season = ? FOR UPDATE",
+                (rs, rowNum) -> new SeasonRolloverCheckpoint(
+                        rs.getInt("season"),
+                        rs.getString("phase"),
+                        rs.getLong("last_ranking_id"),
+                        rs.getLong("rows_copied"),
+                        rs.getLong("rows_reset")),
+                season);
+    }
+
+    public void updateCheckpoint(int season, String phase, long lastRankingId, long rowsCopied, long rowsReset) {
+        jdbcTemplate.update(
+                "UPDATE season_rollover_checkpoint SET phase = ?, last_ranking_id = ?, rows_copied = ?, rows_reset = ?, updated_at = NOW() WHERE season = ?",
+                phase, lastRankingId, rowsCopied, rowsReset, season);
+    }
+
+    /**
+     * afterRankingId 이후 user_ranking 최대 limit건을 ranking_history로 INSERT…SELECT 복사하고 복사된 랭킹 ID 반환
+     */
+    public List<Long> copySeasonChunk(int season, long afterRankingId, int limit, LocalDateTime recordedAt) {
+        return jdbcTemplate.queryForList(COPY_SEASON_CHUNK_SQL, Long.class,
+                season, Timestamp.valueOf(recordedAt), afterRankingId, limit);
+    }
+
+    /**
+     * afterRankingId 이후 user_ranking 최대 limit건을 다음 시즌으로 초기화하고 초기화된 랭킹 ID 반환
+     */
+    public List<Long> resetSeasonChunk(int nextSeason, long afterRankingId, int limit, LocalDateTime updatedAt) {
+        return jdbcTemplate.queryForList(RESET_SEASON_CHUNK_SQL, Long.class,
+                nextSeason, Timestamp.valueOf(updatedAt), afterRankingId, limit);
+    }
+}
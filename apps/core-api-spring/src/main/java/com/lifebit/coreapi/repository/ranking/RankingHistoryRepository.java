@@ -16,15 +16,17 @@ public interface RankingHistoryRepository extends JpaRepository<RankingHistory,
     @Query("SELECT rh FROM RankingHistory rh WHERE rh.userRanking.id = :userRankingId ORDER BY rh.recordedAt DESC")
     Page<RankingHistory> findByUserRankingIdOrderByRecordedAtDesc(@Param("userRankingId") Long userRankingId, Pageable pageable);
 
-    @Query("SELECT rh FROM RankingHistory rh WHERE rh.periodType = :periodType ORDER BY rh.recordedAt DESC")
+    @Query(value = "SELECT rh FROM RankingHistory rh JOIN FETCH rh.userRanking WHERE rh.periodType = :periodType ORDER BY rh.recordedAt DESC",
+           countQuery = "SELECT COUNT(rh) FROM RankingHistory rh WHERE rh.periodType = :periodType")
     Page<RankingHistory> findByPeriodTypeOrderByRecordedAtDesc(@Param("periodType") String periodType, Pageable pageable);
 
-    @Query("SELECT rh FROM RankingHistory rh WHERE rh.season = :season ORDER BY rh.recordedAt DESC")
+    @Query(value = "SELECT rh FROM RankingHistory rh JOIN FETCH rh.userRanking WHERE rh.season = :season ORDER BY rh.recordedAt DESC",
+           countQuery = "SELECT COUNT(rh) FROM RankingHistory rh WHERE rh.season = :season")
     Page<RankingHistory> findBySeasonOrderByRecordedAtDesc(@Param("season") int season, Pageable pageable);
 
     @Query("SELECT rh FROM RankingHistory rh WHERE rh.recordedAt BETWEEN :startDate AND :endDate ORDER BY rh.recordedAt DESC")
     List<RankingHistory> findByDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 
-    @Query("SELECT rh FROM RankingHistory rh WHERE rh.periodType = :periodType AND rh.season = :season ORDER BY rh.recordedAt DESC")
+    @Query("SELECT rh FROM RankingHistory rh JOIN FETCH rh.userRanking WHERE rh.periodType = :periodType AND rh.season = :season ORDER BY rh.recordedAt DESC")
     java.util.List<RankingHistory> findByPeriodTypeAndSeasonOrderByRecordedAtDesc(@Param("periodType") String periodType, @Param("season") int season);
 } 
\ No newline at end of file
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +22,16 @@ public interface UserRankingRepository extends JpaRepository<UserRanking, Long>
     @Query("SELECT ur FROM UserRanking ur WHERE ur.isActive = true ORDER BY ur.totalScore DESC")
     Page<UserRanking> findTopRankings(Pageable pageable);
 
+    @Query("SELECT ur FROM UserRanking ur WHERE ur.userId IN :userIds AND ur.isActive = true")
+    List<UserRanking> findActiveByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 리더보드 인덱스 적재용 (userId, totalScore) 프로젝션
+     * 반환: Object[] { userId(Long), totalScore(Integer) }
+     */
+    @Query("SELECT ur.userId, ur.totalScore FROM UserRanking ur WHERE ur.isActive = true")
+    List<Object[]> findActiveUserScores();
+
     @Query("SELECT ur FROM UserRanking ur WHERE ur.season = :season AND ur.isActive = true ORDER BY ur.totalScore DESC")
     Page<UserRanking> findAllBySeasonOrderByTotalScoreDesc(@Param("season") int season, Pageable pageable);
 
@@ -0,0 +1,87 @@
+package com.lifebit.coreapi.security;
+
+import com.lifebit.coreapi.entity.User;
+import com.lifebit.coreapi.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * 현재 요청의 인증 사용자 (요청 범위)
+ *
+ * 사용자 ID/권한은 JwtAuthenticationFilter 가 붙여 둔 검증된 클레임(VerifiedClaims)에서 바로 읽고,
+ * User 엔티티는 실제로 필요할 때 요청당 한 번만 UserService.getUserById(사용자 캐시)로 가져온다.
+ * 컨트롤러에서는 CurrentUser 타입 파라미터로 주입받을 수 있다. (CurrentUserArgumentResolver)
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class CurrentUser {
+
+    private final UserService userService;
+
+    private Long userId;
+    private VerifiedClaims claims;
+    private User user;
+
+    /**
+     * 인증된 요청인지 여부
+     */
+    public boolean isAuthenticated() {
+        return resolveUserId() != null;
+    }
+
+    /**
+     * 인증 사용자 ID (인증되지 않았으면 IllegalStateException)
+     */
+    public Long getUserId() {
+        Long resolved = resolveUserId();
+        if (resolved == null) {
+            throw new IllegalStateException("User is not authenticated.");
+        }
+        return resolved;
+    }
+
+    /**
+     * 토큰의 role 클레임 (클레임이 없으면 null)
+     */
+    public String getRole() {
+        resolveUserId();
+        return claims != null ? claims.getRole() : null;
+    }
+
+    /**
+     * 인증 사용자 엔티티 (요청당 최대 한 번 조회)
+     */
+    public User getUser() {
+        if (user == null) {
+            user = userService.getUserById(getUserId());
+        }
+        return user;
+    }
+
+    private Long resolveUserId() {
+        if (userId != null) {
+            return userId;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || "anonymousUser".equals(authentication.getPrincipal())) {
+            return null;
+        }
+        if (authentication.getDetails() instanceof VerifiedClaims verified) {
+            claims = verified;
+            userId = verified.getUserId();
+        } else {
+            // 필터는 principal 이름에 사용자 ID를 넣는다
+            try {
+                userId = Long.parseLong(authentication.getName());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return userId;
+    }
+}
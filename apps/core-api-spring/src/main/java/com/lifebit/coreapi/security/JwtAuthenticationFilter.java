@@ -1,5 +1,6 @@
 package com.lifebit.coreapi.security;
 
+import com.lifebit.coreapi.service.activity.UserActivityTracker;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,7 +14,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.lang.NonNull;
-import io.jsonwebtoken.Claims;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -26,6 +26,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider tokenProvider;
+    private final UserActivityTracker userActivityTracker;
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
     @Override
@@ -37,10 +38,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         log.debug("Processing request: {} with JWT: {}", requestURI, jwt != null ? "Present" : "None");
 
-        if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-            Long userId = tokenProvider.getUserIdFromToken(jwt);
-            Claims claims = tokenProvider.getAllClaimsFromToken(jwt);
-            String role = claims.get("role", String.class);
+        // 토큰은 요청당 한 번만 검증하고, 검증된 클레임을 요청/인증 객체에 붙여 재사용
+        VerifiedClaims claims = StringUtils.hasText(jwt) ? tokenProvider.resolve(jwt) : null;
+
+        if (claims != null) {
+            Long userId = claims.getUserId();
+            String role = claims.getRole();
             String authority = "ROLE_USER";
 
             // Ensure role matches the user_role ENUM type
@@ -58,7 +61,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 }
             }
 
-            logger.info("JWT role claim: {} | Setting authority: {}", role, authority);
+            logger.debug("JWT role claim: {} | Setting authority: {}", role, authority);
 
             // ✅ principal에 userId를 가진 UserDetails 객체 생성
             UserDetails userDetails = new org.springframework.security.core.userdetails.User(
@@ -67,8 +70,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+            authentication.setDetails(claims);
+            request.setAttribute(VerifiedClaims.REQUEST_ATTRIBUTE, claims);
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
+
+            // 마지막 접속 시각은 메모리에 기록하고 주기적으로 일괄 반영
+            userActivityTracker.recordVisit(userId);
         } else if (StringUtils.hasText(jwt)) {
             log.warn("JWT validation failed for request: {}", requestURI);
         } else {
@@ -1,21 +1,64 @@
 package com.lifebit.coreapi.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.lifebit.coreapi.config.JwtConfig;
 import com.lifebit.coreapi.entity.User;
 import io.jsonwebtoken.*;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
 
+/**
+ * JWT 발급/검증
+ *
+ * 검증된 클레임은 토큰의 SHA-256 해시를 키로 토큰 만료 시각까지 캐시하므로
+ * 같은 토큰의 반복 검증(필터, 컨트롤러의 사용자 ID 추출)은 HMAC 서명 검증과 JSON 파싱 없이 처리된다.
+ * 토큰 원문이 아닌 해시만 보관하고, 서명이 다른 토큰은 해시도 달라 캐시를 공유하지 않는다.
+ */
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
+    private static final long CLAIMS_CACHE_SIZE = 10_000;
+
     private final JwtConfig jwtConfig;
+    private final JwtParser parser;
+    private final Cache<String, VerifiedClaims> claimsCache = Caffeine.newBuilder()
+            .maximumSize(CLAIMS_CACHE_SIZE)
+            .expireAfter(new Expiry<String, VerifiedClaims>() {
+                @Override
+                public long expireAfterCreate(String key, VerifiedClaims value, long currentTime) {
+                    return Math.max(0, Duration.between(Instant.now(), value.getExpiresAt()).toNanos());
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, VerifiedClaims value, long currentTime, long currentDuration) {
+                    return expireAfterCreate(key, value, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String key, VerifiedClaims value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
     private static final Logger log = LoggerFactory.getLogger(JwtTokenProvider.class);
 
+    public JwtTokenProvider(JwtConfig jwtConfig) {
+        this.jwtConfig = jwtConfig;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(jwtConfig.secretKey())
+                .build();
+    }
+
     public String generateToken(User user) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtConfig.getExpiration() * 1000);
@@ -30,37 +73,34 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(jwtConfig.secretKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getSubject();
-    }
-
     /**
-     * JWT 토큰에서 사용자 ID 추출
+     * 토큰 검증 후 클레임 반환 (캐시 우선, 유효하지 않으면 JwtException)
      */
-    public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(jwtConfig.secretKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public VerifiedClaims verify(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("JWT token is empty");
+        }
+        String key = hash(token);
+        VerifiedClaims cached = claimsCache.getIfPresent(key);
+        if (cached != null && !cached.isExpired(Instant.now())) {
+            return cached;
+        }
 
-        return claims.get("userId", Long.class);
+        VerifiedClaims verified = VerifiedClaims.from(parser.parseClaimsJws(token).getBody());
+        if (verified.getExpiresAt() != null) {
+            claimsCache.put(key, verified);
+        }
+        return verified;
     }
 
-    public boolean validateToken(String authToken) {
+    /**
+     * 토큰 검증 후 클레임 반환 (유효하지 않으면 사유를 로그로 남기고 null)
+     */
+    public VerifiedClaims resolve(String authToken) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(jwtConfig.secretKey())
-                    .build()
-                    .parseClaimsJws(authToken);
+            VerifiedClaims verified = verify(authToken);
             log.debug("JWT 토큰 검증 성공");
-            return true;
+            return verified;
         } catch (SignatureException ex) {
             log.error("Invalid JWT signature: {}", ex.getMessage());
         } catch (MalformedJwtException ex) {
@@ -74,14 +114,37 @@ public class JwtTokenProvider {
         } catch (JwtException ex) {
             log.error("JWT validation error: {}", ex.getMessage());
         }
-        return false;
+        return null;
     }
 
+    public String getEmailFromToken(String token) {
+        return verify(token).getEmail();
+    }
+
+    /**
+     * JWT 토큰에서 사용자 ID 추출
+     */
+    public Long getUserIdFromToken(String token) {
+        return verify(token).getUserId();
+    }
+
+    public boolean validateToken(String authToken) {
+        return resolve(authToken) != null;
+    }
+
+    /**
+     * 토큰의 전체 클레임 (호출자가 바꿔도 캐시에 영향이 없도록 매번 새 Claims 로 복사)
+     */
     public Claims getAllClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(jwtConfig.secretKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return Jwts.claims(verify(token).getClaims());
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
-}
\ No newline at end of file
+}
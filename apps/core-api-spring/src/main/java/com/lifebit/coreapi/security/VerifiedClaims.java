@@ -0,0 +1,58 @@
+package com.lifebit.coreapi.security;
+
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 서명/만료 검증이 끝난 JWT 클레임 (불변)
+ *
+ * JwtAuthenticationFilter 가 요청마다 한 번만 만들어 요청 속성(REQUEST_ATTRIBUTE)과
+ * 인증 객체의 details 에 붙여 두므로, 이후 단계에서는 토큰을 다시 파싱할 필요가 없다.
+ */
+@Getter
+public class VerifiedClaims {
+
+    public static final String REQUEST_ATTRIBUTE = VerifiedClaims.class.getName();
+
+    private final Long userId;
+    private final String email;
+    private final String role;
+    private final Instant expiresAt;
+    private final Map<String, Object> claims;
+
+    private VerifiedClaims(Long userId, String email, String role, Instant expiresAt, Claims claims) {
+        this.userId = userId;
+        this.email = email;
+        this.role = role;
+        this.expiresAt = expiresAt;
+        // 파서가 만든 Claims 는 변경 가능하므로, 캐시되어 여러 요청이 공유하는 값은 복사본으로 보관
+        this.claims = Collections.unmodifiableMap(new LinkedHashMap<>(claims));
+    }
+
+    static VerifiedClaims from(Claims claims) {
+        return new VerifiedClaims(
+                claims.get("userId", Long.class),
+                claims.getSubject(),
+                claims.get("role", String.class),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null,
+                claims);
+    }
+
+    /**
+     * 필터가 요청에 붙여 둔 클레임 (인증되지 않은 요청이면 null)
+     */
+    public static VerifiedClaims fromRequest(HttpServletRequest request) {
+        Object attribute = request.getAttribute(REQUEST_ATTRIBUTE);
+        return attribute instanceof VerifiedClaims verified ? verified : null;
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
@@ -14,15 +14,21 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.lifebit.coreapi.entity.enums.AchievementType;
 import com.lifebit.coreapi.event.AchievementCompletedEvent;
-import com.lifebit.coreapi.repository.ExerciseSessionRepository;
-import com.lifebit.coreapi.repository.MealLogRepository;
+import com.lifebit.coreapi.repository.achievement.AchievementStateRepository.AchievementState;
+import com.lifebit.coreapi.service.achievement.AchievementDefinitionRegistry;
+import com.lifebit.coreapi.service.achievement.AchievementDefinitionRegistry.AchievementDefinition;
+import com.lifebit.coreapi.service.achievement.AchievementProgressEngine;
 import com.lifebit.coreapi.repository.HealthRecordRepository;
 
 @Service
@@ -31,12 +37,12 @@ import com.lifebit.coreapi.repository.HealthRecordRepository;
 public class AchievementService {
     
     private final AchievementRepository achievementRepository;
+    private final AchievementDefinitionRegistry achievementDefinitionRegistry;
     private final UserAchievementRepository userAchievementRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
     private final ApplicationEventPublisher eventPublisher;
-    private final ExerciseSessionRepository exerciseSessionRepository;
-    private final MealLogRepository mealLogRepository;
+    private final AchievementProgressEngine achievementProgressEngine;
     private final HealthRecordRepository healthRecordRepository;
     
     /**
@@ -79,26 +85,28 @@ public class AchievementService {
     public void initializeUserAchievements(Long userId) {
         log.debug("Initializing achievements for user: {}", userId);
         
+        Set<Long> existingIds = new HashSet<>(userAchievementRepository.findAchievementIdsByUserId(userId));
+        List<AchievementDefinition> missing = achievementDefinitionRegistry.getActiveDefinitions().stream()
+            .filter(definition -> !existingIds.contains(definition.getAchievementId()))
+            .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+        
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new RuntimeException("User not found: " + userId));
         
-        List<Achievement> allAchievements = achievementRepository.findByIsActiveTrue();
-        
-        for (Achievement achievement : allAchievements) {
-            boolean exists = userAchievementRepository.findByUserIdAndAchievementId(userId, achievement.getAchievementId())
-                .isPresent();
-            
-            if (!exists) {
-                UserAchievement userAchievement = new UserAchievement();
-                userAchievement.setUser(user);
-                userAchievement.setAchievement(achievement);
-                userAchievement.setIsAchieved(false);
-                userAchievement.setProgress(0);
-                
-                userAchievementRepository.save(userAchievement);
-                log.debug("Created new user achievement: {} for user: {}", achievement.getTitle(), userId);
-            }
+        List<UserAchievement> created = new ArrayList<>(missing.size());
+        for (AchievementDefinition definition : missing) {
+            UserAchievement userAchievement = new UserAchievement();
+            userAchievement.setUser(user);
+            userAchievement.setAchievement(achievementRepository.getReferenceById(definition.getAchievementId()));
+            userAchievement.setIsAchieved(false);
+            userAchievement.setProgress(0);
+            created.add(userAchievement);
         }
+        userAchievementRepository.saveAll(created);
+        log.debug("Created {} new user achievements for user: {}", created.size(), userId);
     }
     
     /**
@@ -106,43 +114,68 @@ public class AchievementService {
      */
     @Transactional
     public void updateUserAchievementProgress(Long userId, String achievementTitle, int progress) {
-        log.info("🟣 [AchievementService] 업적 진행도 업데이트 시작 - 사용자: {}, 업적: {}, 진행도: {}", 
-                  userId, achievementTitle, progress);
-        Achievement achievement = achievementRepository.findByTitle(achievementTitle);
-        if (achievement == null) {
-            log.error("❌ [AchievementService] 업적을 찾을 수 없음: {}", achievementTitle);
-            List<Achievement> allAchievements = achievementRepository.findByIsActiveTrue();
-            log.info("🟣 [AchievementService] DB에 있는 모든 업적 제목:");
-            for (Achievement a : allAchievements) {
-                log.info("  - {}", a.getTitle());
+        updateUserAchievementProgress(userId, Map.of(achievementTitle, progress));
+    }
+    
+    /**
+     * 한 사용자의 여러 업적 진행도를 한 번에 업데이트합니다. (업적 제목 → 진행도)
+     * 사용자 업적은 한 번의 조회로 가져오고 변경분은 한 번의 배치 저장으로 반영합니다.
+     */
+    @Transactional
+    public void updateUserAchievementProgress(Long userId, Map<String, Integer> progressByTitle) {
+        log.info("🟣 [AchievementService] 업적 진행도 업데이트 시작 - 사용자: {}, 업적: {}", userId, progressByTitle);
+        
+        Map<Long, AchievementDefinition> definitions = new LinkedHashMap<>();
+        Map<Long, Integer> progressById = new HashMap<>();
+        progressByTitle.forEach((title, progress) -> {
+            AchievementDefinition definition = achievementDefinitionRegistry.findByTitle(title);
+            if (definition == null) {
+                log.error("❌ [AchievementService] 업적을 찾을 수 없음: {} (활성 업적: {})",
+                        title, achievementDefinitionRegistry.getActiveTitles());
+                return;
             }
+            definitions.put(definition.getAchievementId(), definition);
+            progressById.put(definition.getAchievementId(), progress);
+        });
+        if (definitions.isEmpty()) {
             return;
         }
-        log.info("✅ [AchievementService] 업적 찾음 - ID: {}, 제목: {}, 목표: {}", 
-                achievement.getAchievementId(), achievement.getTitle(), achievement.getTargetDays());
-        UserAchievement userAchievement = userAchievementRepository
-            .findByUserIdAndAchievementId(userId, achievement.getAchievementId())
-            .orElse(null);
-        if (userAchievement == null) {
-            log.error("❌ [AchievementService] 사용자 업적을 찾을 수 없음 - 사용자: {}, 업적: {}", userId, achievementTitle);
-            return;
-        }
-        log.info("🟣 [AchievementService] 현재 진행도: {} → 새 진행도: {}", userAchievement.getProgress(), progress);
-        userAchievement.setProgress(progress);
-        // 목표 달성 확인 (진행도가 목표 이상이고 아직 달성되지 않은 경우)
-        // 단, '목표 설정자' 업적은 자동 달성 처리하지 않음
-        if (!"목표 설정자".equals(achievementTitle) && achievement.getTargetDays() != null && progress >= achievement.getTargetDays() && !userAchievement.getIsAchieved()) {
-            userAchievement.setIsAchieved(true);
-            userAchievement.setAchievedDate(LocalDate.now());
-            log.info("🎉 [AchievementService] 업적 달성! - 사용자: {}, 업적: {}", userId, achievementTitle);
-            notificationService.saveNotification(userId, "ACHIEVEMENT", "업적 달성", String.format("'%s' 업적을 달성했습니다! 🎉", achievement.getTitle()), userAchievement.getUserAchievementId());
+        
+        Map<Long, UserAchievement> userAchievements = userAchievementRepository
+            .findByUserIdAndAchievementIdIn(userId, definitions.keySet()).stream()
+            .collect(Collectors.toMap(ua -> ua.getAchievement().getAchievementId(), ua -> ua));
+        
+        List<UserAchievement> changed = new ArrayList<>();
+        List<UserAchievement> newlyAchieved = new ArrayList<>();
+        definitions.forEach((achievementId, definition) -> {
+            UserAchievement userAchievement = userAchievements.get(achievementId);
+            if (userAchievement == null) {
+                log.error("❌ [AchievementService] 사용자 업적을 찾을 수 없음 - 사용자: {}, 업적: {}", userId, definition.getTitle());
+                return;
+            }
+            int progress = progressById.get(achievementId);
+            log.info("🟣 [AchievementService] {} 진행도: {} → {}", definition.getTitle(), userAchievement.getProgress(), progress);
+            userAchievement.setProgress(progress);
+            // 목표 달성 확인 (진행도가 목표 이상이고 아직 달성되지 않은 경우)
+            // 단, '목표 설정자' 업적은 자동 달성 처리하지 않음
+            if (!"목표 설정자".equals(definition.getTitle()) && definition.getTargetDays() != null && progress >= definition.getTargetDays() && !userAchievement.getIsAchieved()) {
+                userAchievement.setIsAchieved(true);
+                userAchievement.setAchievedDate(LocalDate.now());
+                newlyAchieved.add(userAchievement);
+            }
+            changed.add(userAchievement);
+        });
+        userAchievementRepository.saveAll(changed);
+        
+        for (UserAchievement userAchievement : newlyAchieved) {
+            String title = definitions.get(userAchievement.getAchievement().getAchievementId()).getTitle();
+            log.info("🎉 [AchievementService] 업적 달성! - 사용자: {}, 업적: {}", userId, title);
+            notificationService.saveNotification(userId, "ACHIEVEMENT", "업적 달성", String.format("'%s' 업적을 달성했습니다! 🎉", title), userAchievement.getUserAchievementId());
             // 랭킹 점수 업데이트 이벤트 발행
             eventPublisher.publishEvent(new AchievementCompletedEvent(userId));
             log.info("📢 [AchievementService] 업적 달성 이벤트 발행 - 사용자: {}", userId);
         }
-        userAchievementRepository.save(userAchievement);
-        log.info("✅ [AchievementService] 업적 진행도 업데이트 완료 - 사용자: {}, 업적: {}, 진행도: {}", 
-                userId, achievementTitle, progress);
+        log.info("✅ [AchievementService] 업적 진행도 업데이트 완료 - 사용자: {}, 갱신: {}건", userId, changed.size());
     }
     
     /**
@@ -180,10 +213,12 @@ public class AchievementService {
         initializeUserAchievements(userId);
         
         // 연속 운동 업적 업데이트 (모든 업적을 항상 업데이트)
-        updateUserAchievementProgress(userId, AchievementType.STREAK_7.getTitle(), streakDays);
-        updateUserAchievementProgress(userId, AchievementType.STREAK_30.getTitle(), streakDays);
-        updateUserAchievementProgress(userId, AchievementType.STREAK_90.getTitle(), streakDays);
-        updateUserAchievementProgress(userId, AchievementType.STREAK_180.getTitle(), streakDays);
+        Map<String, Integer> progress = new LinkedHashMap<>();
+        progress.put(AchievementType.STREAK_7.getTitle(), streakDays);
+        progress.put(AchievementType.STREAK_30.getTitle(), streakDays);
+        progress.put(AchievementType.STREAK_90.getTitle(), streakDays);
+        progress.put(AchievementType.STREAK_180.getTitle(), streakDays);
+        updateUserAchievementProgress(userId, progress);
     }
     
     /**
@@ -193,7 +228,7 @@ public class AchievementService {
     public void completeAchievement(Long userId, String achievementTitle) {
         log.debug("Completing achievement for user: {}, achievement: {}", userId, achievementTitle);
         
-        Achievement achievement = achievementRepository.findByTitle(achievementTitle);
+        AchievementDefinition achievement = achievementDefinitionRegistry.findByTitle(achievementTitle);
         if (achievement == null) {
             log.warn("Achievement not found: {}", achievementTitle);
             throw new RuntimeException("업적을 찾을 수 없습니다: " + achievementTitle);
@@ -249,32 +284,21 @@ public class AchievementService {
      */
     @Transactional
     public void checkAndUpdateStreakAchievements(Long userId) {
+        AchievementState state = achievementProgressEngine.getState(userId);
+
+        Map<String, Integer> progress = new LinkedHashMap<>();
+
         // 1. 운동 연속 기록
-        List<LocalDate> exerciseDates = exerciseSessionRepository.findValidatedExerciseDatesByUserId(userId);
-        int maxExerciseStreak = calculateMaxStreak(exerciseDates);
-        updateUserAchievementProgress(userId, "7일 연속 운동", maxExerciseStreak);
-        updateUserAchievementProgress(userId, "30일 연속 운동", maxExerciseStreak);
+        int maxExerciseStreak = state.getExerciseMaxStreak();
+        progress.put("7일 연속 운동", maxExerciseStreak);
+        progress.put("30일 연속 운동", maxExerciseStreak);
 
         // 2. 식단 연속 기록
-        List<LocalDate> mealDates = mealLogRepository.findValidatedMealDatesByUserId(userId);
-        int maxMealStreak = calculateMaxStreak(mealDates);
-        updateUserAchievementProgress(userId, "7일 연속 식단", maxMealStreak);
-        updateUserAchievementProgress(userId, "30일 연속 식단", maxMealStreak);
-    }
+        int maxMealStreak = state.getMealMaxStreak();
+        progress.put("7일 연속 식단", maxMealStreak);
+        progress.put("30일 연속 식단", maxMealStreak);
 
-    /** 날짜 리스트에서 최대 연속 기록 일수 계산 */
-    private int calculateMaxStreak(List<LocalDate> dates) {
-        if (dates == null || dates.isEmpty()) return 0;
-        int maxStreak = 1, curStreak = 1;
-        for (int i = 1; i < dates.size(); i++) {
-            if (dates.get(i).equals(dates.get(i - 1).plusDays(1))) {
-                curStreak++;
-                maxStreak = Math.max(maxStreak, curStreak);
-            } else {
-                curStreak = 1;
-            }
-        }
-        return maxStreak;
+        updateUserAchievementProgress(userId, progress);
     }
 
     /**
@@ -282,17 +306,20 @@ public class AchievementService {
      */
     @Transactional
     public void checkAndUpdateTimePeriodAchievements(Long userId) {
+        AchievementState state = achievementProgressEngine.getState(userId);
+
+        Map<String, Integer> progress = new LinkedHashMap<>();
+
         // 아침 운동 업적
-        long morningCount = exerciseSessionRepository.countMorningWorkoutsByUserId(userId);
-        updateUserAchievementProgress(userId, "아침 운동 10회 달성", (int)morningCount);
+        progress.put("아침 운동 10회 달성", state.getMorningWorkouts());
 
         // 저녁 운동 업적
-        long nightCount = exerciseSessionRepository.countNightWorkoutsByUserId(userId);
-        updateUserAchievementProgress(userId, "저녁 운동 10회 달성", (int)nightCount);
+        progress.put("저녁 운동 10회 달성", state.getNightWorkouts());
 
         // 주말 운동 업적
-        long weekendCount = exerciseSessionRepository.countWeekendWorkoutsByUserId(userId);
-        updateUserAchievementProgress(userId, "주말 운동 5회 달성", (int)weekendCount);
+        progress.put("주말 운동 5회 달성", state.getWeekendWorkouts());
+
+        updateUserAchievementProgress(userId, progress);
     }
 
     /**
@@ -300,17 +327,23 @@ public class AchievementService {
      */
     @Transactional
     public void checkAndUpdateValueAchievements(Long userId) {
+        Map<String, Integer> progress = new LinkedHashMap<>();
+
         // 1. 체중 목표 달성 (예: 60kg 이하)
         boolean weightGoal = healthRecordRepository.existsWeightGoalAchieved(userId, 60.0);
-        updateUserAchievementProgress(userId, "체중 60kg 달성", weightGoal ? 1 : 0);
+        progress.put("체중 60kg 달성", weightGoal ? 1 : 0);
+
+        AchievementState state = achievementProgressEngine.getState(userId);
 
         // 2. 누적 칼로리 소모
-        int totalCalories = exerciseSessionRepository.sumTotalCaloriesBurnedByUserId(userId);
-        updateUserAchievementProgress(userId, "누적 칼로리 10000kcal 달성", totalCalories);
+        int totalCalories = (int) Math.min(state.getTotalCaloriesBurned(), Integer.MAX_VALUE);
+        progress.put("누적 칼로리 10000kcal 달성", totalCalories);
 
         // 3. 총 운동 시간
-        int totalMinutes = exerciseSessionRepository.sumTotalWorkoutMinutesByUserId(userId);
-        updateUserAchievementProgress(userId, "총 운동 1000분 달성", totalMinutes);
+        int totalMinutes = (int) Math.min(state.getTotalWorkoutMinutes(), Integer.MAX_VALUE);
+        progress.put("총 운동 1000분 달성", totalMinutes);
+
+        updateUserAchievementProgress(userId, progress);
     }
 
     /**
@@ -318,7 +351,7 @@ public class AchievementService {
      */
     @Transactional
     public void updateUserAchievementProgressOnly(Long userId, String achievementTitle, int progress) {
-        Achievement achievement = achievementRepository.findByTitle(achievementTitle);
+        AchievementDefinition achievement = achievementDefinitionRegistry.findByTitle(achievementTitle);
         if (achievement == null) {
             log.error("❌ [AchievementService] 업적을 찾을 수 없음: {}", achievementTitle);
             return;
@@ -1,15 +1,27 @@
 package com.lifebit.coreapi.service;
 
 import com.lifebit.coreapi.dto.AnalyticsResponseDto.*;
+import com.lifebit.coreapi.entity.BodyPartType;
 import com.lifebit.coreapi.repository.*;
+import com.lifebit.coreapi.repository.analytics.AnalyticsBucketRepository;
+import com.lifebit.coreapi.repository.analytics.AnalyticsBucketRepository.AnalyticsBucket;
+import com.lifebit.coreapi.repository.analytics.AnalyticsBucketRepository.Granularity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
 import java.util.*;
 
+/**
+ * 관리자 애널리틱스 조회 서비스
+ *
+ * 모든 통계는 AnalyticsBucketJob 이 1분마다 증분 갱신하는 analytics_bucket 사전 집계에서 읽는다.
+ * (요청마다 원천 테이블을 COUNT(DISTINCT) 하지 않음, 최대 약 1분 지연)
+ */
 @Service
 @Slf4j
 @RequiredArgsConstructor
@@ -17,9 +29,8 @@ public class AdminAnalyticsService {
 
     // Repository 의존성 주입 - 실제 데이터베이스 연동
     private final UserRepository userRepository;
-    private final ExerciseSessionRepository exerciseSessionRepository;
-    private final MealLogRepository mealLogRepository;
-    
+    private final AnalyticsBucketRepository analyticsBucketRepository;
+
     // 색상 상수
     private static final String[] EXERCISE_COLORS = {
         "#8B5CF6", "#F59E0B", "#10B981", "#EF4444", "#3B82F6", "#8B5A2B", "#EC4899"
@@ -28,377 +39,46 @@ public class AdminAnalyticsService {
         "#FF6B6B", "#4ECDC4", "#45B7D1", "#96CEB4"
     };
 
+    private static final String[] WEEK_DAY_LABELS = {"월", "화", "수", "목", "금", "토", "일"};
+
+    // 일간 운동 통계의 부위 순서 (라벨과 같은 인덱스)
+    private static final String[] BODY_PART_LABELS = {"가슴", "등", "어깨", "팔", "복근", "하체", "유산소"};
+    private static final BodyPartType[] BODY_PARTS = {
+        BodyPartType.chest, BodyPartType.back, BodyPartType.shoulders, BodyPartType.arms,
+        BodyPartType.abs, BodyPartType.legs, BodyPartType.cardio
+    };
+
+    // 식사 시간 순서 (라벨과 같은 인덱스)
+    private static final String[] MEAL_LABELS = {"아침", "점심", "저녁", "간식"};
+    private static final String[] MEAL_TIME_KEYS = {"BREAKFAST", "LUNCH", "DINNER", "SNACK"};
+
     public List<AccessStatsDto> getAccessStats(String period) {
-        log.info("📊 [시뮬레이션 + 실제 날짜] 접속 통계 조회 - 기간: {}", period);
-        
+        log.info("📊 [사전 집계] 접속 통계 조회 - 기간: {}", period);
+
         try {
-            List<AccessStatsDto> results = new ArrayList<>();
-            Random random = new Random(123); // 고정 시드로 일관된 데이터
-            LocalDateTime now = LocalDateTime.now();
-            
-            switch (period.toLowerCase()) {
-                case "daily":
-                    // 실제 날짜 기준: 24시간 접속자 통계 (시뮬레이션)
-                    for (int hour = 0; hour < 24; hour++) {
-                        // 7월 2일 현재 시간까지만 데이터, 미래 시간은 0
-                        Long count;
-                        if (hour <= now.getHour()) {
-                            // 지나간 시간들: 시뮬레이션 데이터
-                            count = (long) (random.nextDouble() * 50 + 20); // 20-70명
-                        } else {
-                            // 미래 시간들: 데이터 없음
-                            count = 0L;
-                        }
-                        
-                        results.add(AccessStatsDto.builder()
-                            .period(hour + "시")
-                            .접속자(count)
-                            .build());
-                    }
-                    break;
-                    
-                case "weekly":
-                    // 실제 날짜 기준: 7월 2일 = 수요일, 월~수만 데이터, 목~일은 0
-                    String[] days = {"월", "화", "수", "목", "금", "토", "일"};
-                    int currentDayOfWeek = now.getDayOfWeek().getValue(); // 1=월요일, 7=일요일
-                    
-                    for (int i = 0; i < days.length; i++) {
-                        Long count;
-                        if (i + 1 <= currentDayOfWeek) {
-                            // 지나간 날들 (월~수): 시뮬레이션 데이터
-                            count = (long) (random.nextDouble() * 200 + 100); // 100-300명
-                        } else {
-                            // 미래 날들 (목~일): 데이터 없음
-                            count = 0L;
-                        }
-                        
-                        results.add(AccessStatsDto.builder()
-                            .period(days[i])
-                            .접속자(count)
-                            .build());
-                    }
-                    break;
-                    
-                case "monthly":
-                    // 실제 DB에서 월간 접속자 데이터 조회 (1~4주차 모두 표시)
-                    LocalDateTime currentTime = LocalDateTime.now();
-                    LocalDateTime monthStart = currentTime.withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS);
-                    
-                    // 현재 월의 실제 주차 계산
-                    int currentWeek = ((currentTime.getDayOfMonth() - 1) / 7) + 1;
-                    
-                    for (int week = 1; week <= 4; week++) {
-                        LocalDateTime weekStartDate = monthStart.plusDays((week - 1) * 7);
-                        LocalDateTime weekEndDate;
-                        Long count;
-                        
-                        if (week > currentWeek) {
-                            // 미래 주차는 0으로 표시
-                            count = 0L;
-                        } else if (week == currentWeek) {
-                            // 현재 주차는 오늘까지만
-                            weekEndDate = currentTime.plusDays(1).truncatedTo(ChronoUnit.DAYS);
-                            count = userRepository.countByLastVisitedBetween(weekStartDate, weekEndDate);
-                        } else {
-                            // 지난 주차는 전체 주간
-                            weekEndDate = weekStartDate.plusDays(7);
-                            count = userRepository.countByLastVisitedBetween(weekStartDate, weekEndDate);
-                        }
-                        
-                        results.add(AccessStatsDto.builder()
-                            .period(week + "주차")
-                            .접속자(count)
-                            .build());
-                    }
-                    break;
-                    
-                case "yearly":
-                    // 실제 날짜 기준: 7월 2일, 1~7월만 데이터, 8~12월은 0
-                    String[] months = {"1월", "2월", "3월", "4월", "5월", "6월", 
-                                     "7월", "8월", "9월", "10월", "11월", "12월"};
-                    int currentMonth = now.getMonthValue(); // 1=1월, 12=12월
-                    
-                    for (int i = 0; i < months.length; i++) {
-                        Long count;
-                        if (i + 1 <= currentMonth) {
-                            // 지나간 월들 (1~7월): 시뮬레이션 데이터
-                            if (i + 1 == currentMonth) {
-                                // 현재 월 (7월): 2일까지만이니까 적은 데이터
-                                count = (long) (random.nextDouble() * 500 + 300); // 300-800명
-                            } else {
-                                // 이전 월들: 전체 월 데이터
-                                count = (long) (random.nextDouble() * 2000 + 1500); // 1500-3500명
-                            }
-                        } else {
-                            // 미래 월들 (8~12월): 데이터 없음
-                            count = 0L;
-                        }
-                        
-                        results.add(AccessStatsDto.builder()
-                            .period(months[i])
-                            .접속자(count)
-                            .build());
-                    }
-                    break;
-                    
-                default:
-                    throw new IllegalArgumentException("지원하지 않는 기간: " + period);
-            }
-            
-                    log.info("✅ [시뮬레이션 + 실제 날짜] 접속 통계 조회 완료 - 결과 수: {}", results.size());
-            return results;
-            
+            return buildAccessStats(loadPeriodBuckets(period));
         } catch (Exception e) {
-            log.error("❌ [실제 DB] 접속 통계 조회 실패", e);
-            // 실패 시 빈 리스트 반환 (시뮬레이션 데이터로 fallback하지 않음)
+            log.error("❌ [사전 집계] 접속 통계 조회 실패", e);
             return Collections.emptyList();
         }
     }
 
     public List<UserActivityDto> getUserActivityStats(String period) {
-        log.info("📊 [시뮬레이션 + 실제 날짜] 사용자 활동 통계 조회 - 기간: {}", period);
-        
+        log.info("📊 [사전 집계] 사용자 활동 통계 조회 - 기간: {}", period);
+
         try {
-            List<UserActivityDto> results = new ArrayList<>();
-            Random random = new Random(42); // 고정 시드로 일관된 데이터
-            LocalDateTime now = LocalDateTime.now();
-            
-            switch (period.toLowerCase()) {
-                case "daily":
-                    // 실제 날짜 기준: 24시간 사용자 활동 통계 (시뮬레이션)
-                    for (int hour = 0; hour < 24; hour++) {
-                        Long totalUsers, activeUsers;
-                        
-                        if (hour <= now.getHour()) {
-                            // 지나간 시간들: 시뮬레이션 데이터
-                            totalUsers = (long) (random.nextDouble() * 50 + 20); // 20-70명
-                            activeUsers = Math.round(totalUsers * (0.3 + random.nextDouble() * 0.2)); // 30-50% 활동
-                        } else {
-                            // 미래 시간들: 데이터 없음
-                            totalUsers = activeUsers = 0L;
-                        }
-                        
-                        results.add(UserActivityDto.builder()
-                            .period(hour + "시")
-                            .총접속자(totalUsers)
-                            .활동사용자(activeUsers)
-                            .build());
-                    }
-                    break;
-                    
-                case "weekly":
-                    // 실제 날짜 기준: 7월 2일 = 수요일, 월~수만 데이터, 목~일은 0
-                    String[] days = {"월", "화", "수", "목", "금", "토", "일"};
-                    int currentDayOfWeek = now.getDayOfWeek().getValue(); // 1=월요일, 7=일요일
-                    
-                    for (int i = 0; i < days.length; i++) {
-                        Long totalUsers, activeUsers;
-                        
-                        if (i + 1 <= currentDayOfWeek) {
-                            // 지나간 날들 (월~수): 시뮬레이션 데이터
-                            totalUsers = (long) (random.nextDouble() * 200 + 100); // 100-300명
-                            activeUsers = Math.round(totalUsers * (0.35 + random.nextDouble() * 0.15)); // 35-50% 활동
-                        } else {
-                            // 미래 날들 (목~일): 데이터 없음
-                            totalUsers = activeUsers = 0L;
-                        }
-                        
-                        results.add(UserActivityDto.builder()
-                            .period(days[i])
-                            .총접속자(totalUsers)
-                            .활동사용자(activeUsers)
-                            .build());
-                    }
-                    break;
-                    
-                case "monthly":
-                    // 실제 DB에서 월간 사용자 활동 데이터 조회 (1~4주차 모두 표시)
-                    LocalDateTime currentTime = LocalDateTime.now();
-                    LocalDateTime monthStart = currentTime.withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS);
-                    
-                    // 현재 월의 실제 주차 계산
-                    int currentWeek = ((currentTime.getDayOfMonth() - 1) / 7) + 1;
-                    
-                    for (int week = 1; week <= 4; week++) {
-                        LocalDateTime weekStartDate = monthStart.plusDays((week - 1) * 7);
-                        LocalDateTime weekEndDate;
-                        Long totalUsers, exerciseUsers, mealUsers, activeUsers;
-                        
-                        if (week > currentWeek) {
-                            // 미래 주차는 0으로 표시
-                            totalUsers = exerciseUsers = mealUsers = activeUsers = 0L;
-                        } else if (week == currentWeek) {
-                            // 현재 주차는 오늘까지만
-                            weekEndDate = currentTime.plusDays(1).truncatedTo(ChronoUnit.DAYS);
-                            totalUsers = userRepository.countByLastVisitedBetween(weekStartDate, weekEndDate);
-                            exerciseUsers = exerciseSessionRepository.countDistinctUsersInPeriod(weekStartDate, weekEndDate);
-                            mealUsers = mealLogRepository.countDistinctUsersInPeriod(weekStartDate, weekEndDate);
-                            activeUsers = Math.max(exerciseUsers, mealUsers);
-                        } else {
-                            // 지난 주차는 전체 주간
-                            weekEndDate = weekStartDate.plusDays(7);
-                            totalUsers = userRepository.countByLastVisitedBetween(weekStartDate, weekEndDate);
-                            exerciseUsers = exerciseSessionRepository.countDistinctUsersInPeriod(weekStartDate, weekEndDate);
-                            mealUsers = mealLogRepository.countDistinctUsersInPeriod(weekStartDate, weekEndDate);
-                            activeUsers = Math.max(exerciseUsers, mealUsers);
-                        }
-                        
-                        results.add(UserActivityDto.builder()
-                            .period(week + "주차")
-                            .총접속자(totalUsers)
-                            .활동사용자(activeUsers)
-                            .build());
-                    }
-                    break;
-                    
-                case "yearly":
-                    // 실제 날짜 기준: 7월 2일, 1~7월만 데이터, 8~12월은 0
-                    String[] months = {"1월", "2월", "3월", "4월", "5월", "6월", 
-                                     "7월", "8월", "9월", "10월", "11월", "12월"};
-                    int currentMonth = now.getMonthValue(); // 1=1월, 12=12월
-                    
-                    for (int i = 0; i < months.length; i++) {
-                        Long totalUsers, activeUsers;
-                        
-                        if (i + 1 <= currentMonth) {
-                            // 지나간 월들 (1~7월): 시뮬레이션 데이터
-                            if (i + 1 == currentMonth) {
-                                // 현재 월 (7월): 2일까지만이니까 적은 데이터
-                                totalUsers = (long) (random.nextDouble() * 500 + 300); // 300-800명
-                                activeUsers = Math.round(totalUsers * (0.25 + random.nextDouble() * 0.2)); // 25-45% 활동
-                            } else {
-                                // 이전 월들: 전체 월 데이터
-                                totalUsers = (long) (random.nextDouble() * 2000 + 1500); // 1500-3500명
-                                activeUsers = Math.round(totalUsers * (0.2 + random.nextDouble() * 0.25)); // 20-45% 활동
-                            }
-                        } else {
-                            // 미래 월들 (8~12월): 데이터 없음
-                            totalUsers = activeUsers = 0L;
-                        }
-                        
-                        results.add(UserActivityDto.builder()
-                            .period(months[i])
-                            .총접속자(totalUsers)
-                            .활동사용자(activeUsers)
-                            .build());
-                    }
-                    break;
-                    
-                default:
-                    throw new IllegalArgumentException("지원하지 않는 기간: " + period);
-            }
-            
-            log.info("✅ [시뮬레이션 + 실제 날짜] 사용자 활동 통계 조회 완료 - 결과 수: {}", results.size());
-            return results;
-            
+            return buildUserActivityStats(loadPeriodBuckets(period));
         } catch (Exception e) {
-            log.error("❌ [시뮬레이션 + 실제 날짜] 사용자 활동 통계 조회 실패", e);
+            log.error("❌ [사전 집계] 사용자 활동 통계 조회 실패", e);
             return Collections.emptyList();
         }
     }
 
     public List<ExerciseStatsDto> getExerciseStats(String period) {
-        log.info("📊 [시뮬레이션 + 실제 날짜] 운동 통계 조회 - 기간: {}", period);
-        
+        log.info("📊 [사전 집계] 운동 통계 조회 - 기간: {}", period);
+
         try {
-            List<ExerciseStatsDto> results = new ArrayList<>();
-            Random random = new Random(456); // 고정 시드로 일관된 데이터
-            LocalDateTime now = LocalDateTime.now();
-            
-            switch (period.toLowerCase()) {
-                case "daily":
-                    // 실제 날짜 기준: 운동 부위별 통계 (오늘까지의 누적)
-                    String[] exercises = {"가슴", "등", "어깨", "팔", "복근", "하체", "유산소"};
-                    for (int i = 0; i < exercises.length; i++) {
-                        // 7월 2일이니까 적당한 누적 데이터
-                        Long count = (long) (random.nextDouble() * 15 + 5); // 5-20명 정도
-                        
-                        results.add(ExerciseStatsDto.builder()
-                            .category(exercises[i])
-                            .참여자(count)
-                            .color(EXERCISE_COLORS[i])
-                            .build());
-                    }
-                    break;
-                    
-                case "weekly":
-                    // 실제 날짜 기준: 7월 2일 = 수요일, 월~수만 데이터, 목~일은 0
-                    String[] days = {"월", "화", "수", "목", "금", "토", "일"};
-                    int currentDayOfWeek = now.getDayOfWeek().getValue(); // 1=월요일, 7=일요일
-                    
-                    for (int i = 0; i < days.length; i++) {
-                        Long count;
-                        if (i + 1 <= currentDayOfWeek) {
-                            // 지나간 날들 (월~수): 데이터 있음
-                            count = (long) (random.nextDouble() * 25 + 10); // 10-35명
-                        } else {
-                            // 미래 날들 (목~일): 데이터 없음
-                            count = 0L;
-                        }
-                        
-                        results.add(ExerciseStatsDto.builder()
-                            .category(days[i])
-                            .참여자(count)
-                            .color(EXERCISE_COLORS[i])
-                            .build());
-                    }
-                    break;
-                    
-                case "monthly":
-                    // 실제 날짜 기준: 7월 2일 = 1주차, 1주차만 데이터, 2~4주차는 0
-                    int currentWeek = ((now.getDayOfMonth() - 1) / 7) + 1;
-                    
-                    for (int week = 1; week <= 4; week++) {
-                        Long count;
-                        if (week <= currentWeek) {
-                            // 현재 주차까지: 데이터 있음
-                            count = (long) (random.nextDouble() * 80 + 40); // 40-120명
-                        } else {
-                            // 미래 주차: 데이터 없음
-                            count = 0L;
-                        }
-                        
-                        results.add(ExerciseStatsDto.builder()
-                            .category(week + "주차")
-                            .참여자(count)
-                            .color(EXERCISE_COLORS[week - 1])
-                            .build());
-                    }
-                    break;
-                    
-                case "yearly":
-                    // 실제 날짜 기준: 7월 2일, 1~7월만 데이터, 8~12월은 0
-                    String[] months = {"1월", "2월", "3월", "4월", "5월", "6월", 
-                                     "7월", "8월", "9월", "10월", "11월", "12월"};
-                    int currentMonth = now.getMonthValue(); // 1=1월, 12=12월
-                    
-                    for (int i = 0; i < months.length; i++) {
-                        Long count;
-                        if (i + 1 <= currentMonth) {
-                            // 지나간 월들 (1~7월): 데이터 있음
-                            if (i + 1 == currentMonth) {
-                                // 현재 월 (7월): 2일까지만이니까 적은 데이터
-                                count = (long) (random.nextDouble() * 100 + 50); // 50-150명
-                            } else {
-                                // 이전 월들: 전체 월 데이터
-                                count = (long) (random.nextDouble() * 300 + 200); // 200-500명
-                            }
-                        } else {
-                            // 미래 월들 (8~12월): 데이터 없음
-                            count = 0L;
-                        }
-                        
-                        results.add(ExerciseStatsDto.builder()
-                            .category(months[i])
-                            .참여자(count)
-                            .color(EXERCISE_COLORS[i % EXERCISE_COLORS.length])
-                            .build());
-                    }
-                    break;
-            }
-            
-            return results;
-            
+            return buildExerciseStats(loadPeriodBuckets(period));
         } catch (Exception e) {
             log.error("운동 통계 조회 실패", e);
             return Collections.emptyList();
@@ -406,109 +86,10 @@ public class AdminAnalyticsService {
     }
 
     public List<MealStatsDto> getMealStats(String period) {
-        log.info("📊 [시뮬레이션 + 실제 날짜] 식사 통계 조회 - 기간: {}", period);
-        
+        log.info("📊 [사전 집계] 식사 통계 조회 - 기간: {}", period);
+
         try {
-            List<MealStatsDto> results = new ArrayList<>();
-            Random random = new Random(789); // 고정 시드로 일관된 데이터
-            LocalDateTime now = LocalDateTime.now();
-            
-            switch (period.toLowerCase()) {
-                case "daily":
-                    // 실제 날짜 기준: 식사 시간별 통계 (오늘까지의 누적)
-                    String[] meals = {"아침", "점심", "저녁", "간식"};
-                    for (int i = 0; i < meals.length; i++) {
-                        // 7월 2일이니까 적당한 누적 데이터
-                        Long count = (long) (random.nextDouble() * 60 + 30); // 30-90건 정도
-                        
-                        results.add(MealStatsDto.builder()
-                            .name(meals[i])
-                            .value(count)
-                            .color(MEAL_COLORS[i])
-                            .build());
-                    }
-                    break;
-                    
-                case "weekly":
-                    // 실제 날짜 기준: 7월 2일 = 수요일, 월~수만 데이터, 목~일은 0
-                    String[] days = {"월", "화", "수", "목", "금", "토", "일"};
-                    int currentDayOfWeek = now.getDayOfWeek().getValue(); // 1=월요일, 7=일요일
-                    
-                    for (int i = 0; i < days.length; i++) {
-                        if (i + 1 <= currentDayOfWeek) {
-                            // 지나간 날들 (월~수): 데이터 있음
-                            results.add(MealStatsDto.builder()
-                                .날짜(days[i])
-                                .아침((long) (random.nextDouble() * 20 + 15)) // 15-35건
-                                .점심((long) (random.nextDouble() * 25 + 20)) // 20-45건
-                                .저녁((long) (random.nextDouble() * 20 + 18)) // 18-38건
-                                .간식((long) (random.nextDouble() * 15 + 8))  // 8-23건
-                                .build());
-                        } else {
-                            // 미래 날들 (목~일): 데이터 없음
-                            results.add(MealStatsDto.builder()
-                                .날짜(days[i])
-                                .아침(0L).점심(0L).저녁(0L).간식(0L)
-                                .build());
-                        }
-                    }
-                    break;
-                    
-                case "monthly":
-                    // 실제 날짜 기준: 7월 2일 = 1주차, 1주차만 데이터, 2~4주차는 0
-                    int currentWeek = ((now.getDayOfMonth() - 1) / 7) + 1;
-                    
-                    for (int week = 1; week <= 4; week++) {
-                        Long count;
-                        if (week <= currentWeek) {
-                            // 현재 주차까지: 데이터 있음
-                            count = (long) (random.nextDouble() * 120 + 80); // 80-200건
-                        } else {
-                            // 미래 주차: 데이터 없음
-                            count = 0L;
-                        }
-                        
-                        results.add(MealStatsDto.builder()
-                            .name(week + "주차")
-                            .value(count)
-                            .color(MEAL_COLORS[week - 1])
-                            .build());
-                    }
-                    break;
-                    
-                case "yearly":
-                    // 실제 날짜 기준: 7월 2일, 1~7월만 데이터, 8~12월은 0
-                    String[] months = {"1월", "2월", "3월", "4월", "5월", "6월", 
-                                     "7월", "8월", "9월", "10월", "11월", "12월"};
-                    int currentMonth = now.getMonthValue(); // 1=1월, 12=12월
-                    
-                    for (int i = 0; i < months.length; i++) {
-                        Long count;
-                        if (i + 1 <= currentMonth) {
-                            // 지나간 월들 (1~7월): 데이터 있음
-                            if (i + 1 == currentMonth) {
-                                // 현재 월 (7월): 2일까지만이니까 적은 데이터
-                                count = (long) (random.nextDouble() * 150 + 50); // 50-200건
-                            } else {
-                                // 이전 월들: 전체 월 데이터
-                                count = (long) (random.nextDouble() * 500 + 400); // 400-900건
-                            }
-                        } else {
-                            // 미래 월들 (8~12월): 데이터 없음
-                            count = 0L;
-                        }
-                        
-                        results.add(MealStatsDto.builder()
-                            .name(months[i])
-                            .value(count)
-                            .color(MEAL_COLORS[i % MEAL_COLORS.length])
-                            .build());
-                    }
-                    break;
-            }
-            
-            return results;
-            
+            return buildMealStats(loadPeriodBuckets(period));
         } catch (Exception e) {
             log.error("식사 통계 조회 실패", e);
             return Collections.emptyList();
@@ -517,203 +98,311 @@ public class AdminAnalyticsService {
 
     public AnalyticsDataDto getAllAnalytics(String period) {
         log.info("전체 애널리틱스 데이터 조회 - 기간: {}", period);
-        
+
+        // 기간 버킷을 한 번만 읽고 모든 차트를 구성
+        PeriodBuckets buckets;
+        try {
+            buckets = loadPeriodBuckets(period);
+        } catch (Exception e) {
+            log.error("❌ [사전 집계] 애널리틱스 버킷 조회 실패 - 기간: {}", period, e);
+            return AnalyticsDataDto.builder()
+                .accessStats(Collections.emptyList())
+                .userActivity(Collections.emptyList())
+                .exerciseStats(Collections.emptyList())
+                .mealStats(Collections.emptyList())
+                .summary(getSummaryData(period))
+                .build();
+        }
+
         return AnalyticsDataDto.builder()
-            .accessStats(getAccessStats(period))
-            .userActivity(getUserActivityStats(period))
-            .exerciseStats(getExerciseStats(period))
-            .mealStats(getMealStats(period))
+            .accessStats(buildAccessStats(buckets))
+            .userActivity(buildUserActivityStats(buckets))
+            .exerciseStats(buildExerciseStats(buckets))
+            .mealStats(buildMealStats(buckets))
             .summary(getSummaryData(period)) // 요약 정보 추가
             .build();
     }
-    
+
+    private List<AccessStatsDto> buildAccessStats(PeriodBuckets buckets) {
+        List<AccessStatsDto> results = new ArrayList<>();
+        for (int i = 0; i < buckets.size(); i++) {
+            results.add(AccessStatsDto.builder()
+                .period(buckets.label(i))
+                .접속자(buckets.value(i, AnalyticsBucketRepository.METRIC_VISITORS))
+                .build());
+        }
+        return results;
+    }
+
+    private List<UserActivityDto> buildUserActivityStats(PeriodBuckets buckets) {
+        List<UserActivityDto> results = new ArrayList<>();
+        for (int i = 0; i < buckets.size(); i++) {
+            results.add(UserActivityDto.builder()
+                .period(buckets.label(i))
+                .총접속자(buckets.value(i, AnalyticsBucketRepository.METRIC_VISITORS))
+                .활동사용자(buckets.value(i, AnalyticsBucketRepository.METRIC_ACTIVE_USERS))
+                .build());
+        }
+        return results;
+    }
+
+    private List<ExerciseStatsDto> buildExerciseStats(PeriodBuckets buckets) {
+        List<ExerciseStatsDto> results = new ArrayList<>();
+
+        if (buckets.isDaily()) {
+            // 일간: 오늘 운동 부위별 참여자
+            for (int i = 0; i < BODY_PARTS.length; i++) {
+                results.add(ExerciseStatsDto.builder()
+                    .category(BODY_PART_LABELS[i])
+                    .참여자(buckets.todayValue(AnalyticsBucketRepository.METRIC_BODY_PART_USERS_PREFIX + BODY_PARTS[i].name()))
+                    .color(EXERCISE_COLORS[i])
+                    .build());
+            }
+            return results;
+        }
+
+        for (int i = 0; i < buckets.size(); i++) {
+            results.add(ExerciseStatsDto.builder()
+                .category(buckets.label(i))
+                .참여자(buckets.value(i, AnalyticsBucketRepository.METRIC_EXERCISE_USERS))
+                .color(EXERCISE_COLORS[i % EXERCISE_COLORS.length])
+                .build());
+        }
+        return results;
+    }
+
+    private List<MealStatsDto> buildMealStats(PeriodBuckets buckets) {
+        List<MealStatsDto> results = new ArrayList<>();
+
+        if (buckets.isDaily()) {
+            // 일간: 오늘 식사 시간별 기록 수
+            for (int i = 0; i < MEAL_LABELS.length; i++) {
+                results.add(MealStatsDto.builder()
+                    .name(MEAL_LABELS[i])
+                    .value(buckets.todayValue(AnalyticsBucketRepository.METRIC_MEAL_LOGS_PREFIX + MEAL_TIME_KEYS[i]))
+                    .color(MEAL_COLORS[i])
+                    .build());
+            }
+            return results;
+        }
+
+        if (buckets.granularity == Granularity.DAY) {
+            // 주간: 요일별 식사 시간 분포
+            for (int i = 0; i < buckets.size(); i++) {
+                results.add(MealStatsDto.builder()
+                    .날짜(buckets.label(i))
+                    .아침(buckets.value(i, AnalyticsBucketRepository.METRIC_MEAL_LOGS_PREFIX + MEAL_TIME_KEYS[0]))
+                    .점심(buckets.value(i, AnalyticsBucketRepository.METRIC_MEAL_LOGS_PREFIX + MEAL_TIME_KEYS[1]))
+                    .저녁(buckets.value(i, AnalyticsBucketRepository.METRIC_MEAL_LOGS_PREFIX + MEAL_TIME_KEYS[2]))
+                    .간식(buckets.value(i, AnalyticsBucketRepository.METRIC_MEAL_LOGS_PREFIX + MEAL_TIME_KEYS[3]))
+                    .build());
+            }
+            return results;
+        }
+
+        // 월간/연간: 구간별 전체 식사 기록 수
+        for (int i = 0; i < buckets.size(); i++) {
+            long total = 0;
+            for (String mealTime : MEAL_TIME_KEYS) {
+                total += buckets.value(i, AnalyticsBucketRepository.METRIC_MEAL_LOGS_PREFIX + mealTime);
+            }
+            results.add(MealStatsDto.builder()
+                .name(buckets.label(i))
+                .value(total)
+                .color(MEAL_COLORS[i % MEAL_COLORS.length])
+                .build());
+        }
+        return results;
+    }
+
     /**
      * 현재 기간과 이전 기간의 요약 데이터 생성
      */
     private SummaryDto getSummaryData(String period) {
-        log.info("📊 [실제 데이터] 요약 통계 생성 - 기간: {}", period);
-        
+        log.info("📊 [사전 집계] 요약 통계 생성 - 기간: {}", period);
+
         try {
-            // 🔧 실제 DB 연동 + 진짜 합집합 쿼리로 완벽 해결!
-            log.info("📊 [실제 DB + 실제 합집합] 요약 통계 생성 - 기간: {}", period);
-            
-            LocalDateTime now = LocalDateTime.now();
-            LocalDateTime currentStart, currentEnd, previousStart, previousEnd;
-            
-            // 기간별 시작/종료 날짜 계산
+            // 오늘 vs 어제, 이번 주 vs 지난 주, 이번 달 vs 지난 달, 올해 vs 작년
+            Granularity granularity;
             switch (period.toLowerCase()) {
                 case "daily":
-                    // 오늘 vs 어제
-                    currentStart = now.truncatedTo(ChronoUnit.DAYS);
-                    currentEnd = now.plusDays(1).truncatedTo(ChronoUnit.DAYS);
-                    previousStart = currentStart.minusDays(1);
-                    previousEnd = currentStart;
+                    granularity = Granularity.DAY;
                     break;
-                    
                 case "weekly":
-                    // 이번 주 vs 지난 주
-                    int dayOfWeek = now.getDayOfWeek().getValue(); // 1=월요일
-                    currentStart = now.minusDays(dayOfWeek - 1).truncatedTo(ChronoUnit.DAYS);
-                    currentEnd = now.plusDays(1).truncatedTo(ChronoUnit.DAYS);
-                    previousStart = currentStart.minusWeeks(1);
-                    previousEnd = currentStart;
+                    granularity = Granularity.WEEK;
                     break;
-                    
                 case "monthly":
-                    // 이번 달 vs 지난 달
-                    currentStart = now.withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS);
-                    currentEnd = now.plusDays(1).truncatedTo(ChronoUnit.DAYS);
-                    previousStart = currentStart.minusMonths(1);
-                    previousEnd = currentStart;
+                    granularity = Granularity.MONTH;
                     break;
-                    
                 case "yearly":
-                    // 올해 vs 작년
-                    currentStart = now.withDayOfYear(1).truncatedTo(ChronoUnit.DAYS);
-                    currentEnd = now.plusDays(1).truncatedTo(ChronoUnit.DAYS);
-                    previousStart = currentStart.minusYears(1);
-                    previousEnd = currentStart;
+                    granularity = Granularity.YEAR;
                     break;
-                    
                 default:
                     throw new IllegalArgumentException("지원하지 않는 기간: " + period);
             }
-            
-            // 실제 DB에서 데이터 조회
-            Long currentTotalUsers = userRepository.count(); // 전체 회원수
-            Long currentActiveUsers = userRepository.countByLastVisitedBetween(currentStart, currentEnd); // 접속자
-            
-            // ✨ 활동 사용자 = 운동 또는 식사 기록을 남긴 고유 사용자 수 (실제 합집합!)
-            Long currentRecordingUsers = userRepository.countDistinctActiveUsersInPeriod(currentStart, currentEnd);
-            
-            // 이전 기간도 동일하게 계산
-            Long previousTotalUsers = currentTotalUsers; // 총 회원수는 동일 (누적)
-            Long previousActiveUsers = userRepository.countByLastVisitedBetween(previousStart, previousEnd);
-            Long previousRecordingUsers = userRepository.countDistinctActiveUsersInPeriod(previousStart, previousEnd);
-            
-            log.info("✅ [실제 DB + 실제 합집합] 요약 통계 생성 완료 - 현재: {}/{}/{}, 이전: {}/{}/{}", 
-                currentTotalUsers, currentActiveUsers, currentRecordingUsers,
-                previousTotalUsers, previousActiveUsers, previousRecordingUsers);
-            
-            return SummaryDto.builder()
-                .current(PeriodSummaryDto.builder()
-                    .totalUsers(currentTotalUsers)
-                    .activeUsers(currentActiveUsers)
-                    .recordingUsers(currentRecordingUsers)
-                    .build())
-                .previous(PeriodSummaryDto.builder()
-                    .totalUsers(previousTotalUsers)
-                    .activeUsers(previousActiveUsers)
-                    .recordingUsers(previousRecordingUsers)
-                    .build())
-                .build();
-                
+
+            LocalDateTime currentStart = granularity.bucketStart(LocalDateTime.now());
+            LocalDateTime previousStart = granularity.bucketStart(currentStart.minusSeconds(1));
+
+            Map<LocalDateTime, Map<String, Long>> values = groupByBucket(
+                    analyticsBucketRepository.findBuckets(granularity, previousStart, currentStart.plusSeconds(1)));
+            Map<String, Long> current = values.getOrDefault(currentStart, Collections.emptyMap());
+            Map<String, Long> previous = values.getOrDefault(previousStart, Collections.emptyMap());
+
+            Long totalUsers = userRepository.count(); // 전체 회원수 (이전 기간도 동일하게 누적값 사용)
+            Long currentActiveUsers = current.getOrDefault(AnalyticsBucketRepository.METRIC_VISITORS, 0L);
+            // 활동 사용자 = 운동 또는 식사 기록을 남긴 고유 사용자 수 (합집합)
+            Long currentRecordingUsers = current.getOrDefault(AnalyticsBucketRepository.METRIC_ACTIVE_USERS, 0L);
+            Long previousActiveUsers = previous.getOrDefault(AnalyticsBucketRepository.METRIC_VISITORS, 0L);
+            Long previousRecordingUsers = previous.getOrDefault(AnalyticsBucketRepository.METRIC_ACTIVE_USERS, 0L);
+
+            log.info("✅ [사전 집계] 요약 통계 생성 완료 - 현재: {}/{}/{}, 이전: {}/{}/{}",
+                totalUsers, currentActiveUsers, currentRecordingUsers,
+                totalUsers, previousActiveUsers, previousRecordingUsers);
+
+            return createSummary(totalUsers, currentActiveUsers, currentRecordingUsers,
+                    totalUsers, previousActiveUsers, previousRecordingUsers);
+
         } catch (Exception e) {
-            log.error("❌ [실제 DB + 합집합] 요약 통계 생성 실패 - 시뮬레이션으로 대체", e);
-            // 실패 시 시뮬레이션으로 fallback
-            return createRealisticSummary(period);
+            log.error("❌ [사전 집계] 요약 통계 생성 실패 - 0으로 대체", e);
+            return createSummary(0L, 0L, 0L, 0L, 0L, 0L);
         }
     }
-    
+
+    private SummaryDto createSummary(Long currentTotal, Long currentActive, Long currentRecording,
+                                     Long previousTotal, Long previousActive, Long previousRecording) {
+        return SummaryDto.builder()
+            .current(PeriodSummaryDto.builder()
+                .totalUsers(currentTotal)
+                .activeUsers(currentActive)
+                .recordingUsers(currentRecording)
+                .build())
+            .previous(PeriodSummaryDto.builder()
+                .totalUsers(previousTotal)
+                .activeUsers(previousActive)
+                .recordingUsers(previousRecording)
+                .build())
+            .build();
+    }
+
     /**
-     * 현실적인 시뮬레이션 요약 데이터 생성 (기간별 패턴 적용)
+     * 기간별 차트 구간(라벨, 버킷 시작 시각)을 만들고 해당 버킷 값을 한 번에 조회
+     * 아직 오지 않은 구간은 버킷이 없으므로 0으로 표시된다.
      */
-    private SummaryDto createRealisticSummary(String period) {
-        Random random = new Random(777); // 고정 시드로 일관된 데이터
-        
-        // 기본값 설정
-        Long currentTotal = userRepository.count(); // 실제 총 회원수는 사용
-        Long currentActive, currentRecording;
-        Long previousTotal, previousActive, previousRecording;
-        
+    private PeriodBuckets loadPeriodBuckets(String period) {
+        LocalDateTime today = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS);
+        List<String> labels = new ArrayList<>();
+        List<LocalDateTime> slotStarts = new ArrayList<>();
+        Granularity granularity;
+        LocalDateTime rangeEnd;
+
         switch (period.toLowerCase()) {
             case "daily":
-                // 일간: 적은 변화
-                currentActive = (long) (random.nextDouble() * 30 + 20); // 20-50명
-                currentRecording = (long) (currentActive * (0.4 + random.nextDouble() * 0.2)); // 40-60%
-                
-                previousTotal = currentTotal - (long) (random.nextDouble() * 5 + 1); // 1-6명 적음
-                previousActive = (long) (currentActive * (0.85 + random.nextDouble() * 0.25)); // 85-110%
-                previousRecording = (long) (currentRecording * (0.8 + random.nextDouble() * 0.4)); // 80-120%
+                // 오늘 0~23시
+                granularity = Granularity.HOUR;
+                for (int hour = 0; hour < 24; hour++) {
+                    labels.add(hour + "시");
+                    slotStarts.add(today.plusHours(hour));
+                }
+                rangeEnd = today.plusDays(1);
                 break;
-                
+
             case "weekly":
-                // 주간: 중간 변화
-                currentActive = (long) (random.nextDouble() * 80 + 60); // 60-140명
-                currentRecording = (long) (currentActive * (0.35 + random.nextDouble() * 0.25)); // 35-60%
-                
-                previousTotal = currentTotal - (long) (random.nextDouble() * 20 + 5); // 5-25명 적음
-                previousActive = (long) (currentActive * (0.8 + random.nextDouble() * 0.35)); // 80-115%
-                previousRecording = (long) (currentRecording * (0.75 + random.nextDouble() * 0.45)); // 75-120%
+                // 이번 주 월~일
+                granularity = Granularity.DAY;
+                LocalDateTime monday = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                for (int i = 0; i < WEEK_DAY_LABELS.length; i++) {
+                    labels.add(WEEK_DAY_LABELS[i]);
+                    slotStarts.add(monday.plusDays(i));
+                }
+                rangeEnd = monday.plusDays(7);
                 break;
-                
+
             case "monthly":
-                // 월간: 큰 변화
-                currentActive = (long) (random.nextDouble() * 200 + 150); // 150-350명
-                currentRecording = (long) (currentActive * (0.3 + random.nextDouble() * 0.3)); // 30-60%
-                
-                previousTotal = currentTotal - (long) (random.nextDouble() * 60 + 20); // 20-80명 적음
-                previousActive = (long) (currentActive * (0.7 + random.nextDouble() * 0.5)); // 70-120%
-                previousRecording = (long) (currentRecording * (0.6 + random.nextDouble() * 0.6)); // 60-120%
+                // 이번 달 1~4주차 (4주차는 22일~말일)
+                granularity = Granularity.MONTH_WEEK;
+                LocalDateTime monthStart = today.withDayOfMonth(1);
+                for (int week = 1; week <= 4; week++) {
+                    labels.add(week + "주차");
+                    slotStarts.add(monthStart.plusDays((week - 1) * 7L));
+                }
+                rangeEnd = monthStart.plusMonths(1);
                 break;
-                
+
             case "yearly":
-                // 년간: 매우 큰 변화
-                currentActive = (long) (random.nextDouble() * 800 + 600); // 600-1400명
-                currentRecording = (long) (currentActive * (0.25 + random.nextDouble() * 0.35)); // 25-60%
-                
-                previousTotal = currentTotal - (long) (random.nextDouble() * 200 + 100); // 100-300명 적음
-                previousActive = (long) (currentActive * (0.5 + random.nextDouble() * 0.7)); // 50-120%
-                previousRecording = (long) (currentRecording * (0.4 + random.nextDouble() * 0.8)); // 40-120%
+                // 올해 1~12월
+                granularity = Granularity.MONTH;
+                LocalDateTime yearStart = today.withDayOfYear(1);
+                for (int month = 1; month <= 12; month++) {
+                    labels.add(month + "월");
+                    slotStarts.add(yearStart.plusMonths(month - 1));
+                }
+                rangeEnd = yearStart.plusYears(1);
                 break;
-                
+
             default:
-                return createFallbackSummary();
+                throw new IllegalArgumentException("지원하지 않는 기간: " + period);
         }
-        
-        log.info("📊 [현실적 시뮬레이션] 생성 완료 - 기간: {}, 현재: {}/{}/{}, 이전: {}/{}/{}", 
-            period, currentTotal, currentActive, currentRecording,
-            previousTotal, previousActive, previousRecording);
-        
-        return SummaryDto.builder()
-            .current(PeriodSummaryDto.builder()
-                .totalUsers(currentTotal)
-                .activeUsers(currentActive)
-                .recordingUsers(currentRecording)
-                .build())
-            .previous(PeriodSummaryDto.builder()
-                .totalUsers(previousTotal)
-                .activeUsers(previousActive)
-                .recordingUsers(previousRecording)
-                .build())
-            .build();
+
+        Map<LocalDateTime, Map<String, Long>> values = groupByBucket(
+                analyticsBucketRepository.findBuckets(granularity, slotStarts.get(0), rangeEnd));
+
+        // 일간 운동 부위/식사 시간 통계는 오늘 하루 버킷 사용
+        Map<String, Long> todayValues = Collections.emptyMap();
+        if (granularity == Granularity.HOUR) {
+            todayValues = groupByBucket(analyticsBucketRepository.findBuckets(Granularity.DAY, today, today.plusDays(1)))
+                    .getOrDefault(today, Collections.emptyMap());
+        }
+
+        return new PeriodBuckets(granularity, labels, slotStarts, values, todayValues);
+    }
+
+    private static Map<LocalDateTime, Map<String, Long>> groupByBucket(List<AnalyticsBucket> buckets) {
+        Map<LocalDateTime, Map<String, Long>> grouped = new HashMap<>();
+        for (AnalyticsBucket bucket : buckets) {
+            grouped.computeIfAbsent(bucket.getBucketStart(), key -> new HashMap<>())
+                    .put(bucket.getMetric(), bucket.getValue());
+        }
+        return grouped;
     }
 
     /**
-     * DB 연동 실패 시 시뮬레이션 요약 데이터 생성
+     * 한 기간(일간/주간/월간/연간) 차트의 구간별 버킷 값
      */
-    private SummaryDto createFallbackSummary() {
-        Random random = new Random(999);
-        
-        Long currentTotal = 1250L;
-        Long currentActive = (long) (random.nextDouble() * 100 + 50); // 50-150명
-        Long currentRecording = (long) (currentActive * (0.4 + random.nextDouble() * 0.2)); // 활성 사용자의 40-60%
-        
-        Long previousTotal = currentTotal - (long) (random.nextDouble() * 50 + 10); // 10-60명 적음
-        Long previousActive = (long) (currentActive * (0.8 + random.nextDouble() * 0.3)); // 80-110%
-        Long previousRecording = (long) (currentRecording * (0.7 + random.nextDouble() * 0.5)); // 70-120%
-        
-        return SummaryDto.builder()
-            .current(PeriodSummaryDto.builder()
-                .totalUsers(currentTotal)
-                .activeUsers(currentActive)
-                .recordingUsers(currentRecording)
-                .build())
-            .previous(PeriodSummaryDto.builder()
-                .totalUsers(previousTotal)
-                .activeUsers(previousActive)
-                .recordingUsers(previousRecording)
-                .build())
-            .build();
+    private static class PeriodBuckets {
+        private final Granularity granularity;
+        private final List<String> labels;
+        private final List<LocalDateTime> slotStarts;
+        private final Map<LocalDateTime, Map<String, Long>> values;
+        private final Map<String, Long> todayValues;
+
+        PeriodBuckets(Granularity granularity, List<String> labels, List<LocalDateTime> slotStarts,
+                      Map<LocalDateTime, Map<String, Long>> values, Map<String, Long> todayValues) {
+            this.granularity = granularity;
+            this.labels = labels;
+            this.slotStarts = slotStarts;
+            this.values = values;
+            this.todayValues = todayValues;
+        }
+
+        int size() {
+            return labels.size();
+        }
+
+        boolean isDaily() {
+            return granularity == Granularity.HOUR;
+        }
+
+        String label(int slot) {
+            return labels.get(slot);
+        }
+
+        Long value(int slot, String metric) {
+            return values.getOrDefault(slotStarts.get(slot), Collections.emptyMap()).getOrDefault(metric, 0L);
+        }
+
+        Long todayValue(String metric) {
+            return todayValues.getOrDefault(metric, 0L);
+        }
     }
-} 
\ No newline at end of file
+}
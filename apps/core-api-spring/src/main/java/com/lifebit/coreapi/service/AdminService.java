@@ -1,10 +1,14 @@
 package com.lifebit.coreapi.service;
 
+import com.lifebit.coreapi.config.CacheConfig;
 import com.lifebit.coreapi.dto.UserDTO;
 import com.lifebit.coreapi.entity.User;
 import com.lifebit.coreapi.repository.UserRepository;
 import com.lifebit.coreapi.repository.MealLogRepository;
 import com.lifebit.coreapi.repository.ExerciseSessionRepository;
+import com.lifebit.coreapi.service.activity.UserActivityTracker;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -20,13 +24,16 @@ public class AdminService {
     private final UserRepository userRepository;
     private final MealLogRepository mealLogRepository;
     private final ExerciseSessionRepository exerciseSessionRepository;
+    private final UserActivityTracker userActivityTracker;
 
     public AdminService(UserRepository userRepository, 
                        MealLogRepository mealLogRepository,
-                       ExerciseSessionRepository exerciseSessionRepository) {
+                       ExerciseSessionRepository exerciseSessionRepository,
+                       UserActivityTracker userActivityTracker) {
         this.userRepository = userRepository;
         this.mealLogRepository = mealLogRepository;
         this.exerciseSessionRepository = exerciseSessionRepository;
+        this.userActivityTracker = userActivityTracker;
     }
 
     public List<UserDTO> getAllUsers() {
@@ -48,10 +55,23 @@ public class AdminService {
         );
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.USERS, key = "#userId"),
+            @CacheEvict(cacheNames = CacheConfig.LATEST_USER_GOALS, key = "#userId")
+    })
     public void deleteUserById(Long userId) {
         userRepository.deleteById(userId);
     }
 
+    /**
+     * 기준일 이후 접속자 수 (접속 기록 카운터 사용, 로드 전이면 DB 조회)
+     */
+    private long countActiveUsersSince(LocalDate since) {
+        return userActivityTracker.isReady()
+                ? userActivityTracker.countVisitorsSince(since)
+                : userRepository.countByLastVisitedAfter(since.atStartOfDay());
+    }
+
     public Map<String, Object> getDashboardStatistics() {
         Map<String, Object> stats = new HashMap<>();
         
@@ -73,15 +93,15 @@ public class AdminService {
             stats.put("monthlyNewUsers", monthlyNewUsers);
             
             // 일일 접속자 (lastVisited가 오늘인 사용자)
-            long dailyActiveUsers = userRepository.countByLastVisitedAfter(today.atStartOfDay());
+            long dailyActiveUsers = countActiveUsersSince(today);
             stats.put("dailyActiveUsers", dailyActiveUsers);
             
             // 주간 접속자 (lastVisited가 지난 7일 이내인 사용자)
-            long weeklyActiveUsers = userRepository.countByLastVisitedAfter(weekStart.atStartOfDay());
+            long weeklyActiveUsers = countActiveUsersSince(weekStart);
             stats.put("weeklyActiveUsers", weeklyActiveUsers);
             
             // 월간 접속자 (lastVisited가 지난 30일 이내인 사용자)
-            long monthlyActiveUsers = userRepository.countByLastVisitedAfter(monthStart.atStartOfDay());
+            long monthlyActiveUsers = countActiveUsersSince(monthStart);
             stats.put("monthlyActiveUsers", monthlyActiveUsers);
             
             // 일일 활동자 (오늘 기록을 작성한 사용자 수) - 시뮬레이션 데이터
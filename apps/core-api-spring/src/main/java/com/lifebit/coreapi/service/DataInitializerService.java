@@ -5,12 +5,14 @@ import com.lifebit.coreapi.entity.BadgeType;
 import com.lifebit.coreapi.entity.UserRanking;
 import com.lifebit.coreapi.entity.enums.AchievementType;
 import com.lifebit.coreapi.entity.enums.RankingTier;
+import com.lifebit.coreapi.event.AchievementDefinitionChangeEvent;
 import com.lifebit.coreapi.repository.AchievementRepository;
 import com.lifebit.coreapi.repository.UserRepository;
 import com.lifebit.coreapi.repository.ranking.UserRankingRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,6 +29,7 @@ public class DataInitializerService {
     private final AchievementRepository achievementRepository;
     private final UserRepository userRepository;
     private final UserRankingRepository userRankingRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Bean
     public ApplicationRunner initializeData() {
@@ -67,6 +70,9 @@ public class DataInitializerService {
 
         achievementRepository.saveAll(achievements);
         log.info("✅ 기본 업적 {} 개 생성 완료", achievements.size());
+
+        // 업적 정의 레지스트리 갱신 (커밋 이후)
+        eventPublisher.publishEvent(new AchievementDefinitionChangeEvent(this));
     }
 
     @Transactional
@@ -4,12 +4,21 @@ import com.lifebit.coreapi.dto.DietCalendarDTO;
 import com.lifebit.coreapi.dto.DietLogDTO;
 import com.lifebit.coreapi.dto.DietNutritionDTO;
 import com.lifebit.coreapi.entity.*;
+import com.lifebit.coreapi.event.DailyActivityChangeEvent;
+import com.lifebit.coreapi.event.FoodCatalogChangeEvent;
+import com.lifebit.coreapi.event.ScoreChangeEvent;
 import com.lifebit.coreapi.repository.FoodItemRepository;
 import com.lifebit.coreapi.repository.MealLogRepository;
-import com.lifebit.coreapi.repository.UserGoalRepository;
 import com.lifebit.coreapi.repository.UserRepository;
+import com.lifebit.coreapi.repository.achievement.AchievementStateRepository.AchievementState;
+import com.lifebit.coreapi.repository.food.FoodItemBatchRepository;
+import com.lifebit.coreapi.repository.activity.DailyActivityRollupRepository.DailyActivity;
+import com.lifebit.coreapi.service.achievement.AchievementProgressEngine;
+import com.lifebit.coreapi.service.activity.DailyActivityRollupService;
+import com.lifebit.coreapi.service.food.FoodSearchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,10 +27,16 @@ import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import com.lifebit.coreapi.entity.enums.AchievementType;
@@ -31,12 +46,19 @@ import com.lifebit.coreapi.entity.enums.AchievementType;
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class DietService {
+    private static final int MAX_BULK_RECORDS = 100;
+
     private final MealLogRepository mealLogRepository;
     private final FoodItemRepository foodItemRepository;
+    private final FoodItemBatchRepository foodItemBatchRepository;
     private final UserRepository userRepository;
-    private final UserGoalRepository userGoalRepository;
     private final UserGoalService userGoalService;
+    private final UserService userService;
     private final AchievementService achievementService;
+    private final AchievementProgressEngine achievementProgressEngine;
+    private final DailyActivityRollupService dailyActivityRollupService;
+    private final FoodSearchService foodSearchService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<DietLogDTO> getDailyDietRecords(LocalDate date, Long userId) {
         User user = userRepository.findById(userId)
@@ -92,12 +114,14 @@ public class DietService {
 
     public List<DietNutritionDTO> getNutritionGoals(LocalDate date, Long userId) {
         // 사용자별 목표 가져오기 - 최신 목표만 가져오도록 수정
-        UserGoal userGoal = userGoalRepository.findTopByUserIdOrderByCreatedAtDesc(userId)
-            .orElse(userGoalService.getDefaultDietGoalByGender(userId));
+        // (목표/사용자는 캐시에서 조회, 목표가 없을 때만 성별 기본 목표 생성)
+        User user = userService.getUserById(userId);
+        UserGoal userGoal = userGoalService.getLatestUserGoal(userId);
+        if (userGoal == null) {
+            userGoal = userGoalService.buildDefaultDietGoal(userId, user.getGender());
+        }
 
-        // 해당 날짜의 실제 섭취량 계산 (직접 엔티티 조회)
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new RuntimeException("User not found"));
+        // 해당 날짜의 실제 섭취량 계산
         
         List<MealLog> dailyMealLogs = mealLogRepository.findByUserAndLogDateOrderByLogDateDescCreatedAtDesc(user, date);
 
@@ -150,17 +174,18 @@ public class DietService {
         
         Map<String, DietCalendarDTO> calendarData = new HashMap<>();
         
-        // 해당 월의 식단 기록 가져오기 (운동은 제외)
-        List<MealLog> dietRecords = mealLogRepository.findByUserAndLogDateBetweenOrderByLogDateDesc(user, startDate, endDate);
+        // 해당 월의 일별 활동 집계에서 식단 기록 수 가져오기 (운동은 제외)
+        List<DailyActivity> activities = dailyActivityRollupService.getDailyActivities(user.getUserId(), startDate, endDate);
         
         // 식단 기록 처리
-        for (MealLog mealLog : dietRecords) {
-            String dateStr = mealLog.getLogDate().toString();
-            
-            DietCalendarDTO dto = calendarData.getOrDefault(dateStr, new DietCalendarDTO());
+        for (DailyActivity activity : activities) {
+            if (activity.getMealCount() == 0) {
+                continue;
+            }
+            DietCalendarDTO dto = new DietCalendarDTO();
             dto.setHasDiet(true);
-            dto.setDietCount(dto.getDietCount() + 1);
-            calendarData.put(dateStr, dto);
+            dto.setDietCount(activity.getMealCount());
+            calendarData.put(activity.getActivityDate().toString(), dto);
         }
         
         return calendarData;
@@ -171,9 +196,118 @@ public class DietService {
         User user = userRepository.findById(request.getUserId())
             .orElseThrow(() -> new RuntimeException("User not found"));
         
-        FoodItem foodItem = foodItemRepository.findById(request.getFoodItemId())
-            .orElseThrow(() -> new RuntimeException("Food item not found"));
+        FoodItem foodItem = resolveFoodItems(List.of(request)).get(0);
+
+        // 업적 상태 재구성이 JDBC 로 meal_logs 를 읽으므로 바로 flush (pooled 시퀀스라 save 만으로는 INSERT 가 미뤄짐)
+        MealLog savedMealLog = mealLogRepository.saveAndFlush(toMealLog(request, user, foodItem));
+        eventPublisher.publishEvent(new ScoreChangeEvent(user.getUserId(), ScoreChangeEvent.SOURCE_MEAL));
+        eventPublisher.publishEvent(new DailyActivityChangeEvent(user.getUserId(), savedMealLog.getLogDate()));
+        achievementProgressEngine.onMealRecorded(user.getUserId(), savedMealLog.getLogDate(), savedMealLog.getValidationStatus());
+        updateMealAchievements(user.getUserId());
+        
+        return convertToDietLogDTO(savedMealLog);
+    }
+
+    /**
+     * 한 끼 또는 하루치 식단 기록 일괄 저장
+     * 음식은 한 번에 조회(직접입력 음식은 같은 트랜잭션에서 생성)하고 JDBC 배치로 저장하며,
+     * 랭킹/일별 집계/업적 갱신은 요청당 한 번만 수행
+     */
+    @Transactional
+    public List<DietLogDTO> recordDiets(Long userId, List<DietLogDTO> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return List.of();
+        }
+        if (requests.size() > MAX_BULK_RECORDS) {
+            throw new IllegalArgumentException("한 번에 저장할 수 있는 식단 기록은 최대 " + MAX_BULK_RECORDS + "건입니다.");
+        }
+        // 사용자 엔티티는 참조만 쓰므로 존재 여부만 한 번 확인 (없는 사용자면 FK 위반 대신 recordDiet 와 같은 예외)
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found");
+        }
+
+        List<FoodItem> foodItems = resolveFoodItems(requests);
+
+        User user = new User(userId);
+        List<MealLog> mealLogs = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            mealLogs.add(toMealLog(requests.get(i), user, foodItems.get(i)));
+        }
 
+        // 업적 상태 재구성이 JDBC 로 meal_logs 를 읽으므로 먼저 flush
+        List<MealLog> savedMealLogs = mealLogRepository.saveAllAndFlush(mealLogs);
+
+        Set<LocalDate> logDates = new TreeSet<>();
+        SortedMap<LocalDate, Integer> validatedCountsByDate = new TreeMap<>();
+        for (MealLog mealLog : savedMealLogs) {
+            logDates.add(mealLog.getLogDate());
+            if (mealLog.getValidationStatus() == ValidationStatusType.VALIDATED) {
+                validatedCountsByDate.merge(mealLog.getLogDate(), 1, Integer::sum);
+            }
+        }
+
+        eventPublisher.publishEvent(new ScoreChangeEvent(userId, ScoreChangeEvent.SOURCE_MEAL));
+        eventPublisher.publishEvent(new DailyActivityChangeEvent(userId, logDates.toArray(LocalDate[]::new)));
+        achievementProgressEngine.onMealsRecorded(userId, validatedCountsByDate);
+        updateMealAchievements(userId);
+
+        log.info("🍽️ [DietService] 식단 기록 일괄 저장 - 사용자: {}, {}건, 날짜: {}", userId, savedMealLogs.size(), logDates);
+        return savedMealLogs.stream().map(this::convertToDietLogDTO).toList();
+    }
+
+    /**
+     * 요청 순서대로 음식 조회 (기존 음식은 한 번에 조회, 직접입력 음식은 호출한 트랜잭션에서 일괄 생성)
+     */
+    private List<FoodItem> resolveFoodItems(List<DietLogDTO> requests) {
+        Set<Long> foodItemIds = requests.stream()
+            .map(DietLogDTO::getFoodItemId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Map<Long, FoodItem> foodItems = foodItemIds.isEmpty() ? Map.of() :
+            foodItemRepository.findAllById(foodItemIds).stream()
+                .collect(Collectors.toMap(FoodItem::getFoodItemId, foodItem -> foodItem));
+
+        List<FoodItem> resolved = new ArrayList<>(requests.size());
+        List<FoodItem> customFoodItems = new ArrayList<>();
+        for (DietLogDTO request : requests) {
+            FoodItem foodItem;
+            if (request.getFoodItemId() != null) {
+                foodItem = foodItems.get(request.getFoodItemId());
+                if (foodItem == null) {
+                    throw new RuntimeException("Food item not found: " + request.getFoodItemId());
+                }
+            } else if (request.getFoodName() != null) {
+                foodItem = newCustomFoodItem(request);
+                customFoodItems.add(foodItem);
+            } else {
+                throw new IllegalArgumentException("food_item_id 또는 (food_name, calories, carbs, protein, fat) 정보가 필요합니다.");
+            }
+            resolved.add(foodItem);
+        }
+
+        if (!customFoodItems.isEmpty()) {
+            foodItemBatchRepository.batchInsert(customFoodItems);
+            for (FoodItem foodItem : customFoodItems) {
+                eventPublisher.publishEvent(new FoodCatalogChangeEvent(foodItem.getFoodItemId(), foodItem.getName()));
+            }
+        }
+        return resolved;
+    }
+
+    private FoodItem newCustomFoodItem(DietLogDTO request) {
+        FoodItem foodItem = new FoodItem();
+        foodItem.setUuid(UUID.randomUUID());
+        foodItem.setName(request.getFoodName());
+        foodItem.setServingSize(BigDecimal.valueOf(100));
+        foodItem.setCalories(BigDecimal.valueOf(request.getCalories()));
+        foodItem.setCarbs(BigDecimal.valueOf(request.getCarbs()));
+        foodItem.setProtein(BigDecimal.valueOf(request.getProtein()));
+        foodItem.setFat(BigDecimal.valueOf(request.getFat()));
+        foodItem.setCreatedAt(LocalDateTime.now());
+        return foodItem;
+    }
+
+    private MealLog toMealLog(DietLogDTO request, User user, FoodItem foodItem) {
         MealLog mealLog = new MealLog();
         mealLog.setUuid(UUID.randomUUID());
         mealLog.setUser(user);
@@ -189,7 +323,7 @@ public class DietService {
             try {
                 mealLog.setInputSource(InputSourceType.valueOf(request.getInputSource().toUpperCase()));
             } catch (IllegalArgumentException e) {
-                System.err.println("Invalid inputSource value received: " + request.getInputSource() + ", using default: TYPING");
+                log.warn("Invalid inputSource value received: {}, using default: TYPING", request.getInputSource());
                 mealLog.setInputSource(InputSourceType.TYPING);
             }
         } else {
@@ -207,7 +341,7 @@ public class DietService {
             try {
                 mealLog.setValidationStatus(ValidationStatusType.valueOf(request.getValidationStatus().toUpperCase()));
             } catch (IllegalArgumentException e) {
-                System.err.println("Invalid validationStatus value received: " + request.getValidationStatus() + ", using default: VALIDATED");
+                log.warn("Invalid validationStatus value received: {}, using default: VALIDATED", request.getValidationStatus());
                 mealLog.setValidationStatus(ValidationStatusType.VALIDATED);
             }
         } else {
@@ -218,42 +352,44 @@ public class DietService {
             mealLog.setValidationNotes(request.getValidationNotes());
         }
         // createdAt은 이미 위에서 설정
+        return mealLog;
+    }
 
-        MealLog savedMealLog = mealLogRepository.save(mealLog);
-        
+    /**
+     * 식단 기록 업적 진행도 갱신 (누적 상태 기준, 실패해도 기록 저장은 유지)
+     */
+    private void updateMealAchievements(Long userId) {
         // ✅ 업적 체크 및 업데이트
         try {
-            log.info("🟣 [DietService] 업적 업데이트 시작 - 사용자: {}", request.getUserId());
+            log.info("🟣 [DietService] 업적 업데이트 시작 - 사용자: {}", userId);
             
             // 사용자 업적 초기화 (없으면 생성)
-            achievementService.initializeUserAchievements(request.getUserId());
+            achievementService.initializeUserAchievements(userId);
             
-            // 첫 식단 기록 업적 업데이트
-            int totalMealRecords = getTotalMealRecords(request.getUserId());
+            // 첫 식단 기록 업적 업데이트 (누적 상태에서 조회)
+            AchievementState state = achievementProgressEngine.getState(userId);
+            int totalMealRecords = state.getMealRecords();
             log.info("🟣 [DietService] 총 식단 기록 수: {}", totalMealRecords);
-            achievementService.updateUserAchievementProgress(request.getUserId(), 
-                AchievementType.FIRST_MEAL.getTitle(), totalMealRecords);
+            Map<String, Integer> progress = new LinkedHashMap<>();
+            progress.put(AchievementType.FIRST_MEAL.getTitle(), totalMealRecords);
             
             // 연속 식단 기록 업적 업데이트 (설정 기반)
-            int consecutiveMealDays = getConsecutiveMealDays(request.getUserId());
+            int consecutiveMealDays = state.getMealStreakAsOf(LocalDate.now());
             log.info("🟣 [DietService] 연속 식단 기록 일수: {}", consecutiveMealDays);
-            achievementService.updateUserAchievementProgress(request.getUserId(), 
-                AchievementType.CONSECUTIVE_MEAL_7.getTitle(), consecutiveMealDays);
-            achievementService.updateUserAchievementProgress(request.getUserId(), 
-                AchievementType.CONSECUTIVE_MEAL_14.getTitle(), consecutiveMealDays);
-            achievementService.updateUserAchievementProgress(request.getUserId(), 
-                AchievementType.CONSECUTIVE_MEAL_30.getTitle(), consecutiveMealDays);
-            achievementService.updateUserAchievementProgress(request.getUserId(), 
-                AchievementType.CONSECUTIVE_MEAL_60.getTitle(), consecutiveMealDays);
+            progress.put(AchievementType.CONSECUTIVE_MEAL_7.getTitle(), consecutiveMealDays);
+            progress.put(AchievementType.CONSECUTIVE_MEAL_14.getTitle(), consecutiveMealDays);
+            progress.put(AchievementType.CONSECUTIVE_MEAL_30.getTitle(), consecutiveMealDays);
+            progress.put(AchievementType.CONSECUTIVE_MEAL_60.getTitle(), consecutiveMealDays);
+            
+            // 한 번의 조회/배치 저장으로 반영
+            achievementService.updateUserAchievementProgress(userId, progress);
             
-            log.info("✅ [DietService] 업적 업데이트 완료 - 사용자: {}", request.getUserId());
+            log.info("✅ [DietService] 업적 업데이트 완료 - 사용자: {}", userId);
             
         } catch (Exception e) {
             // 업적 업데이트 실패 시 로그만 남기고 계속 진행
-            log.error("❌ [DietService] 업적 업데이트 실패 - 사용자: {}, 오류: {}", request.getUserId(), e.getMessage(), e);
+            log.error("❌ [DietService] 업적 업데이트 실패 - 사용자: {}, 오류: {}", userId, e.getMessage(), e);
         }
-        
-        return convertToDietLogDTO(savedMealLog);
     }
 
     @Transactional
@@ -280,6 +416,7 @@ public class DietService {
             newFoodItem.setFat(BigDecimal.valueOf(request.getFat()));
 
             foodToLink = foodItemRepository.save(newFoodItem);
+            eventPublisher.publishEvent(new FoodCatalogChangeEvent(foodToLink.getFoodItemId(), foodToLink.getName()));
         }
         
         // MealLog가 최종 FoodItem을 가리키도록 설정하고 섭취량 업데이트
@@ -288,19 +425,27 @@ public class DietService {
         mealLog.setMealTime(convertMealTimeWithFallback(request.getMealTime()));
         
         MealLog updatedMealLog = mealLogRepository.save(mealLog);
+        eventPublisher.publishEvent(new ScoreChangeEvent(mealLog.getUser().getUserId(), ScoreChangeEvent.SOURCE_MEAL));
+        eventPublisher.publishEvent(new DailyActivityChangeEvent(mealLog.getUser().getUserId(), mealLog.getLogDate()));
         return convertToDietLogDTO(updatedMealLog);
     }
 
     @Transactional
     public void deleteDietRecord(Long id) {
-        mealLogRepository.deleteById(id);
+        mealLogRepository.findById(id).ifPresent(mealLog -> {
+            Long userId = mealLog.getUser().getUserId();
+            mealLogRepository.delete(mealLog);
+            eventPublisher.publishEvent(new ScoreChangeEvent(userId, ScoreChangeEvent.SOURCE_MEAL));
+            eventPublisher.publishEvent(new DailyActivityChangeEvent(userId, mealLog.getLogDate()));
+            achievementProgressEngine.onActivityChanged(userId);
+        });
     }
 
     /**
-     * 식품 검색
+     * 식품 검색 (검색 인덱스 순위 순, 최대 limit 개)
      */
-    public List<Map<String, Object>> searchFoodItems(String keyword) {
-        List<FoodItem> foodItems = foodItemRepository.findByNameContainingIgnoreCase(keyword);
+    public List<Map<String, Object>> searchFoodItems(String keyword, int limit) {
+        List<FoodItem> foodItems = foodSearchService.search(keyword, limit);
         
         return foodItems.stream()
             .map(this::convertFoodItemToMap)
@@ -372,6 +517,9 @@ public class DietService {
         }
         
         FoodItem updatedFoodItem = foodItemRepository.save(foodItem);
+        if (name != null) {
+            eventPublisher.publishEvent(new FoodCatalogChangeEvent(updatedFoodItem.getFoodItemId(), updatedFoodItem.getName()));
+        }
         
         // 응답 데이터 구성
         Map<String, Object> response = new HashMap<>();
@@ -396,6 +544,7 @@ public class DietService {
             throw new RuntimeException("Food item not found with id: " + id);
         }
         foodItemRepository.deleteById(id);
+        eventPublisher.publishEvent(new FoodCatalogChangeEvent(id, null));
     }
 
     private DietLogDTO convertToDietLogDTO(MealLog mealLog) {
@@ -485,76 +634,6 @@ public class DietService {
             return MealTimeType.snack;
         }
     }
-    
-    /**
-     * 총 식단 기록 수 계산
-     */
-    private int getTotalMealRecords(Long userId) {
-        User user = new User();
-        user.setUserId(userId);
-        List<MealLog> mealLogs = mealLogRepository.findByUserAndLogDateBetweenOrderByLogDateDesc(
-            user, LocalDate.now().minusDays(365), LocalDate.now());
-        
-        int totalRecords = mealLogs.size();
-        log.info("🟣 [DietService] 총 식단 기록 수 계산 - 사용자: {}, 총 기록 수: {}", userId, totalRecords);
-        return totalRecords;
-    }
-    
-    /**
-     * 연속 식단 기록 일수 계산
-     */
-    private int getConsecutiveMealDays(Long userId) {
-        User user = new User();
-        user.setUserId(userId);
-        List<MealLog> mealLogs = mealLogRepository.findByUserAndLogDateBetweenOrderByLogDateDesc(
-            user, LocalDate.now().minusDays(365), LocalDate.now());
-        
-        // 날짜별 내림차순 정렬 (최근 → 과거)
-        mealLogs.sort(java.util.Comparator.comparing(MealLog::getLogDate).reversed());
-        
-        if (mealLogs.isEmpty()) {
-            log.info("🟣 [DietService] 식단 기록 없음 - 사용자: {}", userId);
-            return 0;
-        }
-
-        int streak = 0;
-        LocalDate currentDate = LocalDate.now();
-        
-        // 오늘부터 역순으로 연속 식단 기록 일수 계산
-        for (int i = 0; i < mealLogs.size(); i++) {
-            MealLog mealLog = mealLogs.get(i);
-            LocalDate logDate = mealLog.getLogDate();
-            
-            // 현재 확인하려는 날짜와 로그 날짜가 일치하는지 확인
-            if (logDate.equals(currentDate)) {
-                streak++;
-                currentDate = currentDate.minusDays(1);
-                log.debug("🟣 [DietService] 연속 식단 기록 일수 증가 - 날짜: {}, 현재 연속: {}", logDate, streak);
-            } else if (logDate.isBefore(currentDate)) {
-                // 연속이 끊어짐 - 더 이상 확인할 필요 없음
-                log.debug("🟣 [DietService] 연속 식단 기록 끊어짐 - 날짜: {}, 현재 연속: {}", logDate, streak);
-                break;
-            }
-        }
-        
-        log.info("🟣 [DietService] 연속 식단 기록 일수 계산 완료 - 사용자: {}, 연속 일수: {}", userId, streak);
-        return streak;
-    }
-
-    @Transactional
-    public Long createCustomFoodItem(String name, Double calories, Double carbs, Double protein, Double fat) {
-        FoodItem foodItem = new FoodItem();
-        foodItem.setUuid(UUID.randomUUID());
-        foodItem.setName(name);
-        foodItem.setServingSize(BigDecimal.valueOf(100));
-        foodItem.setCalories(BigDecimal.valueOf(calories));
-        foodItem.setCarbs(BigDecimal.valueOf(carbs));
-        foodItem.setProtein(BigDecimal.valueOf(protein));
-        foodItem.setFat(BigDecimal.valueOf(fat));
-        foodItem.setCreatedAt(LocalDateTime.now());
-        FoodItem saved = foodItemRepository.save(foodItem);
-        return saved.getFoodItemId();
-    }
 
     @Transactional
     public Map<String, Object> updateFoodItem(Long id, Double calories, Double carbs, Double protein, Double fat) {
@@ -3,12 +3,18 @@ package com.lifebit.coreapi.service;
 import com.lifebit.coreapi.entity.ExerciseCatalog;
 import com.lifebit.coreapi.entity.ExerciseSession;
 import com.lifebit.coreapi.entity.User;
+import com.lifebit.coreapi.event.DailyActivityChangeEvent;
+import com.lifebit.coreapi.event.ExerciseCatalogChangeEvent;
+import com.lifebit.coreapi.event.ScoreChangeEvent;
 import com.lifebit.coreapi.repository.ExerciseCatalogRepository;
 import com.lifebit.coreapi.repository.ExerciseSessionRepository;
 import com.lifebit.coreapi.repository.UserRepository;
+import com.lifebit.coreapi.service.achievement.AchievementProgressEngine;
+import com.lifebit.coreapi.service.exercise.ExerciseCatalogRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,12 +38,15 @@ public class ExerciseService {
     private final ExerciseSessionRepository exerciseSessionRepository;
     private final ExerciseCatalogRepository exerciseCatalogRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AchievementProgressEngine achievementProgressEngine;
+    private final ExerciseCatalogRegistry exerciseCatalogRegistry;
 
     @Transactional
     public ExerciseSession recordExercise(
             Long userId, Long catalogId, Integer duration_minutes, Integer caloriesBurned, String notes,
             Integer sets, Integer reps, Double weight, LocalDate exerciseDate, TimePeriodType timePeriod) {
-        ExerciseCatalog catalog = exerciseCatalogRepository.findById(catalogId)
+        ExerciseCatalog catalog = exerciseCatalogRegistry.findById(catalogId)
                 .orElseThrow(() -> new EntityNotFoundException("Exercise catalog not found"));
 
         ExerciseSession session = new ExerciseSession();
@@ -57,7 +66,13 @@ public class ExerciseService {
         session.setWeight(weight != null ? BigDecimal.valueOf(weight) : null);
         session.setTimePeriod(timePeriod);
 
-        return exerciseSessionRepository.save(session);
+        // 업적 상태 재구성이 JDBC 로 exercise_sessions 를 읽으므로 바로 flush
+        ExerciseSession saved = exerciseSessionRepository.saveAndFlush(session);
+        eventPublisher.publishEvent(new ScoreChangeEvent(userId, ScoreChangeEvent.SOURCE_EXERCISE));
+        eventPublisher.publishEvent(new DailyActivityChangeEvent(userId, saved.getExerciseDate()));
+        achievementProgressEngine.onExerciseRecorded(userId, saved.getExerciseDate(), timePeriod, caloriesBurned, duration_minutes,
+                saved.getValidationStatus());
+        return saved;
     }
 
     public List<ExerciseSession> getExerciseHistory(User user, LocalDate startDate, LocalDate endDate) {
@@ -66,15 +81,15 @@ public class ExerciseService {
     }
 
     public List<ExerciseCatalog> searchExercises(String keyword) {
-        return exerciseCatalogRepository.findByNameContainingIgnoreCase(keyword);
+        return exerciseCatalogRegistry.search(keyword);
     }
 
     public List<ExerciseCatalog> getExercisesByBodyPart(String bodyPart) {
         // String을 BodyPartType으로 변환
         try {
             com.lifebit.coreapi.entity.BodyPartType bodyPartType = com.lifebit.coreapi.entity.BodyPartType
-                    .valueOf(bodyPart.toUpperCase());
-            return exerciseCatalogRepository.findByBodyPart(bodyPartType);
+                    .valueOf(bodyPart.toLowerCase());
+            return exerciseCatalogRegistry.findByBodyPart(bodyPartType);
         } catch (IllegalArgumentException e) {
             // 잘못된 bodyPart 값인 경우 빈 리스트 반환
             return List.of();
@@ -190,15 +205,18 @@ public class ExerciseService {
      */
     public int getCurrentStreak(Long userId) {
         List<ExerciseSession> sessions = getRecentExerciseSessions(userId, 365); // 최근 1년
-        if (sessions.isEmpty()) {
-            return 0;
-        }
+        return calculateStreak(sessions, LocalDate.now());
+    }
 
+    /**
+     * 날짜 내림차순 운동 세션 목록에서 today부터 이어지는 연속 운동 일수 계산
+     */
+    public static int calculateStreak(List<ExerciseSession> sessionsByDateDesc, LocalDate today) {
         int streak = 0;
-        LocalDate currentDate = LocalDate.now();
+        LocalDate currentDate = today;
 
         // 오늘부터 역순으로 연속 운동 일수 계산
-        for (ExerciseSession session : sessions) {
+        for (ExerciseSession session : sessionsByDateDesc) {
             if (session.getExerciseDate().equals(currentDate)) {
                 streak++;
                 currentDate = currentDate.minusDays(1);
@@ -239,11 +257,9 @@ public class ExerciseService {
         };
         com.lifebit.coreapi.entity.BodyPartType bodyPartType = com.lifebit.coreapi.entity.BodyPartType.valueOf(bodyPartEnum);
         // 기존 운동 검색 (이름+부위)
-        List<ExerciseCatalog> existingExercises = exerciseCatalogRepository.findByNameContainingIgnoreCase(name);
-        for (ExerciseCatalog exercise : existingExercises) {
-            if (exercise.getName().equalsIgnoreCase(name) && exercise.getBodyPart() == bodyPartType) {
-                return exercise;
-            }
+        Optional<ExerciseCatalog> existingExercise = exerciseCatalogRegistry.findByNameIgnoreCaseAndBodyPart(name, bodyPartType);
+        if (existingExercise.isPresent()) {
+            return existingExercise.get();
         }
         // 새 카탈로그 생성
         ExerciseCatalog newExercise = new ExerciseCatalog();
@@ -252,7 +268,9 @@ public class ExerciseService {
         newExercise.setBodyPart(bodyPartType);
         newExercise.setDescription(description);
         newExercise.setCreatedAt(LocalDateTime.now());
-        return exerciseCatalogRepository.save(newExercise);
+        ExerciseCatalog saved = exerciseCatalogRepository.save(newExercise);
+        eventPublisher.publishEvent(new ExerciseCatalogChangeEvent(saved.getExerciseCatalogId()));
+        return saved;
     }
 
     /**
@@ -266,7 +284,7 @@ public class ExerciseService {
      * ID로 운동 카탈로그 조회
      */
     public ExerciseCatalog getExerciseCatalogById(Long catalogId) {
-        return exerciseCatalogRepository.findById(catalogId)
+        return exerciseCatalogRegistry.findById(catalogId)
             .orElseThrow(() -> new IllegalArgumentException("운동 카탈로그를 찾을 수 없습니다 - catalogId: " + catalogId));
     }
 
@@ -275,7 +293,7 @@ public class ExerciseService {
      */
     @Transactional
     public ExerciseSession setExerciseCatalog(ExerciseSession session, Long catalogId) {
-        ExerciseCatalog catalog = exerciseCatalogRepository.findById(catalogId)
+        ExerciseCatalog catalog = exerciseCatalogRegistry.findById(catalogId)
                 .orElseThrow(() -> new RuntimeException("운동 종류를 찾을 수 없습니다."));
         session.setExerciseCatalog(catalog);
         return session;
@@ -289,6 +307,7 @@ public class ExerciseService {
         // 💥 기존 세션은 detached 상태일 수 있으므로, merge 전에 다시 참조 획득
         ExerciseSession managedSession = exerciseSessionRepository.findById(exerciseSession.getExerciseSessionId())
                 .orElseThrow(() -> new RuntimeException("운동 세션을 찾을 수 없습니다."));
+        LocalDate previousDate = managedSession.getExerciseDate();
 
         // 필드 복사
         managedSession.setDurationMinutes(exerciseSession.getDurationMinutes());
@@ -302,7 +321,7 @@ public class ExerciseService {
 
         // ✅ 연관관계도 확인
         if (exerciseSession.getExerciseCatalog() != null) {
-            ExerciseCatalog catalog = exerciseCatalogRepository.findById(
+            ExerciseCatalog catalog = exerciseCatalogRegistry.findById(
                     exerciseSession.getExerciseCatalog().getExerciseCatalogId())
                     .orElseThrow(() -> new RuntimeException("운동 카탈로그를 찾을 수 없습니다."));
             managedSession.setExerciseCatalog(catalog);
@@ -312,6 +331,10 @@ public class ExerciseService {
         managedSession.getExerciseCatalog().getName();
         managedSession.getUser().getUserId();
 
+        eventPublisher.publishEvent(new ScoreChangeEvent(managedSession.getUser().getUserId(), ScoreChangeEvent.SOURCE_EXERCISE));
+        eventPublisher.publishEvent(new DailyActivityChangeEvent(managedSession.getUser().getUserId(),
+                previousDate, managedSession.getExerciseDate()));
+        achievementProgressEngine.onActivityChanged(managedSession.getUser().getUserId());
         return managedSession;
     }
 
@@ -320,17 +343,20 @@ public class ExerciseService {
      */
     @Transactional
     public void deleteExerciseSession(Long sessionId) {
-        if (!exerciseSessionRepository.existsById(sessionId)) {
-            throw new RuntimeException("운동 세션을 찾을 수 없습니다: " + sessionId);
-        }
-        exerciseSessionRepository.deleteById(sessionId);
+        ExerciseSession session = exerciseSessionRepository.findById(sessionId)
+                .orElseThrow(() -> new RuntimeException("운동 세션을 찾을 수 없습니다: " + sessionId));
+        Long userId = session.getUser().getUserId();
+        exerciseSessionRepository.delete(session);
+        eventPublisher.publishEvent(new ScoreChangeEvent(userId, ScoreChangeEvent.SOURCE_EXERCISE));
+        eventPublisher.publishEvent(new DailyActivityChangeEvent(userId, session.getExerciseDate()));
+        achievementProgressEngine.onActivityChanged(userId);
     }
 
     /**
      * 모든 운동 카탈로그 조회
      */
     public List<ExerciseCatalog> getAllExerciseCatalog() {
-        return exerciseCatalogRepository.findAll();
+        return exerciseCatalogRegistry.getAll();
     }
 
     /**
@@ -388,23 +414,7 @@ public class ExerciseService {
         
         log.info("📊 [getWeeklyBodyPartCounts] 조회된 운동 세션 수: {}", sessions.size());
         
-        Map<String, Integer> bodyPartCounts = new HashMap<>();
-        bodyPartCounts.put("CHEST", 0);
-        bodyPartCounts.put("BACK", 0);
-        bodyPartCounts.put("LEGS", 0);
-        bodyPartCounts.put("SHOULDERS", 0);
-        bodyPartCounts.put("ARMS", 0);
-        bodyPartCounts.put("ABS", 0);
-        bodyPartCounts.put("CARDIO", 0);
-        for (ExerciseSession session : sessions) {
-            String bodyPart = null;
-            if (session.getExerciseCatalog() != null && session.getExerciseCatalog().getBodyPart() != null) {
-                bodyPart = session.getExerciseCatalog().getBodyPart().name().toUpperCase();
-            }
-            if (bodyPart != null) {
-                bodyPartCounts.put(bodyPart, bodyPartCounts.getOrDefault(bodyPart, 0) + 1); // 횟수로 카운트
-            }
-        }
+        Map<String, Integer> bodyPartCounts = countByBodyPart(sessions);
         
         log.info("✅ [getWeeklyBodyPartCounts] 결과: {}", bodyPartCounts);
         return bodyPartCounts;
@@ -474,19 +484,30 @@ public class ExerciseService {
         User user = userRepository.getReferenceById(userId);
         List<ExerciseSession> sessions = exerciseSessionRepository.findByUserAndExerciseDateBetweenOrderByExerciseDateDesc(
                 user, startDate, endDate);
-        Map<String, Integer> bodyPartMinutes = new HashMap<>();
-        bodyPartMinutes.put("CHEST", 0);
-        bodyPartMinutes.put("BACK", 0);
-        bodyPartMinutes.put("LEGS", 0);
-        bodyPartMinutes.put("SHOULDERS", 0);
-        bodyPartMinutes.put("ARMS", 0);
-        bodyPartMinutes.put("ABS", 0);
-        bodyPartMinutes.put("CARDIO", 0);
+        return sumMinutesByBodyPart(sessions);
+    }
+
+    /**
+     * 운동 부위별 세션 수 (7개 부위는 0으로 초기화)
+     */
+    public static Map<String, Integer> countByBodyPart(List<ExerciseSession> sessions) {
+        Map<String, Integer> bodyPartCounts = createBodyPartMap();
         for (ExerciseSession session : sessions) {
-            String bodyPart = null;
-            if (session.getExerciseCatalog() != null && session.getExerciseCatalog().getBodyPart() != null) {
-                bodyPart = session.getExerciseCatalog().getBodyPart().name().toUpperCase();
+            String bodyPart = getBodyPartName(session);
+            if (bodyPart != null) {
+                bodyPartCounts.put(bodyPart, bodyPartCounts.getOrDefault(bodyPart, 0) + 1); // 횟수로 카운트
             }
+        }
+        return bodyPartCounts;
+    }
+
+    /**
+     * 운동 부위별 운동 시간(분) 합계 (7개 부위는 0으로 초기화)
+     */
+    public static Map<String, Integer> sumMinutesByBodyPart(List<ExerciseSession> sessions) {
+        Map<String, Integer> bodyPartMinutes = createBodyPartMap();
+        for (ExerciseSession session : sessions) {
+            String bodyPart = getBodyPartName(session);
             if (bodyPart != null) {
                 int duration = session.getDurationMinutes() != null ? session.getDurationMinutes() : 0;
                 bodyPartMinutes.put(bodyPart, bodyPartMinutes.getOrDefault(bodyPart, 0) + duration);
@@ -495,6 +516,25 @@ public class ExerciseService {
         return bodyPartMinutes;
     }
 
+    private static Map<String, Integer> createBodyPartMap() {
+        Map<String, Integer> bodyPartMap = new HashMap<>();
+        bodyPartMap.put("CHEST", 0);
+        bodyPartMap.put("BACK", 0);
+        bodyPartMap.put("LEGS", 0);
+        bodyPartMap.put("SHOULDERS", 0);
+        bodyPartMap.put("ARMS", 0);
+        bodyPartMap.put("ABS", 0);
+        bodyPartMap.put("CARDIO", 0);
+        return bodyPartMap;
+    }
+
+    private static String getBodyPartName(ExerciseSession session) {
+        if (session.getExerciseCatalog() != null && session.getExerciseCatalog().getBodyPart() != null) {
+            return session.getExerciseCatalog().getBodyPart().name().toUpperCase();
+        }
+        return null;
+    }
+
     /**
      * 주간 총 운동 세트 수 계산 (weekly_workout_target 비교용, 일요일~토요일 기준)
      */
@@ -569,7 +609,7 @@ public class ExerciseService {
 
     // 관리자 페이지에서 운동 카탈로그 조회
     public List<ExerciseCatalog> getAllCatalogs() {
-        return exerciseCatalogRepository.findAllOrderByCreatedAtDesc();
+        return exerciseCatalogRegistry.getAllOrderByCreatedAtDesc();
     }
     
     // 관리자용: 운동 카탈로그 생성
@@ -577,7 +617,9 @@ public class ExerciseService {
     public ExerciseCatalog createExerciseCatalog(ExerciseCatalog exerciseCatalog) {
         exerciseCatalog.setUuid(UUID.randomUUID());
         exerciseCatalog.setCreatedAt(LocalDateTime.now());
-        return exerciseCatalogRepository.save(exerciseCatalog);
+        ExerciseCatalog saved = exerciseCatalogRepository.save(exerciseCatalog);
+        eventPublisher.publishEvent(new ExerciseCatalogChangeEvent(saved.getExerciseCatalogId()));
+        return saved;
     }
     
     // 관리자용: 운동 카탈로그 수정
@@ -595,7 +637,7 @@ public class ExerciseService {
         if (request.containsKey("name")) {
             String newName = (String) request.get("name");
             if (!newName.equals(catalog.getName())) {
-                Optional<ExerciseCatalog> existing = exerciseCatalogRepository.findByName(newName);
+                Optional<ExerciseCatalog> existing = exerciseCatalogRegistry.findByName(newName);
                 if (existing.isPresent() && !existing.get().getExerciseCatalogId().equals(id)) {
                     throw new RuntimeException("이미 존재하는 운동명입니다: " + newName);
                 }
@@ -654,6 +696,7 @@ public class ExerciseService {
             catalog.getBodyPart(), catalog.getExerciseType(), catalog.getIntensity());
 
         ExerciseCatalog savedCatalog = exerciseCatalogRepository.save(catalog);
+        eventPublisher.publishEvent(new ExerciseCatalogChangeEvent(savedCatalog.getExerciseCatalogId()));
         
         log.info("✅ [ExerciseService] 운동 카탈로그 수정 완료 - ID: {}, 이름: {}, 부위: {}, 타입: {}, 강도: {}", 
             savedCatalog.getExerciseCatalogId(), savedCatalog.getName(), 
@@ -700,11 +743,12 @@ public class ExerciseService {
             throw new RuntimeException("운동을 찾을 수 없습니다: " + id);
         }
         exerciseCatalogRepository.deleteById(id);
+        eventPublisher.publishEvent(new ExerciseCatalogChangeEvent(id));
     }
     
     // 강도 미설정 운동만 조회
     public List<ExerciseCatalog> getUncategorizedExercises() {
-        return exerciseCatalogRepository.findByIntensityIsNull();
+        return exerciseCatalogRegistry.findByIntensity(null);
     }
 
     // ==================================================================================
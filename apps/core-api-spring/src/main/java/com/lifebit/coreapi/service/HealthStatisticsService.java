@@ -2,6 +2,8 @@ package com.lifebit.coreapi.service;
 
 import com.lifebit.coreapi.entity.*;
 import com.lifebit.coreapi.repository.*;
+import com.lifebit.coreapi.repository.activity.DailyActivityRollupRepository.DailyActivity;
+import com.lifebit.coreapi.service.activity.DailyActivityRollupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -11,6 +13,7 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -28,16 +31,25 @@ import java.util.stream.Collectors;
 @Slf4j
 public class HealthStatisticsService {
 
+    private static final int STREAK_LOOKBACK_DAYS = 365;       // 연속 운동 일수 계산 기간
+    private static final int HEALTH_RECORD_COMPARE_DAYS = 30;  // 체중/BMI 변화 비교 기간
+
     private final HealthRecordService healthRecordService;
     private final ExerciseService exerciseService;
     private final MealService mealService;
     private final UserGoalService userGoalService;
     private final UserService userService;
     private final MealLogRepository mealLogRepository;
+    private final ExerciseSessionRepository exerciseSessionRepository;
     private final UserRepository userRepository;
+    private final DailyActivityRollupService dailyActivityRollupService;
 
     /**
      * 사용자의 종합 건강 통계 조회
+     * 운동 세션/오늘 식단/건강 기록/일별 활동 집계를 각각 필요한 가장 넓은 기간으로 한 번씩만 조회한 뒤
+     * 모든 섹션을 메모리에서 계산한다. (사용자/목표 정보는 캐시 사용)
+     * 모든 조회는 클래스의 읽기 전용 트랜잭션 안에서 같은 스레드로 실행하며,
+     * 조회나 계산에 실패한 섹션만 기본값으로 채운다.
      * 
      * @param userId 사용자 ID
      * @param period 조회 기간 (day, week, month, year)
@@ -60,24 +72,51 @@ public class HealthStatisticsService {
             // BMI 계산
             BigDecimal currentBMI = calculateBMI(currentWeight, currentHeight);
             
+            // 원본 데이터 조회(최대 4개 쿼리)는 모두 이 읽기 전용 트랜잭션 안에서 순서대로 실행
+            // 조회나 계산에 실패한 섹션만 기본값으로 대체된다
+            StatisticsData data = new StatisticsData(LocalDate.now());
+            boolean exerciseLoaded = load("운동 세션", userId, () -> loadExerciseSessions(userId, period, data));
+            boolean mealLoaded = load("오늘 식단", userId, () -> loadTodayMealLogs(userId, data));
+            boolean healthRecordLoaded = load("건강 기록", userId, () -> loadHealthRecords(userId, period, data));
+            boolean dailyActivityLoaded = load("일별 활동 집계", userId, () -> loadDailyActivities(userId, period, data));
+            
             // 운동 관련 통계
-            Map<String, Object> exerciseStats = getExerciseStatistics(userId, period);
+            Map<String, Object> exerciseStats = withFallback("운동 통계", userId, exerciseLoaded,
+                    () -> buildExerciseStatistics(userId, period, userGoal, data),
+                    () -> createExerciseFallbackStatistics(period));
+            
+            // 주간 총 운동 횟수 / 부위별 운동 횟수
+            Map<String, Object> weeklyWorkoutStats = withFallback("주간 운동 횟수", userId, exerciseLoaded,
+                    () -> buildWeeklyWorkoutCounts(data),
+                    () -> createWeeklyWorkoutCountsFallback());
             
             // 건강 기록 관련 통계
-            Map<String, Object> healthRecordStats = getHealthRecordStatistics(userId, period);
+            Map<String, Object> healthRecordStats = withFallback("건강 기록 통계", userId, healthRecordLoaded,
+                    () -> buildHealthRecordStatistics(data),
+                    () -> createHealthRecordFallbackStatistics());
             
             // 식단 관련 통계
-            Map<String, Object> mealStats = getMealStatistics(userId, period);
-            
-            // ✨ 차트용 시계열 데이터 추가
-            Map<String, Object> chartData = getChartTimeSeriesData(userId, period);
-            log.info("🔍 차트 데이터 생성 완료 - 사용자: {}, 기간: {}, 항목: {}", userId, period, chartData.keySet());
-            
-            // 🏋️ 운동 부위별 빈도 데이터 추가
-            Map<String, Object> bodyPartStats = getBodyPartFrequencyData(userId, period);
-            
-            // 🍽️ 실제 식단 기록 기반 영양소 통계 계산
-            Map<String, Object> realMealNutritionStats = getRealMealNutritionStatistics(userId, period);
+            Map<String, Object> mealStats = withFallback("식단 통계", userId, mealLoaded,
+                    () -> buildMealStatistics(userId, data),
+                    () -> createMealFallbackStatistics());
+            
+            // ✨ 차트용 시계열 데이터 (건강 기록 / 운동 각각 독립 섹션)
+            Map<String, Object> healthChartData = withFallback("건강 기록 차트", userId, healthRecordLoaded,
+                    () -> Map.of("healthChartData", createHealthChartData(userId, period, data.healthRecords)),
+                    () -> Map.of("healthChartData", List.of()));
+            Map<String, Object> exerciseChartData = withFallback("운동 차트", userId, dailyActivityLoaded,
+                    () -> Map.of("exerciseChartData", createExerciseChartData(userId, period, data.chartActivities)),
+                    () -> Map.of("exerciseChartData", List.of()));
+            
+            // 🏋️ 운동 부위별 빈도 데이터
+            Map<String, Object> bodyPartStats = withFallback("운동 부위별 빈도", userId, dailyActivityLoaded,
+                    () -> buildBodyPartFrequencyData(userId, period, data),
+                    () -> createBodyPartFrequencyFallback());
+            
+            // 🍽️ 실제 식단 기록 기반 영양소 통계
+            Map<String, Object> realMealNutritionStats = withFallback("영양소 통계", userId, mealLoaded,
+                    () -> buildRealMealNutritionStatistics(userId, data.today, data.todayMealLogs),
+                    () -> createMealNutritionFallback(userId));
             
             // 종합 통계 구성
             Map<String, Object> statistics = new HashMap<>();
@@ -94,13 +133,12 @@ public class HealthStatisticsService {
             // 운동 통계 추가
             statistics.putAll(exerciseStats);
             
-            // 식단 통계 추가 (선택적)
-            if (mealStats != null && !mealStats.isEmpty()) {
-                statistics.putAll(mealStats);
-            }
+            // 식단 통계 추가
+            statistics.putAll(mealStats);
             
             // ✨ 차트 데이터 추가
-            statistics.putAll(chartData);
+            statistics.putAll(healthChartData);
+            statistics.putAll(exerciseChartData);
             log.info("🔍 차트 데이터 포함 후 - 사용자: {}, 전체 키: {}", userId, statistics.keySet());
             
             // 🏋️ 운동 부위별 통계 추가
@@ -115,18 +153,8 @@ public class HealthStatisticsService {
             statistics.put("dailyProteinTarget", userGoal.getDailyProteinTarget());
             statistics.put("dailyFatTarget", userGoal.getDailyFatTarget());
             
-            // 주간 총 운동 횟수 (weekly_workout_target 비교용)
-            statistics.put("weeklyTotalWorkouts", exerciseService.getWeeklyExerciseCount(userId));
-            
-            // 주간 부위별 운동 횟수
-            Map<String, Integer> bodyPartCounts = exerciseService.getWeeklyBodyPartCounts(userId);
-            statistics.put("weeklyChest", bodyPartCounts.get("CHEST"));
-            statistics.put("weeklyBack", bodyPartCounts.get("BACK"));
-            statistics.put("weeklyLegs", bodyPartCounts.get("LEGS"));
-            statistics.put("weeklyShoulders", bodyPartCounts.get("SHOULDERS"));
-            statistics.put("weeklyArms", bodyPartCounts.get("ARMS"));
-            statistics.put("weeklyAbs", bodyPartCounts.get("ABS"));
-            statistics.put("weeklyCardio", bodyPartCounts.get("CARDIO"));
+            // 주간 총 운동 횟수 (weekly_workout_target 비교용) 및 주간 부위별 운동 횟수
+            statistics.putAll(weeklyWorkoutStats);
             
             log.info("건강 통계 조회 완료 - 사용자: {}, 데이터 항목: {}", userId, statistics.size());
             
@@ -138,10 +166,165 @@ public class HealthStatisticsService {
         }
     }
 
+    /**
+     * 통계 계산용 원본 데이터
+     * 각 테이블을 가장 넓은 기간으로 한 번만 조회하고, 운동 세션은 조회 시 한 번의 순회로 섹션별 기간에 나누어 담는다.
+     * 차트 기간의 일별 운동 합계는 세션 대신 일별 활동 집계(user_daily_activity)에서 읽는다.
+     */
+    private static final class StatisticsData {
+        private final LocalDate today;
+        private final List<ExerciseSession> periodSessions = new ArrayList<>(); // 최근 N일 (getPeriodDays)
+        private final List<ExerciseSession> streakSessions = new ArrayList<>(); // 최근 365일 (연속 운동 일수)
+        private final List<ExerciseSession> weekSessions = new ArrayList<>();   // 이번 주 일요일~토요일
+        private final List<DailyActivity> chartActivities = new ArrayList<>();  // 차트 기간 일별 집계
+        private final List<DailyActivity> weekActivities = new ArrayList<>();   // 이번 주 일별 집계
+        private final List<HealthRecord> recentHealthRecords = new ArrayList<>(); // 오늘 기준 ±30일
+        private int totalWorkoutDays;
+        private List<MealLog> todayMealLogs = List.of();
+        private List<HealthRecord> healthRecords = List.of(); // 차트 기간
+
+        private StatisticsData(LocalDate today) {
+            this.today = today;
+        }
+    }
+
+    /**
+     * 운동 세션 - 기간 통계/연속 운동 일수/이번 주 범위로 한 번 조회 (전체 운동 일수는 스칼라 서브쿼리로 함께 조회)
+     */
+    private void loadExerciseSessions(Long userId, String period, StatisticsData data) {
+        LocalDate today = data.today;
+        LocalDate periodStart = today.minusDays(getPeriodDays(period));
+        LocalDate streakStart = today.minusDays(STREAK_LOOKBACK_DAYS);
+        LocalDate weekStart = getWeekStart(today);
+        LocalDate weekEnd = weekStart.plusDays(6);
+
+        LocalDate sessionStart = today.minusDays(Math.max(STREAK_LOOKBACK_DAYS, getPeriodDays(period)));
+        LocalDate sessionEnd = weekEnd;
+        List<Object[]> rows = exerciseSessionRepository.findWithCatalogAndTotalWorkoutDays(userId, sessionStart, sessionEnd);
+        for (Object[] row : rows) {
+            ExerciseSession session = (ExerciseSession) row[0];
+            data.totalWorkoutDays = ((Number) row[1]).intValue();
+            LocalDate date = session.getExerciseDate();
+            if (isBetween(date, periodStart, today)) {
+                data.periodSessions.add(session);
+            }
+            if (isBetween(date, streakStart, today)) {
+                data.streakSessions.add(session);
+            }
+            if (isBetween(date, weekStart, weekEnd)) {
+                data.weekSessions.add(session);
+            }
+        }
+        if (rows.isEmpty()) {
+            // 조회 기간에 운동이 없으면 그 이전 기록만 따로 센다
+            data.totalWorkoutDays = exerciseService.getTotalWorkoutDays(userId);
+        }
+        log.debug("📊 운동 세션 조회 완료 - 사용자: {}, {}건", userId, rows.size());
+    }
+
+    /**
+     * 일별 활동 집계 - 차트 기간과 이번 주를 포함하는 범위로 한 번 조회
+     */
+    private void loadDailyActivities(Long userId, String period, StatisticsData data) {
+        LocalDate chartStart = data.today.minusDays(getChartLookbackDays(period));
+        LocalDate chartEnd = getChartEndDate(data.today, period);
+        LocalDate weekStart = getWeekStart(data.today);
+        LocalDate weekEnd = weekStart.plusDays(6);
+
+        LocalDate start = chartStart.isBefore(weekStart) ? chartStart : weekStart;
+        LocalDate end = chartEnd.isAfter(weekEnd) ? chartEnd : weekEnd;
+        List<DailyActivity> activities = dailyActivityRollupService.getDailyActivities(userId, start, end);
+        for (DailyActivity activity : activities) {
+            if (isBetween(activity.getActivityDate(), chartStart, chartEnd)) {
+                data.chartActivities.add(activity);
+            }
+            if (isBetween(activity.getActivityDate(), weekStart, weekEnd)) {
+                data.weekActivities.add(activity);
+            }
+        }
+        log.debug("📊 일별 활동 집계 조회 완료 - 사용자: {}, {}일", userId, activities.size());
+    }
+
+    /**
+     * 오늘 식단 기록 (음식 정보 함께 조회)
+     */
+    private void loadTodayMealLogs(Long userId, StatisticsData data) {
+        data.todayMealLogs = mealLogRepository.findWithFoodItemByUserIdAndLogDate(userId, data.today);
+        log.debug("📊 오늘 식단 기록 조회 완료 - 사용자: {}, {}건", userId, data.todayMealLogs.size());
+    }
+
+    /**
+     * 건강 기록 - 차트 기간(±chartDays)이 비교용 ±30일을 포함
+     */
+    private void loadHealthRecords(Long userId, String period, StatisticsData data) {
+        data.healthRecords = healthRecordService.getRecentHealthRecords(userId, getChartLookbackDays(period));
+        LocalDate recentStart = data.today.minusDays(HEALTH_RECORD_COMPARE_DAYS);
+        LocalDate recentEnd = data.today.plusDays(HEALTH_RECORD_COMPARE_DAYS);
+        for (HealthRecord record : data.healthRecords) {
+            if (isBetween(record.getRecordDate(), recentStart, recentEnd)) {
+                data.recentHealthRecords.add(record);
+            }
+        }
+        log.debug("📊 건강 기록 조회 완료 - 사용자: {}, {}건", userId, data.healthRecords.size());
+    }
+
+    /**
+     * 원본 데이터 조회 (실패하면 로그만 남기고 false 반환)
+     */
+    private boolean load(String source, Long userId, Runnable loader) {
+        try {
+            loader.run();
+            return true;
+        } catch (Exception e) {
+            log.warn("{} 조회 실패, 관련 섹션은 기본값 사용 - 사용자: {}, 오류: {}", source, userId, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 섹션 계산에 기본값 적용 (원본 조회 또는 계산에 실패하면 해당 섹션만 기본값으로 대체)
+     */
+    private <T> T withFallback(String section, Long userId, boolean loaded, Supplier<T> builder, Supplier<T> fallback) {
+        if (!loaded) {
+            return fallback.get();
+        }
+        try {
+            return builder.get();
+        } catch (Exception e) {
+            log.warn("{} 섹션 계산 실패, 기본값 사용 - 사용자: {}, 오류: {}", section, userId, e.getMessage());
+            return fallback.get();
+        }
+    }
+
+    private static boolean isBetween(LocalDate date, LocalDate startDate, LocalDate endDate) {
+        return date != null && !date.isBefore(startDate) && !date.isAfter(endDate);
+    }
+
+    /**
+     * 이번 주 일요일 (ExerciseService의 주간 통계와 동일한 기준)
+     */
+    private static LocalDate getWeekStart(LocalDate today) {
+        int dayOfWeek = today.getDayOfWeek().getValue(); // 1=월요일, 7=일요일
+        int daysFromSunday = (dayOfWeek == 7) ? 0 : dayOfWeek;
+        return today.minusDays(daysFromSunday);
+    }
+
     /**
      * 운동 관련 통계 조회
      */
     public Map<String, Object> getExerciseStatistics(Long userId, String period) {
+        try {
+            UserGoal userGoal = userGoalService.getUserGoalOrDefault(userId);
+            StatisticsData data = new StatisticsData(LocalDate.now());
+            loadExerciseSessions(userId, period, data);
+            return buildExerciseStatistics(userId, period, userGoal, data);
+        } catch (Exception e) {
+            log.warn("운동 통계 조회 실패, 기본값 사용: {}", e.getMessage());
+            return createExerciseFallbackStatistics(period);
+        }
+    }
+
+    private Map<String, Object> buildExerciseStatistics(Long userId, String period, UserGoal userGoal, StatisticsData data) {
         Map<String, Object> stats = new HashMap<>();
         
         try {
@@ -149,23 +332,26 @@ public class HealthStatisticsService {
             int days = getPeriodDays(period);
             
             // 설정된 기간 동안의 운동 횟수
-            int periodWorkouts = exerciseService.getExerciseCountByPeriod(userId, days);
+            int periodWorkouts = data.periodSessions.size();
             
             // 설정된 기간 동안의 총 운동 시간 (분)
-            int periodExerciseMinutes = exerciseService.getExerciseMinutesByPeriod(userId, days);
+            int periodExerciseMinutes = data.periodSessions.stream()
+                    .mapToInt(session -> session.getDurationMinutes() != null ? session.getDurationMinutes() : 0)
+                    .sum();
             
             // 설정된 기간 동안의 총 칼로리 소모량
-            int totalCaloriesBurned = exerciseService.getCaloriesBurnedByPeriod(userId, days);
+            int totalCaloriesBurned = data.periodSessions.stream()
+                    .mapToInt(session -> session.getCaloriesBurned() != null ? session.getCaloriesBurned() : 0)
+                    .sum();
             int averageDailyCalories = days > 0 ? totalCaloriesBurned / days : 0;
             
-            // 연속 운동 일수 (period 무관하게 전체 기간)
-            int streak = exerciseService.getCurrentStreak(userId);
+            // 연속 운동 일수 (period 무관하게 최근 1년)
+            int streak = ExerciseService.calculateStreak(data.streakSessions, data.today);
             
             // 총 운동 일수 (period 무관하게 전체 기간)
-            int totalWorkoutDays = exerciseService.getTotalWorkoutDays(userId);
+            int totalWorkoutDays = data.totalWorkoutDays;
             
             // 목표 달성률 계산
-            UserGoal userGoal = userGoalService.getUserGoalOrDefault(userId);
             int workoutGoal = userGoal.getWeeklyWorkoutTarget();
             
             // period에 따른 목표 조정
@@ -188,22 +374,24 @@ public class HealthStatisticsService {
             
             // 주간 운동 부위별 운동 횟수 추가 (주간 기준으로만 제공)
             if ("week".equalsIgnoreCase(period)) {
-                stats.put("weeklyChestCount", exerciseService.getWeeklyChestCount(userId));
-                stats.put("weeklyBackCount", exerciseService.getWeeklyBackCount(userId));
-                stats.put("weeklyLegsCount", exerciseService.getWeeklyLegsCount(userId));
-                stats.put("weeklyShouldersCount", exerciseService.getWeeklyShouldersCount(userId));
-                stats.put("weeklyArmsCount", exerciseService.getWeeklyArmsCount(userId));
-                stats.put("weeklyAbsCount", exerciseService.getWeeklyAbsCount(userId));
-                stats.put("weeklyCardioCount", exerciseService.getWeeklyCardioCount(userId));
+                Map<String, Integer> weeklyCounts = ExerciseService.countByBodyPart(data.weekSessions);
+                stats.put("weeklyChestCount", weeklyCounts.getOrDefault("CHEST", 0));
+                stats.put("weeklyBackCount", weeklyCounts.getOrDefault("BACK", 0));
+                stats.put("weeklyLegsCount", weeklyCounts.getOrDefault("LEGS", 0));
+                stats.put("weeklyShouldersCount", weeklyCounts.getOrDefault("SHOULDERS", 0));
+                stats.put("weeklyArmsCount", weeklyCounts.getOrDefault("ARMS", 0));
+                stats.put("weeklyAbsCount", weeklyCounts.getOrDefault("ABS", 0));
+                stats.put("weeklyCardioCount", weeklyCounts.getOrDefault("CARDIO", 0));
                 
                 // 운동 시간 데이터도 함께 제공 (다른 곳에서 사용할 수 있음)
-                stats.put("weeklyChestMinutes", exerciseService.getWeeklyBodyPartMinutes(userId).getOrDefault("CHEST", 0));
-                stats.put("weeklyBackMinutes", exerciseService.getWeeklyBodyPartMinutes(userId).getOrDefault("BACK", 0));
-                stats.put("weeklyLegsMinutes", exerciseService.getWeeklyBodyPartMinutes(userId).getOrDefault("LEGS", 0));
-                stats.put("weeklyShouldersMinutes", exerciseService.getWeeklyBodyPartMinutes(userId).getOrDefault("SHOULDERS", 0));
-                stats.put("weeklyArmsMinutes", exerciseService.getWeeklyBodyPartMinutes(userId).getOrDefault("ARMS", 0));
-                stats.put("weeklyAbsMinutes", exerciseService.getWeeklyBodyPartMinutes(userId).getOrDefault("ABS", 0));
-                stats.put("weeklyCardioMinutes", exerciseService.getWeeklyBodyPartMinutes(userId).getOrDefault("CARDIO", 0));
+                Map<String, Integer> weeklyMinutes = ExerciseService.sumMinutesByBodyPart(data.weekSessions);
+                stats.put("weeklyChestMinutes", weeklyMinutes.getOrDefault("CHEST", 0));
+                stats.put("weeklyBackMinutes", weeklyMinutes.getOrDefault("BACK", 0));
+                stats.put("weeklyLegsMinutes", weeklyMinutes.getOrDefault("LEGS", 0));
+                stats.put("weeklyShouldersMinutes", weeklyMinutes.getOrDefault("SHOULDERS", 0));
+                stats.put("weeklyArmsMinutes", weeklyMinutes.getOrDefault("ARMS", 0));
+                stats.put("weeklyAbsMinutes", weeklyMinutes.getOrDefault("ABS", 0));
+                stats.put("weeklyCardioMinutes", weeklyMinutes.getOrDefault("CARDIO", 0));
             }
             
             log.info("운동 통계 조회 성공 - 사용자: {}, 기간: {}, 횟수: {}, 시간: {}분, 칼로리: {}", 
@@ -211,21 +399,24 @@ public class HealthStatisticsService {
             
         } catch (Exception e) {
             log.warn("운동 통계 조회 실패, 기본값 사용: {}", e.getMessage());
-            String workoutKey = getWorkoutKey(period);
-            String minutesKey = getMinutesKey(period);
-            
-            stats.put(workoutKey, 0);
-            stats.put(minutesKey, 0);
-            stats.put("totalCaloriesBurned", 0);
-            stats.put("averageDailyCalories", 0);
-            stats.put("streak", 0);
-            stats.put("totalWorkoutDays", 0);
-            stats.put("goalAchievementRate", 0);
-            stats.put("goalChange", 0);
+            return createExerciseFallbackStatistics(period);
         }
         
         return stats;
     }
+
+    private Map<String, Object> createExerciseFallbackStatistics(String period) {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(getWorkoutKey(period), 0);
+        stats.put(getMinutesKey(period), 0);
+        stats.put("totalCaloriesBurned", 0);
+        stats.put("averageDailyCalories", 0);
+        stats.put("streak", 0);
+        stats.put("totalWorkoutDays", 0);
+        stats.put("goalAchievementRate", 0);
+        stats.put("goalChange", 0);
+        return stats;
+    }
     
     /**
      * Period에 따른 일수 반환
@@ -300,14 +491,13 @@ public class HealthStatisticsService {
     }
 
     /**
-     * 건강 기록 관련 통계 조회
+     * 건강 기록 관련 통계 (최근 2개 기록 비교)
      */
-    private Map<String, Object> getHealthRecordStatistics(Long userId, String period) {
+    private Map<String, Object> buildHealthRecordStatistics(StatisticsData data) {
         Map<String, Object> stats = new HashMap<>();
         
         try {
-            // 최근 2개 기록 비교를 위한 조회
-            List<HealthRecord> recentRecords = healthRecordService.getRecentHealthRecords(userId, 30);
+            List<HealthRecord> recentRecords = data.recentHealthRecords;
             
             BigDecimal weightChange = BigDecimal.ZERO;
             BigDecimal bmiChange = BigDecimal.ZERO;
@@ -330,26 +520,20 @@ public class HealthStatisticsService {
             
         } catch (Exception e) {
             log.warn("건강 기록 통계 조회 실패, 기본값 사용: {}", e.getMessage());
-            stats.put("weightChange", 0.0);
-            stats.put("bmiChange", 0.0);
-            stats.put("healthRecordCount", 0);
+            stats.putAll(createHealthRecordFallbackStatistics());
         }
         
         return stats;
     }
 
     /**
-     * 식단 관련 통계 조회 (실제 영양소 데이터)
+     * 식단 관련 통계 (오늘 영양소 섭취량, MealService.getDailyNutritionSummary와 동일한 계산)
      */
-    private Map<String, Object> getMealStatistics(Long userId, String period) {
+    private Map<String, Object> buildMealStatistics(Long userId, StatisticsData data) {
         Map<String, Object> stats = new HashMap<>();
         
         try {
-            // 오늘 날짜로 일일 영양소 섭취량 조회
-            LocalDate today = LocalDate.now();
-            
-            // MealService를 통해 오늘의 영양소 정보 조회
-            Map<String, Object> todayNutrition = mealService.getDailyNutritionSummary(userId, today);
+            Map<String, Object> todayNutrition = mealService.summarizeDailyNutrition(data.todayMealLogs, data.today);
             
             // 영양소 섭취량 추출 (기본값 0으로 설정)
             double dailyCalories = (Double) todayNutrition.getOrDefault("totalCalories", 0.0);
@@ -370,16 +554,30 @@ public class HealthStatisticsService {
             
         } catch (Exception e) {
             log.warn("식단 통계 조회 실패, 기본값 사용: {}", e.getMessage());
-            stats.put("dailyCaloriesAverage", 0.0);
-            stats.put("dailyCarbsIntake", 0.0);
-            stats.put("dailyProteinIntake", 0.0);
-            stats.put("dailyFatIntake", 0.0);
-            stats.put("mealLogCount", 0);
+            stats.putAll(createMealFallbackStatistics());
         }
         
         return stats;
     }
 
+    /**
+     * 이번 주(일요일~토요일) 총 운동 횟수와 부위별 운동 횟수
+     */
+    private Map<String, Object> buildWeeklyWorkoutCounts(StatisticsData data) {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("weeklyTotalWorkouts", data.weekSessions.size());
+        
+        Map<String, Integer> bodyPartCounts = ExerciseService.countByBodyPart(data.weekSessions);
+        stats.put("weeklyChest", bodyPartCounts.get("CHEST"));
+        stats.put("weeklyBack", bodyPartCounts.get("BACK"));
+        stats.put("weeklyLegs", bodyPartCounts.get("LEGS"));
+        stats.put("weeklyShoulders", bodyPartCounts.get("SHOULDERS"));
+        stats.put("weeklyArms", bodyPartCounts.get("ARMS"));
+        stats.put("weeklyAbs", bodyPartCounts.get("ABS"));
+        stats.put("weeklyCardio", bodyPartCounts.get("CARDIO"));
+        return stats;
+    }
+
     /**
      * BMI 계산
      */
@@ -417,6 +615,43 @@ public class HealthStatisticsService {
         return fallback;
     }
 
+    /**
+     * 섹션별 기본값 (createFallbackStatistics와 같은 0 기본값)
+     */
+    private Map<String, Object> createHealthRecordFallbackStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("weightChange", 0.0);
+        stats.put("bmiChange", 0.0);
+        stats.put("healthRecordCount", 0);
+        return stats;
+    }
+
+    private Map<String, Object> createMealFallbackStatistics() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("dailyCaloriesAverage", 0.0);
+        stats.put("dailyCarbsIntake", 0.0);
+        stats.put("dailyProteinIntake", 0.0);
+        stats.put("dailyFatIntake", 0.0);
+        stats.put("mealLogCount", 0);
+        return stats;
+    }
+
+    private Map<String, Object> createBodyPartFrequencyFallback() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("bodyPartFrequency", List.of());
+        stats.put("totalExerciseSessions", 0);
+        return stats;
+    }
+
+    private Map<String, Object> createWeeklyWorkoutCountsFallback() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("weeklyTotalWorkouts", 0);
+        for (String key : List.of("weeklyChest", "weeklyBack", "weeklyLegs", "weeklyShoulders", "weeklyArms", "weeklyAbs", "weeklyCardio")) {
+            stats.put(key, 0);
+        }
+        return stats;
+    }
+
     /**
      * 개별 건강 기록 조회 (HealthRecordController용)
      */
@@ -532,44 +767,11 @@ public class HealthStatisticsService {
         }
     }
 
-    /**
-     * 차트용 시계열 데이터 생성
-     * 프론트엔드 차트에서 사용할 날짜별 데이터 구조
-     */
-    private Map<String, Object> getChartTimeSeriesData(Long userId, String period) {
-        Map<String, Object> chartData = new HashMap<>();
-        
-        try {
-            log.info("📊 차트 시계열 데이터 생성 시작 - 사용자: {}, 기간: {}", userId, period);
-            
-            // 건강 기록 차트 데이터
-            List<Map<String, Object>> healthChartData = createHealthChartData(userId, period);
-            chartData.put("healthChartData", healthChartData);
-            log.info("📊 건강 기록 차트 데이터: {} 개", healthChartData.size());
-            
-            // 운동 차트 데이터
-            List<Map<String, Object>> exerciseChartData = createExerciseChartData(userId, period);
-            chartData.put("exerciseChartData", exerciseChartData);
-            log.info("📊 운동 차트 데이터: {} 개", exerciseChartData.size());
-            
-            log.info("✅ 차트 시계열 데이터 생성 완료 - 건강기록: {}, 운동: {}", 
-                    healthChartData.size(), exerciseChartData.size());
-            
-        } catch (Exception e) {
-            log.error("❌ 차트 시계열 데이터 생성 실패: {}", e.getMessage(), e);
-            chartData.put("healthChartData", List.of());
-            chartData.put("exerciseChartData", List.of());
-        }
-        
-        return chartData;
-    }
-    
     /**
      * 건강 기록 차트 데이터 생성 (체중, BMI 추이)
      */
-    private List<Map<String, Object>> createHealthChartData(Long userId, String period) {
+    private List<Map<String, Object>> createHealthChartData(Long userId, String period, List<HealthRecord> records) {
         try {
-            List<HealthRecord> records = getHealthRecordsByPeriod(userId, period);
             log.info("📊 건강 기록 조회 결과 - 사용자: {}, 기간: {}, 기록 수: {}", userId, period, records.size());
             
             List<Map<String, Object>> chartData = records.stream()
@@ -594,47 +796,23 @@ public class HealthStatisticsService {
     }
     
     /**
-     * 운동 차트 데이터 생성 (운동 시간, 칼로리 추이)
+     * 운동 차트 데이터 생성 (운동 시간, 칼로리 추이, 일별 활동 집계 기준)
      */
-    private List<Map<String, Object>> createExerciseChartData(Long userId, String period) {
+    private List<Map<String, Object>> createExerciseChartData(Long userId, String period, List<DailyActivity> activities) {
         try {
-            List<ExerciseSession> sessions = exerciseService.getRecentExerciseSessions(userId, period);
-            log.info("📊 운동 세션 조회 결과 - 사용자: {}, 기간: {}, 세션 수: {}", userId, period, sessions.size());
-            
-            // 날짜별로 그룹핑하여 운동 시간 합계 계산
-            Map<String, Integer> dailyExerciseMinutes = sessions.stream()
-                .filter(session -> session.getExerciseDate() != null)
-                .collect(java.util.stream.Collectors.groupingBy(
-                    session -> session.getExerciseDate().toString(),
-                    java.util.stream.Collectors.summingInt(
-                        session -> session.getDurationMinutes() != null ? session.getDurationMinutes() : 0
-                    )
-                ));
-                
-            // 날짜별로 칼로리 합계 계산
-            Map<String, Integer> dailyCaloriesBurned = sessions.stream()
-                .filter(session -> session.getExerciseDate() != null)
-                .collect(java.util.stream.Collectors.groupingBy(
-                    session -> session.getExerciseDate().toString(),
-                    java.util.stream.Collectors.summingInt(
-                        session -> session.getCaloriesBurned() != null ? session.getCaloriesBurned() : 0
-                    )
-                ));
-            
-            // 차트 데이터 포인트 생성
-            List<Map<String, Object>> chartData = dailyExerciseMinutes.entrySet().stream()
-                .map(entry -> {
+            // 운동 기록이 있는 날짜만 차트 데이터 포인트로 사용 (집계가 날짜 오름차순)
+            List<Map<String, Object>> chartData = activities.stream()
+                .filter(activity -> activity.getSessionCount() > 0)
+                .map(activity -> {
                     Map<String, Object> dataPoint = new HashMap<>();
-                    String date = entry.getKey();
-                    dataPoint.put("date", date);
-                    dataPoint.put("duration_minutes", entry.getValue());
-                    dataPoint.put("calories_burned", dailyCaloriesBurned.getOrDefault(date, 0));
+                    dataPoint.put("date", activity.getActivityDate().toString());
+                    dataPoint.put("duration_minutes", activity.getExerciseMinutes());
+                    dataPoint.put("calories_burned", activity.getCaloriesBurned());
                     return dataPoint;
                 })
-                .sorted((a, b) -> ((String) a.get("date")).compareTo((String) b.get("date")))
                 .toList();
                 
-            log.info("📊 운동 차트 데이터 생성 완료 - {} 개 데이터 포인트", chartData.size());
+            log.info("📊 운동 차트 데이터 생성 완료 - 사용자: {}, 기간: {}, {} 개 데이터 포인트", userId, period, chartData.size());
             return chartData;
                 
         } catch (Exception e) {
@@ -647,76 +825,37 @@ public class HealthStatisticsService {
      * 🏋️ 운동 부위별 빈도 데이터 생성
      * 사용자의 운동 부위별 운동 횟수와 비율을 계산
      */
-    private Map<String, Object> getBodyPartFrequencyData(Long userId, String period) {
+    private Map<String, Object> buildBodyPartFrequencyData(Long userId, String period, StatisticsData data) {
         Map<String, Object> bodyPartData = new HashMap<>();
         
         try {
             log.info("🏋️ 운동 부위별 빈도 데이터 생성 시작 - 사용자: {}, 기간: {}", userId, period);
             
-            // 주별 데이터인 경우 ExerciseService의 주별 메서드를 사용
-            List<ExerciseSession> sessions;
-            if ("week".equals(period)) {
-                // 현재 주의 일요일부터 토요일까지 데이터 조회
-                LocalDate today = LocalDate.now();
-                int dayOfWeek = today.getDayOfWeek().getValue(); // 1=월요일, 7=일요일
-                int daysFromSunday = (dayOfWeek == 7) ? 0 : dayOfWeek; // 일요일이면 0, 아니면 월요일부터의 일수
-                
-                LocalDate startDate = today.minusDays(daysFromSunday); // 이번 주 일요일
-                LocalDate endDate = startDate.plusDays(6); // 이번 주 토요일
-                
-                sessions = exerciseService.getExerciseSessions(userId, startDate, endDate);
-                log.info("📅 [주별 데이터] 조회 기간: {} ~ {}", startDate, endDate);
-            } else {
-                // 기존 방식 (day, month 등)
-                sessions = exerciseService.getRecentExerciseSessions(userId, period);
-            }
+            // 주별 데이터는 이번 주 일요일~토요일, 그 외(day, month 등)는 차트 기간
+            List<DailyActivity> activities = "week".equals(period) ? data.weekActivities : data.chartActivities;
+            int totalSessions = activities.stream().mapToInt(DailyActivity::getSessionCount).sum();
             
-            if (sessions.isEmpty()) {
+            if (totalSessions == 0) {
                 log.info("운동 세션 데이터가 없음 - 사용자: {}", userId);
                 bodyPartData.put("bodyPartFrequency", List.of());
                 bodyPartData.put("totalExerciseSessions", 0);
                 return bodyPartData;
             }
             
-            // 운동 부위별 빈도 계산 (날짜별로 그룹핑하여 하루에 한 부위는 1번만 카운트)
+            // 운동 부위별 빈도 계산 (일별 부위 비트맵 기준이므로 하루에 한 부위는 1번만 카운트)
             Map<String, Integer> bodyPartCounts = new HashMap<>();
             Map<String, Integer> bodyPartDuration = new HashMap<>();
-            
-            // 날짜별로 운동 세션 그룹핑
-            Map<String, List<ExerciseSession>> sessionsByDate = sessions.stream()
-                .filter(session -> session.getExerciseDate() != null)
-                .collect(java.util.stream.Collectors.groupingBy(
-                    session -> session.getExerciseDate().toString()
-                ));
-            
-            // 날짜별로 운동 부위 집계 (하루에 한 부위는 1번만 카운트)
-            for (Map.Entry<String, List<ExerciseSession>> dateEntry : sessionsByDate.entrySet()) {
-                List<ExerciseSession> daySessions = dateEntry.getValue();
-                Set<String> dayBodyParts = new HashSet<>(); // 중복 제거를 위한 Set
-                
-                // 해당 날짜의 모든 세션을 확인하여 운동 부위와 시간 집계
-                for (ExerciseSession session : daySessions) {
-                    if (session.getExerciseCatalog() != null && session.getExerciseCatalog().getBodyPart() != null) {
-                        String bodyPart = session.getExerciseCatalog().getBodyPart().name();
-                        
-                        // 하루에 한 부위는 1번만 카운트 (Set으로 중복 제거)
-                        dayBodyParts.add(bodyPart);
-                        
+            for (DailyActivity activity : activities) {
+                for (BodyPartType bodyPartType : BodyPartType.values()) {
+                    if (activity.hasBodyPart(bodyPartType)) {
+                        String bodyPart = bodyPartType.name();
+                        bodyPartCounts.merge(bodyPart, 1, Integer::sum);
                         // 운동 시간은 모든 세션의 합계 (분)
-                        int duration = session.getDurationMinutes() != null ? session.getDurationMinutes() : 0;
-                        bodyPartDuration.put(bodyPart, bodyPartDuration.getOrDefault(bodyPart, 0) + duration);
+                        bodyPartDuration.merge(bodyPart, activity.getBodyPartMinutes(bodyPartType), Integer::sum);
                     }
                 }
-                
-                // 해당 날짜에 운동한 부위들을 카운트 (하루에 1번씩만)
-                for (String bodyPart : dayBodyParts) {
-                    bodyPartCounts.put(bodyPart, bodyPartCounts.getOrDefault(bodyPart, 0) + 1);
-                }
             }
             
-            // 총 운동 세션 수
-            int totalSessions = sessions.size();
-            
             // 운동 부위별 데이터 구성
             List<Map<String, Object>> bodyPartFrequency = bodyPartCounts.entrySet().stream()
                 .map(entry -> {
@@ -746,8 +885,7 @@ public class HealthStatisticsService {
             
         } catch (Exception e) {
             log.error("❌ 운동 부위별 빈도 데이터 생성 실패: {}", e.getMessage(), e);
-            bodyPartData.put("bodyPartFrequency", List.of());
-            bodyPartData.put("totalExerciseSessions", 0);
+            bodyPartData.putAll(createBodyPartFrequencyFallback());
         }
         
         return bodyPartData;
@@ -795,54 +933,25 @@ public class HealthStatisticsService {
         try {
             log.info("📅 운동 캘린더 히트맵 데이터 생성 시작 - 사용자: {}", userId);
             
-            // 최근 35일 (5주) 데이터 조회
-            List<ExerciseSession> sessions = exerciseService.getRecentExerciseSessions(userId, 35);
-            
-            // 날짜별로 운동 세션 그룹핑
-            Map<String, List<ExerciseSession>> sessionsByDate = sessions.stream()
-                .filter(session -> session.getExerciseDate() != null)
-                .collect(java.util.stream.Collectors.groupingBy(
-                    session -> session.getExerciseDate().toString()
-                ));
+            // 최근 35일 (5주) 일별 활동 집계 조회
+            LocalDate today = LocalDate.now();
+            List<DailyActivity> activities = dailyActivityRollupService.getDailyActivities(userId, today.minusDays(35), today);
             
-            // 히트맵 데이터 구성
-            List<Map<String, Object>> heatmapData = sessionsByDate.entrySet().stream()
-                .map(entry -> {
-                    String date = entry.getKey();
-                    List<ExerciseSession> daySessions = entry.getValue();
-                    
-                    int totalMinutes = daySessions.stream()
-                        .mapToInt(session -> session.getDurationMinutes() != null ? session.getDurationMinutes() : 0)
-                        .sum();
-                    
-                    int totalCalories = daySessions.stream()
-                        .mapToInt(session -> session.getCaloriesBurned() != null ? session.getCaloriesBurned() : 0)
-                        .sum();
-                    
+            // 히트맵 데이터 구성 (운동 기록이 있는 날짜만, 날짜 오름차순)
+            List<Map<String, Object>> heatmapData = activities.stream()
+                .filter(activity -> activity.getSessionCount() > 0)
+                .map(activity -> {
                     Map<String, Object> dayData = new HashMap<>();
-                    dayData.put("exercise_date", date);
-                    dayData.put("workout_count", daySessions.size());
-                    dayData.put("duration_minutes", totalMinutes);
-                    dayData.put("calories_burned", totalCalories);
+                    dayData.put("exercise_date", activity.getActivityDate().toString());
+                    dayData.put("workout_count", activity.getSessionCount());
+                    dayData.put("duration_minutes", activity.getExerciseMinutes());
+                    dayData.put("calories_burned", activity.getCaloriesBurned());
                     
                     // 대표 운동명 (가장 많이 한 운동)
-                    String primaryExercise = daySessions.stream()
-                        .filter(session -> session.getExerciseCatalog() != null)
-                        .map(session -> session.getExerciseCatalog().getName())
-                        .collect(java.util.stream.Collectors.groupingBy(
-                            name -> name, 
-                            java.util.stream.Collectors.counting()
-                        ))
-                        .entrySet().stream()
-                        .max(java.util.Map.Entry.comparingByValue())
-                        .map(java.util.Map.Entry::getKey)
-                        .orElse("운동");
-                    
-                    dayData.put("exercise_name", primaryExercise);
+                    dayData.put("exercise_name", activity.getPrimaryExerciseName() != null ? activity.getPrimaryExerciseName() : "운동");
                     
                     return dayData;
                 })
-                .sorted((a, b) -> ((String) a.get("exercise_date")).compareTo((String) b.get("exercise_date")))
                 .toList();
             
             log.info("✅ 운동 캘린더 히트맵 데이터 생성 완료 - 사용자: {}, 데이터 일수: {}", 
@@ -861,30 +970,48 @@ public class HealthStatisticsService {
      * 차트 시작점에 적절한 데이터가 표시되도록 충분한 과거 데이터를 포함하여 조회
      */
     private List<HealthRecord> getHealthRecordsByPeriod(Long userId, String period) {
-        int days;
+        int days = getChartLookbackDays(period);
+        
+        log.info("📊 건강 기록 조회 요청 - 사용자: {}, 기간: {}, 일수: {} (3개월 전 데이터 포함)", userId, period, days);
+        List<HealthRecord> records = healthRecordService.getRecentHealthRecords(userId, days);
+        log.info("📊 건강 기록 조회 완료 - 사용자: {}, 조회된 기록 수: {}", userId, records.size());
+        
+        return records;
+    }
+
+    /**
+     * 차트 조회 시작일까지의 일수 (기간 + 3개월 전 데이터, ExerciseService.getRecentExerciseSessions와 동일)
+     */
+    private int getChartLookbackDays(String period) {
         switch (period.toLowerCase()) {
             case "day":
-                days = 97;  // 일별 차트용 7일 + 3개월 전 데이터 (7 + 90 = 97일)
-                break;
+                return 97;  // 일별 차트용 7일 + 3개월 전 데이터 (7 + 90 = 97일)
             case "week":
-                days = 132; // 주별 차트용 6주 + 3개월 전 데이터 (42 + 90 = 132일)
-                break;
+                return 132; // 주별 차트용 6주 + 3개월 전 데이터 (42 + 90 = 132일)
             case "month":
-                days = 270; // 월별 차트용 6개월 + 3개월 전 데이터 (180 + 90 = 270일)
-                break;
+                return 270; // 월별 차트용 6개월 + 3개월 전 데이터 (180 + 90 = 270일)
             case "year":
-                days = 455; // 연별 차트용 1년 + 3개월 전 데이터 (365 + 90 = 455일)
-                break;
+                return 455; // 연별 차트용 1년 + 3개월 전 데이터 (365 + 90 = 455일)
             default:
-                days = 270; // 기본값 9개월
-                break;
+                return 270; // 기본값 9개월
+        }
+    }
+
+    /**
+     * 운동 차트 조회 종료일 (미래 데이터 포함, ExerciseService.getRecentExerciseSessions와 동일)
+     */
+    private LocalDate getChartEndDate(LocalDate today, String period) {
+        switch (period.toLowerCase()) {
+            case "day":
+                return today.plusDays(1);
+            case "week":
+                return today.plusWeeks(1);
+            case "year":
+                return today.plusYears(1);
+            case "month":
+            default:
+                return today.plusMonths(1);
         }
-        
-        log.info("📊 건강 기록 조회 요청 - 사용자: {}, 기간: {}, 일수: {} (3개월 전 데이터 포함)", userId, period, days);
-        List<HealthRecord> records = healthRecordService.getRecentHealthRecords(userId, days);
-        log.info("📊 건강 기록 조회 완료 - 사용자: {}, 조회된 기록 수: {}", userId, records.size());
-        
-        return records;
     }
 
     /**
@@ -894,27 +1021,39 @@ public class HealthStatisticsService {
      * @return 실제 영양소 통계 데이터
      */
     public Map<String, Object> getRealMealNutritionStatistics(Long userId, String period) {
+        // 🔒 Service 레벨 보안 검증
+        if (userId == null || userId <= 0) {
+            log.warn("🚨 [SECURITY] 유효하지 않은 사용자 ID: {}", userId);
+            throw new IllegalArgumentException("유효하지 않은 사용자 ID입니다.");
+        }
+        
+        // 🔒 사용자 존재 여부 확인
+        Optional<User> userOptional = userRepository.findById(userId);
+        if (userOptional.isEmpty()) {
+            log.warn("🚨 [SECURITY] 존재하지 않는 사용자 ID로 접근 시도: {}", userId);
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
+        }
+        
+        LocalDate today = LocalDate.now();
+        List<MealLog> todayMealLogs;
+        try {
+            // 🍽️ userId를 직접 사용하여 오늘의 식단 기록 조회 (log_date 기준, 음식 정보 함께 조회)
+            todayMealLogs = mealLogRepository.findWithFoodItemByUserIdAndLogDate(userId, today);
+        } catch (Exception e) {
+            log.error("🍽️ [HealthStatisticsService] 영양소 통계 조회 실패 - 사용자: {}, 오류: {}", userId, e.getMessage(), e);
+            return createMealNutritionFallback(userId);
+        }
+        
+        return buildRealMealNutritionStatistics(userId, today, todayMealLogs);
+    }
+
+    /**
+     * 오늘 식단 기록으로 실제 영양소 통계 계산
+     */
+    private Map<String, Object> buildRealMealNutritionStatistics(Long userId, LocalDate today, List<MealLog> todayMealLogs) {
         Map<String, Object> result = new HashMap<>();
         
         try {
-            // 🔒 Service 레벨 보안 검증
-            if (userId == null || userId <= 0) {
-                log.warn("🚨 [SECURITY] 유효하지 않은 사용자 ID: {}", userId);
-                throw new IllegalArgumentException("유효하지 않은 사용자 ID입니다.");
-            }
-            
-            // 🔒 사용자 존재 여부 확인
-            Optional<User> userOptional = userRepository.findById(userId);
-            if (userOptional.isEmpty()) {
-                log.warn("🚨 [SECURITY] 존재하지 않는 사용자 ID로 접근 시도: {}", userId);
-                throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
-            }
-            
-            LocalDate today = LocalDate.now();
-            
-            // 🍽️ userId를 직접 사용하여 오늘의 식단 기록 조회 (log_date 기준)
-            List<MealLog> todayMealLogs = mealLogRepository.findByUserIdAndLogDateOrderByLogDateDescCreatedAtDesc(userId, today);
-            
             log.info("🍽️ [HealthStatisticsService] 사용자 {} - 오늘({})의 식단 기록 조회: {} 건", userId, today, todayMealLogs.size());
             
             // 오늘 데이터가 없으면 0 반환 (최근 데이터로 대체하지 않음)
@@ -984,27 +1123,27 @@ public class HealthStatisticsService {
             log.info("🍽️ [HealthStatisticsService] 사용자 {} - 실제 영양소 통계: 칼로리={}, 탄수화물={}g, 단백질={}g, 지방={}g", 
                     userId, totalCalories, totalCarbs, totalProtein, totalFat);
             
-        } catch (IllegalArgumentException e) {
-            log.error("🚨 [SECURITY] 영양소 통계 조회 보안 오류 - 사용자: {}, 오류: {}", userId, e.getMessage());
-            throw e; // 보안 오류는 상위로 전파
-            
         } catch (Exception e) {
             log.error("🍽️ [HealthStatisticsService] 영양소 통계 조회 실패 - 사용자: {}, 오류: {}", userId, e.getMessage(), e);
-            
-            // 에러 시 기본값 반환
-            result.put("dailyCalories", 0.0);
-            result.put("dailyCarbs", 0.0);
-            result.put("dailyProtein", 0.0);
-            result.put("dailyFat", 0.0);
-            result.put("mealLogCount", 0);
-            result.put("dataSource", "fallback");
-            result.put("userId", userId);
-            result.put("error", "데이터 조회 중 오류가 발생했습니다.");
+            return createMealNutritionFallback(userId);
         }
         
         return result;
     }
 
+    private Map<String, Object> createMealNutritionFallback(Long userId) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("dailyCalories", 0.0);
+        result.put("dailyCarbs", 0.0);
+        result.put("dailyProtein", 0.0);
+        result.put("dailyFat", 0.0);
+        result.put("mealLogCount", 0);
+        result.put("dataSource", "fallback");
+        result.put("userId", userId);
+        result.put("error", "데이터 조회 중 오류가 발생했습니다.");
+        return result;
+    }
+
     // ==================================================================================
     // 건강로그 페이지 전용 세트 통계 메서드들 (기존 로직과 분리)
     // ==================================================================================
@@ -5,12 +5,18 @@ import com.lifebit.coreapi.entity.MealLog;
 import com.lifebit.coreapi.entity.MealTimeType;
 import com.lifebit.coreapi.entity.User;
 import com.lifebit.coreapi.entity.UserGoal;
+import com.lifebit.coreapi.event.DailyActivityChangeEvent;
+import com.lifebit.coreapi.event.FoodCatalogChangeEvent;
+import com.lifebit.coreapi.event.ScoreChangeEvent;
 import com.lifebit.coreapi.repository.FoodItemRepository;
 import com.lifebit.coreapi.repository.MealLogRepository;
 import com.lifebit.coreapi.repository.UserGoalRepository;
+import com.lifebit.coreapi.service.achievement.AchievementProgressEngine;
+import com.lifebit.coreapi.service.food.FoodSearchService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +24,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.Map;
 import java.util.HashMap;
@@ -31,6 +38,9 @@ public class MealService {
     private final FoodItemRepository foodItemRepository;
     private final UserGoalRepository userGoalRepository;
     private final UserGoalService userGoalService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AchievementProgressEngine achievementProgressEngine;
+    private final FoodSearchService foodSearchService;
 
     @Transactional
     public MealLog recordMeal(Long userId, Long foodItemId, BigDecimal quantity) {
@@ -46,7 +56,12 @@ public class MealService {
         mealLog.setMealTime(MealTimeType.lunch);
         mealLog.setCreatedAt(LocalDateTime.now());
 
-        return mealLogRepository.save(mealLog);
+        // 업적 상태 재구성이 JDBC 로 meal_logs 를 읽으므로 바로 flush
+        MealLog saved = mealLogRepository.saveAndFlush(mealLog);
+        eventPublisher.publishEvent(new ScoreChangeEvent(userId, ScoreChangeEvent.SOURCE_MEAL));
+        eventPublisher.publishEvent(new DailyActivityChangeEvent(userId, saved.getLogDate()));
+        achievementProgressEngine.onMealRecorded(userId, saved.getLogDate(), saved.getValidationStatus());
+        return saved;
     }
 
     public List<MealLog> getMealHistory(User user, LocalDate startDate, LocalDate endDate) {
@@ -70,8 +85,8 @@ public class MealService {
         return result;
     }
 
-    public List<FoodItem> searchFoodItems(String keyword) {
-        return foodItemRepository.findByNameContainingIgnoreCase(keyword);
+    public List<FoodItem> searchFoodItems(String keyword, int limit) {
+        return foodSearchService.search(keyword, limit);
     }
 
     public FoodItem getFoodItemByCode(String foodCode) {
@@ -81,14 +96,11 @@ public class MealService {
 
     @Transactional
     public FoodItem findOrCreateFoodItem(String name, BigDecimal calories, BigDecimal carbs, BigDecimal protein, BigDecimal fat) {
-        List<FoodItem> existingItems = foodItemRepository.findByNameContainingIgnoreCase(name);
-        
-        if (!existingItems.isEmpty()) {
-            for (FoodItem item : existingItems) {
-                if (item.getName().equalsIgnoreCase(name)) {
-                    return item;
-                }
-            }
+        // 인덱스에 아직 반영되지 않은 음식(다른 서버에서 방금 추가 등)이 있을 수 있으므로 없으면 DB에서 한 번 더 확인
+        Optional<FoodItem> existingItem = foodSearchService.findByExactName(name)
+            .or(() -> foodSearchService.findByExactNameInDatabase(name));
+        if (existingItem.isPresent()) {
+            return existingItem.get();
         }
         
         FoodItem newFoodItem = new FoodItem();
@@ -101,7 +113,9 @@ public class MealService {
         newFoodItem.setServingSize(BigDecimal.valueOf(100));
         newFoodItem.setCreatedAt(LocalDateTime.now());
         
-        return foodItemRepository.save(newFoodItem);
+        FoodItem saved = foodItemRepository.save(newFoodItem);
+        eventPublisher.publishEvent(new FoodCatalogChangeEvent(saved.getFoodItemId(), saved.getName()));
+        return saved;
     }
 
     /**
@@ -127,11 +141,12 @@ public class MealService {
         Map<String, Object> result = new HashMap<>();
         
         try {
-            // 기존 음식 데이터베이스에서 검색
-            List<FoodItem> existingItems = foodItemRepository.findByNameContainingIgnoreCase(foodName);
+            // 기존 음식 데이터베이스에서 검색 (이름 완전 일치 우선, 없으면 이름을 그대로 포함하는 음식만 - 오타 허용 결과는 쓰지 않음)
+            Optional<FoodItem> existingItem = foodSearchService.findByExactName(foodName)
+                .or(() -> foodSearchService.searchContaining(foodName, 1).stream().findFirst());
             
-            if (!existingItems.isEmpty()) {
-                FoodItem foundItem = existingItems.get(0);
+            if (existingItem.isPresent()) {
+                FoodItem foundItem = existingItem.get();
                 
                 // 섭취량에 따른 영양소 계산
                 BigDecimal multiplier = parseAmountMultiplier(amount);
@@ -213,15 +228,26 @@ public class MealService {
      * 특정 날짜의 일일 영양소 섭취량 요약을 반환합니다.
      */
     public Map<String, Object> getDailyNutritionSummary(Long userId, LocalDate date) {
-        Map<String, Object> summary = new HashMap<>();
-        
+        List<MealLog> dailyMealLogs;
         try {
             User user = new User();
             user.setUserId(userId);
             
             // 해당 날짜의 모든 식단 기록 조회
-            List<MealLog> dailyMealLogs = mealLogRepository.findByUserAndLogDateOrderByLogDateDescCreatedAtDesc(user, date);
-            
+            dailyMealLogs = mealLogRepository.findByUserAndLogDateOrderByLogDateDescCreatedAtDesc(user, date);
+        } catch (Exception e) {
+            return createEmptyNutritionSummary(date, e);
+        }
+        return summarizeDailyNutrition(dailyMealLogs, date);
+    }
+
+    /**
+     * 이미 조회한 하루치 식단 기록으로 영양소 합계 계산 (통계 화면에서 재조회 없이 사용)
+     */
+    public Map<String, Object> summarizeDailyNutrition(List<MealLog> dailyMealLogs, LocalDate date) {
+        Map<String, Object> summary = new HashMap<>();
+        
+        try {
             double totalCalories = 0.0;
             double totalCarbs = 0.0;
             double totalProtein = 0.0;
@@ -255,19 +281,25 @@ public class MealService {
             summary.put("date", date.toString());
             
         } catch (Exception e) {
-            // 오류 발생 시 기본값 반환
-            summary.put("totalCalories", 0.0);
-            summary.put("totalCarbs", 0.0);
-            summary.put("totalProtein", 0.0);
-            summary.put("totalFat", 0.0);
-            summary.put("mealCount", 0);
-            summary.put("date", date.toString());
-            summary.put("error", e.getMessage());
+            return createEmptyNutritionSummary(date, e);
         }
         
         return summary;
     }
 
+    // 오류 발생 시 기본값
+    private Map<String, Object> createEmptyNutritionSummary(LocalDate date, Exception e) {
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("totalCalories", 0.0);
+        summary.put("totalCarbs", 0.0);
+        summary.put("totalProtein", 0.0);
+        summary.put("totalFat", 0.0);
+        summary.put("mealCount", 0);
+        summary.put("date", date.toString());
+        summary.put("error", e.getMessage());
+        return summary;
+    }
+
     /**
      * 유저의 최근 7일간 식단 목표 영양소 달성률(%)을 반환합니다.
      * (목표 대비 실제 섭취량의 평균 비율, 0~100)
@@ -289,12 +321,6 @@ public class MealService {
             return 0;
         }
 
-        // 사용자별 목표값 설정 (7일치)
-        double targetCarbs = userGoal.getDailyCarbsTarget() != null ? userGoal.getDailyCarbsTarget() * 7 : 200 * 7;
-        double targetProtein = userGoal.getDailyProteinTarget() != null ? userGoal.getDailyProteinTarget() * 7 : 120 * 7;
-        double targetFat = userGoal.getDailyFatTarget() != null ? userGoal.getDailyFatTarget() * 7 : 60 * 7;
-        double targetCalories = userGoal.getDailyCaloriesTarget() != null ? userGoal.getDailyCaloriesTarget() * 7 : 1500 * 7;
-
         double totalCarbs = 0, totalProtein = 0, totalFat = 0, totalCalories = 0;
         for (MealLog log : mealLogs) {
             FoodItem food = log.getFoodItem();
@@ -306,6 +332,23 @@ public class MealService {
             totalCalories += food.getCalories() != null ? food.getCalories().doubleValue() * qty / 100.0 : 0;
         }
 
+        int avgRate = calculateWeeklyNutritionAchievementRate(userGoal, totalCarbs, totalProtein, totalFat, totalCalories);
+        log.info("주간 영양소 달성률 계산 - 사용자 ID: {}, 평균: {}%", userId, avgRate);
+        return avgRate;
+    }
+
+    /**
+     * 7일간 섭취 합계와 목표로 주간 영양소 달성률(%) 계산
+     * (랭킹 일괄 재계산에서 집계 쿼리 결과로도 사용)
+     */
+    public int calculateWeeklyNutritionAchievementRate(UserGoal userGoal, double totalCarbs, double totalProtein,
+                                                       double totalFat, double totalCalories) {
+        // 사용자별 목표값 설정 (7일치)
+        double targetCarbs = userGoal.getDailyCarbsTarget() != null ? userGoal.getDailyCarbsTarget() * 7 : 200 * 7;
+        double targetProtein = userGoal.getDailyProteinTarget() != null ? userGoal.getDailyProteinTarget() * 7 : 120 * 7;
+        double targetFat = userGoal.getDailyFatTarget() != null ? userGoal.getDailyFatTarget() * 7 : 60 * 7;
+        double targetCalories = userGoal.getDailyCaloriesTarget() != null ? userGoal.getDailyCaloriesTarget() * 7 : 1500 * 7;
+
         // 각 영양소별 달성률 계산 (최대 100%로 제한)
         double carbsRate = Math.min(100, totalCarbs / targetCarbs * 100);
         double proteinRate = Math.min(100, totalProtein / targetProtein * 100);
@@ -313,11 +356,6 @@ public class MealService {
         double caloriesRate = Math.min(100, totalCalories / targetCalories * 100);
 
         // 4개 항목 평균
-        int avgRate = (int) Math.round((carbsRate + proteinRate + fatRate + caloriesRate) / 4.0);
-        
-        log.info("주간 영양소 달성률 계산 - 사용자 ID: {}, 탄수화물: {:.1f}%, 단백질: {:.1f}%, 지방: {:.1f}%, 칼로리: {:.1f}%, 평균: {}%",
-            userId, carbsRate, proteinRate, fatRate, caloriesRate, avgRate);
-            
-        return avgRate;
+        return (int) Math.round((carbsRate + proteinRate + fatRate + caloriesRate) / 4.0);
     }
 } 
\ No newline at end of file
@@ -5,11 +5,18 @@ import com.lifebit.coreapi.dto.NoteExerciseDTO;
 import com.lifebit.coreapi.entity.ExerciseCatalog;
 import com.lifebit.coreapi.entity.ExerciseSession;
 import com.lifebit.coreapi.entity.User;
+import com.lifebit.coreapi.event.DailyActivityChangeEvent;
+import com.lifebit.coreapi.event.ExerciseCatalogChangeEvent;
+import com.lifebit.coreapi.event.ScoreChangeEvent;
 import com.lifebit.coreapi.repository.ExerciseCatalogRepository;
 import com.lifebit.coreapi.repository.ExerciseSessionRepository;
 import com.lifebit.coreapi.repository.UserRepository;
 import com.lifebit.coreapi.service.AchievementService;
+import com.lifebit.coreapi.service.achievement.AchievementProgressEngine;
+import com.lifebit.coreapi.service.exercise.ExerciseCatalogRegistry;
+import com.lifebit.coreapi.repository.achievement.AchievementStateRepository.AchievementState;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +35,9 @@ public class NoteExerciseService {
     private final ExerciseCatalogRepository exerciseCatalogRepository;
     private final UserRepository userRepository;
     private final AchievementService achievementService;
+    private final AchievementProgressEngine achievementProgressEngine;
+    private final ExerciseCatalogRegistry exerciseCatalogRegistry;
+    private final ApplicationEventPublisher eventPublisher;
     private static final Logger log = LoggerFactory.getLogger(NoteExerciseService.class);
 
     // ✅ 주간 요약 데이터
@@ -71,7 +81,7 @@ public class NoteExerciseService {
         session.setUser(user);
 
         // 🔸 운동 카탈로그 설정
-        ExerciseCatalog catalog = exerciseCatalogRepository.findByName(dto.getExerciseName())
+        ExerciseCatalog catalog = exerciseCatalogRegistry.findByName(dto.getExerciseName())
                 .orElseGet(() -> null);
 
         if (catalog == null) {
@@ -80,12 +90,10 @@ public class NoteExerciseService {
             catalog.setName(dto.getExerciseName());
         }
 
-        // 새 카탈로그이거나 업데이트가 필요한 경우 저장
+        // 새 카탈로그면 저장 (레지스트리의 카탈로그는 ID가 있는 준영속 사본이므로 그대로 연결)
         if (catalog.getExerciseCatalogId() == null) {
             catalog = exerciseCatalogRepository.save(catalog);
-        } else if (catalog.getBodyPart() != null && !exerciseCatalogRepository.existsById(catalog.getExerciseCatalogId())) {
-            // 존재하나 트랜잭션 안에서 영속 상태가 아닐 수 있음 -> merge
-            catalog = exerciseCatalogRepository.save(catalog);
+            eventPublisher.publishEvent(new ExerciseCatalogChangeEvent(catalog.getExerciseCatalogId()));
         }
         session.setExerciseCatalog(catalog);
 
@@ -96,8 +104,12 @@ public class NoteExerciseService {
         session.setWeight(dto.getWeight() != null ? BigDecimal.valueOf(dto.getWeight()) : null);
         session.setDurationMinutes(dto.getDurationMinutes());
 
-        // ✅ 저장
-        ExerciseSession saved = exerciseSessionRepository.save(session);
+        // ✅ 저장 (업적 상태 재구성이 JDBC 로 exercise_sessions 를 읽으므로 바로 flush)
+        ExerciseSession saved = exerciseSessionRepository.saveAndFlush(session);
+        eventPublisher.publishEvent(new ScoreChangeEvent(dto.getUserId(), ScoreChangeEvent.SOURCE_EXERCISE));
+        eventPublisher.publishEvent(new DailyActivityChangeEvent(dto.getUserId(), saved.getExerciseDate()));
+        achievementProgressEngine.onExerciseRecorded(dto.getUserId(), saved.getExerciseDate(), saved.getTimePeriod(),
+                saved.getCaloriesBurned(), saved.getDurationMinutes(), saved.getValidationStatus());
 
         // ✅ 업적 체크 및 업데이트
         try {
@@ -106,22 +118,24 @@ public class NoteExerciseService {
             // 사용자 업적 초기화 (없으면 생성)
             achievementService.initializeUserAchievements(dto.getUserId());
             
-            // 연속 운동 일수 계산 및 업적 업데이트
-            int currentStreak = calculateCurrentStreak(dto.getUserId());
+            // 누적 상태에서 연속 운동 일수 조회 및 업적 업데이트
+            AchievementState state = achievementProgressEngine.getState(dto.getUserId());
+            int currentStreak = state.getExerciseStreakAsOf(LocalDate.now());
             log.info("🟣 [NoteExerciseService] 연속 운동 일수: {}", currentStreak);
             achievementService.updateStreakAchievements(dto.getUserId(), currentStreak);
             
             // 총 운동 일수 업적 업데이트 (설정 기반)
-            int totalWorkoutDays = getTotalWorkoutDays(dto.getUserId());
+            int totalWorkoutDays = state.getExerciseDays();
             log.info("🟣 [NoteExerciseService] 총 운동 일수: {}", totalWorkoutDays);
-            achievementService.updateUserAchievementProgress(dto.getUserId(), 
-                AchievementType.TOTAL_WORKOUT_DAYS.getTitle(), totalWorkoutDays);
+            Map<String, Integer> progress = new LinkedHashMap<>();
+            progress.put(AchievementType.TOTAL_WORKOUT_DAYS.getTitle(), totalWorkoutDays);
             
             // 주간 운동 횟수 업적 업데이트 (설정 기반)
             int weeklyExerciseCount = getWeeklyExerciseCount(dto.getUserId());
             log.info("🟣 [NoteExerciseService] 주간 운동 횟수: {}", weeklyExerciseCount);
-            achievementService.updateUserAchievementProgress(dto.getUserId(), 
-                AchievementType.WEEKLY_EXERCISE.getTitle(), weeklyExerciseCount);
+            progress.put(AchievementType.WEEKLY_EXERCISE.getTitle(), weeklyExerciseCount);
+            
+            achievementService.updateUserAchievementProgress(dto.getUserId(), progress);
             
             log.info("✅ [NoteExerciseService] 업적 업데이트 완료 - 사용자: {}", dto.getUserId());
             
@@ -144,6 +158,9 @@ public class NoteExerciseService {
         }
 
         exerciseSessionRepository.delete(session);
+        eventPublisher.publishEvent(new ScoreChangeEvent(userId, ScoreChangeEvent.SOURCE_EXERCISE));
+        eventPublisher.publishEvent(new DailyActivityChangeEvent(userId, session.getExerciseDate()));
+        achievementProgressEngine.onActivityChanged(userId);
     }
 
     // ✅ 운동 기록 수정
@@ -163,61 +180,12 @@ public class NoteExerciseService {
 
         // 💾 저장 후 DTO 변환하여 반환
         ExerciseSession saved = exerciseSessionRepository.save(session);
+        eventPublisher.publishEvent(new ScoreChangeEvent(userId, ScoreChangeEvent.SOURCE_EXERCISE));
+        eventPublisher.publishEvent(new DailyActivityChangeEvent(userId, saved.getExerciseDate()));
+        achievementProgressEngine.onActivityChanged(userId);
         return new ExerciseRecordDTO(saved);
     }
 
-    // ✅ 연속 운동 일수 계산
-    private int calculateCurrentStreak(Long userId) {
-        List<ExerciseSession> sessions = exerciseSessionRepository.findByUser_UserIdAndExerciseDateBetween(
-            userId, LocalDate.now().minusDays(365), LocalDate.now());
-        
-        // 날짜별 내림차순 정렬 (최근 → 과거)
-        sessions.sort(java.util.Comparator.comparing(ExerciseSession::getExerciseDate).reversed());
-        
-        if (sessions.isEmpty()) {
-            log.info("🟣 [NoteExerciseService] 운동 기록 없음 - 사용자: {}", userId);
-            return 0;
-        }
-
-        int streak = 0;
-        LocalDate currentDate = LocalDate.now();
-        
-        // 오늘부터 역순으로 연속 운동 일수 계산
-        for (int i = 0; i < sessions.size(); i++) {
-            ExerciseSession session = sessions.get(i);
-            LocalDate sessionDate = session.getExerciseDate();
-            
-            // 현재 확인하려는 날짜와 세션 날짜가 일치하는지 확인
-            if (sessionDate.equals(currentDate)) {
-                streak++;
-                currentDate = currentDate.minusDays(1);
-                log.debug("🟣 [NoteExerciseService] 연속 운동 일수 증가 - 날짜: {}, 현재 연속: {}", sessionDate, streak);
-            } else if (sessionDate.isBefore(currentDate)) {
-                // 연속이 끊어짐 - 더 이상 확인할 필요 없음
-                log.debug("🟣 [NoteExerciseService] 연속 운동 끊어짐 - 날짜: {}, 현재 연속: {}", sessionDate, streak);
-                break;
-            }
-            // sessionDate가 currentDate보다 미래인 경우는 무시 (이론적으로 불가능하지만 안전장치)
-        }
-        
-        log.info("🟣 [NoteExerciseService] 연속 운동 일수 계산 완료 - 사용자: {}, 연속 일수: {}", userId, streak);
-        return streak;
-    }
-
-    // ✅ 총 운동 일수 계산
-    private int getTotalWorkoutDays(Long userId) {
-        List<ExerciseSession> sessions = exerciseSessionRepository.findByUser_UserIdAndExerciseDateBetween(
-            userId, LocalDate.now().minusDays(365), LocalDate.now());
-        
-        int totalDays = (int) sessions.stream()
-            .map(ExerciseSession::getExerciseDate)
-            .distinct()
-            .count();
-            
-        log.info("🟣 [NoteExerciseService] 총 운동 일수 계산 - 사용자: {}, 총 일수: {}", userId, totalDays);
-        return totalDays;
-    }
-
     // ✅ 주간 운동 횟수 계산
     private int getWeeklyExerciseCount(Long userId) {
         List<ExerciseSession> sessions = exerciseSessionRepository.findByUser_UserIdAndExerciseDateBetween(
@@ -3,30 +3,31 @@ package com.lifebit.coreapi.service;
 import com.lifebit.coreapi.entity.Notification;
 import com.lifebit.coreapi.repository.NotificationRepository;
 import com.lifebit.coreapi.dto.NotificationDto;
-import com.lifebit.coreapi.entity.NotificationRead;
+import com.lifebit.coreapi.event.UnreadNotificationChangeEvent;
+import com.lifebit.coreapi.event.UnreadNotificationChangeEvent.Change;
 import com.lifebit.coreapi.repository.NotificationReadRepository;
+import com.lifebit.coreapi.repository.NotificationReadWatermarkRepository;
+import com.lifebit.coreapi.service.notification.UnreadNotificationCounterStore;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.ArrayList;
 
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final NotificationReadRepository notificationReadRepository;
-
-    @PersistenceContext
-    private EntityManager entityManager;
+    private final NotificationReadWatermarkRepository notificationReadWatermarkRepository;
+    private final UnreadNotificationCounterStore unreadNotificationCounterStore;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final Logger log = LoggerFactory.getLogger(NotificationService.class);
 
@@ -44,6 +45,8 @@ public class NotificationService {
         notification.setRead(false);
         notification.setCreatedAt(LocalDateTime.now());
         notificationRepository.save(notification);
+        // userId 가 null 인 시스템 알림은 전체 사용자 카운터에 반영
+        eventPublisher.publishEvent(new UnreadNotificationChangeEvent(userId, Change.INCREMENT, 1));
     }
 
     public List<Notification> getUserNotifications(Long userId) {
@@ -82,62 +85,37 @@ public class NotificationService {
         Notification notification = notificationRepository.findById(notificationId)
             .orElseThrow(() -> new RuntimeException("알림을 찾을 수 없습니다. (ID: " + notificationId + ")"));
         boolean isSystem = notification.getUserId() == null;
-        System.out.println("[DEBUG] markAsRead: notificationId=" + notificationId + ", userId=" + userId + ", isSystem=" + isSystem);
-        if (!notificationReadRepository.existsByUserIdAndNotificationId(userId, notificationId)) {
-            NotificationRead read = new NotificationRead();
-            read.setUserId(userId);
-            read.setNotificationId(notificationId);
-            notificationReadRepository.save(read);
-            entityManager.flush();
-            entityManager.clear();
-            System.out.println("[DEBUG] markAsRead: notification_read INSERT (userId=" + userId + ", notificationId=" + notificationId + ")");
+        // 읽음 기준점 이하의 시스템 알림도 개별 기록이 남지만 판정 결과는 같으므로 중복 검사 없이 한 번에 기록
+        int inserted = notificationReadRepository.insertIfAbsent(userId, notificationId);
+        log.debug("markAsRead: notificationId={}, userId={}, isSystem={}, inserted={}", notificationId, userId, isSystem, inserted);
+        boolean becameRead;
+        if (isSystem) {
+            // 기준점 이하의 시스템 알림은 이미 읽음 상태였으므로 개수 변화 없음
+            long watermark = notificationReadWatermarkRepository.findById(userId)
+                .map(w -> w.getLastReadSystemNotificationId())
+                .orElse(0L);
+            becameRead = inserted > 0 && notificationId > watermark;
         } else {
-            System.out.println("[DEBUG] markAsRead: notification_read ALREADY EXISTS (userId=" + userId + ", notificationId=" + notificationId + ")");
+            becameRead = notification.getUserId().equals(userId) && !notification.isRead();
+            if (becameRead) {
+                notification.setRead(true);
+            }
         }
-        if (!isSystem && notification.getUserId().equals(userId)) {
-            notification.setRead(true);
-            notificationRepository.saveAndFlush(notification);
-            entityManager.clear();
-            System.out.println("[DEBUG] markAsRead: 개인 알림 is_read=true UPDATE (notificationId=" + notificationId + ")");
+        if (becameRead) {
+            eventPublisher.publishEvent(new UnreadNotificationChangeEvent(userId, Change.DECREMENT, 1));
         }
     }
 
     @Transactional
     public void markAllAsRead(Long userId) {
-        System.out.println("[DEBUG] markAllAsRead 시작: userId=" + userId);
-        
         // 개인 알림 일괄 처리
         notificationRepository.markAllAsReadByUserId(userId);
-        System.out.println("[DEBUG] markAllAsRead: 개인 알림 일괄 업데이트 완료");
 
-        // 시스템 알림 일괄 처리 (batch insert)
-        List<Notification> systemNotifications = notificationRepository.findByUserIdIsNullOrderByCreatedAtDesc();
-        List<NotificationRead> toInsert = new ArrayList<>();
-        
-        for (Notification n : systemNotifications) {
-            if (!notificationReadRepository.existsByUserIdAndNotificationId(userId, n.getId())) {
-                NotificationRead read = new NotificationRead();
-                read.setUserId(userId);
-                read.setNotificationId(n.getId());
-                toInsert.add(read);
-            }
-        }
-        
-        if (!toInsert.isEmpty()) {
-            notificationReadRepository.saveAll(toInsert);
-            System.out.println("[DEBUG] markAllAsRead: 시스템 알림 " + toInsert.size() + "개 읽음 처리");
-        } else {
-            System.out.println("[DEBUG] markAllAsRead: 이미 모든 시스템 알림을 읽음 처리함");
-        }
-        
-        // 처리 후 상태 확인
-        System.out.println("[DEBUG] markAllAsRead: 처리 후 상태 확인");
-        for (Notification n : systemNotifications) {
-            boolean exists = notificationReadRepository.existsByUserIdAndNotificationId(userId, n.getId());
-            System.out.println("[DEBUG] 알림 ID " + n.getId() + " 읽음 상태: " + exists);
-        }
-        
-        System.out.println("[DEBUG] markAllAsRead 완료: userId=" + userId);
+        // 시스템 알림: 읽음 기준점을 최신 시스템 알림으로 올리고, 기준점에 포함된 개별 기록 정리
+        notificationReadWatermarkRepository.advanceToLatestSystemNotification(userId);
+        int pruned = notificationReadRepository.deleteSystemReadsCoveredByWatermark(userId);
+        log.debug("markAllAsRead 완료: userId={}, 정리된 개별 읽음 기록={}", userId, pruned);
+        eventPublisher.publishEvent(new UnreadNotificationChangeEvent(userId, Change.RESET, 0));
     }
 
     @Transactional
@@ -149,61 +127,22 @@ public class NotificationService {
             throw new RuntimeException("해당 알림을 삭제할 권한이 없습니다. (사용자 ID: " + userId + ", 알림 소유자 ID: " + notification.getUserId() + ")");
         }
         notificationRepository.deleteById(notificationId);
+        // 시스템 알림 삭제는 전체 사용자, 개인 알림 삭제는 소유자 카운터를 다시 계산
+        eventPublisher.publishEvent(new UnreadNotificationChangeEvent(notification.getUserId(), Change.INVALIDATE, 0));
     }
 
     public long getUnreadCount(Long userId) {
-        System.out.println("[DEBUG] getUnreadCount 시작: userId=" + userId);
-        
-        // 개인 알림: isRead = false
-        long personalUnread = notificationRepository.countUnreadByUserIdOrUserIdIsNull(userId) - countUnreadSystemNotifications(userId);
-        // 시스템 알림: notification_read에 없는 것만 카운트
-        long systemUnread = countUnreadSystemNotifications(userId);
-        long totalUnread = personalUnread + systemUnread;
-        
-        System.out.println("[DEBUG] getUnreadCount 결과: personalUnread=" + personalUnread + ", systemUnread=" + systemUnread + ", totalUnread=" + totalUnread);
-        
-        return totalUnread;
-    }
-
-    private long countUnreadSystemNotifications(Long userId) {
-        System.out.println("[DEBUG] countUnreadSystemNotifications 시작: userId=" + userId);
-        
-        List<Notification> systemNotifications = notificationRepository.findByUserIdIsNullOrderByCreatedAtDesc();
-        long count = 0;
-        
-        for (Notification n : systemNotifications) {
-            boolean exists = notificationReadRepository.existsByUserIdAndNotificationId(userId, n.getId());
-            if (!exists) {
-                count++;
-                System.out.println("[DEBUG] 읽지 않은 시스템 알림: id=" + n.getId());
-            } else {
-                System.out.println("[DEBUG] 읽은 시스템 알림: id=" + n.getId());
-            }
-        }
-        
-        System.out.println("[DEBUG] countUnreadSystemNotifications 결과: " + count);
-        return count;
+        // 메모리 카운터에서 반환 (미스일 때만 개인 + 시스템 알림을 한 쿼리로 계산)
+        return unreadNotificationCounterStore.getUnreadCount(userId);
     }
 
     /**
-     * 회원가입 시 기존 시스템 알림(Notification.userId == null)에 대해 NotificationRead(userId, notificationId)를 생성
+     * 회원가입 시 기존 시스템 알림(Notification.userId == null)을 읽음 처리
+     * (가입 이전 공지가 새 알림으로 쌓이지 않도록 읽음 기준점을 최신 시스템 알림으로 설정)
      */
     @Transactional
     public void markAllSystemNotificationsAsUnreadForUser(Long userId) {
-        List<Notification> systemNotifications = notificationRepository.findByUserIdIsNullOrderByCreatedAtDesc();
-        log.info("시스템 알림 개수: {}", systemNotifications.size());
-        List<NotificationRead> toInsert = new ArrayList<>();
-        for (Notification n : systemNotifications) {
-            if (!notificationReadRepository.existsByUserIdAndNotificationId(userId, n.getId())) {
-                NotificationRead read = new NotificationRead();
-                read.setUserId(userId);
-                read.setNotificationId(n.getId());
-                toInsert.add(read);
-            }
-        }
-        log.info("NotificationRead 생성 개수: {}", toInsert.size());
-        if (!toInsert.isEmpty()) {
-            notificationReadRepository.saveAll(toInsert);
-        }
+        notificationReadWatermarkRepository.advanceToLatestSystemNotification(userId);
+        log.info("시스템 알림 읽음 기준점 설정 완료: userId={}", userId);
     }
-} 
\ No newline at end of file
+}
@@ -1,10 +1,15 @@
 package com.lifebit.coreapi.service;
 
+import com.lifebit.coreapi.config.CacheConfig;
+import com.lifebit.coreapi.dto.UserGoalSnapshot;
 import com.lifebit.coreapi.entity.UserGoal;
 import com.lifebit.coreapi.repository.UserGoalRepository;
 import com.lifebit.coreapi.entity.User;
 import com.lifebit.coreapi.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +26,7 @@ public class UserGoalService {
     private final UserRepository userRepository;
     private final NotificationService notificationService;
     private final AchievementService achievementService;
+    private final CacheManager cacheManager;
 
     @Transactional(readOnly = true)
     public UserGoal getUserGoal(Long userId) {
@@ -55,6 +61,7 @@ public class UserGoalService {
         return total;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.LATEST_USER_GOALS, key = "#userId")
     @Transactional
     public UserGoal updateUserGoal(Long userId, UserGoal request) {
         UserGoal existingGoal = getOrCreateUserGoal(userId);
@@ -129,7 +136,7 @@ public class UserGoalService {
     }
     
     /**
-     * 읽기 전용으로 목표 조회, 없으면 기본값 반환 (DB 저장하지 않음)
+     * 읽기 전용으로 목표 조회, 없으면 기본값 반환 (DB 저장하지 않음, 최신 목표는 캐시에서 조회)
      */
     @Transactional(readOnly = true)
     public UserGoal getUserGoalOrDefault(Long userId) {
@@ -164,6 +171,7 @@ public class UserGoalService {
     /**
      * 사용자 목표 생성
      */
+    @CacheEvict(cacheNames = CacheConfig.LATEST_USER_GOALS, key = "#userGoal.userId")
     @Transactional
     public UserGoal createUserGoal(UserGoal userGoal) {
         // UUID 설정
@@ -196,6 +204,7 @@ public class UserGoalService {
     /**
      * 사용자 목표 삭제
      */
+    @CacheEvict(cacheNames = CacheConfig.LATEST_USER_GOALS, allEntries = true)
     @Transactional
     public void deleteUserGoal(Long goalId) {
         if (!userGoalRepository.existsById(goalId)) {
@@ -210,8 +219,13 @@ public class UserGoalService {
     public UserGoal getDefaultDietGoalByGender(Long userId) {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new RuntimeException("User not found"));
-        String gender = user.getGender();
+        return buildDefaultDietGoal(userId, user.getGender());
+    }
 
+    /**
+     * 성별 기준 기본 식단 목표 생성 (사용자 조회 없이, 배치 작업에서도 사용)
+     */
+    public UserGoal buildDefaultDietGoal(Long userId, String gender) {
         UserGoal defaultGoal = new UserGoal();
         defaultGoal.setUuid(UUID.randomUUID());
         defaultGoal.setUserId(userId);
@@ -246,9 +260,22 @@ public class UserGoalService {
         return defaultGoal;
     }
 
+    /**
+     * 최신 목표 조회 (없으면 null, 캐시에는 불변 스냅샷을 두고 매번 분리된 새 UserGoal 로 복사해 반환)
+     */
     @Transactional(readOnly = true)
     public UserGoal getLatestUserGoal(Long userId) {
-        return userGoalRepository.findTopByUserIdOrderByCreatedAtDesc(userId).orElse(null);
+        Cache cache = cacheManager.getCache(CacheConfig.LATEST_USER_GOALS);
+        UserGoalSnapshot snapshot = cache.get(userId, UserGoalSnapshot.class);
+        if (snapshot == null) {
+            UserGoal goal = userGoalRepository.findTopByUserIdOrderByCreatedAtDesc(userId).orElse(null);
+            if (goal == null) {
+                return null;
+            }
+            snapshot = UserGoalSnapshot.from(goal);
+            cache.put(userId, snapshot);
+        }
+        return snapshot.toUserGoal();
     }
 
     public boolean isSameGoal(UserGoal a, UserGoal b) {
@@ -1,15 +1,22 @@
 package com.lifebit.coreapi.service;
 
+import com.lifebit.coreapi.config.CacheConfig;
 import com.lifebit.coreapi.dto.LoginRequest;
 import com.lifebit.coreapi.dto.SignUpRequest;
 import com.lifebit.coreapi.dto.UserProfileUpdateRequest;
+import com.lifebit.coreapi.dto.UserSnapshot;
 import com.lifebit.coreapi.entity.User;
 import com.lifebit.coreapi.repository.UserRepository;
+import com.lifebit.coreapi.service.activity.UserActivityTracker;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,8 +29,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.Collection;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -32,6 +41,8 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final NotificationService notificationService;
+    private final UserActivityTracker userActivityTracker;
+    private final CacheManager cacheManager;
 
     @Value("${file.upload-dir}")
     private String uploadDir;
@@ -75,7 +86,7 @@ public class UserService {
         }
     }
 
-    @Transactional(readOnly = false)
+    @Transactional(readOnly = true)
     public User login(LoginRequest request) {
         try {
             User user = userRepository.findByEmail(request.getEmail())
@@ -85,8 +96,9 @@ public class UserService {
                 throw new RuntimeException("비밀번호가 일치하지 않습니다.");
             }
 
+            // 마지막 접속 시각은 UserActivityTracker 가 모아서 일괄 반영 (읽기 전용 트랜잭션이라 엔티티 변경은 저장되지 않음)
             user.setLastVisited(java.time.LocalDateTime.now());
-            userRepository.save(user);
+            userActivityTracker.recordVisit(user.getUserId());
 
             return user;
         } catch (Exception e) {
@@ -95,20 +107,42 @@ public class UserService {
     }
 
     /**
-     * 사용자 ID로 사용자 정보 조회
+     * 사용자 ID로 사용자 정보 조회 (캐시, 프로필 수정/삭제 시 커밋 이후 제거)
+     * 캐시에는 불변 스냅샷을 두고 매번 분리된 새 User 로 복사해 반환하므로, 반환값을 수정해도 캐시나 DB 에 반영되지 않는다.
+     * (수정 후 저장이 필요한 경로는 userRepository 로 영속 엔티티를 조회)
      */
     @Transactional(readOnly = true)
     public User getUserById(Long userId) {
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("존재하지 않는 사용자입니다."));
+        Cache cache = cacheManager.getCache(CacheConfig.USERS);
+        UserSnapshot snapshot = cache.get(userId, UserSnapshot.class);
+        if (snapshot == null) {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new RuntimeException("존재하지 않는 사용자입니다."));
+            snapshot = UserSnapshot.from(user);
+            cache.put(userId, snapshot);
+        }
+        return snapshot.toUser();
+    }
+
+    /**
+     * 여러 사용자 정보를 한 번의 쿼리로 조회 (랭킹/보상 목록의 N+1 방지)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, User> getUsersByIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getUserId, user -> user));
     }
 
     /**
      * 사용자 프로필 정보 업데이트
      */
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#userId")
     @Transactional
     public User updateUserProfile(Long userId, UserProfileUpdateRequest updateData, MultipartFile profileImage) {
-        User user = getUserById(userId);
+        User user = findManagedUser(userId);
 
         if (updateData.getNickname() != null) {
             String nickname = updateData.getNickname();
@@ -166,10 +200,13 @@ public class UserService {
     /**
      * 사용자 계정 삭제
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.USERS, key = "#userId"),
+            @CacheEvict(cacheNames = CacheConfig.LATEST_USER_GOALS, key = "#userId")
+    })
     @Transactional
     public void deleteUser(Long userId) {
-        User user = getUserById(userId);
-        userRepository.delete(user);
+        userRepository.delete(findManagedUser(userId));
     }
 
     /**
@@ -184,4 +221,10 @@ public class UserService {
         }
         return passwordEncoder.matches(password, user.getPasswordHash());
     }
+
+    // 수정/삭제용 영속 엔티티 조회 (캐시를 거치지 않음)
+    private User findManagedUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("존재하지 않는 사용자입니다."));
+    }
 } 
\ No newline at end of file
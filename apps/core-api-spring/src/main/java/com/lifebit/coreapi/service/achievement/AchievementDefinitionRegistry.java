@@ -0,0 +1,158 @@
+package com.lifebit.coreapi.service.achievement;
+
+import com.lifebit.coreapi.entity.Achievement;
+import com.lifebit.coreapi.entity.BadgeType;
+import com.lifebit.coreapi.entity.enums.AchievementType;
+import com.lifebit.coreapi.event.AchievementDefinitionChangeEvent;
+import com.lifebit.coreapi.repository.AchievementRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 활성 업적 정의의 불변 메모리 레지스트리 (제목/ID/업적 타입 인덱스)
+ *
+ * 업적 정의는 DataInitializerService 에서만 바뀌므로 처음 조회할 때 한 번 로드하고,
+ * AchievementDefinitionChangeEvent 가 발행되면 커밋 이후 새 스냅샷으로 통째로 교체한다.
+ * 같은 제목의 업적이 여러 개면 제목 조회는 ID가 가장 작은 업적을 반환한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AchievementDefinitionRegistry {
+
+    private final AchievementRepository achievementRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 업적 정의 (achievements 행의 읽기 전용 사본)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class AchievementDefinition {
+        private final Long achievementId;
+        private final String title;
+        private final String description;
+        private final BadgeType badgeType;
+        private final Integer targetDays;
+    }
+
+    private static class Snapshot {
+        private final List<AchievementDefinition> definitions;
+        private final Map<Long, AchievementDefinition> byId;
+        private final Map<String, AchievementDefinition> byTitle;
+        private final Map<AchievementType, AchievementDefinition> byType;
+
+        private Snapshot(List<AchievementDefinition> definitions) {
+            Map<Long, AchievementDefinition> idIndex = new HashMap<>();
+            Map<String, List<AchievementDefinition>> titleGroups = new LinkedHashMap<>();
+            for (AchievementDefinition definition : definitions) {
+                idIndex.put(definition.getAchievementId(), definition);
+                titleGroups.computeIfAbsent(definition.getTitle(), title -> new ArrayList<>()).add(definition);
+            }
+
+            Map<String, AchievementDefinition> titleIndex = new HashMap<>();
+            titleGroups.forEach((title, group) -> titleIndex.put(title, group.get(0)));
+
+            // 같은 제목을 쓰는 업적 타입은 선언 순서대로 같은 제목의 업적(ID 순)에 대응
+            Map<AchievementType, AchievementDefinition> typeIndex = new EnumMap<>(AchievementType.class);
+            Map<String, Integer> usedPerTitle = new HashMap<>();
+            for (AchievementType type : AchievementType.values()) {
+                List<AchievementDefinition> group = titleGroups.get(type.getTitle());
+                if (group == null) {
+                    continue;
+                }
+                int index = usedPerTitle.merge(type.getTitle(), 1, Integer::sum) - 1;
+                typeIndex.put(type, group.get(Math.min(index, group.size() - 1)));
+            }
+
+            this.definitions = List.copyOf(definitions);
+            this.byId = Map.copyOf(idIndex);
+            this.byTitle = Map.copyOf(titleIndex);
+            this.byType = Map.copyOf(typeIndex);
+        }
+    }
+
+    /**
+     * 활성 업적 정의 전체 (ID 오름차순)
+     */
+    public List<AchievementDefinition> getActiveDefinitions() {
+        return snapshot().definitions;
+    }
+
+    /**
+     * 제목으로 업적 정의 조회 (없으면 null)
+     */
+    public AchievementDefinition findByTitle(String title) {
+        return title != null ? snapshot().byTitle.get(title) : null;
+    }
+
+    /**
+     * ID로 업적 정의 조회 (없거나 비활성이면 null)
+     */
+    public AchievementDefinition findById(Long achievementId) {
+        return achievementId != null ? snapshot().byId.get(achievementId) : null;
+    }
+
+    /**
+     * 업적 타입으로 업적 정의 조회 (없으면 null)
+     */
+    public AchievementDefinition findByType(AchievementType type) {
+        return snapshot().byType.get(type);
+    }
+
+    /**
+     * 활성 업적 제목 목록 (로그용)
+     */
+    public Collection<String> getActiveTitles() {
+        return snapshot().byTitle.keySet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDefinitionsChanged(AchievementDefinitionChangeEvent event) {
+        refresh();
+    }
+
+    /**
+     * DB에서 활성 업적 정의를 다시 로드해 스냅샷 교체
+     */
+    public synchronized void refresh() {
+        List<AchievementDefinition> definitions = achievementRepository.findByIsActiveTrue().stream()
+                .sorted(Comparator.comparing(Achievement::getAchievementId))
+                .map(achievement -> new AchievementDefinition(
+                        achievement.getAchievementId(),
+                        achievement.getTitle(),
+                        achievement.getDescription(),
+                        achievement.getBadgeType(),
+                        achievement.getTargetDays()))
+                .toList();
+        snapshot = new Snapshot(definitions);
+        log.info("[업적 정의] 레지스트리 로드 - 활성 업적 {}개", definitions.size());
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+}
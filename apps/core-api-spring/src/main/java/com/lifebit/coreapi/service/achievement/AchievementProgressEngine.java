@@ -0,0 +1,156 @@
+package com.lifebit.coreapi.service.achievement;
+
+import com.lifebit.coreapi.entity.TimePeriodType;
+import com.lifebit.coreapi.entity.ValidationStatusType;
+import com.lifebit.coreapi.repository.achievement.AchievementStateRepository;
+import com.lifebit.coreapi.repository.achievement.AchievementStateRepository.AchievementState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * 증분 업적 평가용 사용자별 누적 상태 관리
+ *
+ * 새 운동/식단 기록은 기록과 같은 트랜잭션에서 상태 행 하나만 갱신한다. (이력 길이와 무관하게 O(1))
+ * 처음 보는 사용자, 과거 날짜 기록, 수정/삭제 이후에는 해당 사용자만 원본에서 한 번 재구성한다.
+ * 전체 재구성(rebuildAll)은 백필 및 매일 밤 보정용으로 사용자 CHUNK_SIZE 명 단위 별도 트랜잭션에서 실행한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AchievementProgressEngine {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final AchievementStateRepository achievementStateRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 운동 기록 추가 반영 (기록 저장 트랜잭션 안에서 호출, 검증 완료 기록만 집계)
+     */
+    @Transactional
+    public void onExerciseRecorded(Long userId, LocalDate exerciseDate, TimePeriodType timePeriod,
+                                   Integer caloriesBurned, Integer durationMinutes,
+                                   ValidationStatusType validationStatus) {
+        if (userId == null || exerciseDate == null || validationStatus != ValidationStatusType.VALIDATED) {
+            return;
+        }
+        DayOfWeek dayOfWeek = exerciseDate.getDayOfWeek();
+        boolean applied = achievementStateRepository.applyExercise(userId, exerciseDate,
+                timePeriod == TimePeriodType.morning,
+                timePeriod == TimePeriodType.night,
+                dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY,
+                caloriesBurned != null ? caloriesBurned : 0,
+                durationMinutes != null ? durationMinutes : 0);
+        if (!applied) {
+            achievementStateRepository.rebuildUser(userId);
+        }
+    }
+
+    /**
+     * 식단 기록 추가 반영 (기록 저장 트랜잭션 안에서 호출, 검증 완료 기록만 집계)
+     */
+    @Transactional
+    public void onMealRecorded(Long userId, LocalDate logDate, ValidationStatusType validationStatus) {
+        if (userId == null || logDate == null || validationStatus != ValidationStatusType.VALIDATED) {
+            return;
+        }
+        if (!achievementStateRepository.applyMeal(userId, logDate)) {
+            achievementStateRepository.rebuildUser(userId);
+        }
+    }
+
+    /**
+     * 검증 완료된 식단 기록 여러 건 추가 반영 (날짜별 건수, 날짜 순으로 한 번씩 갱신하고 하나라도 실패하면 재구성)
+     */
+    @Transactional
+    public void onMealsRecorded(Long userId, SortedMap<LocalDate, Integer> countsByDate) {
+        if (userId == null || countsByDate.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<LocalDate, Integer> day : countsByDate.entrySet()) {
+            if (!achievementStateRepository.applyMeals(userId, day.getKey(), day.getValue())) {
+                achievementStateRepository.rebuildUser(userId);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 운동/식단 기록 수정·삭제 반영 (다음 조회 시 재구성)
+     */
+    @Transactional
+    public void onActivityChanged(Long userId) {
+        if (userId != null) {
+            achievementStateRepository.markStale(userId);
+        }
+    }
+
+    /**
+     * 사용자의 최신 누적 상태 (없거나 stale 이면 재구성 후 조회)
+     */
+    @Transactional
+    public AchievementState getState(Long userId) {
+        AchievementState state = achievementStateRepository.findFreshState(userId);
+        if (state == null) {
+            achievementStateRepository.rebuildUser(userId);
+            state = achievementStateRepository.findFreshState(userId);
+        }
+        return state;
+    }
+
+    /**
+     * 매일 03:50 전체 재구성 (AI API 가 직접 넣은 기록, 검증 상태 변경 등 증분 경로를 거치지 않은 변경 보정)
+     */
+    @Scheduled(cron = "0 50 3 * * *")
+    public void scheduledRebuild() {
+        rebuildAll();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        try {
+            if (achievementStateRepository.isEmpty()) {
+                log.info("[업적 상태] 상태 테이블이 비어 있어 전체 재구성 시작");
+                rebuildAll();
+            }
+        } catch (Exception e) {
+            log.warn("[업적 상태] 초기 재구성 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 모든 사용자의 누적 상태를 원본에서 다시 계산하고 반영된 행 수를 반환 (백필)
+     */
+    public long rebuildAll() {
+        long startedAt = System.currentTimeMillis();
+        long afterUserId = 0;
+        long rows = 0;
+        while (true) {
+            Long chunkEnd = achievementStateRepository.findUserIdChunkEnd(afterUserId, CHUNK_SIZE);
+            if (chunkEnd == null) {
+                break;
+            }
+            long from = afterUserId;
+            Integer chunkRows = transactionTemplate.execute(status ->
+                    achievementStateRepository.rebuildUserRange(from, chunkEnd));
+            rows += chunkRows != null ? chunkRows : 0;
+            afterUserId = chunkEnd;
+        }
+
+        long elapsedMillis = Math.max(1, System.currentTimeMillis() - startedAt);
+        log.info("[업적 상태] 전체 재구성 완료 - {}건, {}ms ({} rows/sec)",
+                rows, elapsedMillis, rows * 1000L / elapsedMillis);
+        return rows;
+    }
+}
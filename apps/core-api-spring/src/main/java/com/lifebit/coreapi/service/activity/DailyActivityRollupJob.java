@@ -0,0 +1,129 @@
+package com.lifebit.coreapi.service.activity;
+
+import com.lifebit.coreapi.repository.activity.DailyActivityRollupRepository;
+import com.lifebit.coreapi.repository.activity.DailyActivityRollupRepository.UserDay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 일별 활동 집계(user_daily_activity) 재구성 작업
+ *
+ * 10분마다: 바뀐 (사용자, 날짜)만 다시 계산 - 이벤트 처리 중 갱신에 실패한 날짜와,
+ *          지난 확인 이후 생성된 기록(AI API 등 이벤트 없이 들어온 기록 포함)의 날짜
+ *          (비용이 전체 사용자 수가 아니라 바뀐 날짜 수에 비례)
+ * 매일 03:30: 전체 기간 집계를 사용자 CHUNK_SIZE 명 단위로 다시 계산 (청크마다 별도 트랜잭션)
+ * 집계 테이블이 비어 있으면 애플리케이션 시작 시 한 번 전체 재구성
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DailyActivityRollupJob {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final Duration DIRTY_SCAN_INTERVAL = Duration.ofMinutes(10);
+    // 앱/DB 시계 차이와 직전 확인 시점에 커밋 중이던 기록을 놓치지 않도록 겹쳐서 확인
+    private static final Duration DIRTY_SCAN_OVERLAP = Duration.ofMinutes(1);
+
+    private final DailyActivityRollupRepository dailyActivityRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<UserDay> dirtyDays = ConcurrentHashMap.newKeySet();
+    private volatile LocalDateTime lastScannedAt;
+
+    /**
+     * 다음 주기에 다시 계산할 (사용자, 날짜) 추가 (같은 날짜의 중복 요청은 한 번으로 합쳐짐)
+     */
+    public void markDirty(Long userId, LocalDate activityDate) {
+        dirtyDays.add(new UserDay(userId, activityDate));
+    }
+
+    @Scheduled(cron = "0 */10 * * * *")
+    public void refreshDirtyDays() {
+        LocalDateTime scannedAt = dailyActivityRollupRepository.currentTimestamp();
+        LocalDateTime since = lastScannedAt != null ? lastScannedAt : scannedAt.minus(DIRTY_SCAN_INTERVAL);
+        dirtyDays.addAll(dailyActivityRollupRepository.findUserDaysCreatedSince(since.minus(DIRTY_SCAN_OVERLAP)));
+        lastScannedAt = scannedAt;
+
+        int refreshed = 0;
+        List<UserDay> chunk = new ArrayList<>(CHUNK_SIZE);
+        Iterator<UserDay> iterator = dirtyDays.iterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            iterator.remove();
+            if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+                refreshed += refreshChunk(chunk);
+                chunk = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+        log.debug("[일별 활동 집계] 변경된 날짜 보정 완료 - {}건 (재시도 대기 {}건)", refreshed, dirtyDays.size());
+    }
+
+    @Scheduled(cron = "0 30 3 * * *")
+    public void scheduledRebuild() {
+        rebuildAll();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        try {
+            if (dailyActivityRollupRepository.isEmpty()) {
+                log.info("[일별 활동 집계] 집계 테이블이 비어 있어 전체 재구성 시작");
+                rebuildAll();
+            }
+        } catch (Exception e) {
+            log.warn("[일별 활동 집계] 초기 재구성 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 모든 사용자의 전체 기간 집계를 다시 계산하고 반영된 행 수를 반환
+     */
+    public long rebuildAll() {
+        long startedAt = System.currentTimeMillis();
+        long afterUserId = 0;
+        long rows = 0;
+        while (true) {
+            Long chunkEnd = dailyActivityRollupRepository.findUserIdChunkEnd(afterUserId, CHUNK_SIZE);
+            if (chunkEnd == null) {
+                break;
+            }
+            long from = afterUserId;
+            Integer chunkRows = transactionTemplate.execute(status ->
+                    dailyActivityRollupRepository.rebuildUserRange(from, chunkEnd));
+            rows += chunkRows != null ? chunkRows : 0;
+            afterUserId = chunkEnd;
+        }
+
+        long elapsedMillis = Math.max(1, System.currentTimeMillis() - startedAt);
+        log.info("[일별 활동 집계] 전체 재구성 완료 - {}건, {}ms ({} rows/sec)",
+                rows, elapsedMillis, rows * 1000L / elapsedMillis);
+        return rows;
+    }
+
+    // 청크 단위 트랜잭션으로 갱신, 실패하면 다음 주기에 다시 시도
+    private int refreshChunk(List<UserDay> chunk) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> chunk.forEach(day ->
+                    dailyActivityRollupRepository.refreshDay(day.userId(), day.activityDate())));
+            return chunk.size();
+        } catch (Exception e) {
+            dirtyDays.addAll(chunk);
+            log.warn("[일별 활동 집계] 변경된 날짜 {}건 보정 실패, 다음 주기에 재시도: {}", chunk.size(), e.getMessage());
+            return 0;
+        }
+    }
+}
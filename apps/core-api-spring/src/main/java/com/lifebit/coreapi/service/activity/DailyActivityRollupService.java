@@ -0,0 +1,58 @@
+package com.lifebit.coreapi.service.activity;
+
+import com.lifebit.coreapi.event.DailyActivityChangeEvent;
+import com.lifebit.coreapi.repository.activity.DailyActivityRollupRepository;
+import com.lifebit.coreapi.repository.activity.DailyActivityRollupRepository.DailyActivity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 사용자별 일별 활동 집계(user_daily_activity) 유지 및 조회
+ *
+ * 운동/식단 기록이 바뀌면 커밋 직후 바뀐 날짜의 집계 행만 원본에서 다시 계산한다.
+ * 차트/히트맵/캘린더는 세션·식단 원본 대신 이 집계를 읽으므로 조회 비용이 기록 수가 아닌 일수에 비례한다.
+ * 갱신에 실패한 날짜와 다른 경로(AI API 등)에서 직접 들어온 기록의 날짜는 DailyActivityRollupJob이 주기적으로 보정한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DailyActivityRollupService {
+
+    private final DailyActivityRollupRepository dailyActivityRollupRepository;
+    private final DailyActivityRollupJob dailyActivityRollupJob;
+
+    /**
+     * 기록 트랜잭션 커밋 이후 바뀐 날짜의 집계를 새 트랜잭션에서 갱신 (트랜잭션 밖에서 발행된 경우 즉시 갱신)
+     * 실패해도 기록 저장에는 영향을 주지 않으며, 실패한 날짜는 다음 보정 주기에 다시 계산된다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onDailyActivityChange(DailyActivityChangeEvent event) {
+        if (event.getUserId() == null) {
+            return;
+        }
+        for (LocalDate date : event.getActivityDates()) {
+            try {
+                dailyActivityRollupRepository.refreshDay(event.getUserId(), date);
+            } catch (Exception e) {
+                dailyActivityRollupJob.markDirty(event.getUserId(), date);
+                log.warn("일별 활동 집계 갱신 실패 - 사용자: {}, 날짜: {}, 오류: {}", event.getUserId(), date, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 사용자의 기간 내 일별 활동 집계 (날짜 오름차순, 기록이 없는 날은 포함하지 않음)
+     */
+    @Transactional(readOnly = true)
+    public List<DailyActivity> getDailyActivities(Long userId, LocalDate startDate, LocalDate endDate) {
+        return dailyActivityRollupRepository.findByUserIdAndDateRange(userId, startDate, endDate);
+    }
+}
@@ -0,0 +1,169 @@
+package com.lifebit.coreapi.service.activity;
+
+import com.lifebit.coreapi.repository.activity.UserVisitRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 접속 기록 메모리 집계기 (users.last_visited 지연 반영 + 일/주/월 접속자 카운터)
+ *
+ * 인증된 요청과 WebSocket 활동마다 recordVisit 을 호출하면 사용자별 마지막 접속 시각만 메모리에 남기고,
+ * FLUSH_INTERVAL_MS 마다 UPDATE 한 문장으로 모아서 반영한다.
+ * (analytics 버킷 증분 조회가 last_visited 를 10분 겹쳐 읽으므로 반영 주기는 그보다 충분히 짧게 유지)
+ *
+ * 접속자 카운터는 "마지막 접속일별 사용자 수"를 유지하므로 countVisitorsSince 는 최대 RETENTION_DAYS 개 합산이다.
+ * 다른 서버에서 들어온 접속은 RESEED_INTERVAL_MS 마다 DB 기준으로 다시 맞춘다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserActivityTracker {
+
+    private static final long FLUSH_INTERVAL_MS = 30_000;
+    private static final long RESEED_INTERVAL_MS = 600_000;
+    private static final int RETENTION_DAYS = 31;
+
+    private final UserVisitRepository userVisitRepository;
+
+    // 아직 DB에 반영하지 않은 사용자별 마지막 접속 시각
+    private final ConcurrentHashMap<Long, LocalDateTime> pendingVisits = new ConcurrentHashMap<>();
+
+    // 사용자별 마지막 접속일 / 마지막 접속일별 사용자 수 (counterLock 으로 함께 갱신)
+    private final ConcurrentHashMap<Long, LocalDate> lastVisitDays = new ConcurrentHashMap<>();
+    private final TreeMap<LocalDate, Integer> visitorsByDay = new TreeMap<>();
+    private final Object counterLock = new Object();
+    private final Object flushLock = new Object();
+
+    private volatile boolean ready;
+
+    /**
+     * 사용자 접속 기록 (DB 반영은 다음 flush 에서)
+     */
+    public void recordVisit(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        pendingVisits.merge(userId, now, (previous, current) -> current.isAfter(previous) ? current : previous);
+
+        // 오늘 이미 집계된 사용자는 카운터를 건드리지 않음
+        LocalDate today = now.toLocalDate();
+        if (today.equals(lastVisitDays.get(userId))) {
+            return;
+        }
+        synchronized (counterLock) {
+            LocalDate previousDay = lastVisitDays.get(userId);
+            if (previousDay != null && !previousDay.isBefore(today)) {
+                return;
+            }
+            lastVisitDays.put(userId, today);
+            if (previousDay != null) {
+                decrement(previousDay);
+            }
+            visitorsByDay.merge(today, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * 카운터 사용 가능 여부 (시작 시 DB 로드 전에는 false)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 기준일(포함) 이후 접속한 사용자 수 (기준일은 오늘 - RETENTION_DAYS 이후여야 함)
+     */
+    public long countVisitorsSince(LocalDate since) {
+        synchronized (counterLock) {
+            long count = 0;
+            for (int visitors : visitorsByDay.tailMap(since, true).values()) {
+                count += visitors;
+            }
+            return count;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reseed();
+    }
+
+    /**
+     * 모아 둔 접속 기록을 한 번에 DB 반영 (실패하면 다음 주기에 다시 시도)
+     */
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MS, initialDelay = FLUSH_INTERVAL_MS)
+    public void flush() {
+        synchronized (flushLock) {
+            if (pendingVisits.isEmpty()) {
+                return;
+            }
+            Map<Long, LocalDateTime> batch = new HashMap<>();
+            for (Long userId : pendingVisits.keySet()) {
+                LocalDateTime visitedAt = pendingVisits.remove(userId);
+                if (visitedAt != null) {
+                    batch.put(userId, visitedAt);
+                }
+            }
+            try {
+                int updated = userVisitRepository.updateLastVisited(batch);
+                log.debug("[접속 기록] {}명 반영 (갱신 {}건)", batch.size(), updated);
+            } catch (Exception e) {
+                batch.forEach((userId, visitedAt) -> pendingVisits.merge(userId, visitedAt,
+                        (current, failed) -> current.isAfter(failed) ? current : failed));
+                log.warn("[접속 기록] 반영 실패 - {}명, 다음 주기에 재시도: {}", batch.size(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * DB 기준으로 접속자 카운터 재구성 (다른 서버 접속 반영 + 보관 기간 지난 날짜 정리)
+     */
+    @Scheduled(fixedDelay = RESEED_INTERVAL_MS, initialDelay = RESEED_INTERVAL_MS)
+    public void reseed() {
+        LocalDate cutoff = LocalDate.now().minusDays(RETENTION_DAYS);
+        Map<Long, LocalDate> loaded = new HashMap<>();
+        try {
+            userVisitRepository.streamVisitsSince(cutoff.atStartOfDay(),
+                    (userId, visitedAt) -> loaded.put(userId, visitedAt.toLocalDate()));
+        } catch (Exception e) {
+            log.warn("[접속 기록] 카운터 로드 실패: {}", e.getMessage());
+            return;
+        }
+
+        synchronized (counterLock) {
+            // 로드 중에 메모리에서 기록된 더 최근 접속일은 유지
+            lastVisitDays.forEach((userId, day) -> loaded.merge(userId, day,
+                    (fromDb, inMemory) -> inMemory.isAfter(fromDb) ? inMemory : fromDb));
+            loaded.values().removeIf(day -> day.isBefore(cutoff));
+
+            lastVisitDays.clear();
+            lastVisitDays.putAll(loaded);
+            visitorsByDay.clear();
+            loaded.values().forEach(day -> visitorsByDay.merge(day, 1, Integer::sum));
+        }
+        ready = true;
+        log.info("[접속 기록] 접속자 카운터 로드 - 최근 {}일 {}명", RETENTION_DAYS, loaded.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void decrement(LocalDate day) {
+        visitorsByDay.computeIfPresent(day, (key, visitors) -> visitors > 1 ? visitors - 1 : null);
+    }
+}
@@ -0,0 +1,90 @@
+package com.lifebit.coreapi.service.analytics;
+
+import com.lifebit.coreapi.repository.analytics.AnalyticsBucketRepository;
+import com.lifebit.coreapi.repository.analytics.AnalyticsBucketRepository.Granularity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 관리자 애널리틱스 사전 집계(analytics_bucket) 증분 갱신 작업
+ *
+ * 1분마다 워터마크 이후 새로 생긴 접속/운동/식단 기록만 읽어 시간·일·주·월 내 주차·월·연 버킷에 누적한다.
+ * 늦게 커밋된 기록을 놓치지 않도록 OVERLAP 만큼 겹쳐 읽으며, 멤버 단위 중복 제거로 값이 두 번 늘지 않는다.
+ * 처음 실행 시(또는 오래 멈춰 있던 경우)에는 MAX_WINDOW_HOURS 단위 구간으로 나누어 작년 1월 1일부터 따라잡는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyticsBucketJob {
+
+    private static final String WATERMARK_NAME = "ANALYTICS_BUCKETS";
+    private static final long OVERLAP_MINUTES = 10;
+    private static final long MAX_WINDOW_HOURS = 24;
+
+    // 식사 시간별 기록 수를 누적하는 버킷 단위 (대시보드에서 쓰는 단위만)
+    private static final Set<Granularity> MEAL_LOG_GRANULARITIES =
+            EnumSet.of(Granularity.DAY, Granularity.MONTH_WEEK, Granularity.MONTH);
+
+    private final AnalyticsBucketRepository analyticsBucketRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelay = 60_000, initialDelay = 30_000)
+    public void refresh() {
+        try {
+            long startedAt = System.currentTimeMillis();
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime processedUntil = analyticsBucketRepository.findWatermark(WATERMARK_NAME);
+            if (processedUntil == null) {
+                processedUntil = resolveInitialWatermark(now);
+            }
+
+            int windows = 0;
+            while (processedUntil.isBefore(now)) {
+                LocalDateTime from = processedUntil.minusMinutes(OVERLAP_MINUTES);
+                LocalDateTime to = processedUntil.plusHours(MAX_WINDOW_HOURS).isBefore(now)
+                        ? processedUntil.plusHours(MAX_WINDOW_HOURS) : now;
+                transactionTemplate.executeWithoutResult(status -> processWindow(from, to));
+                processedUntil = to;
+                windows++;
+            }
+
+            if (windows > 1) {
+                log.info("[애널리틱스 집계] {}개 구간 처리 완료 - {}까지, {}ms",
+                        windows, processedUntil, System.currentTimeMillis() - startedAt);
+            }
+        } catch (Exception e) {
+            log.error("[애널리틱스 집계] 증분 갱신 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    // 구간 (from, to] 를 모든 버킷 단위에 누적하고 닫힌 버킷의 멤버 정리 후 워터마크 저장 (한 트랜잭션)
+    private void processWindow(LocalDateTime from, LocalDateTime to) {
+        for (Granularity granularity : Granularity.values()) {
+            analyticsBucketRepository.accumulateUserMetrics(granularity, from, to);
+            if (MEAL_LOG_GRANULARITIES.contains(granularity)) {
+                analyticsBucketRepository.accumulateMealLogCounts(granularity, from, to);
+            }
+            analyticsBucketRepository.pruneMembers(granularity, from);
+        }
+        analyticsBucketRepository.saveWatermark(WATERMARK_NAME, to);
+    }
+
+    // 첫 실행: 가장 이른 원천 기록(최대 작년 1월 1일)부터 집계
+    private LocalDateTime resolveInitialWatermark(LocalDateTime now) {
+        LocalDateTime lastYearStart = now.truncatedTo(ChronoUnit.DAYS).withDayOfYear(1).minusYears(1);
+        LocalDateTime earliest = analyticsBucketRepository.findEarliestSourceTime();
+        if (earliest == null) {
+            return now;
+        }
+        LocalDateTime start = earliest.minusSeconds(1);
+        return start.isAfter(lastYearStart) ? start : lastYearStart;
+    }
+}
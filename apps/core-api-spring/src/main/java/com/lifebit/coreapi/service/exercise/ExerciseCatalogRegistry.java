@@ -0,0 +1,245 @@
+package com.lifebit.coreapi.service.exercise;
+
+import com.lifebit.coreapi.entity.BodyPartType;
+import com.lifebit.coreapi.entity.ExerciseCatalog;
+import com.lifebit.coreapi.event.ExerciseCatalogChangeEvent;
+import com.lifebit.coreapi.repository.ExerciseCatalogRepository;
+import com.lifebit.coreapi.service.search.HangulJamo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 운동 카탈로그의 버전 있는 불변 메모리 스냅샷 (ID/이름/운동 부위/강도 인덱스)
+ *
+ * 카탈로그는 작고 거의 바뀌지 않으므로 처음 조회할 때 한 번 로드하고,
+ * ExerciseCatalogChangeEvent 가 발행되면 커밋 이후 새 스냅샷(버전 + 1)으로 통째로 교체한다.
+ * 다른 서버에서 바뀐 카탈로그는 REFRESH_INTERVAL_MS 마다 다시 로드해 맞춘다.
+ * 조회 결과는 스냅샷과 분리된 사본(준영속 엔티티)이므로 호출 측에서 수정해도 스냅샷에는 영향이 없다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExerciseCatalogRegistry {
+
+    private static final long REFRESH_INTERVAL_MS = 600_000;
+    private static final String NO_INTENSITY = "";
+    private static final String UNSET_EXERCISE_TYPE = "미지정";
+
+    private final ExerciseCatalogRepository exerciseCatalogRepository;
+
+    private volatile Snapshot snapshot;
+
+    private static class Snapshot {
+        private final long version;
+        private final List<ExerciseCatalog> catalogs;
+        private final List<String> searchKeys;
+        private final Map<Long, ExerciseCatalog> byId;
+        private final Map<String, ExerciseCatalog> byName;
+        private final Map<String, List<ExerciseCatalog>> byLowerName;
+        private final Map<BodyPartType, List<ExerciseCatalog>> byBodyPart;
+        private final Map<String, List<ExerciseCatalog>> byIntensity;
+
+        private Snapshot(long version, List<ExerciseCatalog> catalogs) {
+            Map<Long, ExerciseCatalog> idIndex = new HashMap<>();
+            Map<String, ExerciseCatalog> nameIndex = new HashMap<>();
+            Map<String, List<ExerciseCatalog>> lowerNameIndex = new HashMap<>();
+            Map<BodyPartType, List<ExerciseCatalog>> bodyPartIndex = new EnumMap<>(BodyPartType.class);
+            Map<String, List<ExerciseCatalog>> intensityIndex = new HashMap<>();
+            List<String> keys = new ArrayList<>(catalogs.size());
+            for (ExerciseCatalog catalog : catalogs) {
+                idIndex.put(catalog.getExerciseCatalogId(), catalog);
+                keys.add(HangulJamo.toSearchKey(catalog.getName()));
+                if (catalog.getName() != null) {
+                    nameIndex.putIfAbsent(catalog.getName(), catalog);
+                    lowerNameIndex.computeIfAbsent(catalog.getName().toLowerCase(Locale.ROOT), name -> new ArrayList<>())
+                            .add(catalog);
+                }
+                if (catalog.getBodyPart() != null) {
+                    bodyPartIndex.computeIfAbsent(catalog.getBodyPart(), bodyPart -> new ArrayList<>()).add(catalog);
+                }
+                intensityIndex.computeIfAbsent(intensityKey(catalog.getIntensity()), intensity -> new ArrayList<>())
+                        .add(catalog);
+            }
+
+            this.version = version;
+            this.catalogs = List.copyOf(catalogs);
+            this.searchKeys = List.copyOf(keys);
+            this.byId = Map.copyOf(idIndex);
+            this.byName = Map.copyOf(nameIndex);
+            this.byLowerName = copyGroups(lowerNameIndex);
+            this.byBodyPart = copyGroups(bodyPartIndex);
+            this.byIntensity = copyGroups(intensityIndex);
+        }
+
+        private static <K> Map<K, List<ExerciseCatalog>> copyGroups(Map<K, List<ExerciseCatalog>> groups) {
+            Map<K, List<ExerciseCatalog>> copy = new HashMap<>();
+            groups.forEach((key, group) -> copy.put(key, List.copyOf(group)));
+            return Map.copyOf(copy);
+        }
+    }
+
+    /**
+     * 현재 스냅샷 버전 (다시 로드할 때마다 1씩 증가)
+     */
+    public long getVersion() {
+        return snapshot().version;
+    }
+
+    /**
+     * 전체 운동 카탈로그 (ID 오름차순)
+     */
+    public List<ExerciseCatalog> getAll() {
+        return copyOf(snapshot().catalogs);
+    }
+
+    /**
+     * 전체 운동 카탈로그 (최신 등록순, 관리자용)
+     */
+    public List<ExerciseCatalog> getAllOrderByCreatedAtDesc() {
+        return snapshot().catalogs.stream()
+                .sorted(Comparator.comparing(ExerciseCatalog::getCreatedAt,
+                        Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder())))
+                .map(ExerciseCatalogRegistry::copyOf)
+                .toList();
+    }
+
+    /**
+     * ID로 운동 카탈로그 조회
+     */
+    public Optional<ExerciseCatalog> findById(Long catalogId) {
+        return catalogId != null
+                ? Optional.ofNullable(snapshot().byId.get(catalogId)).map(ExerciseCatalogRegistry::copyOf)
+                : Optional.empty();
+    }
+
+    /**
+     * 이름이 정확히 같은 운동 카탈로그 조회
+     */
+    public Optional<ExerciseCatalog> findByName(String name) {
+        return name != null
+                ? Optional.ofNullable(snapshot().byName.get(name)).map(ExerciseCatalogRegistry::copyOf)
+                : Optional.empty();
+    }
+
+    /**
+     * 이름(대소문자 무시)과 운동 부위가 같은 운동 카탈로그 조회
+     */
+    public Optional<ExerciseCatalog> findByNameIgnoreCaseAndBodyPart(String name, BodyPartType bodyPart) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        return snapshot().byLowerName.getOrDefault(name.toLowerCase(Locale.ROOT), List.of()).stream()
+                .filter(catalog -> catalog.getBodyPart() == bodyPart)
+                .findFirst()
+                .map(ExerciseCatalogRegistry::copyOf);
+    }
+
+    /**
+     * 운동 이름 검색 (자모 단위 부분 일치, 대소문자/공백 무시)
+     */
+    public List<ExerciseCatalog> search(String keyword) {
+        Snapshot current = snapshot();
+        String key = HangulJamo.toSearchKey(keyword);
+        if (key.isEmpty()) {
+            return copyOf(current.catalogs);
+        }
+        List<ExerciseCatalog> matches = new ArrayList<>();
+        for (int i = 0; i < current.catalogs.size(); i++) {
+            if (current.searchKeys.get(i).contains(key)) {
+                matches.add(copyOf(current.catalogs.get(i)));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 운동 부위별 운동 카탈로그
+     */
+    public List<ExerciseCatalog> findByBodyPart(BodyPartType bodyPart) {
+        return copyOf(snapshot().byBodyPart.getOrDefault(bodyPart, List.of()));
+    }
+
+    /**
+     * 강도별 운동 카탈로그 (null 이면 강도 미설정 운동)
+     */
+    public List<ExerciseCatalog> findByIntensity(String intensity) {
+        return copyOf(snapshot().byIntensity.getOrDefault(intensityKey(intensity), List.of()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(ExerciseCatalogChangeEvent event) {
+        refresh();
+    }
+
+    /**
+     * 다른 서버에서 바뀐 카탈로그 반영 (로드 전이면 건너뜀)
+     */
+    @Scheduled(fixedDelay = REFRESH_INTERVAL_MS, initialDelay = REFRESH_INTERVAL_MS)
+    public void scheduledRefresh() {
+        if (snapshot != null) {
+            refresh();
+        }
+    }
+
+    /**
+     * DB에서 운동 카탈로그를 다시 로드해 스냅샷 교체
+     */
+    public synchronized void refresh() {
+        List<ExerciseCatalog> catalogs = exerciseCatalogRepository.findAll().stream()
+                .sorted(Comparator.comparing(ExerciseCatalog::getExerciseCatalogId))
+                .map(ExerciseCatalogRegistry::copyOf)
+                .toList();
+        long version = snapshot != null ? snapshot.version + 1 : 1;
+        snapshot = new Snapshot(version, catalogs);
+        log.info("[운동 카탈로그] 스냅샷 로드 - 버전 {}, {}개", version, catalogs.size());
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private static String intensityKey(String intensity) {
+        return intensity != null ? intensity.toLowerCase(Locale.ROOT) : NO_INTENSITY;
+    }
+
+    private static List<ExerciseCatalog> copyOf(List<ExerciseCatalog> catalogs) {
+        return catalogs.stream().map(ExerciseCatalogRegistry::copyOf).toList();
+    }
+
+    private static ExerciseCatalog copyOf(ExerciseCatalog source) {
+        ExerciseCatalog copy = new ExerciseCatalog();
+        copy.setExerciseCatalogId(source.getExerciseCatalogId());
+        copy.setUuid(source.getUuid());
+        copy.setName(source.getName());
+        copy.setBodyPart(source.getBodyPart());
+        copy.setDescription(source.getDescription());
+        copy.setIntensity(source.getIntensity());
+        // getExerciseType() 은 미설정 값을 "미지정"으로 바꿔 돌려주므로 원래 값(null)으로 되돌려 복사
+        String exerciseType = source.getExerciseType();
+        copy.setExerciseType(UNSET_EXERCISE_TYPE.equals(exerciseType) ? null : exerciseType);
+        copy.setCreatedAt(source.getCreatedAt());
+        return copy;
+    }
+}
@@ -0,0 +1,602 @@
+package com.lifebit.coreapi.service.food;
+
+import com.lifebit.coreapi.event.FoodCatalogChangeEvent;
+import com.lifebit.coreapi.repository.FoodItemRepository;
+import com.lifebit.coreapi.service.search.HangulJamo;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+/**
+ * 음식 이름(food_items.name) 인메모리 검색 인덱스
+ *
+ * 이름을 HangulJamo 검색 키(자모 분해)로 바꿔 두고
+ * - 검색어가 3자모 이상이면 자모 3-gram 역색인의 교집합(희소한 3-gram부터)으로 후보를 좁힌 뒤 부분 문자열 확인
+ * - 접두어 일치는 정렬된 검색 키에서 이진 탐색으로 구한 범위 전체를 순위 힙(limit 개)에 넣어 순위를 매긴 뒤 자름
+ * - 결과가 limit 보다 적고 검색어가 5자모 이상이면 3-gram 적중 수로 후보를 모아 편집 거리 1 이내 오타까지 허용
+ * 순위는 완전 일치 > 접두어 > 부분 일치 > 오타 허용, 같은 순위에서는 짧은 이름, 작은 ID 순이다.
+ *
+ * 전체 카탈로그는 불변 세그먼트로 한 번에 만들고, 이후 추가/이름 변경/삭제는 FoodCatalogChangeEvent 로
+ * 작은 변경분(delta)과 숨김 ID 집합에만 반영한다. 변경분이 REBUILD_DELTA_THRESHOLD 를 넘거나 매일 새벽에 세그먼트를 다시 만든다.
+ * 다른 경로(배치 적재 등)로 추가된 음식은 CATCH_UP_INTERVAL_MS 마다 마지막 ID 이후만 읽어 변경분에 넣는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FoodSearchIndex {
+
+    private static final int GRAM = 3;
+    private static final int FUZZY_MIN_LENGTH = 5;
+    private static final int FUZZY_MAX_DISTANCE = 1;
+    private static final int MAX_FUZZY_CANDIDATES = 2000;
+    private static final int REBUILD_DELTA_THRESHOLD = 5000;
+    private static final int LOAD_PAGE_SIZE = 10000;
+    private static final long CATCH_UP_INTERVAL_MS = 300_000;
+
+    private static final int RANK_EXACT = 0;
+    private static final int RANK_PREFIX = 1;
+    private static final int RANK_SUBSTRING = 2;
+    private static final int RANK_FUZZY = 3;
+
+    private static final Comparator<Hit> BEST_FIRST = Comparator
+            .comparingInt((Hit hit) -> hit.rank)
+            .thenComparingInt(hit -> hit.keyLength)
+            .thenComparingLong(hit -> hit.id);
+
+    private final FoodItemRepository foodItemRepository;
+
+    private final Object writeLock = new Object();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final ExecutorService buildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "food-search-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile State state;
+    // 세그먼트 재구성 중 들어온 변경 (재구성 결과에 다시 적용, 재구성 중이 아니면 null)
+    private List<Entry> rebuildJournal;
+
+    private static final class Entry {
+        private final long id;
+        private final String name;
+        private final String key;
+
+        private Entry(long id, String name) {
+            this.id = id;
+            this.name = name;
+            this.key = name != null ? HangulJamo.toSearchKey(name) : null;
+        }
+
+        private boolean isRemoved() {
+            return name == null;
+        }
+    }
+
+    private static final class Hit {
+        private final int rank;
+        private final int keyLength;
+        private final long id;
+
+        private Hit(int rank, int keyLength, long id) {
+            this.rank = rank;
+            this.keyLength = keyLength;
+            this.id = id;
+        }
+    }
+
+    /**
+     * 전체 카탈로그의 불변 세그먼트 (위치 = ID 오름차순 순번)
+     */
+    private static final class Segment {
+        private final long[] ids;
+        private final String[] keys;
+        private final int[] keyOrder;
+        private final Map<Long, int[]> postings;
+        private final Map<String, int[]> byExactName;
+
+        private Segment(List<Entry> entries) {
+            int size = entries.size();
+            ids = new long[size];
+            keys = new String[size];
+            Map<Long, PostingBuilder> builders = new HashMap<>();
+            Map<String, List<Integer>> exactNames = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                Entry entry = entries.get(i);
+                ids[i] = entry.id;
+                keys[i] = entry.key;
+                for (long gram : grams(entry.key)) {
+                    builders.computeIfAbsent(gram, g -> new PostingBuilder()).add(i);
+                }
+                exactNames.computeIfAbsent(normalizeName(entry.name), name -> new ArrayList<>(1)).add(i);
+            }
+
+            postings = new HashMap<>(builders.size() * 4 / 3 + 1);
+            builders.forEach((gram, builder) -> postings.put(gram, builder.toArray()));
+            byExactName = new HashMap<>(exactNames.size() * 4 / 3 + 1);
+            exactNames.forEach((name, positions) ->
+                    byExactName.put(name, positions.stream().mapToInt(Integer::intValue).toArray()));
+            keyOrder = IntStream.range(0, size).boxed()
+                    .sorted(Comparator.comparing((Integer i) -> keys[i]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        private int size() {
+            return ids.length;
+        }
+
+        private boolean contains(long id) {
+            return Arrays.binarySearch(ids, id) >= 0;
+        }
+
+        private long maxId() {
+            return ids.length > 0 ? ids[ids.length - 1] : 0L;
+        }
+
+        // keyOrder 에서 key 이상인 첫 위치
+        private int lowerBound(String key) {
+            int low = 0;
+            int high = keyOrder.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[keyOrder[mid]].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private static final class PostingBuilder {
+        private int[] positions = new int[4];
+        private int size;
+
+        private void add(int position) {
+            // 같은 이름 안에서 반복되는 3-gram은 한 번만 (위치는 오름차순으로만 들어온다)
+            if (size > 0 && positions[size - 1] == position) {
+                return;
+            }
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            positions[size++] = position;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(positions, size);
+        }
+    }
+
+    /**
+     * 검색 시점의 인덱스 (세그먼트 + 변경분 + 세그먼트에서 가려진 ID)
+     */
+    private static final class State {
+        private final Segment base;
+        private final Map<Long, Entry> delta;
+        private final Set<Long> hidden;
+
+        private State(Segment base, Map<Long, Entry> delta, Set<Long> hidden) {
+            this.base = base;
+            this.delta = delta;
+            this.hidden = hidden;
+        }
+
+        private State apply(List<Entry> changes) {
+            Map<Long, Entry> nextDelta = new HashMap<>(delta);
+            Set<Long> nextHidden = new HashSet<>(hidden);
+            for (Entry change : changes) {
+                if (base.contains(change.id)) {
+                    nextHidden.add(change.id);
+                }
+                if (change.isRemoved()) {
+                    nextDelta.remove(change.id);
+                } else {
+                    nextDelta.put(change.id, change);
+                }
+            }
+            return new State(base, Map.copyOf(nextDelta), Set.copyOf(nextHidden));
+        }
+
+        private long maxId() {
+            long max = base.maxId();
+            for (Long id : delta.keySet()) {
+                max = Math.max(max, id);
+            }
+            return max;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildAsync();
+    }
+
+    /**
+     * 인덱스 적재 완료 여부 (적재 전에는 호출 측이 DB 검색으로 대체)
+     */
+    public boolean isReady() {
+        return state != null;
+    }
+
+    /**
+     * 음식 이름 검색 - 순위가 높은 순서의 음식 ID 최대 limit 개
+     */
+    public List<Long> search(String query, int limit) {
+        return search(query, limit, true);
+    }
+
+    /**
+     * 음식 이름 검색 (allowFuzzy 가 false 면 오타 허용 단계를 건너뛰고 완전 일치/접두어/부분 일치만)
+     */
+    public List<Long> search(String query, int limit, boolean allowFuzzy) {
+        State current = state;
+        String key = HangulJamo.toSearchKey(query);
+        if (current == null || key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, BEST_FIRST.reversed());
+        Segment base = current.base;
+
+        int found = scanPrefix(current, key, limit, top);
+        if (key.length() >= GRAM && found < limit) {
+            found += scanSubstring(current, key, limit, top);
+        }
+        found += scanDelta(current, key, limit, top);
+        if (allowFuzzy && key.length() >= FUZZY_MIN_LENGTH && found < limit) {
+            scanFuzzy(current, key, limit, top);
+        }
+
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(BEST_FIRST);
+        List<Long> ids = new ArrayList<>(hits.size());
+        for (Hit hit : hits) {
+            ids.add(hit.id);
+        }
+        log.debug("[음식 검색] '{}' - {}건 (카탈로그 {}건, 변경분 {}건)",
+                query, ids.size(), base.size(), current.delta.size());
+        return ids;
+    }
+
+    /**
+     * 이름이 정확히 일치하는 음식 ID (대소문자/앞뒤 공백 무시, 여러 개면 가장 작은 ID, 없으면 null)
+     */
+    public Long findIdByExactName(String name) {
+        State current = state;
+        if (current == null || name == null) {
+            return null;
+        }
+        String normalized = normalizeName(name);
+        Long found = null;
+        int[] positions = current.base.byExactName.get(normalized);
+        if (positions != null) {
+            for (int position : positions) {
+                long id = current.base.ids[position];
+                if (!current.hidden.contains(id)) {
+                    found = id;
+                    break;
+                }
+            }
+        }
+        for (Entry entry : current.delta.values()) {
+            if (normalizeName(entry.name).equals(normalized) && (found == null || entry.id < found)) {
+                found = entry.id;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 음식 추가/이름 변경/삭제 트랜잭션 커밋 이후 변경분에 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChange(FoodCatalogChangeEvent event) {
+        if (event.getFoodItemId() != null) {
+            applyChanges(List.of(new Entry(event.getFoodItemId(), event.getName())));
+        }
+    }
+
+    /**
+     * 다른 경로로 추가된 음식 반영 (인덱스의 마지막 ID 이후만 조회)
+     */
+    @Scheduled(fixedDelay = CATCH_UP_INTERVAL_MS, initialDelay = CATCH_UP_INTERVAL_MS)
+    public void catchUp() {
+        State current = state;
+        if (current == null || rebuilding.get()) {
+            return;
+        }
+        List<Entry> added = loadEntriesAfter(current.maxId());
+        if (!added.isEmpty()) {
+            applyChanges(added);
+            log.info("[음식 검색] 외부 추가 음식 {}건 반영", added.size());
+        }
+    }
+
+    /**
+     * 매일 새벽 세그먼트 재구성 (변경분 정리 및 누락 보정)
+     */
+    @Scheduled(cron = "0 40 3 * * *")
+    public void scheduledRebuild() {
+        rebuildAsync();
+    }
+
+    /**
+     * 백그라운드에서 세그먼트 재구성 (이미 진행 중이면 무시)
+     */
+    public void rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            buildExecutor.execute(this::rebuild);
+        } catch (RejectedExecutionException e) {
+            rebuilding.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        buildExecutor.shutdownNow();
+    }
+
+    private void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            synchronized (writeLock) {
+                rebuildJournal = new ArrayList<>();
+            }
+            Segment segment = new Segment(loadEntriesAfter(0L));
+            synchronized (writeLock) {
+                State rebuilt = new State(segment, Map.of(), Set.of());
+                if (!rebuildJournal.isEmpty()) {
+                    rebuilt = rebuilt.apply(rebuildJournal);
+                }
+                state = rebuilt;
+            }
+            log.info("[음식 검색] 인덱스 구성 완료 - {}건, {}ms", segment.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("[음식 검색] 인덱스 구성 실패 - 기존 인덱스 유지: {}", e.getMessage(), e);
+        } finally {
+            synchronized (writeLock) {
+                rebuildJournal = null;
+            }
+            rebuilding.set(false);
+        }
+    }
+
+    private void applyChanges(List<Entry> changes) {
+        int deltaSize;
+        synchronized (writeLock) {
+            if (rebuildJournal != null) {
+                rebuildJournal.addAll(changes);
+            }
+            State current = state;
+            if (current == null) {
+                return;
+            }
+            state = current.apply(changes);
+            deltaSize = state.delta.size() + state.hidden.size();
+        }
+        if (deltaSize > REBUILD_DELTA_THRESHOLD) {
+            rebuildAsync();
+        }
+    }
+
+    private List<Entry> loadEntriesAfter(long afterId) {
+        List<Entry> entries = new ArrayList<>();
+        long cursor = afterId;
+        while (true) {
+            List<Object[]> rows = foodItemRepository.findIdAndNameAfter(cursor, PageRequest.of(0, LOAD_PAGE_SIZE));
+            for (Object[] row : rows) {
+                long id = ((Number) row[0]).longValue();
+                entries.add(new Entry(id, row[1] != null ? (String) row[1] : ""));
+                cursor = id;
+            }
+            if (rows.size() < LOAD_PAGE_SIZE) {
+                return entries;
+            }
+        }
+    }
+
+    // 접두어 일치 (완전 일치 포함) - 정렬된 검색 키의 이진 탐색 범위 전체
+    // 사전순 범위 중간에서 자르면 뒤쪽의 짧은 이름이 빠지므로, 범위 전체를 순위 힙에 넣은 뒤 limit 개만 남김
+    private int scanPrefix(State current, String key, int limit, PriorityQueue<Hit> top) {
+        Segment base = current.base;
+        int from = base.lowerBound(key);
+        int to = base.lowerBound(key + Character.MAX_VALUE);
+        int found = 0;
+        for (int i = from; i < to; i++) {
+            int position = base.keyOrder[i];
+            int length = base.keys[position].length();
+            if (offer(current, position, length == key.length() ? RANK_EXACT : RANK_PREFIX, length, limit, top)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    // 부분 일치 (접두어 제외) - 3-gram 역색인 교집합 후 확인
+    private int scanSubstring(State current, String key, int limit, PriorityQueue<Hit> top) {
+        Segment base = current.base;
+        List<int[]> lists = new ArrayList<>();
+        for (long gram : grams(key)) {
+            int[] posting = base.postings.get(gram);
+            if (posting == null) {
+                return 0;
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.length));
+
+        int[] candidates = lists.get(0);
+        for (int i = 1; i < lists.size() && candidates.length > 0; i++) {
+            candidates = intersect(candidates, lists.get(i));
+        }
+
+        int found = 0;
+        for (int position : candidates) {
+            String candidate = base.keys[position];
+            if (!candidate.startsWith(key) && candidate.contains(key)
+                    && offer(current, position, RANK_SUBSTRING, candidate.length(), limit, top)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    // 오타 허용 - 3-gram 적중 수가 (검색어 3-gram 수 - 3) 이상인 후보만 편집 거리 확인
+    private void scanFuzzy(State current, String key, int limit, PriorityQueue<Hit> top) {
+        Segment base = current.base;
+        Set<Long> queryGrams = grams(key);
+        int threshold = Math.max(1, queryGrams.size() - GRAM * FUZZY_MAX_DISTANCE);
+
+        // 호출마다 검색어 3-gram 이 나오는 위치만 센다 (카탈로그 크기의 배열을 스레드마다 두지 않음)
+        Map<Integer, Integer> counts = new HashMap<>();
+        List<Integer> candidates = new ArrayList<>();
+        for (long gram : queryGrams) {
+            int[] posting = base.postings.get(gram);
+            if (posting == null) {
+                continue;
+            }
+            for (int position : posting) {
+                if (counts.merge(position, 1, Integer::sum) == threshold && candidates.size() < MAX_FUZZY_CANDIDATES) {
+                    candidates.add(position);
+                }
+            }
+        }
+        for (int position : candidates) {
+            String candidate = base.keys[position];
+            if (!candidate.contains(key) && withinDistance(candidate, key, FUZZY_MAX_DISTANCE)) {
+                offer(current, position, RANK_FUZZY, candidate.length(), limit, top);
+            }
+        }
+
+        for (Entry entry : current.delta.values()) {
+            if (!entry.key.contains(key) && withinDistance(entry.key, key, FUZZY_MAX_DISTANCE)) {
+                offer(top, new Hit(RANK_FUZZY, entry.key.length(), entry.id), limit);
+            }
+        }
+    }
+
+    // 변경분은 크기가 작으므로 선형 탐색
+    private int scanDelta(State current, String key, int limit, PriorityQueue<Hit> top) {
+        int found = 0;
+        for (Entry entry : current.delta.values()) {
+            int rank;
+            if (entry.key.startsWith(key)) {
+                rank = entry.key.length() == key.length() ? RANK_EXACT : RANK_PREFIX;
+            } else if (key.length() >= GRAM && entry.key.contains(key)) {
+                rank = RANK_SUBSTRING;
+            } else {
+                continue;
+            }
+            offer(top, new Hit(rank, entry.key.length(), entry.id), limit);
+            found++;
+        }
+        return found;
+    }
+
+    private boolean offer(State current, int position, int rank, int keyLength, int limit, PriorityQueue<Hit> top) {
+        long id = current.base.ids[position];
+        if (current.hidden.contains(id)) {
+            return false;
+        }
+        offer(top, new Hit(rank, keyLength, id), limit);
+        return true;
+    }
+
+    private static void offer(PriorityQueue<Hit> top, Hit hit, int limit) {
+        if (top.size() < limit) {
+            top.add(hit);
+        } else if (BEST_FIRST.compare(hit, top.peek()) < 0) {
+            top.poll();
+            top.add(hit);
+        }
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    // 검색 키의 3-gram (문자 3개를 long 하나로 묶음)
+    private static Set<Long> grams(String key) {
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= key.length(); i++) {
+            grams.add(((long) key.charAt(i) << 32) | ((long) key.charAt(i + 1) << 16) | key.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    // text 의 어떤 부분 문자열과 pattern 의 편집 거리가 maxDistance 이하인지 (Sellers 알고리즘)
+    private static boolean withinDistance(String text, String pattern, int maxDistance) {
+        int m = pattern.length();
+        int[] previous = new int[m + 1];
+        int[] current = new int[m + 1];
+        for (int i = 0; i <= m; i++) {
+            previous[i] = i;
+        }
+        if (previous[m] <= maxDistance) {
+            return true;
+        }
+        for (int j = 0; j < text.length(); j++) {
+            char c = text.charAt(j);
+            current[0] = 0;
+            for (int i = 1; i <= m; i++) {
+                int substitution = previous[i - 1] + (pattern.charAt(i - 1) == c ? 0 : 1);
+                current[i] = Math.min(substitution, Math.min(previous[i], current[i - 1]) + 1);
+            }
+            if (current[m] <= maxDistance) {
+                return true;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return false;
+    }
+
+    private static String normalizeName(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
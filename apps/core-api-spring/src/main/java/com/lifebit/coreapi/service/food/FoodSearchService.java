@@ -0,0 +1,116 @@
+package com.lifebit.coreapi.service.food;
+
+import com.lifebit.coreapi.entity.FoodItem;
+import com.lifebit.coreapi.repository.FoodItemRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 음식 검색 (FoodSearchIndex 로 ID를 찾고 PK 조회로 엔티티를 가져온다)
+ * 인덱스 적재 전에는 기존 이름 LIKE 검색으로 대체한다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class FoodSearchService {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+    // searchContaining 에서 이름 기준으로 다시 거르기 전에 인덱스에서 가져오는 후보 수
+    private static final int CONTAINING_CANDIDATES = 20;
+
+    private final FoodSearchIndex foodSearchIndex;
+    private final FoodItemRepository foodItemRepository;
+
+    /**
+     * 이름으로 음식 검색 (순위 순, 최대 limit 개)
+     */
+    public List<FoodItem> search(String keyword, int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+        if (!foodSearchIndex.isReady()) {
+            return foodItemRepository.findByNameContainingIgnoreCase(keyword.trim()).stream()
+                    .limit(boundedLimit)
+                    .toList();
+        }
+
+        List<Long> ids = foodSearchIndex.search(keyword, boundedLimit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, FoodItem> byId = foodItemRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(FoodItem::getFoodItemId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 이름에 검색어가 그대로 들어 있는 음식만 검색 (오타 허용 없음, 순위 순, 최대 limit 개)
+     * 인덱스는 자모 단위로 비교하므로 접두어가 글자 중간에서 끝나는 경우("가" → "각")를 이름 기준으로 한 번 더 거른다.
+     */
+    public List<FoodItem> searchContaining(String keyword, int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+        String needle = keyword.trim().toLowerCase(Locale.ROOT);
+        if (!foodSearchIndex.isReady()) {
+            return foodItemRepository.findByNameContainingIgnoreCase(keyword.trim()).stream()
+                    .sorted(Comparator.comparingInt((FoodItem item) -> item.getName().length())
+                            .thenComparing(FoodItem::getFoodItemId))
+                    .limit(boundedLimit)
+                    .toList();
+        }
+
+        List<Long> ids = foodSearchIndex.search(keyword, CONTAINING_CANDIDATES, false);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, FoodItem> byId = foodItemRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(FoodItem::getFoodItemId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .filter(item -> item.getName().toLowerCase(Locale.ROOT).contains(needle))
+                .limit(boundedLimit)
+                .toList();
+    }
+
+    /**
+     * 이름이 정확히 일치하는 음식 (대소문자 무시)
+     */
+    public Optional<FoodItem> findByExactName(String name) {
+        if (name == null || name.isBlank()) {
+            return Optional.empty();
+        }
+        if (!foodSearchIndex.isReady()) {
+            return findByExactNameInDatabase(name);
+        }
+        Long id = foodSearchIndex.findIdByExactName(name);
+        return id != null ? foodItemRepository.findById(id) : Optional.empty();
+    }
+
+    /**
+     * 이름이 정확히 일치하는 음식을 DB에서 조회 (인덱스에 아직 반영되지 않은 음식 확인용, 여러 개면 가장 작은 ID)
+     */
+    public Optional<FoodItem> findByExactNameInDatabase(String name) {
+        if (name == null || name.isBlank()) {
+            return Optional.empty();
+        }
+        return foodItemRepository.findFirstByNameIgnoreCaseOrderByFoodItemIdAsc(name.trim());
+    }
+}
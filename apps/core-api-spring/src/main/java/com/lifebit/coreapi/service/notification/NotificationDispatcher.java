@@ -0,0 +1,81 @@
+package com.lifebit.coreapi.service.notification;
+
+import com.lifebit.coreapi.repository.notification.NotificationBatchRepository;
+import com.lifebit.coreapi.repository.notification.NotificationBatchRepository.NotificationInsert;
+import com.lifebit.coreapi.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 대량 알림 발송
+ *
+ * - 개인 알림 목록: CHUNK_SIZE 단위 JDBC 배치 INSERT, 청크마다 별도 트랜잭션으로 커밋 후 카운터 반영
+ * - 전체 공지(broadcast): 시스템 알림 한 건만 저장하고, 사용자별 읽음 여부는 조회 시 읽음 기준점으로 판정 (fan-out on read)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationDispatcher {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final NotificationBatchRepository notificationBatchRepository;
+    private final NotificationService notificationService;
+    private final UnreadNotificationCounterStore unreadNotificationCounterStore;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 개인 알림을 일괄 저장하고 저장된 건수 반환 (실패한 청크는 건너뛰고 계속 진행)
+     */
+    public int dispatch(List<NotificationInsert> notifications) {
+        if (notifications.isEmpty()) {
+            return 0;
+        }
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        int saved = 0;
+        for (int from = 0; from < notifications.size(); from += CHUNK_SIZE) {
+            List<NotificationInsert> chunk = notifications.subList(from, Math.min(from + CHUNK_SIZE, notifications.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> notificationBatchRepository.batchInsert(chunk, now));
+            } catch (Exception e) {
+                log.warn("알림 일괄 저장 실패 - {}건 건너뜀, 오류: {}", chunk.size(), e.getMessage(), e);
+                continue;
+            }
+            saved += chunk.size();
+            // 커밋된 청크의 카운터 반영 실패는 저장 결과와 무관 (캐시 만료/다음 조회에서 DB 값으로 복구)
+            try {
+                unreadNotificationCounterStore.incrementAll(chunk.stream().map(NotificationInsert::getUserId).toList());
+            } catch (Exception e) {
+                log.warn("저장된 알림 {}건의 읽지 않은 알림 수 반영 실패, 오류: {}", chunk.size(), e.getMessage(), e);
+            }
+        }
+        log.info("[알림 발송] {}건 저장 완료, {}ms", saved, System.currentTimeMillis() - startedAt);
+        return saved;
+    }
+
+    /**
+     * 같은 내용의 개인 알림을 여러 사용자에게 일괄 저장
+     */
+    public int dispatchToUsers(Collection<Long> userIds, String type, String title, String message) {
+        List<NotificationInsert> notifications = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            notifications.add(new NotificationInsert(userId, type, title, message, null));
+        }
+        return dispatch(notifications);
+    }
+
+    /**
+     * 전체 사용자 공지 (시스템 알림 한 건, 사용자 수와 무관하게 INSERT 1회)
+     */
+    public void broadcast(String type, String title, String message) {
+        notificationService.saveNotification(null, type, title, message);
+    }
+}
@@ -0,0 +1,194 @@
+package com.lifebit.coreapi.service.notification;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lifebit.coreapi.event.UnreadNotificationChangeEvent;
+import com.lifebit.coreapi.event.UnreadNotificationChangeEvent.Change;
+import com.lifebit.coreapi.handler.HealthWebSocketHandler;
+import com.lifebit.coreapi.repository.NotificationRepository;
+import com.lifebit.coreapi.websocket.WebSocketPushHub;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 읽지 않은 알림 수 메모리 카운터
+ *
+ * 조회 시 캐시에 없을 때만 DB에서 계산하고, 알림 저장/읽음이 커밋되면 캐시된 값에 +N/-N 을 바로 반영한다.
+ * (모두 읽음/삭제처럼 증감을 알 수 없는 변경만 캐시를 버리고 다음 조회에서 다시 계산)
+ * 변경은 WebSocketPushHub 의 노드 간 중계로 모든 노드에 전달되어, 각 노드가 자기 캐시에 같은 증감을 반영하고
+ * 자기 노드에 연결된 세션에 새 값을 WebSocket(notification_count_update)으로 밀어준다.
+ *
+ * 커밋 전 값을 읽은 DB 조회가 증감 이후에 캐시에 들어가지 않도록, 사용자 ID 를 나눈 구간별 버전을 두고
+ * 조회 도중 같은 구간(또는 전체 사용자)에 변경이 있었으면 조회 결과를 캐시하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UnreadNotificationCounterStore {
+
+    private static final long MAXIMUM_SIZE = 100_000;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(30);
+    private static final String RELAY_TYPE = "unread_notification_change";
+    private static final String ALL_USERS = "*";
+    // NOTIFY 페이로드 한도(약 8000바이트) 안에 들어가도록 메시지당 사용자 수 제한
+    private static final int USER_IDS_PER_RELAY = 500;
+    private static final int VERSION_STRIPES = 1024;
+
+    private final NotificationRepository notificationRepository;
+    private final HealthWebSocketHandler healthWebSocketHandler;
+    private final WebSocketPushHub pushHub;
+
+    private final Cache<Long, Long> counters = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(EXPIRE_AFTER_WRITE)
+            .recordStats()
+            .build();
+
+    // 변경이 반영될 때마다 증가 (조회 도중 변경 여부 판정용): 사용자 구간별 / 전체 사용자 변경
+    private final AtomicLongArray stripeVersions = new AtomicLongArray(VERSION_STRIPES);
+    private final AtomicLong allUsersVersion = new AtomicLong();
+
+    @PostConstruct
+    public void subscribeRelay() {
+        pushHub.subscribeRelayed(RELAY_TYPE, this::onRelayedChange);
+    }
+
+    /**
+     * 읽지 않은 알림 수 (캐시 미스일 때만 DB 조회)
+     */
+    public long getUnreadCount(Long userId) {
+        Long cached = counters.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+        int stripe = stripeOf(userId);
+        long stripeVersion = stripeVersions.get(stripe);
+        long allVersion = allUsersVersion.get();
+        long unreadCount = notificationRepository.countUnreadForUser(userId);
+        // 같은 키의 증감과 직렬화되므로, 조회 도중 변경이 있었다면 여기서 걸러짐
+        counters.asMap().compute(userId, (id, current) -> {
+            if (current != null) {
+                return current;
+            }
+            boolean unchanged = stripeVersions.get(stripe) == stripeVersion && allUsersVersion.get() == allVersion;
+            return unchanged ? Long.valueOf(unreadCount) : null;
+        });
+        return unreadCount;
+    }
+
+    /**
+     * 일괄 저장(커밋 완료)된 개인 알림을 반영 (사용자 ID 는 알림 건수만큼 중복 가능)
+     */
+    public void incrementAll(Collection<Long> userIds) {
+        Map<Long, Long> countsByUser = userIds.stream()
+                .collect(Collectors.groupingBy(userId -> userId, LinkedHashMap::new, Collectors.counting()));
+        // 같은 증가량끼리 묶어 중계
+        Map<Long, List<Long>> usersByAmount = new LinkedHashMap<>();
+        countsByUser.forEach((userId, amount) ->
+                usersByAmount.computeIfAbsent(amount, key -> new ArrayList<>()).add(userId));
+        usersByAmount.forEach((amount, ids) -> relay(Change.INCREMENT, amount, ids));
+        countsByUser.forEach((userId, amount) -> applyToUser(userId, Change.INCREMENT, amount));
+    }
+
+    /**
+     * 알림 트랜잭션 커밋 이후 반영 (트랜잭션 밖에서 발행된 경우 즉시 반영)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUnreadNotificationChange(UnreadNotificationChangeEvent event) {
+        try {
+            if (event.isAllUsers()) {
+                pushHub.publishToOtherNodes(RELAY_TYPE, toPayload(event.getChange(), event.getAmount(), ALL_USERS));
+                applyToAllUsers(event.getChange(), event.getAmount());
+            } else {
+                relay(event.getChange(), event.getAmount(), List.of(event.getUserId()));
+                applyToUser(event.getUserId(), event.getChange(), event.getAmount());
+            }
+        } catch (Exception e) {
+            // 캐시는 먼저 반영하므로 전송에 실패해도 다음 조회에서 올바른 값을 받음
+            log.warn("읽지 않은 알림 수 반영 실패 - 사용자: {}, 변경: {}, 오류: {}",
+                    event.getUserId(), event.getChange(), e.getMessage(), e);
+        }
+    }
+
+    // 다른 노드에서 중계된 변경 반영 (형식: 변경:증감량:사용자 ID 목록 또는 *)
+    private void onRelayedChange(String payload) {
+        String[] parts = payload.split(":", 3);
+        Change change = Change.valueOf(parts[0]);
+        long amount = Long.parseLong(parts[1]);
+        if (ALL_USERS.equals(parts[2])) {
+            applyToAllUsers(change, amount);
+            return;
+        }
+        for (String userId : parts[2].split(",")) {
+            applyToUser(Long.valueOf(userId), change, amount);
+        }
+    }
+
+    private void relay(Change change, long amount, Collection<Long> userIds) {
+        List<Long> ids = List.copyOf(userIds);
+        for (int from = 0; from < ids.size(); from += USER_IDS_PER_RELAY) {
+            String userIdList = ids.subList(from, Math.min(from + USER_IDS_PER_RELAY, ids.size())).stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(","));
+            pushHub.publishToOtherNodes(RELAY_TYPE, toPayload(change, amount, userIdList));
+        }
+    }
+
+    private static String toPayload(Change change, long amount, String userIds) {
+        return change.name() + ":" + amount + ":" + userIds;
+    }
+
+    // 캐시된 값에 증감 반영 후, 이 노드에 연결된 사용자면 새 값 전송
+    private void applyToUser(Long userId, Change change, long amount) {
+        stripeVersions.incrementAndGet(stripeOf(userId));
+        switch (change) {
+            case INCREMENT -> counters.asMap().computeIfPresent(userId, (id, count) -> count + amount);
+            case DECREMENT -> counters.asMap().computeIfPresent(userId, (id, count) -> Math.max(0, count - amount));
+            case RESET, INVALIDATE -> counters.invalidate(userId);
+        }
+        if (pushHub.hasLocalSession(userId.toString())) {
+            // 모두 읽음은 DB 를 다시 세지 않고 0 을 전송
+            pushUnreadCount(userId, change == Change.RESET ? 0 : getUnreadCount(userId));
+        }
+    }
+
+    // 시스템 알림: 캐시된 모든 사용자 값에 증감 반영 후, 이 노드에 연결된 모든 사용자에게 전송
+    private void applyToAllUsers(Change change, long amount) {
+        allUsersVersion.incrementAndGet();
+        switch (change) {
+            case INCREMENT -> counters.asMap().replaceAll((id, count) -> count + amount);
+            case DECREMENT -> counters.asMap().replaceAll((id, count) -> Math.max(0, count - amount));
+            case RESET, INVALIDATE -> counters.invalidateAll();
+        }
+        for (String userId : pushHub.getLocalUserIds()) {
+            try {
+                Long id = Long.valueOf(userId);
+                pushUnreadCount(id, change == Change.RESET ? 0 : getUnreadCount(id));
+            } catch (NumberFormatException e) {
+                log.debug("숫자가 아닌 사용자 ID 세션은 건너뜀: {}", userId);
+            }
+        }
+    }
+
+    private void pushUnreadCount(Long userId, long unreadCount) {
+        healthWebSocketHandler.sendLocalNotificationCountUpdate(userId.toString(),
+                Map.of("unreadCount", unreadCount));
+    }
+
+    private static int stripeOf(Long userId) {
+        return (Long.hashCode(userId) & Integer.MAX_VALUE) % VERSION_STRIPES;
+    }
+}
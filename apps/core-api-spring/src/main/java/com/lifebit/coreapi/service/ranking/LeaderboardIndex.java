@@ -0,0 +1,319 @@
+package com.lifebit.coreapi.service.ranking;
+
+import com.lifebit.coreapi.event.LeaderboardScoreChangeEvent;
+import com.lifebit.coreapi.repository.ranking.UserRankingRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 활성 랭킹(user_ranking.is_active = true)의 인메모리 리더보드 인덱스
+ * 애플리케이션 시작 시 한 번 적재하고, 점수 변경은 LeaderboardScoreChangeEvent 로 커밋 이후에 갱신한다.
+ *
+ * 내부적으로 (totalScore DESC, userId ASC) 순서의 order-statistic 트리(서브트리 크기를 가진 treap)를 사용하여
+ * "사용자 X의 순위", "상위 K명", "사용자 X 주변 사용자"를 모두 O(log N)에 계산한다.
+ * 순위는 기존 updateUserRankingPosition과 동일하게 "나보다 점수가 높은 사용자 수 + 1"이다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LeaderboardIndex {
+
+    private final UserRankingRepository userRankingRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> scoresByUserId = new HashMap<>();
+    private Node root;
+
+    /**
+     * 리더보드 조회 결과 항목
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Entry {
+        private final Long userId;
+        private final int score;
+        private final int rank;
+    }
+
+    private static final class Node {
+        private final Long userId;
+        private final int score;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(Long userId, int score) {
+            this.userId = userId;
+            this.score = score;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * DB의 활성 랭킹 전체로 인덱스를 다시 구성 (시작 시, 전체 재계산 이후 호출)
+     */
+    public void reload() {
+        List<Object[]> rows;
+        // 조회부터 교체까지 쓰기 잠금을 유지하여, 조회 도중 커밋된 점수 변경이 오래된 조회 결과로 덮이지 않게 함
+        lock.writeLock().lock();
+        try {
+            rows = userRankingRepository.findActiveUserScores();
+            scoresByUserId.clear();
+            root = null;
+            for (Object[] row : rows) {
+                upsert((Long) row[0], ((Number) row[1]).intValue());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("리더보드 인덱스 적재 완료 - 활성 랭킹 {}건", rows.size());
+    }
+
+    /**
+     * 사용자 점수 등록/변경
+     */
+    public void update(Long userId, int score) {
+        lock.writeLock().lock();
+        try {
+            upsert(userId, score);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 랭킹 점수 저장 트랜잭션 커밋 이후 반영 (트랜잭션 밖에서 발행된 경우 즉시 반영)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLeaderboardScoreChange(LeaderboardScoreChangeEvent event) {
+        update(event.getUserId(), event.getScore());
+    }
+
+    /**
+     * 사용자 제거 (활성 랭킹이 없어진 경우)
+     */
+    public void remove(Long userId) {
+        lock.writeLock().lock();
+        try {
+            Integer previous = scoresByUserId.remove(userId);
+            if (previous != null) {
+                root = delete(root, previous, userId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 순위 (나보다 점수가 높은 사용자 수 + 1), 인덱스에 없으면 0
+     */
+    public int rankOf(Long userId) {
+        lock.readLock().lock();
+        try {
+            Integer score = scoresByUserId.get(userId);
+            return score != null ? countHigherScores(score) + 1 : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 점수가 score 라고 할 때의 순위 (인덱스는 바꾸지 않음, 커밋 전 순위 계산용)
+     */
+    public int rankOfScore(Long userId, int score) {
+        lock.readLock().lock();
+        try {
+            Integer current = scoresByUserId.get(userId);
+            int higher = countHigherScores(score);
+            // 인덱스에 남아 있는 자신의 이전 점수는 제외
+            if (current != null && current > score) {
+                higher--;
+            }
+            return higher + 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 점수 기준 상위 K명
+     */
+    public List<Entry> topK(int k) {
+        lock.readLock().lock();
+        try {
+            return collect(0, Math.min(k, size(root)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 X를 중심으로 앞뒤 radius명 (X 포함), 인덱스에 없으면 빈 목록
+     */
+    public List<Entry> around(Long userId, int radius) {
+        lock.readLock().lock();
+        try {
+            Integer score = scoresByUserId.get(userId);
+            if (score == null) {
+                return List.of();
+            }
+            int position = countBefore(score, userId);
+            int from = Math.max(0, position - radius);
+            int to = Math.min(size(root), position + radius + 1);
+            return collect(from, to);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 인덱스에 등록된 활성 랭킹 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void upsert(Long userId, int score) {
+        Integer previous = scoresByUserId.put(userId, score);
+        if (previous != null) {
+            if (previous == score) {
+                return;
+            }
+            root = delete(root, previous, userId);
+        }
+        Node[] parts = split(root, score, userId);
+        root = merge(merge(parts[0], new Node(userId, score)), parts[1]);
+    }
+
+    private List<Entry> collect(int from, int to) {
+        List<Entry> result = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            Node node = select(i);
+            result.add(new Entry(node.userId, node.score, countHigherScores(node.score) + 1));
+        }
+        return result;
+    }
+
+    // (score DESC, userId ASC) 순서 비교
+    private static int compare(int score, Long userId, Node node) {
+        if (score != node.score) {
+            return score > node.score ? -1 : 1;
+        }
+        return Long.compare(userId, node.userId);
+    }
+
+    private static int size(Node node) {
+        return node != null ? node.size : 0;
+    }
+
+    private static void recalculate(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    // node를 (key 미만, key 이상) 두 트리로 분리
+    private static Node[] split(Node node, int score, Long userId) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(score, userId, node) > 0) {
+            Node[] parts = split(node.right, score, userId);
+            node.right = parts[0];
+            recalculate(node);
+            return new Node[]{node, parts[1]};
+        }
+        Node[] parts = split(node.left, score, userId);
+        node.left = parts[1];
+        recalculate(node);
+        return new Node[]{parts[0], node};
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) return right;
+        if (right == null) return left;
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            recalculate(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        recalculate(right);
+        return right;
+    }
+
+    private static Node delete(Node node, int score, Long userId) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(score, userId, node);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = delete(node.left, score, userId);
+        } else {
+            node.right = delete(node.right, score, userId);
+        }
+        recalculate(node);
+        return node;
+    }
+
+    // (score, userId)보다 앞에 있는 노드 수
+    private int countBefore(int score, Long userId) {
+        int count = 0;
+        Node node = root;
+        while (node != null) {
+            if (compare(score, userId, node) > 0) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    private int countHigherScores(int score) {
+        return countBefore(score, Long.MIN_VALUE);
+    }
+
+    // 0부터 시작하는 index번째 노드
+    private Node select(int index) {
+        Node node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        throw new IndexOutOfBoundsException("Leaderboard index out of range: " + index);
+    }
+}
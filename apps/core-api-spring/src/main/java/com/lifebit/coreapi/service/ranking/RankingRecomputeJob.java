@@ -0,0 +1,114 @@
+package com.lifebit.coreapi.service.ranking;
+
+import com.lifebit.coreapi.entity.enums.RankingTier;
+import com.lifebit.coreapi.repository.notification.NotificationBatchRepository.NotificationInsert;
+import com.lifebit.coreapi.repository.ranking.RankingBatchRepository;
+import com.lifebit.coreapi.repository.ranking.RankingBatchRepository.ScoreUpdate;
+import com.lifebit.coreapi.service.notification.NotificationDispatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 전체 사용자 랭킹 순위/등급 일괄 재계산 (집합 기반)
+ *
+ * 점수(total_score)는 기록 시 RankingUpdateDispatcher 가 목표 달성률 공식으로 갱신하므로 여기서는 바꾸지 않는다.
+ * 1. 활성 랭킹의 현재 점수를 커서로 스트리밍
+ * 2. 점수 내림차순 한 번의 정렬 패스로 등급과 순위(동점 동순위) 산정
+ * 3. CHUNK_SIZE 단위 JDBC 배치 업데이트로 저장 (청크마다 별도 트랜잭션, 그 사이 점수가 바뀐 행은 건너뜀)
+ * 4. 저장된 등급이 점수와 어긋나 있던 사용자에게 등급 변화 알림을 NotificationDispatcher로 일괄 저장
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RankingRecomputeJob {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final RankingBatchRepository rankingBatchRepository;
+    private final NotificationDispatcher notificationDispatcher;
+    private final LeaderboardIndex leaderboardIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    // 정렬/저장 단계에서 필요한 최소 정보만 보관
+    private static final class ScoredRanking {
+        private final Long rankingId;
+        private final Long userId;
+        private final int totalScore;
+        private final String previousTier;
+
+        private ScoredRanking(Long rankingId, Long userId, int totalScore, String previousTier) {
+            this.rankingId = rankingId;
+            this.userId = userId;
+            this.totalScore = totalScore;
+            this.previousTier = previousTier;
+        }
+    }
+
+    /**
+     * 모든 활성 랭킹의 등급/순위를 현재 점수 기준으로 재계산하고 처리 건수를 반환
+     */
+    public int recomputeAll() {
+        long startedAt = System.currentTimeMillis();
+
+        // 1. 현재 점수 스트리밍
+        List<ScoredRanking> scored = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> rankingBatchRepository.streamActiveRankings(
+                CHUNK_SIZE, ranking -> scored.add(new ScoredRanking(ranking.getRankingId(), ranking.getUserId(),
+                        ranking.getTotalScore(), ranking.getTier()))));
+
+        // 2. 점수 내림차순 정렬 후 순위/등급 산정, 청크 단위 저장
+        scored.sort(Comparator.comparingInt((ScoredRanking r) -> r.totalScore).reversed()
+                .thenComparing(r -> r.userId));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ScoreUpdate> chunk = new ArrayList<>(CHUNK_SIZE);
+        List<ScoredRanking> tierChanged = new ArrayList<>();
+        int rank = 0;
+        for (int i = 0; i < scored.size(); i++) {
+            ScoredRanking ranking = scored.get(i);
+            if (i == 0 || ranking.totalScore != scored.get(i - 1).totalScore) {
+                rank = i + 1;
+            }
+            RankingTier newTier = RankingTier.fromTotalScore(ranking.totalScore);
+            chunk.add(new ScoreUpdate(ranking.rankingId, ranking.totalScore, newTier.name(), rank));
+            if (!newTier.name().equals(ranking.previousTier)) {
+                tierChanged.add(ranking);
+            }
+            if (chunk.size() == CHUNK_SIZE) {
+                flush(chunk, now);
+            }
+        }
+        flush(chunk, now);
+
+        // 3. 등급 변화 알림 (JDBC 배치 일괄 저장)
+        List<NotificationInsert> notifications = new ArrayList<>(tierChanged.size());
+        for (ScoredRanking ranking : tierChanged) {
+            RankingTier newTier = RankingTier.fromTotalScore(ranking.totalScore);
+            notifications.add(new NotificationInsert(ranking.userId, "TIER_CHANGE", "등급 변화 알림",
+                    String.format("등급이 %s에서 %s로 변경되었습니다.", ranking.previousTier, newTier.name()), null));
+        }
+        notificationDispatcher.dispatch(notifications);
+
+        leaderboardIndex.reload();
+
+        long elapsedMillis = Math.max(1, System.currentTimeMillis() - startedAt);
+        log.info("[랭킹 재계산] 완료 - {}건, 등급 변화 {}건, {}ms ({} rows/sec)",
+                scored.size(), tierChanged.size(), elapsedMillis, scored.size() * 1000L / elapsedMillis);
+        return scored.size();
+    }
+
+    private void flush(List<ScoreUpdate> chunk, LocalDateTime now) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> rankingBatchRepository.batchUpdateRankPositions(chunk, now));
+        chunk.clear();
+    }
+}
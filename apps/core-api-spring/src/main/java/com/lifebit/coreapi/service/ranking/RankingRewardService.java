@@ -2,6 +2,7 @@ package com.lifebit.coreapi.service.ranking;
 
 import com.lifebit.coreapi.constant.ranking.RankingConstants;
 import com.lifebit.coreapi.dto.ranking.RankingRewardDto;
+import com.lifebit.coreapi.entity.User;
 import com.lifebit.coreapi.entity.UserRanking;
 import com.lifebit.coreapi.entity.enums.PeriodType;
 import com.lifebit.coreapi.exception.ranking.RankingNotFoundException;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,15 +25,17 @@ public class RankingRewardService {
     private final RankingHistoryRepository rankingHistoryRepository;
     private final UserService userService;
     private final RankingValidator rankingValidator;
+    private final LeaderboardIndex leaderboardIndex;
 
     @Transactional(readOnly = true)
     public List<RankingRewardDto> getSeasonRewards(int season) {
         java.util.List<UserRanking> seasonRankings = userRankingRepository.findAllBySeasonOrderByTotalScoreDesc(season, org.springframework.data.domain.PageRequest.of(0, 3)).getContent();
         int[] rewards = {10000, 5000, 2000};
+        Map<Long, User> users = userService.getUsersByIds(seasonRankings.stream().map(UserRanking::getUserId).collect(Collectors.toList()));
         java.util.List<RankingRewardDto> result = new java.util.ArrayList<>();
         for (int i = 0; i < seasonRankings.size(); i++) {
             UserRanking ranking = seasonRankings.get(i);
-            com.lifebit.coreapi.entity.User user = userService.getUserById(ranking.getUserId());
+            User user = users.get(ranking.getUserId());
             result.add(RankingRewardDto.builder()
                     .userId(ranking.getUserId())
                     .nickname(user != null ? user.getNickname() : ("사용자" + ranking.getUserId()))
@@ -51,11 +55,12 @@ public class RankingRewardService {
         // ranking_history에서 periodType별로 상위 3명 추출
         java.util.List<com.lifebit.coreapi.entity.RankingHistory> histories = rankingHistoryRepository.findByPeriodTypeOrderByRecordedAtDesc(periodType, org.springframework.data.domain.PageRequest.of(0, 3)).getContent();
         int[] rewards = {3000, 2000, 1000};
+        Map<Long, User> users = userService.getUsersByIds(histories.stream().map(history -> history.getUserRanking().getUserId()).collect(Collectors.toList()));
         java.util.List<RankingRewardDto> result = new java.util.ArrayList<>();
         for (int i = 0; i < histories.size(); i++) {
             com.lifebit.coreapi.entity.RankingHistory history = histories.get(i);
             UserRanking ranking = history.getUserRanking();
-            com.lifebit.coreapi.entity.User user = userService.getUserById(ranking.getUserId());
+            User user = users.get(ranking.getUserId());
             result.add(RankingRewardDto.builder()
                     .userId(ranking.getUserId())
                     .nickname(user != null ? user.getNickname() : ("사용자" + ranking.getUserId()))
@@ -72,10 +77,11 @@ public class RankingRewardService {
     public List<RankingRewardDto> getStreakRewards() {
         java.util.List<UserRanking> streakRankings = userRankingRepository.findTopRankingsByStreakDays(org.springframework.data.domain.PageRequest.of(0, 3));
         int[] rewards = {2000, 1000, 500};
+        Map<Long, User> users = userService.getUsersByIds(streakRankings.stream().map(UserRanking::getUserId).collect(Collectors.toList()));
         java.util.List<RankingRewardDto> result = new java.util.ArrayList<>();
         for (int i = 0; i < streakRankings.size(); i++) {
             UserRanking ranking = streakRankings.get(i);
-            com.lifebit.coreapi.entity.User user = userService.getUserById(ranking.getUserId());
+            User user = users.get(ranking.getUserId());
             result.add(RankingRewardDto.builder()
                     .userId(ranking.getUserId())
                     .nickname(user != null ? user.getNickname() : ("사용자" + ranking.getUserId()))
@@ -92,16 +98,16 @@ public class RankingRewardService {
     public RankingRewardDto getMyReward(Long userId) {
         UserRanking myRanking = userRankingRepository.findActiveByUserId(userId).orElseGet(() -> null);
         com.lifebit.coreapi.entity.User user = userService.getUserById(userId);
+        // 저장된 rank_position 대신 리더보드 인덱스의 실시간 순위 사용
+        int myRank = myRanking != null ? leaderboardIndex.rankOfScore(userId, myRanking.getTotalScore()) : 0;
         int reward = 0;
-        if (myRanking != null) {
-            if (myRanking.getRankPosition() == 1) reward = 10000;
-            else if (myRanking.getRankPosition() == 2) reward = 5000;
-            else if (myRanking.getRankPosition() == 3) reward = 2000;
-        }
+        if (myRank == 1) reward = 10000;
+        else if (myRank == 2) reward = 5000;
+        else if (myRank == 3) reward = 2000;
         return RankingRewardDto.builder()
                 .userId(userId)
                 .nickname(user != null ? user.getNickname() : ("사용자" + userId))
-                .rankPosition(myRanking != null ? myRanking.getRankPosition() : 0)
+                .rankPosition(myRank)
                 .totalScore(myRanking != null ? myRanking.getTotalScore() : 0)
                 .rewardType("personal")
                 .rewardPoints(reward)
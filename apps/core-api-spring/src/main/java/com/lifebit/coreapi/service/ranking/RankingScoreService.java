@@ -2,10 +2,12 @@ package com.lifebit.coreapi.service.ranking;
 
 import com.lifebit.coreapi.entity.UserRanking;
 import com.lifebit.coreapi.entity.enums.PeriodType;
+import com.lifebit.coreapi.event.LeaderboardScoreChangeEvent;
 import com.lifebit.coreapi.exception.ranking.RankingNotFoundException;
 import com.lifebit.coreapi.repository.ranking.UserRankingRepository;
 import com.lifebit.coreapi.validator.ranking.RankingValidator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class RankingScoreService {
     private final UserRankingRepository userRankingRepository;
     private final RankingValidator rankingValidator;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void updateScore(Long userId, int score) {
@@ -21,6 +24,7 @@ public class RankingScoreService {
         rankingValidator.validatePoints(score);
         ranking.setTotalScore(score);
         userRankingRepository.save(ranking);
+        eventPublisher.publishEvent(new LeaderboardScoreChangeEvent(userId, score));
     }
 
     @Transactional
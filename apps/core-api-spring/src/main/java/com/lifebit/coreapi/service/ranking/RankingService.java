@@ -11,17 +11,20 @@ import com.lifebit.coreapi.dto.ranking.RankingNotificationDto;
 import com.lifebit.coreapi.entity.User;
 import com.lifebit.coreapi.entity.UserRanking;
 import com.lifebit.coreapi.entity.RankingHistory;
+import com.lifebit.coreapi.event.LeaderboardScoreChangeEvent;
+import com.lifebit.coreapi.event.ScoreChangeEvent;
 import com.lifebit.coreapi.repository.UserRepository;
+import com.lifebit.coreapi.security.CurrentUser;
 import com.lifebit.coreapi.repository.ranking.UserRankingRepository;
 import com.lifebit.coreapi.repository.ranking.RankingHistoryRepository;
+import com.lifebit.coreapi.repository.ranking.RankingBatchRepository;
 import com.lifebit.coreapi.repository.ranking.RankingNotificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.scheduling.annotation.Scheduled;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -54,6 +57,7 @@ public class RankingService {
     private final UserRepository userRepository;
     private final RankingHistoryRepository rankingHistoryRepository;
     private final RankingNotificationRepository rankingNotificationRepository;
+    private final RankingBatchRepository rankingBatchRepository;
     private final HealthStatisticsService healthStatisticsService;
     private final AchievementService achievementService;
     private final ExerciseService exerciseService;
@@ -61,20 +65,27 @@ public class RankingService {
     private final NotificationService notificationService;
     private final UserGoalService userGoalService;
     private final MealLogRepository mealLogRepository;
+    private final LeaderboardIndex leaderboardIndex;
+    private final RankingRecomputeJob rankingRecomputeJob;
+    private final SeasonRolloverJob seasonRolloverJob;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CurrentUser currentUser;
 
     @Transactional(readOnly = true)
     public RankingResponseDto getRankingData() {
-        User currentUser = getCurrentUser();
         Long currentUserId = currentUser.getUserId();
 
-        // 1. 상위 10명 랭커 조회 (total_score 기준으로 변경)
-        List<UserRanking> topRankings = userRankingRepository.findTopRankings(PageRequest.of(0, 10)).getContent();
+        // 1. 상위 10명 랭커 조회 (리더보드 인덱스 기준)
+        List<LeaderboardIndex.Entry> topEntries = leaderboardIndex.topK(10);
+        Map<Long, UserRanking> topRankings = findActiveRankingsByUserId(topEntries);
+        Map<Long, User> users = findUsersById(topRankings.keySet());
         List<RankingUserDto> topRankers = new java.util.ArrayList<>();
-        int rank = 1;
-        for (UserRanking ranking : topRankings) {
-            User user = userRepository.findById(ranking.getUserId()).orElse(new User());
+        for (LeaderboardIndex.Entry entry : topEntries) {
+            UserRanking ranking = topRankings.get(entry.getUserId());
+            if (ranking == null) continue;
+            User user = users.getOrDefault(ranking.getUserId(), new User());
             topRankers.add(RankingUserDto.builder()
-                    .rank(rank++)
+                    .rank(entry.getRank())
                     .userId(ranking.getUserId())
                     .nickname(user.getNickname())
                     .score(ranking.getTotalScore())
@@ -89,20 +100,13 @@ public class RankingService {
         // 2. 나의 랭킹 정보 조회 (활성 레코드만)
         UserRanking myRankingEntity = userRankingRepository.findActiveByUserId(currentUserId)
                 .orElseGet(() -> createDefaultRanking(currentUserId));
-        // 내 랭킹의 실시간 순위 계산
-        int myRank = 0;
-        List<UserRanking> allRankings = userRankingRepository.findTopRankings(PageRequest.of(0, 1000)).getContent();
-        for (int i = 0; i < allRankings.size(); i++) {
-            if (allRankings.get(i).getUserId().equals(currentUserId)) {
-                myRank = i + 1;
-                break;
-            }
-        }
+        // 내 랭킹의 실시간 순위 계산 (리더보드 인덱스, 방금 만든 랭킹은 커밋 전이라 점수로 계산)
+        int myRank = leaderboardIndex.rankOfScore(currentUserId, myRankingEntity.getTotalScore());
         MyRankingDto myRanking = MyRankingDto.builder()
                 .rank(myRank)
                 .score(myRankingEntity.getTotalScore())
                 .streakDays(myRankingEntity.getStreakDays())
-                .totalUsers(userRankingRepository.count())
+                .totalUsers(leaderboardIndex.size())
                 .tier(myRankingEntity.getTier() != null ? myRankingEntity.getTier().name() : null)
                 .colorCode(myRankingEntity.getTier() != null ? myRankingEntity.getTier().getColorCode() : null)
                 .build();
@@ -116,17 +120,18 @@ public class RankingService {
 
     @Transactional(readOnly = true)
     public MyRankingResponseDto getMyRanking() {
-        User currentUser = getCurrentUser();
-        Long currentUserId = currentUser.getUserId();
+        User user = currentUser.getUser();
+        Long currentUserId = user.getUserId();
         UserRanking myRankingEntity = userRankingRepository.findActiveByUserId(currentUserId)
                 .orElseGet(() -> createDefaultRanking(currentUserId));
+        // 저장된 rank_position 대신 리더보드 인덱스의 실시간 순위/활성 랭킹 수 사용
         return MyRankingResponseDto.builder()
-                .rank(myRankingEntity.getRankPosition())
+                .rank(leaderboardIndex.rankOfScore(currentUserId, myRankingEntity.getTotalScore()))
                 .score(myRankingEntity.getTotalScore())
                 .streakDays(myRankingEntity.getStreakDays())
-                .totalUsers(userRankingRepository.count())
+                .totalUsers(leaderboardIndex.size())
                 .userId(currentUserId)
-                .nickname(currentUser.getNickname())
+                .nickname(user.getNickname())
                 .tier(myRankingEntity.getTier() != null ? myRankingEntity.getTier().name() : null)
                 .colorCode(myRankingEntity.getTier() != null ? myRankingEntity.getTier().getColorCode() : null)
                 .build();
@@ -135,9 +140,10 @@ public class RankingService {
     @Transactional(readOnly = true)
     public List<RankingUserDto> getSeasonRankings(int season) {
         List<UserRanking> seasonRankings = userRankingRepository.findAllBySeasonOrderByTotalScoreDesc(season, PageRequest.of(0, 10)).getContent();
+        Map<Long, User> users = findUsersById(seasonRankings.stream().map(UserRanking::getUserId).collect(Collectors.toList()));
         return seasonRankings.stream()
                 .map(ranking -> {
-                    User user = userRepository.findById(ranking.getUserId()).orElse(new User());
+                    User user = users.getOrDefault(ranking.getUserId(), new User());
                     return RankingUserDto.builder()
                             .rank(ranking.getRankPosition())
                             .userId(ranking.getUserId())
@@ -157,10 +163,11 @@ public class RankingService {
     public List<RankingUserDto> getPeriodRankings(String periodType) {
         // 최근 기록 기준, ranking_history에서 periodType별로 상위 10명 추출
         List<com.lifebit.coreapi.entity.RankingHistory> histories = rankingHistoryRepository.findByPeriodTypeOrderByRecordedAtDesc(periodType, PageRequest.of(0, 10)).getContent();
+        Map<Long, User> users = findUsersById(histories.stream().map(history -> history.getUserRanking().getUserId()).collect(Collectors.toList()));
         return histories.stream()
                 .map(history -> {
                     UserRanking ranking = history.getUserRanking();
-                    User user = userRepository.findById(ranking.getUserId()).orElse(new User());
+                    User user = users.getOrDefault(ranking.getUserId(), new User());
                     return RankingUserDto.builder()
                             .rank(history.getRankPosition())
                             .userId(ranking.getUserId())
@@ -178,12 +185,16 @@ public class RankingService {
 
     @Transactional(readOnly = true)
     public List<RankingUserDto> getTopRankings() {
-        List<UserRanking> topRankings = userRankingRepository.findTopRankings(PageRequest.of(0, 10)).getContent();
-        return topRankings.stream()
-                .map(ranking -> {
-                    User user = userRepository.findById(ranking.getUserId()).orElse(new User());
+        List<LeaderboardIndex.Entry> topEntries = leaderboardIndex.topK(10);
+        Map<Long, UserRanking> topRankings = findActiveRankingsByUserId(topEntries);
+        Map<Long, User> users = findUsersById(topRankings.keySet());
+        return topEntries.stream()
+                .filter(entry -> topRankings.containsKey(entry.getUserId()))
+                .map(entry -> {
+                    UserRanking ranking = topRankings.get(entry.getUserId());
+                    User user = users.getOrDefault(ranking.getUserId(), new User());
                     return RankingUserDto.builder()
-                            .rank(ranking.getRankPosition())
+                            .rank(entry.getRank())
                             .userId(ranking.getUserId())
                             .nickname(user.getNickname())
                             .score(ranking.getTotalScore())
@@ -223,13 +234,13 @@ public class RankingService {
 
     @Transactional(readOnly = true)
     public RankingStatsDto getRankingStats() {
-        User currentUser = getCurrentUser();
         Long currentUserId = currentUser.getUserId();
         UserRanking myRankingEntity = userRankingRepository.findActiveByUserId(currentUserId)
                 .orElseGet(() -> createDefaultRanking(currentUserId));
+        // 전체 수/내 순위는 getRankingData 와 같은 리더보드 인덱스 기준 (비활성 랭킹 제외)
         return RankingStatsDto.builder()
-                .totalRankings(userRankingRepository.count())
-                .myRank(myRankingEntity.getRankPosition())
+                .totalRankings(leaderboardIndex.size())
+                .myRank(leaderboardIndex.rankOfScore(currentUserId, myRankingEntity.getTotalScore()))
                 .myTotalScore(myRankingEntity.getTotalScore())
                 .myStreakDays(myRankingEntity.getStreakDays())
                 .build();
@@ -240,10 +251,11 @@ public class RankingService {
         // 예시: 시즌 상위 3명에게만 보상 지급
         java.util.List<UserRanking> seasonRankings = userRankingRepository.findAllBySeasonOrderByTotalScoreDesc(season, org.springframework.data.domain.PageRequest.of(0, 3)).getContent();
         int[] rewards = {10000, 5000, 2000};
+        Map<Long, User> users = findUsersById(seasonRankings.stream().map(UserRanking::getUserId).collect(Collectors.toList()));
         java.util.List<RankingRewardDto> result = new java.util.ArrayList<>();
         for (int i = 0; i < seasonRankings.size(); i++) {
             UserRanking ranking = seasonRankings.get(i);
-            com.lifebit.coreapi.entity.User user = userRepository.findById(ranking.getUserId()).orElse(new com.lifebit.coreapi.entity.User());
+            User user = users.getOrDefault(ranking.getUserId(), new User());
             result.add(RankingRewardDto.builder()
                     .userId(ranking.getUserId())
                     .nickname(user.getNickname())
@@ -261,11 +273,12 @@ public class RankingService {
         // 예시: 기간 상위 3명에게만 보상 지급
         java.util.List<com.lifebit.coreapi.entity.RankingHistory> histories = rankingHistoryRepository.findByPeriodTypeOrderByRecordedAtDesc(periodType, org.springframework.data.domain.PageRequest.of(0, 3)).getContent();
         int[] rewards = {3000, 2000, 1000};
+        Map<Long, User> users = findUsersById(histories.stream().map(history -> history.getUserRanking().getUserId()).collect(Collectors.toList()));
         java.util.List<RankingRewardDto> result = new java.util.ArrayList<>();
         for (int i = 0; i < histories.size(); i++) {
             com.lifebit.coreapi.entity.RankingHistory history = histories.get(i);
             UserRanking ranking = history.getUserRanking();
-            com.lifebit.coreapi.entity.User user = userRepository.findById(ranking.getUserId()).orElse(new com.lifebit.coreapi.entity.User());
+            User user = users.getOrDefault(ranking.getUserId(), new User());
             result.add(RankingRewardDto.builder()
                     .userId(ranking.getUserId())
                     .nickname(user.getNickname())
@@ -283,10 +296,11 @@ public class RankingService {
         // 예시: 연속 기록 상위 3명에게만 보상 지급
         java.util.List<UserRanking> streakRankings = userRankingRepository.findTopRankingsByStreakDays(org.springframework.data.domain.PageRequest.of(0, 3));
         int[] rewards = {2000, 1000, 500};
+        Map<Long, User> users = findUsersById(streakRankings.stream().map(UserRanking::getUserId).collect(Collectors.toList()));
         java.util.List<RankingRewardDto> result = new java.util.ArrayList<>();
         for (int i = 0; i < streakRankings.size(); i++) {
             UserRanking ranking = streakRankings.get(i);
-            com.lifebit.coreapi.entity.User user = userRepository.findById(ranking.getUserId()).orElse(new com.lifebit.coreapi.entity.User());
+            User user = users.getOrDefault(ranking.getUserId(), new User());
             result.add(RankingRewardDto.builder()
                     .userId(ranking.getUserId())
                     .nickname(user.getNickname())
@@ -301,32 +315,46 @@ public class RankingService {
 
     @Transactional(readOnly = true)
     public RankingRewardDto getMyReward() {
-        User currentUser = getCurrentUser();
-        Long currentUserId = currentUser.getUserId();
+        User user = currentUser.getUser();
+        Long currentUserId = user.getUserId();
         UserRanking myRanking = userRankingRepository.findActiveByUserId(currentUserId).orElseGet(() -> createDefaultRanking(currentUserId));
-        // 예시: 내 순위에 따라 보상 계산
+        // 예시: 내 순위(리더보드 인덱스 실시간 순위)에 따라 보상 계산
+        int myRank = leaderboardIndex.rankOfScore(currentUserId, myRanking.getTotalScore());
         int reward = 0;
-        if (myRanking.getRankPosition() == 1) reward = 10000;
-        else if (myRanking.getRankPosition() == 2) reward = 5000;
-        else if (myRanking.getRankPosition() == 3) reward = 2000;
+        if (myRank == 1) reward = 10000;
+        else if (myRank == 2) reward = 5000;
+        else if (myRank == 3) reward = 2000;
         return RankingRewardDto.builder()
                 .userId(currentUserId)
-                .nickname(currentUser.getNickname())
-                .rankPosition(myRanking.getRankPosition())
+                .nickname(user.getNickname())
+                .rankPosition(myRank)
                 .totalScore(myRanking.getTotalScore())
                 .rewardType("personal")
                 .rewardPoints(reward)
                 .build();
     }
 
-    private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated() || "anonymousUser".equals(authentication.getPrincipal())) {
-            throw new IllegalStateException("User is not authenticated.");
+    /**
+     * 리더보드 인덱스 순서의 사용자들에 대한 활성 랭킹을 한 번에 조회
+     */
+    private Map<Long, UserRanking> findActiveRankingsByUserId(List<LeaderboardIndex.Entry> entries) {
+        if (entries.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> userIds = entries.stream().map(LeaderboardIndex.Entry::getUserId).collect(Collectors.toList());
+        return userRankingRepository.findActiveByUserIdIn(userIds).stream()
+                .collect(Collectors.toMap(UserRanking::getUserId, ranking -> ranking, (a, b) -> a));
+    }
+
+    /**
+     * 랭킹 목록에 표시할 사용자들을 한 번의 쿼리로 조회 (행마다 findById 하지 않도록)
+     */
+    private Map<Long, User> findUsersById(java.util.Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
         }
-        String email = authentication.getName();
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalStateException("User not found in repository."));
+        return userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getUserId, user -> user));
     }
 
     private UserRanking createDefaultRanking(Long userId) {
@@ -338,39 +366,19 @@ public class RankingService {
         ranking.setPreviousRank(0);
         ranking.setSeason(1); // 기본 시즌
         ranking.setActive(true);
-        return userRankingRepository.save(ranking);
+        UserRanking saved = userRankingRepository.save(ranking);
+        eventPublisher.publishEvent(new LeaderboardScoreChangeEvent(userId, saved.getTotalScore()));
+        return saved;
     }
 
+    /**
+     * 매일 03:00 전체 사용자 랭킹 순위/등급 재계산 (점수는 그대로, 집합 기반 일괄 처리, RankingRecomputeJob 참고)
+     */
     @Scheduled(cron = "0 0 3 * * *")
-    @Transactional
     public void scheduledRankingUpdate() {
         log.info("[스케줄러] 전체 사용자 랭킹 자동 갱신 시작");
-        List<UserRanking> allRankings = userRankingRepository.findAll();
-        int rank = 1;
-        for (UserRanking ranking : allRankings) {
-            int prevScore = ranking.getTotalScore();
-            RankingTier prevTier = ranking.getTier();
-
-            // 1. 점수/등급 재계산
-            int newScore = calculateTotalScore(ranking.getUserId());
-            RankingTier newTier = calculateTier(newScore);
-            ranking.setPreviousRank(ranking.getRankPosition());
-            ranking.setRankPosition(rank++);
-            ranking.setTotalScore(newScore);
-            ranking.setTier(newTier);
-            ranking.setLastUpdatedAt(LocalDateTime.now());
-
-            // 2. 등급 변화 감지 시 알림 전송
-            if (prevTier != newTier) {
-                try {
-                    notificationService.saveNotification(ranking.getUserId(), "TIER_CHANGE", "등급 변화 알림", String.format("등급이 %s에서 %s로 변경되었습니다.", prevTier.name(), newTier.name()));
-                } catch (Exception e) {
-                    log.warn("등급 변화 알림 전송 실패: userId={}, {} -> {}", ranking.getUserId(), prevTier, newTier);
-                }
-            }
-        }
-        userRankingRepository.saveAll(allRankings);
-        log.info("[스케줄러] 전체 사용자 랭킹 자동 갱신 완료: {}명", allRankings.size());
+        int updated = rankingRecomputeJob.recomputeAll();
+        log.info("[스케줄러] 전체 사용자 랭킹 자동 갱신 완료: {}명", updated);
     }
 
     /**
@@ -409,53 +417,15 @@ public class RankingService {
      * 랭킹 등급 산정 (점수 기준)
      */
     public RankingTier calculateTier(int totalScore) {
-        if (totalScore == 0) return RankingTier.UNRANK;
-        if (totalScore < 1000) return RankingTier.BRONZE;
-        if (totalScore < 2000) return RankingTier.SILVER;
-        if (totalScore < 3000) return RankingTier.GOLD;
-        if (totalScore < 4000) return RankingTier.PLATINUM;
-        if (totalScore < 5000) return RankingTier.DIAMOND;
-        if (totalScore < 6000) return RankingTier.MASTER;
-        if (totalScore < 7000) return RankingTier.GRANDMASTER;
-        return RankingTier.CHALLENGER;
+        return RankingTier.fromTotalScore(totalScore);
     }
 
     /**
      * 시즌 종료 시 전체 유저 랭킹을 ranking_history에 저장하고 user_ranking을 초기화
+     * 청크 단위로 처리하며 중단 시 체크포인트부터 재개 (SeasonRolloverJob 참고)
      */
-    @Transactional
     public void closeSeasonAndResetRankings() {
-        int currentSeason = getCurrentSeason(); // 현재 시즌 번호(임시)
-        List<UserRanking> allRankings = userRankingRepository.findAll();
-        // 1. 모든 유저의 랭킹 정보를 ranking_history에 저장
-        for (UserRanking ranking : allRankings) {
-            RankingHistory history = new RankingHistory();
-            history.setUserRanking(ranking);
-            history.setTotalScore(ranking.getTotalScore());
-            history.setStreakDays(ranking.getStreakDays());
-            history.setRankPosition(ranking.getRankPosition());
-            history.setSeason(currentSeason);
-            history.setPeriodType("season");
-            history.setRecordedAt(java.time.LocalDateTime.now());
-            rankingHistoryRepository.save(history);
-        }
-        // 시즌 종료 알림 전송 (한 번만 호출, 내부에서 상위 랭커 전체 알림)
-        try {
-            notificationService.saveNotification(null, "SEASON_END", "시즌 종료 알림", String.format("%d 시즌이 종료되었습니다.", currentSeason));
-        } catch (Exception e) {
-            log.warn("시즌 종료 알림 전송 실패: season={}", currentSeason);
-        }
-        // 2. user_ranking 초기화(시즌+1, 점수/순위/연속일수 등 0)
-        for (UserRanking ranking : allRankings) {
-            ranking.setSeason(currentSeason + 1);
-            ranking.setTotalScore(0);
-            ranking.setRankPosition(0);
-            ranking.setStreakDays(0);
-            ranking.setPreviousRank(0);
-            ranking.setTier(RankingTier.UNRANK);
-            ranking.setLastUpdatedAt(java.time.LocalDateTime.now());
-        }
-        userRankingRepository.saveAll(allRankings);
+        seasonRolloverJob.closeSeason(getCurrentSeason()); // 현재 시즌 번호(임시)
     }
 
     // 임시: 현재 시즌 번호 반환
@@ -479,6 +449,7 @@ public class RankingService {
     public void updateGoalAchievementScore(Long userId) {
         try {
             log.info("목표 달성률 점수 업데이트 시작 - 사용자 ID: {}", userId);
+            lockUserRanking(userId);
             
             // 1. 현재 활성 랭킹 레코드 조회
             UserRanking currentRanking = userRankingRepository.findActiveByUserId(userId)
@@ -549,6 +520,7 @@ public class RankingService {
     public void updateExerciseScore(Long userId) {
         try {
             log.info("운동 점수 업데이트 시작 - 사용자 ID: {}", userId);
+            lockUserRanking(userId);
             
             UserRanking userRanking = userRankingRepository.findActiveByUserId(userId)
                     .orElseGet(() -> {
@@ -591,6 +563,7 @@ public class RankingService {
     public void updateNutritionScore(Long userId) {
         try {
             log.info("식단 점수 업데이트 시작 - 사용자 ID: {}", userId);
+            lockUserRanking(userId);
             
             UserRanking userRanking = userRankingRepository.findActiveByUserId(userId)
                     .orElseGet(() -> {
@@ -638,15 +611,9 @@ public class RankingService {
             UserRanking currentUserRanking = userRankingRepository.findActiveByUserId(userId)
                     .orElseThrow(() -> new RuntimeException("User ranking not found: " + userId));
             
-            // 전체 사용자 중 현재 사용자보다 높은 점수를 가진 사용자 수 계산
-            long higherScoreCount = userRankingRepository.findAll()
-                    .stream()
-                    .filter(UserRanking::isActive)
-                    .filter(ranking -> ranking.getTotalScore() > currentUserRanking.getTotalScore())
-                    .count();
-            
-            // 새 순위 = 더 높은 점수 사용자 수 + 1
-            int newRank = (int) higherScoreCount + 1;
+            // 현재 점수 기준 순위 조회 (더 높은 점수 사용자 수 + 1), 인덱스 반영은 커밋 이후
+            int newRank = leaderboardIndex.rankOfScore(userId, currentUserRanking.getTotalScore());
+            eventPublisher.publishEvent(new LeaderboardScoreChangeEvent(userId, currentUserRanking.getTotalScore()));
             
             // 이전 순위 저장
             currentUserRanking.setPreviousRank(currentUserRanking.getRankPosition());
@@ -665,34 +632,13 @@ public class RankingService {
 
     /**
      * 전체 사용자의 랭킹 순위 업데이트 (수동 호출용)
-     * 점수 순으로 정렬하여 순위를 재계산
+     * 활성 랭킹을 커서로 읽어 점수 순 순위(동점 동순위)를 청크 단위 JDBC 배치로 저장하고 리더보드 인덱스를 다시 적재
      */
-    @Transactional
     public void updateRankingPositions() {
         try {
             log.info("전체 랭킹 순위 업데이트 시작");
-            
-            // 모든 활성 사용자 랭킹을 점수 순으로 조회
-            List<UserRanking> allRankings = userRankingRepository.findAll()
-                    .stream()
-                    .filter(UserRanking::isActive)
-                    .sorted((a, b) -> Integer.compare(b.getTotalScore(), a.getTotalScore()))
-                    .collect(java.util.stream.Collectors.toList());
-            
-            int rank = 1;
-            for (UserRanking ranking : allRankings) {
-                // 이전 순위 저장
-                ranking.setPreviousRank(ranking.getRankPosition());
-                // 새 순위 설정
-                ranking.setRankPosition(rank++);
-                ranking.setLastUpdatedAt(LocalDateTime.now());
-            }
-            
-            // 변경사항 저장
-            userRankingRepository.saveAll(allRankings);
-            
-            log.info("전체 랭킹 순위 업데이트 완료 - 총 {}명", allRankings.size());
-            
+            int updated = rankingRecomputeJob.recomputeAll();
+            log.info("전체 랭킹 순위 업데이트 완료 - 총 {}명", updated);
         } catch (Exception e) {
             log.error("전체 랭킹 순위 업데이트 실패: {}", e.getMessage(), e);
             throw new RuntimeException("전체 랭킹 순위 업데이트에 실패했습니다.", e);
@@ -865,6 +811,7 @@ public class RankingService {
     public void addIncrementalScore(Long userId, int scoreToAdd, String scoreType) {
         try {
             log.info("증분 점수 업데이트 시작 (update or insert) - 사용자 ID: {}, 추가 점수: {}, 점수 타입: {}", userId, scoreToAdd, scoreType);
+            lockUserRanking(userId);
             // 가장 최근 활성 랭킹 조회하여 현재 점수 확인
             UserRanking latestRanking = userRankingRepository.findActiveByUserId(userId)
                     .orElse(null);
@@ -971,6 +918,14 @@ public class RankingService {
         }
     }
 
+    /**
+     * 같은 사용자의 활성 랭킹 레코드를 동시에 비활성화/생성하지 않도록 트랜잭션 종료까지 사용자 단위 잠금
+     * (비동기 워커, 수동 갱신 API, 다른 서버 모두 같은 DB 잠금을 사용)
+     */
+    private void lockUserRanking(Long userId) {
+        rankingBatchRepository.lockUserRanking(userId);
+    }
+
     /**
      * 티어 변경 알림 발송
      */
@@ -995,42 +950,18 @@ public class RankingService {
     }
 
     /**
-     * 운동 완료 시 자동으로 점수 업데이트
-     * ExerciseService에서 운동 세션 저장 후 호출
+     * 운동 완료 시 점수 업데이트 요청
+     * 점수 계산은 RankingUpdateDispatcher가 커밋 이후 비동기로 일괄 처리한다.
      */
-    @Transactional
     public void handleExerciseCompletion(Long userId) {
-        try {
-            log.info("운동 완료 처리 시작 - 사용자 ID: {}", userId);
-            
-            // 새로운 목표 달성률 점수 업데이트 로직 사용
-            updateGoalAchievementScore(userId);
-            
-            log.info("운동 완료 처리 완료 - 사용자 ID: {}", userId);
-            
-        } catch (Exception e) {
-            log.error("운동 완료 처리 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage(), e);
-            // 점수 업데이트 실패가 운동 기록을 방해하지 않도록 예외를 던지지 않음
-        }
+        eventPublisher.publishEvent(new ScoreChangeEvent(userId, ScoreChangeEvent.SOURCE_EXERCISE));
     }
 
     /**
-     * 식사 기록 시 자동으로 점수 업데이트
-     * MealService에서 식사 로그 저장 후 호출
+     * 식사 기록 시 점수 업데이트 요청
+     * 점수 계산은 RankingUpdateDispatcher가 커밋 이후 비동기로 일괄 처리한다.
      */
-    @Transactional
     public void handleMealCompletion(Long userId) {
-        try {
-            log.info("식사 기록 처리 시작 - 사용자 ID: {}", userId);
-            
-            // 새로운 목표 달성률 점수 업데이트 로직 사용
-            updateGoalAchievementScore(userId);
-            
-            log.info("식사 기록 처리 완료 - 사용자 ID: {}", userId);
-            
-        } catch (Exception e) {
-            log.error("식사 기록 처리 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage(), e);
-            // 점수 업데이트 실패가 식사 기록을 방해하지 않도록 예외를 던지지 않음
-        }
+        eventPublisher.publishEvent(new ScoreChangeEvent(userId, ScoreChangeEvent.SOURCE_MEAL));
     }
-} 
\ No newline at end of file
+}
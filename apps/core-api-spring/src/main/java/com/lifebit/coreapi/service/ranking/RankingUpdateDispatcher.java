@@ -0,0 +1,132 @@
+package com.lifebit.coreapi.service.ranking;
+
+import com.lifebit.coreapi.event.ScoreChangeEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 점수 변경 이벤트(ScoreChangeEvent) 비동기 처리기
+ *
+ * 운동/식단 기록 트랜잭션이 커밋되면 사용자 ID만 대기 집합에 넣고 바로 반환한다.
+ * FLUSH_INTERVAL_MS 마다 대기 집합을 비워 BATCH_SIZE 단위로 제한된 크기의 스레드 풀에 넘기므로
+ * 같은 사용자의 연속 기록은 한 번의 점수 재계산으로 합쳐지고, 기록 API 응답 시간에 랭킹 계산이 포함되지 않는다.
+ * 같은 사용자를 여러 워커(또는 다른 서버)가 동시에 처리하더라도 RankingService 가 사용자 단위 DB 잠금으로 직렬화한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RankingUpdateDispatcher {
+
+    private static final long FLUSH_INTERVAL_MS = 2000;
+    private static final int BATCH_SIZE = 100;
+    private static final int WORKER_THREADS = 2;
+    private static final int QUEUE_CAPACITY = 20;
+
+    private final RankingService rankingService;
+
+    private final Set<Long> pendingUserIds = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor executor = createExecutor();
+
+    /**
+     * 기록 트랜잭션 커밋 이후 대기 집합에 추가 (트랜잭션 밖에서 발행된 경우 즉시 추가)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScoreChange(ScoreChangeEvent event) {
+        requestUpdate(event.getUserId());
+    }
+
+    /**
+     * 사용자 점수 재계산 요청 (다음 주기에 처리, 같은 사용자의 중복 요청은 한 번으로 합쳐짐)
+     */
+    public void requestUpdate(Long userId) {
+        pendingUserIds.add(userId);
+    }
+
+    /**
+     * 대기 중인 사용자를 배치로 나누어 스레드 풀에 제출
+     * 큐가 가득 차면 남은 사용자는 다음 주기에 다시 시도한다.
+     */
+    @Scheduled(fixedDelay = FLUSH_INTERVAL_MS)
+    public void flush() {
+        List<Long> batch = new ArrayList<>(BATCH_SIZE);
+        Iterator<Long> iterator = pendingUserIds.iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            iterator.remove();
+            if (batch.size() == BATCH_SIZE) {
+                if (!submit(batch)) {
+                    return;
+                }
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            submit(batch);
+        }
+    }
+
+    /**
+     * 현재 처리 대기 중인 사용자 수
+     */
+    public int getPendingCount() {
+        return pendingUserIds.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private boolean submit(List<Long> batch) {
+        try {
+            executor.execute(() -> process(batch));
+            return true;
+        } catch (RejectedExecutionException e) {
+            pendingUserIds.addAll(batch);
+            log.warn("랭킹 갱신 큐가 가득 차 다음 주기에 재시도 - 대기 사용자 {}명", pendingUserIds.size());
+            return false;
+        }
+    }
+
+    private void process(List<Long> batch) {
+        long startedAt = System.currentTimeMillis();
+        int failed = 0;
+        for (Long userId : batch) {
+            try {
+                rankingService.updateGoalAchievementScore(userId);
+            } catch (Exception e) {
+                failed++;
+                log.error("점수 갱신 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage(), e);
+            }
+        }
+        log.debug("점수 갱신 배치 완료 - {}명 (실패 {}명), {}ms",
+                batch.size(), failed, System.currentTimeMillis() - startedAt);
+    }
+
+    private static ThreadPoolExecutor createExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(WORKER_THREADS, WORKER_THREADS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ranking-update-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
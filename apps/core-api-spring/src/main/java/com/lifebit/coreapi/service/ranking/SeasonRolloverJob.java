@@ -0,0 +1,141 @@
+package com.lifebit.coreapi.service.ranking;
+
+import com.lifebit.coreapi.repository.ranking.RankingBatchRepository;
+import com.lifebit.coreapi.repository.ranking.RankingBatchRepository.SeasonRolloverCheckpoint;
+import com.lifebit.coreapi.service.notification.NotificationDispatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 시즌 종료 작업 (청크 단위, 재시작 가능)
+ *
+ * COPY: user_ranking → ranking_history 를 INSERT…SELECT 로 CHUNK_SIZE 건씩 복사
+ * RESET: user_ranking 을 다음 시즌으로 CHUNK_SIZE 건씩 일괄 초기화
+ * DONE: 완료
+ *
+ * 청크 처리와 season_rollover_checkpoint 갱신이 같은 트랜잭션에서 커밋되므로
+ * 작업이 중간에 중단되어도 다시 실행하면 마지막 체크포인트 이후부터 이어서 진행한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SeasonRolloverJob {
+
+    static final String PHASE_COPY = "COPY";
+    static final String PHASE_RESET = "RESET";
+    static final String PHASE_DONE = "DONE";
+
+    private static final int CHUNK_SIZE = 5000;
+
+    private final RankingBatchRepository rankingBatchRepository;
+    private final NotificationDispatcher notificationDispatcher;
+    private final LeaderboardIndex leaderboardIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * season 을 종료하고 다음 시즌으로 전환 (이미 완료된 시즌이면 아무것도 하지 않음)
+     */
+    public void closeSeason(int season) {
+        rankingBatchRepository.createCheckpointIfAbsent(season, PHASE_COPY);
+
+        long startedAt = System.currentTimeMillis();
+        long processed = 0;
+        String phase = null;
+        long phaseStartedAt = startedAt;
+        long phaseRows = 0;
+        while (true) {
+            ChunkResult result = transactionTemplate.execute(status -> processChunk(season));
+            if (!result.phase.equals(phase)) {
+                logPhaseThroughput(season, phase, phaseRows, phaseStartedAt);
+                phase = result.phase;
+                phaseStartedAt = System.currentTimeMillis();
+                phaseRows = 0;
+            }
+            if (PHASE_DONE.equals(result.phase)) {
+                break;
+            }
+            phaseRows += result.rows;
+            processed += result.rows;
+            meterRegistry.counter("ranking.season.rollover.rows", "phase", result.phase).increment(result.rows);
+        }
+
+        leaderboardIndex.reload();
+        long elapsedMillis = Math.max(1, System.currentTimeMillis() - startedAt);
+        log.info("[시즌 종료] 시즌 {} 완료 - 이번 실행 처리 {}건, {}ms ({} rows/sec)",
+                season, processed, elapsedMillis, processed * 1000L / elapsedMillis);
+    }
+
+    // 체크포인트를 잠그고 현재 단계의 다음 청크 하나를 처리 (트랜잭션 안에서 호출)
+    private ChunkResult processChunk(int season) {
+        SeasonRolloverCheckpoint checkpoint = rankingBatchRepository.lockCheckpoint(season);
+        LocalDateTime now = LocalDateTime.now();
+
+        switch (checkpoint.getPhase()) {
+            case PHASE_COPY: {
+                List<Long> copied = rankingBatchRepository.copySeasonChunk(
+                        season, checkpoint.getLastRankingId(), CHUNK_SIZE, now);
+                if (copied.isEmpty()) {
+                    sendSeasonEndNotification(season);
+                    rankingBatchRepository.updateCheckpoint(season, PHASE_RESET, 0,
+                            checkpoint.getRowsCopied(), checkpoint.getRowsReset());
+                    return new ChunkResult(PHASE_RESET, 0);
+                }
+                rankingBatchRepository.updateCheckpoint(season, PHASE_COPY, Collections.max(copied),
+                        checkpoint.getRowsCopied() + copied.size(), checkpoint.getRowsReset());
+                return new ChunkResult(PHASE_COPY, copied.size());
+            }
+            case PHASE_RESET: {
+                List<Long> reset = rankingBatchRepository.resetSeasonChunk(
+                        season + 1, checkpoint.getLastRankingId(), CHUNK_SIZE, now);
+                if (reset.isEmpty()) {
+                    rankingBatchRepository.updateCheckpoint(season, PHASE_DONE, checkpoint.getLastRankingId(),
+                            checkpoint.getRowsCopied(), checkpoint.getRowsReset());
+                    return new ChunkResult(PHASE_DONE, 0);
+                }
+                rankingBatchRepository.updateCheckpoint(season, PHASE_RESET, Collections.max(reset),
+                        checkpoint.getRowsCopied(), checkpoint.getRowsReset() + reset.size());
+                return new ChunkResult(PHASE_RESET, reset.size());
+            }
+            default:
+                return new ChunkResult(PHASE_DONE, 0);
+        }
+    }
+
+    // 시즌 종료 알림 (전체 대상 시스템 알림 한 건, COPY → RESET 전환과 같은 트랜잭션)
+    // 실패하면 전환 청크 전체를 롤백해 다음 실행에서 알림과 전환을 함께 재시도 (중단된 트랜잭션에서 체크포인트를 갱신하지 않음)
+    private void sendSeasonEndNotification(int season) {
+        try {
+            notificationDispatcher.broadcast("SEASON_END", "시즌 종료 알림", String.format("%d 시즌이 종료되었습니다.", season));
+        } catch (Exception e) {
+            log.error("시즌 종료 알림 전송 실패 - 시즌 {} 전환을 롤백: {}", season, e.getMessage(), e);
+            throw new RuntimeException("시즌 종료 알림 전송에 실패했습니다.", e);
+        }
+    }
+
+    private void logPhaseThroughput(int season, String phase, long rows, long phaseStartedAt) {
+        if (phase == null || PHASE_DONE.equals(phase)) {
+            return;
+        }
+        long elapsedMillis = Math.max(1, System.currentTimeMillis() - phaseStartedAt);
+        log.info("[시즌 종료] 시즌 {} {} 단계 - {}건, {}ms ({} rows/sec)",
+                season, phase, rows, elapsedMillis, rows * 1000L / elapsedMillis);
+    }
+
+    private static final class ChunkResult {
+        private final String phase;
+        private final int rows;
+
+        private ChunkResult(String phase, int rows) {
+            this.phase = phase;
+            this.rows = rows;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.lifebit.coreapi.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안의 구독자에게만 중계 (단일 노드/로컬 개발용 기본값)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "websocket.relay.type", havingValue = "in-process", matchIfMissing = true)
+public class InProcessPushRelay implements PushRelay {
+
+    private final List<Consumer<PushEnvelope>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(PushEnvelope envelope) {
+        for (Consumer<PushEnvelope> listener : listeners) {
+            try {
+                listener.accept(envelope);
+            } catch (Exception e) {
+                log.warn("[WebSocket 중계] 로컬 구독자 전달 실패 - 사용자 ID: {}, 오류: {}", envelope.getUserId(), e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<PushEnvelope> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,158 @@
+package com.lifebit.coreapi.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY 기반 노드 간 중계 (로드밸런서 뒤 다중 노드용)
+ *
+ * 발행은 커넥션 풀에서 pg_notify 로 보내고 (트랜잭션 안이면 커밋 시 전달),
+ * 수신은 풀과 분리된 전용 커넥션 하나에서 LISTEN 하며 끊기면 다시 연결한다.
+ * NOTIFY 페이로드 한도(8000바이트)를 넘는 메시지는 다른 노드로 중계하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "websocket.relay.type", havingValue = "postgres")
+public class PostgresPushRelay implements PushRelay {
+
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+    private static final int POLL_TIMEOUT_MS = 1000;
+    private static final long RECONNECT_DELAY_MS = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final String channel;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<Consumer<PushEnvelope>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile boolean running;
+    private volatile Connection listenConnection;
+    private Thread listenerThread;
+
+    public PostgresPushRelay(JdbcTemplate jdbcTemplate,
+                             DataSourceProperties dataSourceProperties,
+                             @Value("${websocket.relay.channel:lifebit_ws_push}") String channel) {
+        if (!CHANNEL_PATTERN.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid websocket relay channel: " + channel);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.channel = channel;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listenLoop, "ws-relay-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+        closeQuietly(listenConnection);
+    }
+
+    @Override
+    public void publish(PushEnvelope envelope) {
+        try {
+            String json = objectMapper.writeValueAsString(envelope);
+            if (json.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES) {
+                log.warn("[WebSocket 중계] NOTIFY 페이로드 한도 초과로 다른 노드에 중계하지 않음 - 사용자 ID: {}, 타입: {}",
+                        envelope.getUserId(), envelope.getType());
+                return;
+            }
+            jdbcTemplate.query("SELECT pg_notify(?::text, ?::text)", rs -> null, channel, json);
+        } catch (Exception e) {
+            log.warn("[WebSocket 중계] NOTIFY 발행 실패 - 사용자 ID: {}, 오류: {}", envelope.getUserId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<PushEnvelope> listener) {
+        listeners.add(listener);
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                listenConnection = connection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                log.info("[WebSocket 중계] LISTEN 시작 - 채널: {}", channel);
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("[WebSocket 중계] LISTEN 연결 끊김, {}ms 후 재연결 - 오류: {}", RECONNECT_DELAY_MS, e.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            } finally {
+                listenConnection = null;
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        try {
+            PushEnvelope envelope = objectMapper.readValue(payload, PushEnvelope.class);
+            for (Consumer<PushEnvelope> listener : listeners) {
+                listener.accept(envelope);
+            }
+        } catch (Exception e) {
+            log.warn("[WebSocket 중계] 수신 메시지 처리 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+                // 종료 중이므로 무시
+            }
+        }
+    }
+}
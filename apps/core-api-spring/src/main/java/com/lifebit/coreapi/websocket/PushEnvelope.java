@@ -0,0 +1,19 @@
+package com.lifebit.coreapi.websocket;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노드 간에 전달되는 WebSocket 푸시 메시지
+ * (payload 는 클라이언트에 그대로 보낼 JSON 문자열)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PushEnvelope {
+    private String originNodeId;
+    private String userId;
+    private String type;
+    private String payload;
+}
@@ -0,0 +1,65 @@
+package com.lifebit.coreapi.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * WebSocket 송신 파이프라인 지표 (/actuator/metrics/websocket.push.*)
+ *
+ * 큐 깊이 게이지는 WebSocketPushHub 에서 등록하고, 여기서는 전송/버림/병합 카운터만 관리한다.
+ */
+@Component
+public class PushMetrics {
+
+    static final String DROP_OVERFLOW = "overflow";   // 송신 큐 초과
+    static final String DROP_STALE = "stale";         // 오래되어 의미 없어진 업데이트
+    static final String DROP_LIMIT = "limit";         // 전송 시간/버퍼 한도 초과로 세션 종료
+    static final String DROP_CLOSED = "closed";       // 전송 실패 또는 닫힌 세션
+
+    private final MeterRegistry meterRegistry;
+    private final Counter sent;
+    private final Counter coalesced;
+    private final Counter rejected;
+
+    public PushMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.sent = Counter.builder("websocket.push.sent")
+                .description("WebSocket 으로 전송된 메시지 수")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("websocket.push.coalesced")
+                .description("대기 중인 같은 타입 메시지로 병합된 메시지 수")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("websocket.push.executor.rejected")
+                .description("송신 스레드 풀 대기열이 가득 차 다시 예약한 송신 작업 수")
+                .register(meterRegistry);
+    }
+
+    MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
+
+    void sent() {
+        sent.increment();
+    }
+
+    void coalesced() {
+        coalesced.increment();
+    }
+
+    void rejected() {
+        rejected.increment();
+    }
+
+    void dropped(String reason, String type, long count) {
+        if (count <= 0) {
+            return;
+        }
+        Counter.builder("websocket.push.dropped")
+                .description("전송하지 못하고 버린 메시지 수")
+                .tag("reason", reason)
+                .tag("type", type)
+                .register(meterRegistry)
+                .increment(count);
+    }
+}
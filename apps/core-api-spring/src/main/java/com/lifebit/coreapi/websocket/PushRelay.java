@@ -0,0 +1,16 @@
+package com.lifebit.coreapi.websocket;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 WebSocket 푸시 중계
+ *
+ * 발행한 메시지는 자신을 포함한 모든 구독 노드에 전달될 수 있으며,
+ * 자기 노드가 보낸 메시지는 WebSocketPushHub 에서 originNodeId 로 걸러낸다.
+ */
+public interface PushRelay {
+
+    void publish(PushEnvelope envelope);
+
+    void subscribe(Consumer<PushEnvelope> listener);
+}
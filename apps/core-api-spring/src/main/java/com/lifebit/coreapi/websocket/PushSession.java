@@ -0,0 +1,309 @@
+package com.lifebit.coreapi.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * WebSocket 세션 하나와 그 세션 전용 송신 큐
+ *
+ * 보내는 쪽은 큐에 넣고 바로 반환하며, 실제 전송은 송신 스레드 풀에서 세션당 한 번에 하나씩만 수행한다.
+ * 송신 스레드 풀 대기열이 가득 차 예약하지 못하면 메시지는 큐에 남고, WebSocketPushHub 가 잠시 후 다시 예약한다.
+ * 송신 스레드가 세션당 하나뿐이라 전송 시간/버퍼 한도는 이 큐에서 직접 검사한다.
+ * 새 메시지가 들어올 때 진행 중인 전송이 시간 한도를 넘었거나 대기 바이트가 버퍼 한도를 넘으면
+ * 세션을 SESSION_NOT_RELIABLE 로 닫고 대기 메시지를 버린다. 한 번의 소켓 쓰기도 Tomcat 블로킹 전송 제한 시간으로 묶는다.
+ * 최신 값만 의미 있는 업데이트(COALESCIBLE_TYPES)는 대기 중인 같은 타입 메시지에 병합하고,
+ * 큐에서 STALE 시간 이상 기다렸으면 보내지 않는다. 큐가 가득 차면 병합 가능한 메시지부터 버린다.
+ */
+@Slf4j
+public class PushSession {
+
+    static final Set<String> COALESCIBLE_TYPES = Set.of(
+            "health_record_update", "exercise_session_update", "notification_count_update");
+
+    // Tomcat 의 블로킹 전송 제한 시간 (한 번의 소켓 쓰기가 이 시간을 넘으면 실패)
+    private static final String TOMCAT_BLOCKING_SEND_TIMEOUT = "org.apache.tomcat.websocket.BLOCKING_SEND_TIMEOUT";
+
+    private final String userId;
+    private final WebSocketSession session;
+    private final int queueCapacity;
+    private final long sendTimeLimitMillis;
+    private final long bufferSizeLimitBytes;
+    private final long staleAfterMillis;
+    private final PushMetrics metrics;
+
+    // this 로 보호
+    private final Deque<OutboundMessage> outbound = new ArrayDeque<>();
+    private final Map<String, OutboundMessage> pendingByType = new HashMap<>();
+    private boolean draining;
+    // 대기 중 + 전송 중 메시지의 바이트 합
+    private long bufferedBytes;
+    // 진행 중인 전송의 시작 시각 (전송 중이 아니면 0)
+    private long sendStartedAt;
+
+    private volatile String currentPage = "unknown";
+    private volatile LocalDateTime lastActivity = LocalDateTime.now();
+
+    private static class OutboundMessage {
+        private final String type;
+        private String payload;
+        private int size;
+        private long enqueuedAt;
+
+        private OutboundMessage(String type, String payload, int size, long enqueuedAt) {
+            this.type = type;
+            this.payload = payload;
+            this.size = size;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+
+    PushSession(String userId, WebSocketSession session, int queueCapacity,
+                int sendTimeLimitMillis, int bufferSizeLimitBytes, long staleAfterMillis, PushMetrics metrics) {
+        this.userId = userId;
+        this.session = session;
+        this.queueCapacity = queueCapacity;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.bufferSizeLimitBytes = bufferSizeLimitBytes;
+        this.staleAfterMillis = staleAfterMillis;
+        this.metrics = metrics;
+        applyBlockingSendTimeout(session, sendTimeLimitMillis);
+    }
+
+    public String getUserId() { return userId; }
+    public WebSocketSession getSession() { return session; }
+    public String getSessionId() { return session.getId(); }
+    public boolean isOpen() { return session.isOpen(); }
+    public String getCurrentPage() { return currentPage; }
+    public LocalDateTime getLastActivity() { return lastActivity; }
+
+    public synchronized int getQueueDepth() {
+        return outbound.size();
+    }
+
+    // 페이지 집계와 함께 바뀌어야 하므로 WebSocketPushHub.changePage 를 통해서만 호출
+    void setCurrentPage(String currentPage) {
+        this.currentPage = currentPage;
+        this.lastActivity = LocalDateTime.now();
+    }
+
+    public void updateActivity() {
+        this.lastActivity = LocalDateTime.now();
+    }
+
+    /**
+     * 송신 큐에 추가(또는 같은 타입 대기 메시지에 병합)하고, 전송 중이 아니면 송신 작업을 예약
+     * (전송 시간/버퍼 한도를 넘은 세션은 닫음)
+     *
+     * @return 송신 스레드 풀 대기열이 가득 차 송신 작업을 예약하지 못했으면 false (메시지는 큐에 남음)
+     */
+    boolean enqueue(String type, String payload, Executor sendExecutor) {
+        if (!session.isOpen()) {
+            metrics.dropped(PushMetrics.DROP_CLOSED, type, 1);
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        int size = payload.getBytes(StandardCharsets.UTF_8).length;
+        String limitExceeded;
+        boolean startDrain = false;
+        synchronized (this) {
+            OutboundMessage pending = pendingByType.get(type);
+            if (pending != null) {
+                bufferedBytes += size - pending.size;
+                pending.payload = payload;
+                pending.size = size;
+                pending.enqueuedAt = now;
+                metrics.coalesced();
+                limitExceeded = checkLimits(now);
+            } else {
+                if (outbound.size() >= queueCapacity) {
+                    evictOne();
+                }
+                OutboundMessage message = new OutboundMessage(type, payload, size, now);
+                outbound.addLast(message);
+                bufferedBytes += size;
+                if (COALESCIBLE_TYPES.contains(type)) {
+                    pendingByType.put(type, message);
+                }
+                limitExceeded = checkLimits(now);
+                if (limitExceeded == null && !draining) {
+                    draining = true;
+                    startDrain = true;
+                }
+            }
+        }
+        if (limitExceeded != null) {
+            closeOnLimit(limitExceeded);
+        } else if (startDrain) {
+            return scheduleDrain(sendExecutor);
+        }
+        return true;
+    }
+
+    /**
+     * 대기 메시지가 있는데 전송 중이 아니면 송신 작업을 다시 예약 (예약하지 못했으면 false)
+     */
+    boolean resumeDrain(Executor sendExecutor) {
+        synchronized (this) {
+            if (draining || outbound.isEmpty() || !session.isOpen()) {
+                return true;
+            }
+            draining = true;
+        }
+        return scheduleDrain(sendExecutor);
+    }
+
+    private boolean scheduleDrain(Executor sendExecutor) {
+        try {
+            sendExecutor.execute(this::drain);
+            return true;
+        } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                draining = false;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 대기 중인 메시지를 버리고 세션 정리 (연결 종료 시)
+     */
+    void discard() {
+        discard(PushMetrics.DROP_CLOSED);
+    }
+
+    private synchronized void discard(String reason) {
+        for (OutboundMessage message : outbound) {
+            metrics.dropped(reason, message.type, 1);
+            bufferedBytes -= message.size;
+        }
+        outbound.clear();
+        pendingByType.clear();
+    }
+
+    // this 보유 상태에서 호출, 한도를 넘었으면 사유를 반환
+    private String checkLimits(long now) {
+        if (sendStartedAt > 0 && now - sendStartedAt > sendTimeLimitMillis) {
+            return String.format("전송 시간 %dms 초과", now - sendStartedAt);
+        }
+        if (bufferedBytes > bufferSizeLimitBytes) {
+            return String.format("송신 버퍼 %d바이트 초과 (한도 %d)", bufferedBytes, bufferSizeLimitBytes);
+        }
+        return null;
+    }
+
+    // 느린 클라이언트: 세션을 닫고 대기 메시지를 버림 (진행 중인 전송은 연결 종료로 실패하며 송신 스레드가 정리)
+    private void closeOnLimit(String reason) {
+        log.warn("[WebSocket] 전송 한도 초과로 세션 종료 - 사용자 ID: {}, 세션 ID: {}, 사유: {}",
+                userId, session.getId(), reason);
+        discard(PushMetrics.DROP_LIMIT);
+        closeQuietly(CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    // 큐를 비울 때까지 전송 (세션당 하나의 스레드만 실행)
+    private void drain() {
+        while (true) {
+            OutboundMessage message;
+            synchronized (this) {
+                message = outbound.pollFirst();
+                if (message == null) {
+                    draining = false;
+                    return;
+                }
+                pendingByType.remove(message.type, message);
+                if (isStale(message)) {
+                    bufferedBytes -= message.size;
+                    metrics.dropped(PushMetrics.DROP_STALE, message.type, 1);
+                    continue;
+                }
+                sendStartedAt = System.currentTimeMillis();
+            }
+            boolean sent = send(message);
+            synchronized (this) {
+                bufferedBytes -= message.size;
+                sendStartedAt = 0;
+                if (!sent) {
+                    discard();
+                    draining = false;
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean isStale(OutboundMessage message) {
+        return COALESCIBLE_TYPES.contains(message.type)
+                && System.currentTimeMillis() - message.enqueuedAt > staleAfterMillis;
+    }
+
+    // 병합 가능한(오래되면 의미 없는) 메시지 중 가장 오래된 것을 우선 버림
+    private void evictOne() {
+        Iterator<OutboundMessage> iterator = outbound.iterator();
+        while (iterator.hasNext()) {
+            OutboundMessage message = iterator.next();
+            if (COALESCIBLE_TYPES.contains(message.type)) {
+                iterator.remove();
+                pendingByType.remove(message.type, message);
+                bufferedBytes -= message.size;
+                metrics.dropped(PushMetrics.DROP_OVERFLOW, message.type, 1);
+                return;
+            }
+        }
+        OutboundMessage oldest = outbound.pollFirst();
+        if (oldest != null) {
+            pendingByType.remove(oldest.type, oldest);
+            bufferedBytes -= oldest.size;
+            metrics.dropped(PushMetrics.DROP_OVERFLOW, oldest.type, 1);
+        }
+    }
+
+    private boolean send(OutboundMessage message) {
+        if (!session.isOpen()) {
+            metrics.dropped(PushMetrics.DROP_CLOSED, message.type, 1);
+            return false;
+        }
+        try {
+            // 세션당 송신 스레드가 하나뿐이므로 직접 전송 (한 번의 쓰기는 Tomcat 블로킹 전송 제한 시간으로 제한)
+            session.sendMessage(new TextMessage(message.payload));
+            metrics.sent();
+            return true;
+        } catch (Exception e) {
+            metrics.dropped(PushMetrics.DROP_CLOSED, message.type, 1);
+            log.warn("메시지 전송 중 연결이 끊어짐 - 세션 ID: {}, 오류: {}", session.getId(), e.getMessage());
+            closeQuietly(CloseStatus.SESSION_NOT_RELIABLE);
+            return false;
+        }
+    }
+
+    void closeQuietly(CloseStatus status) {
+        try {
+            if (session.isOpen()) {
+                session.close(status);
+            }
+        } catch (Exception ignored) {
+            // 이미 끊긴 연결
+        }
+    }
+
+    private static void applyBlockingSendTimeout(WebSocketSession session, long timeoutMillis) {
+        if (session instanceof NativeWebSocketSession nativeSession) {
+            jakarta.websocket.Session standardSession = nativeSession.getNativeSession(jakarta.websocket.Session.class);
+            if (standardSession != null) {
+                standardSession.getUserProperties().put(TOMCAT_BLOCKING_SEND_TIMEOUT, timeoutMillis);
+            }
+        }
+    }
+}
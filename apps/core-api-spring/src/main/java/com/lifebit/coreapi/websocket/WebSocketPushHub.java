@@ -0,0 +1,460 @@
+package com.lifebit.coreapi.websocket;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 사용자별 다중 WebSocket 세션 관리 및 푸시 허브
+ *
+ * 한 사용자가 여러 탭/기기로 접속해도 모든 세션에 전달하고,
+ * 이 노드에서 보낸 메시지는 PushRelay 로 다른 노드에도 중계해 로드밸런서 뒤에서도 같은 사용자에게 도달하게 한다.
+ * 실제 소켓 쓰기는 세션별 송신 큐(PushSession)를 거쳐 크기가 제한된 송신 스레드 풀에서 수행되며,
+ * 풀 대기열이 가득 차면 해당 세션은 메시지를 큐에 둔 채 STALLED_RETRY_INTERVAL 뒤에 다시 예약된다.
+ * 큐 깊이와 전송/버림/병합 수는 websocket.push.* 지표로 노출된다.
+ *
+ * 접속 현황(페이지별 접속 사용자 수, 접속 사용자 수)은 연결/종료/페이지 변경 시 증분 갱신하므로 조회는 O(페이지 수)이며,
+ * lastActivity 가 IDLE_TIMEOUT 을 넘긴 세션은 주기적으로 정리한다. (클라이언트는 30초마다 ping 전송)
+ * 여러 탭으로 접속한 사용자는 가장 최근에 활동한 세션의 페이지 한 곳에만 집계되므로, 페이지별 수를 더해도 중복되지 않는다.
+ * 각 노드는 자기 집계를 PRESENCE_PUBLISH_INTERVAL 마다 중계로 알리고, 조회 시 다른 노드의 최근 집계를 더한다.
+ * (한 사용자가 서로 다른 노드에 동시에 접속한 경우에는 노드마다 한 번씩 집계됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebSocketPushHub {
+
+    private static final int SEND_THREADS = 4;
+    // 송신 작업은 세션당 최대 하나만 대기하므로, 이 크기를 넘으면 세션을 stalledSessions 에 두고 다시 예약
+    private static final int SEND_QUEUE_CAPACITY = 1024;
+    private static final long STALLED_RETRY_INTERVAL_MS = 1000;
+    private static final int OUTBOUND_QUEUE_CAPACITY = 256;
+    private static final int SEND_TIME_LIMIT_MS = 5000;
+    private static final int BUFFER_SIZE_LIMIT_BYTES = 512 * 1024;
+    private static final long STALE_AFTER_MS = 30000;
+    private static final long IDLE_TIMEOUT_MS = 120000;
+    private static final long REAP_INTERVAL_MS = 30000;
+    private static final String UNKNOWN_PAGE = "unknown";
+    private static final String PRESENCE_RELAY_TYPE = "presence";
+    private static final long PRESENCE_PUBLISH_INTERVAL_MS = 10000;
+    // 이 시간 동안 집계를 보내지 않은 노드는 종료된 것으로 보고 합산에서 제외
+    private static final long PRESENCE_EXPIRE_MS = PRESENCE_PUBLISH_INTERVAL_MS * 3;
+    // 페이지 이름은 클라이언트가 보내므로 NOTIFY 페이로드 한도(약 8000바이트) 안에서 사용자가 많은 페이지부터 전송
+    private static final int PRESENCE_PAYLOAD_LIMIT = 7000;
+
+    private final PushRelay pushRelay;
+    private final PushMetrics pushMetrics;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Set<PushSession>> sessionsByUser = new ConcurrentHashMap<>();
+    private final Map<String, PushSession> sessionsById = new ConcurrentHashMap<>();
+    // 사용자별 집계 페이지와 페이지별 사용자 수 (sessionsByUser 의 같은 사용자 키 compute 안에서만 변경)
+    private final Map<String, String> pageByUser = new ConcurrentHashMap<>();
+    private final Map<String, Integer> userCountByPage = new ConcurrentHashMap<>();
+    private final Map<String, NodePresence> remotePresenceByNode = new ConcurrentHashMap<>();
+    private final Map<String, List<Consumer<String>>> relayedListenersByType = new ConcurrentHashMap<>();
+    // 송신 스레드 풀이 가득 차 송신 작업을 예약하지 못한 세션
+    private final Set<PushSession> stalledSessions = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor sendExecutor = createSendExecutor();
+
+    // 다른 노드가 마지막으로 알린 접속 현황
+    private record NodePresence(int onlineUsers, Map<String, Integer> userCountByPage, long receivedAt) {
+    }
+
+    @PostConstruct
+    public void init() {
+        pushRelay.subscribe(this::onRelayed);
+        subscribeRelayed(PRESENCE_RELAY_TYPE, this::onRelayedPresence);
+
+        MeterRegistry meterRegistry = pushMetrics.getMeterRegistry();
+        Gauge.builder("websocket.push.sessions", sessionsById, Map::size)
+                .description("이 노드에 열린 WebSocket 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.push.queue.depth", this, WebSocketPushHub::getTotalQueueDepth)
+                .description("전체 세션의 송신 대기 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.push.queue.depth.max", this, WebSocketPushHub::getMaxQueueDepth)
+                .description("가장 밀린 세션의 송신 대기 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.push.executor.queue", sendExecutor, executor -> executor.getQueue().size())
+                .description("송신 스레드 풀 대기 작업 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        try {
+            // 다른 노드가 만료를 기다리지 않고 바로 이 노드 집계를 빼도록 빈 집계 전송
+            publishToOtherNodes(PRESENCE_RELAY_TYPE, nodeId + "|0|");
+        } catch (Exception e) {
+            log.debug("[WebSocket] 종료 시 접속 현황 전송 실패: {}", e.getMessage());
+        }
+        sendExecutor.shutdown();
+    }
+
+    /**
+     * 인증된 세션 등록 (같은 사용자의 기존 세션은 유지)
+     */
+    public PushSession register(String userId, WebSocketSession session) {
+        PushSession pushSession = new PushSession(userId, session, OUTBOUND_QUEUE_CAPACITY,
+                SEND_TIME_LIMIT_MS, BUFFER_SIZE_LIMIT_BYTES, STALE_AFTER_MS, pushMetrics);
+        sessionsById.put(session.getId(), pushSession);
+        sessionsByUser.compute(userId, (id, sessions) -> {
+            Set<PushSession> updated = sessions != null ? sessions : ConcurrentHashMap.<PushSession>newKeySet();
+            updated.add(pushSession);
+            // 첫 세션일 때만 집계 페이지 지정 (기존 탭의 페이지는 유지)
+            if (sessions == null) {
+                movePresence(id, pushSession.getCurrentPage());
+            }
+            return updated;
+        });
+        return pushSession;
+    }
+
+    /**
+     * 세션 제거 (등록되지 않은 세션이면 null)
+     */
+    public PushSession unregister(WebSocketSession session) {
+        PushSession pushSession = sessionsById.remove(session.getId());
+        if (pushSession != null) {
+            pushSession.discard();
+            stalledSessions.remove(pushSession);
+            sessionsByUser.computeIfPresent(pushSession.getUserId(), (userId, sessions) -> {
+                sessions.remove(pushSession);
+                if (sessions.isEmpty()) {
+                    movePresence(userId, null);
+                    return null;
+                }
+                // 남은 세션 중 가장 최근에 활동한 세션의 페이지로 집계
+                movePresence(userId, mostRecentPage(sessions));
+                return sessions;
+            });
+        }
+        return pushSession;
+    }
+
+    public PushSession getSession(String sessionId) {
+        return sessionsById.get(sessionId);
+    }
+
+    /**
+     * 세션의 현재 페이지 변경 및 사용자의 집계 페이지 갱신
+     */
+    public void changePage(PushSession pushSession, String page) {
+        String newPage = page != null ? page : UNKNOWN_PAGE;
+        pushSession.setCurrentPage(newPage);
+        sessionsByUser.computeIfPresent(pushSession.getUserId(), (userId, sessions) -> {
+            // 이미 종료 처리된 세션은 집계에 반영하지 않음
+            if (sessions.contains(pushSession)) {
+                movePresence(userId, newPage);
+            }
+            return sessions;
+        });
+    }
+
+    /**
+     * 페이지별 접속 사용자 수 (모든 노드 합산, 해당 페이지에 사용자가 없으면 0)
+     */
+    public int getUserCountByPage(String page) {
+        int count = userCountByPage.getOrDefault(page, 0);
+        for (NodePresence presence : liveRemotePresences()) {
+            count += presence.userCountByPage().getOrDefault(page, 0);
+        }
+        return count;
+    }
+
+    /**
+     * 사용자가 있는 모든 페이지의 접속 사용자 수 (모든 노드 합산)
+     */
+    public Map<String, Integer> getUserCountsByPage() {
+        Map<String, Integer> counts = new HashMap<>(userCountByPage);
+        for (NodePresence presence : liveRemotePresences()) {
+            presence.userCountByPage().forEach((page, count) -> counts.merge(page, count, Integer::sum));
+        }
+        return counts;
+    }
+
+    /**
+     * 접속 사용자 수 (모든 노드 합산, 여러 세션으로 접속한 사용자는 노드마다 한 명)
+     */
+    public int getOnlineUserCount() {
+        int count = sessionsByUser.size();
+        for (NodePresence presence : liveRemotePresences()) {
+            count += presence.onlineUsers();
+        }
+        return count;
+    }
+
+    /**
+     * 이 노드의 접속 현황을 다른 노드에 알리고 만료된 노드 집계 정리
+     * (형식: 노드 ID|접속 사용자 수|페이지=사용자 수,...)
+     */
+    @Scheduled(fixedDelay = PRESENCE_PUBLISH_INTERVAL_MS)
+    public void publishPresence() {
+        StringBuilder payload = new StringBuilder(nodeId).append('|').append(sessionsByUser.size()).append('|');
+        List<Map.Entry<String, Integer>> pages = userCountByPage.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .toList();
+        for (Map.Entry<String, Integer> page : pages) {
+            String entry = URLEncoder.encode(page.getKey(), StandardCharsets.UTF_8) + "=" + page.getValue();
+            if (payload.length() + entry.length() + 1 > PRESENCE_PAYLOAD_LIMIT) {
+                break;
+            }
+            if (payload.charAt(payload.length() - 1) != '|') {
+                payload.append(',');
+            }
+            payload.append(entry);
+        }
+        publishToOtherNodes(PRESENCE_RELAY_TYPE, payload.toString());
+
+        long expiredBefore = System.currentTimeMillis() - PRESENCE_EXPIRE_MS;
+        remotePresenceByNode.values().removeIf(presence -> presence.receivedAt() < expiredBefore);
+    }
+
+    /**
+     * 마지막 활동 이후 IDLE_TIMEOUT 이 지났거나 이미 닫힌 세션 정리
+     */
+    @Scheduled(fixedDelay = REAP_INTERVAL_MS)
+    public void reapIdleSessions() {
+        LocalDateTime idleBefore = LocalDateTime.now().minus(Duration.ofMillis(IDLE_TIMEOUT_MS));
+        int reaped = 0;
+        for (PushSession pushSession : sessionsById.values()) {
+            if (pushSession.isOpen() && !pushSession.getLastActivity().isBefore(idleBefore)) {
+                continue;
+            }
+            if (unregister(pushSession.getSession()) != null) {
+                pushSession.closeQuietly(CloseStatus.SESSION_NOT_RELIABLE);
+                reaped++;
+            }
+        }
+        if (reaped > 0) {
+            log.info("[WebSocket] 유휴/끊긴 세션 정리 - {}개, 남은 세션: {}", reaped, sessionsById.size());
+        }
+    }
+
+    /**
+     * 사용자의 모든 세션(이 노드 + 다른 노드)에 메시지 전송
+     */
+    public void sendToUser(String userId, String type, String payload) {
+        deliverLocal(userId, type, payload);
+        pushRelay.publish(new PushEnvelope(nodeId, userId, type, payload));
+    }
+
+    /**
+     * 이 노드에 열린 사용자 세션에만 메시지 전송 (각 노드가 중계받은 변경을 자기 세션에 직접 보내는 경우)
+     */
+    public void sendToLocalUser(String userId, String type, String payload) {
+        deliverLocal(userId, type, payload);
+    }
+
+    /**
+     * 세션 전송 없이 다른 노드에만 메시지 중계 (노드별 메모리 상태 동기화용)
+     */
+    public void publishToOtherNodes(String type, String payload) {
+        pushRelay.publish(new PushEnvelope(nodeId, null, type, payload));
+    }
+
+    /**
+     * 다른 노드가 publishToOtherNodes 로 보낸 메시지 구독 (이 노드가 보낸 메시지는 전달되지 않음)
+     */
+    public void subscribeRelayed(String type, Consumer<String> listener) {
+        relayedListenersByType.computeIfAbsent(type, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * 특정 세션에만 메시지 전송 (ping 응답 등)
+     */
+    public void sendToSession(WebSocketSession session, String type, String payload) {
+        PushSession pushSession = sessionsById.get(session.getId());
+        if (pushSession != null) {
+            enqueue(pushSession, type, payload);
+        }
+    }
+
+    /**
+     * 이 노드에 열린 세션이 있는 사용자인지 확인
+     */
+    public boolean hasLocalSession(String userId) {
+        Set<PushSession> sessions = sessionsByUser.get(userId);
+        return sessions != null && sessions.stream().anyMatch(PushSession::isOpen);
+    }
+
+    public List<PushSession> getLocalSessions(String userId) {
+        Set<PushSession> sessions = sessionsByUser.get(userId);
+        return sessions != null ? List.copyOf(sessions) : List.of();
+    }
+
+    public int getLocalUserCount() {
+        return sessionsByUser.size();
+    }
+
+    /**
+     * 이 노드에 세션이 있는 사용자 ID 목록
+     */
+    public Set<String> getLocalUserIds() {
+        return Set.copyOf(sessionsByUser.keySet());
+    }
+
+    private void onRelayed(PushEnvelope envelope) {
+        if (nodeId.equals(envelope.getOriginNodeId())) {
+            return;
+        }
+        List<Consumer<String>> listeners = relayedListenersByType.get(envelope.getType());
+        if (listeners != null) {
+            for (Consumer<String> listener : listeners) {
+                try {
+                    listener.accept(envelope.getPayload());
+                } catch (Exception e) {
+                    log.warn("[WebSocket] 중계 메시지 처리 실패 - 타입: {}, 오류: {}", envelope.getType(), e.getMessage());
+                }
+            }
+            return;
+        }
+        deliverLocal(envelope.getUserId(), envelope.getType(), envelope.getPayload());
+    }
+
+    private void deliverLocal(String userId, String type, String payload) {
+        if (userId == null) {
+            return;
+        }
+        Set<PushSession> sessions = sessionsByUser.get(userId);
+        if (sessions == null) {
+            return;
+        }
+        for (PushSession pushSession : sessions) {
+            enqueue(pushSession, type, payload);
+        }
+    }
+
+    private void enqueue(PushSession pushSession, String type, String payload) {
+        if (!pushSession.enqueue(type, payload, sendExecutor)) {
+            pushMetrics.rejected();
+            stalledSessions.add(pushSession);
+        }
+    }
+
+    /**
+     * 송신 스레드 풀이 가득 차 예약하지 못했던 세션의 송신 작업을 다시 예약 (아직 가득 차 있으면 다음 주기에 재시도)
+     */
+    @Scheduled(fixedDelay = STALLED_RETRY_INTERVAL_MS)
+    public void resumeStalledSessions() {
+        Iterator<PushSession> iterator = stalledSessions.iterator();
+        while (iterator.hasNext()) {
+            PushSession pushSession = iterator.next();
+            iterator.remove();
+            if (!pushSession.resumeDrain(sendExecutor)) {
+                pushMetrics.rejected();
+                stalledSessions.add(pushSession);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 전체 세션의 송신 대기 메시지 수
+     */
+    public int getTotalQueueDepth() {
+        int total = 0;
+        for (PushSession pushSession : sessionsById.values()) {
+            total += pushSession.getQueueDepth();
+        }
+        return total;
+    }
+
+    /**
+     * 가장 밀린 세션의 송신 대기 메시지 수
+     */
+    public int getMaxQueueDepth() {
+        int max = 0;
+        for (PushSession pushSession : sessionsById.values()) {
+            max = Math.max(max, pushSession.getQueueDepth());
+        }
+        return max;
+    }
+
+    private void onRelayedPresence(String payload) {
+        String[] parts = payload.split("\\|", 3);
+        Map<String, Integer> counts = new HashMap<>();
+        if (parts.length > 2 && !parts[2].isEmpty()) {
+            for (String entry : parts[2].split(",")) {
+                int separator = entry.lastIndexOf('=');
+                counts.put(URLDecoder.decode(entry.substring(0, separator), StandardCharsets.UTF_8),
+                        Integer.parseInt(entry.substring(separator + 1)));
+            }
+        }
+        int onlineUsers = Integer.parseInt(parts[1]);
+        if (onlineUsers == 0) {
+            remotePresenceByNode.remove(parts[0]);
+            return;
+        }
+        remotePresenceByNode.put(parts[0], new NodePresence(onlineUsers, counts, System.currentTimeMillis()));
+    }
+
+    private List<NodePresence> liveRemotePresences() {
+        long expiredBefore = System.currentTimeMillis() - PRESENCE_EXPIRE_MS;
+        return remotePresenceByNode.values().stream()
+                .filter(presence -> presence.receivedAt() >= expiredBefore)
+                .toList();
+    }
+
+    // 사용자의 집계 페이지를 옮김 (newPage 가 null 이면 집계에서 제외), sessionsByUser 의 사용자 키 compute 안에서 호출
+    private void movePresence(String userId, String newPage) {
+        String oldPage = newPage != null ? pageByUser.put(userId, newPage) : pageByUser.remove(userId);
+        if (Objects.equals(oldPage, newPage)) {
+            return;
+        }
+        if (oldPage != null) {
+            userCountByPage.computeIfPresent(oldPage, (key, count) -> count > 1 ? count - 1 : null);
+        }
+        if (newPage != null) {
+            userCountByPage.merge(newPage, 1, Integer::sum);
+        }
+    }
+
+    private static String mostRecentPage(Set<PushSession> sessions) {
+        return sessions.stream()
+                .max(Comparator.comparing(PushSession::getLastActivity))
+                .map(PushSession::getCurrentPage)
+                .orElse(UNKNOWN_PAGE);
+    }
+
+    private static ThreadPoolExecutor createSendExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(SEND_THREADS, SEND_THREADS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(SEND_QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ws-send-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -0,0 +1,33 @@
+-- 대량 INSERT 테이블의 ID 생성을 IDENTITY 에서 pooled 시퀀스(allocationSize = 50)로 전환
+--
+-- JPA 는 시퀀스 값 v 하나로 ID (v - 49) ~ v 를 할당하므로 시퀀스 증가폭을 50으로 바꾸고,
+-- 다음 값이 기존 최대 ID + 50 이상이 되도록 맞춘다. (기존 행과 겹치지 않음)
+-- 컬럼 DEFAULT nextval(...) 은 그대로라 SQL 로 직접 넣는 행도 계속 고유한 ID 를 받는다.
+-- 여러 번 실행해도 안전하며, 새 버전 애플리케이션 배포 전에 적용해야 한다.
+-- notification 은 시스템 알림 읽음 기준점이 ID 순서에 의존하므로 제외 (증가폭 1 유지)
+
+DO $$
+DECLARE
+    target RECORD;
+BEGIN
+    FOR target IN
+        SELECT * FROM (VALUES
+            ('exercise_sessions', 'exercise_session_id', 'exercise_sessions_exercise_session_id_seq'),
+            ('meal_logs', 'meal_log_id', 'meal_logs_meal_log_id_seq'),
+            ('health_records', 'health_record_id', 'health_records_health_record_id_seq'),
+            ('user_ranking', 'id', 'user_ranking_id_seq'),
+            ('ranking_history', 'id', 'ranking_history_id_seq'),
+            ('user_achievements', 'user_achievement_id', 'user_achievements_user_achievement_id_seq'),
+            ('notification_read', 'id', 'notification_read_id_seq'),
+            ('ranking_notifications', 'id', 'ranking_notifications_id_seq')
+        ) AS t(table_name, column_name, sequence_name)
+    LOOP
+        EXECUTE format('ALTER SEQUENCE %I INCREMENT BY 50', target.sequence_name);
+        EXECUTE format(
+            'SELECT setval(%L, GREATEST((SELECT COALESCE(MAX(%I), 0) FROM %I), (SELECT last_value FROM %I), 1), true)',
+            target.sequence_name, target.column_name, target.table_name, target.sequence_name);
+    END LOOP;
+END $$;
+
+-- 이전 LifeBit.sql 로 증가폭 50이 적용된 DB 복구 (알림 ID 는 생성 순서대로 증가해야 함)
+ALTER SEQUENCE notification_id_seq INCREMENT BY 1;
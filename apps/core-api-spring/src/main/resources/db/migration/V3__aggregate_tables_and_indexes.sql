@@ -0,0 +1,103 @@
+-- LifeBit.sql(기준 버전 1) 이후 추가된 집계/상태 테이블과 조회용 인덱스를 기존 DB 에 반영
+--
+-- 새로 설치하는 DB 는 LifeBit.sql 에 이미 포함되어 있으므로 모든 문장을 IF NOT EXISTS 로 작성한다.
+-- 테이블은 비어 있는 상태로 생성되며, 애플리케이션이 시작 시 원천 데이터에서 채운다.
+-- (user_daily_activity / user_achievement_state 는 비어 있으면 전체 재구성, analytics_* 는 기준 시각이 없으면 처음부터 집계)
+
+-- 조회용 인덱스 (접속자 집계, 기간별 운동/식단 조회)
+CREATE INDEX IF NOT EXISTS idx_users_last_visited ON users(last_visited);
+CREATE INDEX IF NOT EXISTS idx_exercise_sessions_date ON exercise_sessions(exercise_date);
+CREATE INDEX IF NOT EXISTS idx_exercise_sessions_created_at ON exercise_sessions(created_at);
+CREATE INDEX IF NOT EXISTS idx_meal_logs_date ON meal_logs(log_date);
+CREATE INDEX IF NOT EXISTS idx_meal_logs_created_at ON meal_logs(created_at);
+
+-- user_daily_activity (사용자별 일별 운동/식단 집계, 차트·히트맵·캘린더 조회용)
+-- body_part_mask / body_part_minutes 의 비트 위치·배열 인덱스는 BodyPartType 순서 (chest, back, legs, shoulders, abs, arms, cardio)
+CREATE TABLE IF NOT EXISTS user_daily_activity (
+    user_id BIGINT NOT NULL REFERENCES users(user_id) ON DELETE CASCADE,
+    activity_date DATE NOT NULL,
+    exercise_minutes INTEGER NOT NULL DEFAULT 0,
+    calories_burned INTEGER NOT NULL DEFAULT 0,
+    total_sets INTEGER NOT NULL DEFAULT 0,
+    session_count INTEGER NOT NULL DEFAULT 0,
+    body_part_mask INTEGER NOT NULL DEFAULT 0,
+    body_part_minutes INTEGER[] NOT NULL DEFAULT '{0,0,0,0,0,0,0}',
+    primary_exercise_name VARCHAR(100),
+    meal_count INTEGER NOT NULL DEFAULT 0,
+    meal_calories DECIMAL(10,2) NOT NULL DEFAULT 0,
+    meal_carbs DECIMAL(10,2) NOT NULL DEFAULT 0,
+    meal_protein DECIMAL(10,2) NOT NULL DEFAULT 0,
+    meal_fat DECIMAL(10,2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (user_id, activity_date)
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_daily_activity_date ON user_daily_activity(activity_date);
+
+-- season_rollover_checkpoint (시즌 종료 작업 재개용 진행 상황)
+CREATE TABLE IF NOT EXISTS season_rollover_checkpoint (
+    season INTEGER PRIMARY KEY,
+    phase VARCHAR(20) NOT NULL,
+    last_ranking_id BIGINT NOT NULL DEFAULT 0,
+    rows_copied BIGINT NOT NULL DEFAULT 0,
+    rows_reset BIGINT NOT NULL DEFAULT 0,
+    started_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+-- user_achievement_state (업적 평가용 사용자별 누적 상태, 기록 시 증분 갱신 / stale 이면 원본에서 재계산)
+CREATE TABLE IF NOT EXISTS user_achievement_state (
+    user_id BIGINT PRIMARY KEY REFERENCES users(user_id) ON DELETE CASCADE,
+    exercise_last_date DATE,
+    exercise_current_streak INTEGER NOT NULL DEFAULT 0,
+    exercise_max_streak INTEGER NOT NULL DEFAULT 0,
+    exercise_days INTEGER NOT NULL DEFAULT 0,
+    morning_workouts INTEGER NOT NULL DEFAULT 0,
+    night_workouts INTEGER NOT NULL DEFAULT 0,
+    weekend_workouts INTEGER NOT NULL DEFAULT 0,
+    total_calories_burned BIGINT NOT NULL DEFAULT 0,
+    total_workout_minutes BIGINT NOT NULL DEFAULT 0,
+    meal_last_date DATE,
+    meal_current_streak INTEGER NOT NULL DEFAULT 0,
+    meal_max_streak INTEGER NOT NULL DEFAULT 0,
+    meal_days INTEGER NOT NULL DEFAULT 0,
+    meal_records INTEGER NOT NULL DEFAULT 0,
+    stale BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+-- analytics_bucket (관리자 애널리틱스 사전 집계, granularity: HOUR/DAY/WEEK/MONTH_WEEK/MONTH/YEAR)
+CREATE TABLE IF NOT EXISTS analytics_bucket (
+    granularity VARCHAR(12) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    metric VARCHAR(50) NOT NULL,
+    value BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (granularity, bucket_start, metric)
+);
+
+-- analytics_bucket_member (아직 갱신 중인 버킷의 지표별 중복 제거용 멤버: 사용자 ID 또는 식단 기록 ID)
+CREATE TABLE IF NOT EXISTS analytics_bucket_member (
+    granularity VARCHAR(12) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    metric VARCHAR(50) NOT NULL,
+    member_id BIGINT NOT NULL,
+    PRIMARY KEY (granularity, bucket_start, metric, member_id)
+);
+
+-- analytics_watermark (증분 집계 작업이 반영한 원천 데이터 시각)
+CREATE TABLE IF NOT EXISTS analytics_watermark (
+    name VARCHAR(50) PRIMARY KEY,
+    processed_until TIMESTAMP NOT NULL
+);
+
+-- notification_read_watermark (사용자별 시스템 알림 읽음 기준점: 이 ID 이하의 시스템 알림은 모두 읽음, 이후는 notification_read 로 개별 판정)
+CREATE TABLE IF NOT EXISTS notification_read_watermark (
+    user_id BIGINT PRIMARY KEY REFERENCES users(user_id) ON DELETE CASCADE,
+    last_read_system_notification_id BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+-- 읽지 않은 알림 수 집계용 부분 인덱스 (시스템 알림 ID 범위 / 사용자별 안 읽은 개인 알림)
+CREATE INDEX IF NOT EXISTS idx_notification_system_id ON notification(id) WHERE user_id IS NULL;
+CREATE INDEX IF NOT EXISTS idx_notification_user_unread ON notification(user_id) WHERE is_read = false;
@@ -0,0 +1,79 @@
+package com.lifebit.coreapi.repository;
+
+import com.lifebit.coreapi.entity.MealLog;
+import com.lifebit.coreapi.entity.User;
+import com.lifebit.coreapi.support.StatementCountInspector;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * pooled 시퀀스(allocationSize = 50) 적용 후 식단 기록 대량 저장이
+ * 행마다가 아니라 배치마다 INSERT / 시퀀스 조회를 한 번씩만 하는지 확인
+ */
+@SpringBootTest(properties = {
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector=com.lifebit.coreapi.support.StatementCountInspector"
+})
+@Transactional
+class MealLogBatchInsertTests {
+
+	private static final int ROWS = 120;
+	private static final int BATCH_SIZE = 50;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private MealLogRepository mealLogRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	void saveAllUsesOneInsertPerBatch() {
+		User user = new User();
+		String suffix = UUID.randomUUID().toString().substring(0, 8);
+		user.setUuid(UUID.randomUUID());
+		user.setEmail("batch-insert-" + suffix + "@lifebit.test");
+		user.setNickname("batch-insert-" + suffix);
+		userRepository.saveAndFlush(user);
+
+		List<MealLog> mealLogs = new ArrayList<>();
+		for (int i = 0; i < ROWS; i++) {
+			MealLog mealLog = new MealLog();
+			mealLog.setUuid(UUID.randomUUID());
+			mealLog.setUser(user);
+			mealLog.setQuantity(BigDecimal.valueOf(100));
+			mealLog.setLogDate(LocalDate.now());
+			mealLogs.add(mealLog);
+		}
+
+		StatementCountInspector.reset();
+		mealLogRepository.saveAll(mealLogs);
+		entityManager.flush();
+
+		int expectedBatches = (ROWS + BATCH_SIZE - 1) / BATCH_SIZE;
+		assertThat(StatementCountInspector.inserts()).isPositive().isLessThanOrEqualTo(expectedBatches);
+		assertThat(StatementCountInspector.sequenceCalls()).isLessThanOrEqualTo(expectedBatches + 1);
+
+		// 배치로 묶여도 모든 행이 실제로 저장되어야 함
+		assertThat(mealLogs).allMatch(mealLog -> mealLog.getMealLogId() != null);
+		entityManager.clear();
+		Long savedRows = entityManager.createQuery(
+						"SELECT COUNT(m) FROM MealLog m WHERE m.user.userId = :userId", Long.class)
+				.setParameter("userId", user.getUserId())
+				.getSingleResult();
+		assertThat(savedRows).isEqualTo(ROWS);
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.lifebit.coreapi.service;
+
+import com.lifebit.coreapi.dto.DietLogDTO;
+import com.lifebit.coreapi.entity.User;
+import com.lifebit.coreapi.entity.UserAchievement;
+import com.lifebit.coreapi.entity.enums.AchievementType;
+import com.lifebit.coreapi.repository.UserAchievementRepository;
+import com.lifebit.coreapi.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 식단 기록이 pooled 시퀀스로 INSERT 가 미뤄져도, 업적 상태 재구성(JDBC 조회)이 방금 저장한 기록을 보는지 확인
+ * (업적 상태가 없는 새 사용자가 첫 식단을 기록하면 바로 "식단 시작" 업적을 달성해야 함)
+ */
+@SpringBootTest
+@Transactional
+class DietServiceAchievementTests {
+
+	@Autowired
+	private DietService dietService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private UserAchievementRepository userAchievementRepository;
+
+	@Test
+	void firstMealGrantsFirstMealAchievement() {
+		User user = new User();
+		String suffix = UUID.randomUUID().toString().substring(0, 8);
+		user.setUuid(UUID.randomUUID());
+		user.setEmail("first-meal-" + suffix + "@lifebit.test");
+		user.setNickname("first-meal-" + suffix);
+		userRepository.saveAndFlush(user);
+
+		DietLogDTO request = new DietLogDTO();
+		request.setUserId(user.getUserId());
+		request.setFoodName("first-meal-food-" + suffix);
+		request.setQuantity(100);
+		request.setCalories(200);
+		request.setCarbs(30);
+		request.setProtein(10);
+		request.setFat(5);
+		request.setLogDate(LocalDate.now().toString());
+		request.setMealTime("lunch");
+		dietService.recordDiet(request);
+
+		List<UserAchievement> achieved = userAchievementRepository.findAchievedByUserId(user.getUserId());
+		assertThat(achieved)
+				.extracting(userAchievement -> userAchievement.getAchievement().getTitle())
+				.contains(AchievementType.FIRST_MEAL.getTitle());
+	}
+
+}
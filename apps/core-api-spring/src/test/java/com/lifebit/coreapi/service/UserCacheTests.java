@@ -0,0 +1,61 @@
+package com.lifebit.coreapi.service;
+
+import com.lifebit.coreapi.entity.User;
+import com.lifebit.coreapi.repository.UserRepository;
+import com.lifebit.coreapi.support.StatementCountInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 캐시가 반복 조회의 SELECT 를 없애는지, 반환값을 수정해도 캐시가 오염되지 않는지 확인
+ * (캐시 put 은 커밋 이후에 적용되므로 테스트 트랜잭션 없이 실행하고 마지막에 사용자를 삭제)
+ */
+@SpringBootTest(properties = {
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector=com.lifebit.coreapi.support.StatementCountInspector"
+})
+class UserCacheTests {
+
+	private static final int REPEATED_LOOKUPS = 100;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void repeatedLookupsHitCacheAndReturnIndependentCopies() {
+		User user = new User();
+		String suffix = UUID.randomUUID().toString().substring(0, 8);
+		user.setUuid(UUID.randomUUID());
+		user.setEmail("user-cache-" + suffix + "@lifebit.test");
+		user.setNickname("user-cache-" + suffix);
+		Long userId = userRepository.save(user).getUserId();
+		try {
+			StatementCountInspector.reset();
+			User first = userService.getUserById(userId);
+			int missSelects = StatementCountInspector.selects();
+
+			StatementCountInspector.reset();
+			for (int i = 0; i < REPEATED_LOOKUPS; i++) {
+				userService.getUserById(userId);
+			}
+			int hitSelects = StatementCountInspector.selects();
+
+			// 미스 1회는 DB 조회, 이후 반복 조회는 SELECT 없음 (요청당 절약되는 쿼리 수 = 조회 횟수)
+			assertThat(missSelects).isGreaterThan(0);
+			assertThat(hitSelects).isZero();
+
+			first.setNickname("changed-" + suffix);
+			assertThat(userService.getUserById(userId).getNickname()).isEqualTo("user-cache-" + suffix);
+		} finally {
+			userService.deleteUser(userId);
+		}
+	}
+
+}
@@ -0,0 +1,50 @@
+package com.lifebit.coreapi.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hibernate 가 준비(prepare)하는 SQL 문장 수 집계 (테스트 전용)
+ *
+ * JDBC 배치는 같은 INSERT 를 배치 한 번에 한 번만 준비하므로, 준비 횟수가 곧 DB 왕복 횟수다.
+ * spring.jpa.properties.hibernate.session_factory.statement_inspector 로 등록한다.
+ */
+public class StatementCountInspector implements StatementInspector {
+
+    private static final AtomicInteger INSERTS = new AtomicInteger();
+    private static final AtomicInteger SEQUENCE_CALLS = new AtomicInteger();
+    private static final AtomicInteger SELECTS = new AtomicInteger();
+
+    @Override
+    public String inspect(String sql) {
+        String normalized = sql.trim().toLowerCase(Locale.ROOT);
+        if (normalized.startsWith("insert")) {
+            INSERTS.incrementAndGet();
+        } else if (normalized.contains("nextval")) {
+            SEQUENCE_CALLS.incrementAndGet();
+        } else if (normalized.startsWith("select")) {
+            SELECTS.incrementAndGet();
+        }
+        return sql;
+    }
+
+    public static void reset() {
+        INSERTS.set(0);
+        SEQUENCE_CALLS.set(0);
+        SELECTS.set(0);
+    }
+
+    public static int inserts() {
+        return INSERTS.get();
+    }
+
+    public static int sequenceCalls() {
+        return SEQUENCE_CALLS.get();
+    }
+
+    public static int selects() {
+        return SELECTS.get();
+    }
+}